@@ -0,0 +1,217 @@
+package Space_Suit_Manager.benchmarks;
+
+import Space_Suit_Manager.Servicios.OrdenTrajes;
+import Space_Suit_Manager.Servicios.ReporteFlota;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de las operaciones CRUD de {@code ImplementacionOperacionTraje} según el
+ * tamaño de la flota.
+ *
+ * {@code buscar} y {@code modificar} dejan la flota igual, así que se miden en
+ * régimen estable. {@code guardar} y {@code eliminar} sí la cambian: cada iteración
+ * es un lote de {@link #LOTE} llamadas, que se deshace al terminar para que todas
+ * las iteraciones partan de la misma flota; su resultado es el tiempo del lote
+ * completo, así que hay que dividirlo por {@link #LOTE}. El servicio
+ * no tiene archivo asociado, así que no escribe en el diario: se mide solo el
+ * costo en memoria.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+@Fork(value = 1, jvmArgsAppend = EstadoFlota.HEAP)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BenchmarkCrud {
+
+    /** Llamadas por iteración de los benchmarks que cambian la flota (el tamaño mínimo). */
+    static final int LOTE = 1000;
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Traje_Espacial buscar(EstadoFlota flota) {
+        return flota.servicio.buscar(flota.ids[flota.siguiente()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Traje_Espacial buscarInexistente(EstadoFlota flota) {
+        return flota.servicio.buscar("NO-EXISTE");
+    }
+
+    /** Sugerencias para un ID a medio escribir: el prefijo sin sus dos últimos caracteres. */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public List<Traje_Espacial> sugerir(EstadoFlota flota) {
+        String id = flota.ids[flota.siguiente()];
+        return flota.servicio.buscarPorPrefijo(id.substring(0, Math.max(1, id.length() - 2)), 10);
+    }
+
+    /** Página de 128 trajes ordenados por peso, en una posición dispersa de la flota. */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public List<Traje_Espacial> paginaOrdenada(EstadoFlota flota) {
+        int desde = (int) ((long) flota.siguiente() * 40503 % flota.tamanio);
+        return flota.servicio.listarOrdenado(OrdenTrajes.PESO, false, desde, 128);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean modificar(EstadoFlota flota) {
+        int i = flota.siguiente();
+        return flota.servicio.modificar(flota.ids[i], flota.reemplazos[i]);
+    }
+
+    /** Copia completa de la flota; el tiempo crece con el tamaño. */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Traje_Espacial> listar(EstadoFlota flota) {
+        return flota.servicio.listar();
+    }
+
+    /** Recorrido sin copia, como referencia para {@link #listar(EstadoFlota)}. */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void recorrer(EstadoFlota flota, Blackhole bh) {
+        flota.servicio.recorrer(bh::consume);
+    }
+
+    /** Recorrido por lotes, que suelta el bloqueo del servicio entre lote y lote. */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void cursor(EstadoFlota flota, Blackhole bh) {
+        flota.servicio.recorrido().forEachRemaining(bh::consume);
+    }
+
+    /** Reporte de la flota con los contadores que mantiene el repositorio. */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ReporteFlota reporte(EstadoFlota flota) {
+        return flota.servicio.reporte(LocalDate.now(), 180);
+    }
+
+    /** El mismo reporte reduciendo la flota en paralelo, como lo calculan las demás implementaciones. */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ReporteFlota reporteParalelo(EstadoFlota flota) {
+        return ReporteFlota.calcular(flota.servicio.flujo(true), LocalDate.now(), 180);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public boolean guardar(EstadoFlota flota, Altas altas) {
+        return flota.servicio.guardar(altas.trajes[altas.siguiente++]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5, batchSize = LOTE)
+    @Measurement(iterations = 10, batchSize = LOTE)
+    public boolean eliminar(EstadoFlota flota, Bajas bajas) {
+        return flota.servicio.eliminar(bajas.ids[bajas.siguiente++]);
+    }
+
+    // ===========================================================
+    //  ESTADO DE LOS LOTES
+    // ===========================================================
+
+    /**
+     * Trajes nuevos que se agregan en una iteración y se retiran al terminarla.
+     */
+    @State(Scope.Thread)
+    public static class Altas {
+
+        /** Trajes con IDs que no están en la flota. */
+        Traje_Espacial[] trajes;
+
+        /** Siguiente traje a guardar. */
+        int siguiente;
+
+        @Setup(Level.Iteration)
+        public void preparar(EstadoFlota flota) {
+            if (trajes == null) {
+                trajes = new Traje_Espacial[LOTE];
+                for (int i = 0; i < LOTE; i++) {
+                    trajes[i] = GeneradorTrajes.traje((long) flota.tamanio + i);
+                }
+            }
+            siguiente = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void deshacer(EstadoFlota flota) {
+            for (int i = 0; i < siguiente; i++) {
+                flota.servicio.eliminar(trajes[i].getIdTraje());
+            }
+        }
+    }
+
+    /**
+     * Trajes de la flota que se eliminan en una iteración y se vuelven a guardar al terminarla.
+     */
+    @State(Scope.Thread)
+    public static class Bajas {
+
+        /** IDs existentes, distintos entre sí. */
+        String[] ids;
+
+        /** Los trajes de esos IDs, para volver a guardarlos. */
+        Traje_Espacial[] trajes;
+
+        /** Siguiente ID a eliminar. */
+        int siguiente;
+
+        @Setup(Level.Iteration)
+        public void preparar(EstadoFlota flota) {
+            if (ids == null) {
+                // la muestra de la flota no repite IDs y tiene al menos LOTE posiciones
+                ids = new String[LOTE];
+                trajes = new Traje_Espacial[LOTE];
+                for (int i = 0; i < LOTE; i++) {
+                    ids[i] = flota.ids[i];
+                    trajes[i] = flota.servicio.buscar(ids[i]);
+                }
+            }
+            siguiente = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void deshacer(EstadoFlota flota) {
+            for (int i = 0; i < siguiente; i++) {
+                flota.servicio.guardar(trajes[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package Space_Suit_Manager.benchmarks;
+
+import Space_Suit_Manager.Controller.TrajeController.DisplayTraje;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de convertir trajes del modelo en filas de la tabla con
+ * {@link DisplayTraje#fromModel(Traje_Espacial)}.
+ *
+ * {@code filasFlota} convierte la flota completa, como al cargar un archivo. Los
+ * demás miden un solo traje base y comparan los getters con la lectura por
+ * reflexión anterior ({@link LecturaReflexivaLegada}), que sirve de línea base.
+ *
+ * {@code DisplayTraje} es una clase anidada del controlador, pero usarla no carga
+ * JavaFX ni abre ninguna ventana.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+@Fork(value = 1, jvmArgsAppend = EstadoFlota.HEAP)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+public class BenchmarkFilas {
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void filasFlota(Flota flota, Blackhole bh) {
+        for (Traje_Espacial t : flota.trajes) {
+            bh.consume(DisplayTraje.fromModel(t));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public DisplayTraje fila(Traje traje) {
+        return DisplayTraje.fromModel(traje.traje);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public DisplayTraje filaReflexivaLegada(Traje traje) {
+        return LecturaReflexivaLegada.fila(traje.traje);
+    }
+
+    // ===========================================================
+    //  ESTADO
+    // ===========================================================
+
+    /**
+     * Trajes de la flota, en el orden del servicio.
+     */
+    @State(Scope.Benchmark)
+    public static class Flota {
+
+        /** Copia de la lista de trajes. */
+        List<Traje_Espacial> trajes;
+
+        @Setup(Level.Trial)
+        public void preparar(EstadoFlota flota) {
+            trajes = flota.servicio.listar();
+        }
+    }
+
+    /**
+     * Un traje base, el único tipo que la lectura por reflexión anterior leía bien.
+     */
+    @State(Scope.Thread)
+    public static class Traje {
+
+        /** El traje a convertir. */
+        Traje_Espacial traje;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            traje = new Traje_Espacial("TR-1", "M", 120.5, "2025-03-14");
+        }
+    }
+}
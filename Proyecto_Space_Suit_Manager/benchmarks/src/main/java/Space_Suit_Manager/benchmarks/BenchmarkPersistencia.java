@@ -0,0 +1,127 @@
+package Space_Suit_Manager.benchmarks;
+
+import Space_Suit_Manager.Servicios.ImplementacionOperacionTraje;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiempo de escribir y de cargar la instantánea completa de la flota.
+ *
+ * Cada llamada es una operación larga, así que se mide una por iteración. Los
+ * archivos se escriben en un directorio temporal que se borra al terminar; para
+ * medir otro disco se puede indicar {@code -Djava.io.tmpdir} en {@code -jvmArgsAppend}.
+ *
+ * {@code deserializar} no usa {@link EstadoFlota}: la instantánea se escribe al
+ * preparar la prueba y la flota de origen se descarta, para que en memoria solo
+ * estén la flota cargada y la que la reemplaza, como en la aplicación.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = EstadoFlota.HEAP)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BenchmarkPersistencia {
+
+    /** Nombre del archivo de datos dentro del directorio temporal. */
+    private static final String ARCHIVO = "trajes_espaciales.dat";
+
+    @Benchmark
+    public String serializar(EstadoFlota flota, Directorio directorio) {
+        return flota.servicio.serializar(directorio.ruta(), ARCHIVO);
+    }
+
+    @Benchmark
+    public List<Traje_Espacial> deserializar(Instantanea instantanea) {
+        return instantanea.lector.deserializar(instantanea.ruta(), ARCHIVO);
+    }
+
+    // ===========================================================
+    //  ESTADO
+    // ===========================================================
+
+    /**
+     * Directorio temporal que se borra al terminar la prueba.
+     */
+    @State(Scope.Benchmark)
+    public static class Directorio {
+
+        /** El directorio temporal. */
+        private File directorio;
+
+        @Setup(Level.Trial)
+        public void crear() throws IOException {
+            directorio = Files.createTempDirectory("benchmark-trajes").toFile();
+        }
+
+        @TearDown(Level.Trial)
+        public void borrar() {
+            File[] archivos = directorio.listFiles();
+            if (archivos != null) {
+                for (File f : archivos) f.delete();
+            }
+            directorio.delete();
+        }
+
+        /** @return la ruta del directorio */
+        public String ruta() {
+            return directorio.getPath();
+        }
+    }
+
+    /**
+     * Instantánea de una flota generada y el servicio que la carga.
+     */
+    @State(Scope.Benchmark)
+    public static class Instantanea {
+
+        /** Cantidad de trajes de la instantánea. */
+        @Param({"1000", "10000", "100000", "1000000", "10000000"})
+        public int tamanio;
+
+        /** Directorio donde está la instantánea. */
+        private final Directorio directorio = new Directorio();
+
+        /** Servicio que lee la instantánea. */
+        ImplementacionOperacionTraje lector;
+
+        @Setup(Level.Trial)
+        public void escribir() throws IOException {
+            directorio.crear();
+            String mensaje = GeneradorTrajes.servicio(tamanio).serializar(ruta(), ARCHIVO);
+            if (mensaje.startsWith("Error")) throw new IOException(mensaje);
+            lector = new ImplementacionOperacionTraje();
+        }
+
+        @TearDown(Level.Trial)
+        public void borrar() {
+            directorio.borrar();
+        }
+
+        /** @return la ruta del directorio */
+        public String ruta() {
+            return directorio.ruta();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package Space_Suit_Manager.benchmarks;
+
+import Space_Suit_Manager.Servicios.ImplementacionOperacionTraje;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Servicio de trajes lleno con una flota generada, compartido por los benchmarks.
+ *
+ * El tamaño de la flota va de mil a diez millones de trajes. Para medir solo
+ * algunos tamaños:
+ * <pre>
+ *   java -jar target/benchmarks.jar -p tamanio=1000,100000
+ * </pre>
+ * Con 10 millones de trajes el servicio ocupa varios GB, por eso los forks
+ * arrancan con {@link #HEAP}; en equipos con menos memoria conviene excluir ese
+ * tamaño o cambiar el heap con {@code -jvmArgsAppend}.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+public class EstadoFlota {
+
+    /** Heap máximo de cada fork, suficiente para la flota más grande. */
+    public static final String HEAP = "-Xmx6g";
+
+    /** Cantidad de IDs distintos que se consultan. */
+    private static final int MUESTRA = 1 << 16;
+
+    /** Cantidad de trajes de la flota. */
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int tamanio;
+
+    /** Servicio con los trajes {@code 0} a {@code tamanio - 1}. */
+    public ImplementacionOperacionTraje servicio;
+
+    /** Muestra de IDs existentes en orden disperso, para no favorecer a la caché. */
+    public String[] ids;
+
+    /** Copia de cada traje de la muestra (mismos datos, otro objeto) para modificar. */
+    public Traje_Espacial[] reemplazos;
+
+    /** Posición de la siguiente consulta en la muestra. */
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        servicio = GeneradorTrajes.servicio(tamanio);
+
+        // el paso es coprimo con el tamaño (potencia de diez), así que no repite posiciones
+        ids = new String[Math.min(tamanio, MUESTRA)];
+        reemplazos = new Traje_Espacial[ids.length];
+        long posicion = 0;
+        for (int i = 0; i < ids.length; i++) {
+            posicion = (posicion + 40503) % tamanio;
+            ids[i] = GeneradorTrajes.id(posicion);
+            reemplazos[i] = GeneradorTrajes.traje(posicion);
+        }
+        siguiente = 0;
+    }
+
+    /**
+     * Retorna la posición en la muestra de la siguiente consulta.
+     *
+     * La muestra se genera al preparar el estado, así que consultarla no asigna memoria.
+     *
+     * @return una posición válida de {@link #ids} y {@link #reemplazos}
+     */
+    public int siguiente() {
+        int i = siguiente;
+        if (++siguiente == ids.length) siguiente = 0;
+        return i;
+    }
+}
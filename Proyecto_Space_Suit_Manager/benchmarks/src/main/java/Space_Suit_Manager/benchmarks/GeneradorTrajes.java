@@ -0,0 +1,122 @@
+package Space_Suit_Manager.benchmarks;
+
+import Space_Suit_Manager.Servicios.ImplementacionOperacionTraje;
+import Space_Suit_Manager.modelo.TrajeEntrenamiento;
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Genera flotas de trajes sintéticas y reproducibles para los benchmarks.
+ *
+ * El traje número {@code i} siempre es el mismo: su tipo, talla, peso y fecha se
+ * derivan de {@code i}, y su ID es {@code "TR-" + i}. La flota mezcla trajes base,
+ * de exploración y de entrenamiento en proporciones parecidas a las de un
+ * inventario real. Las tallas, fechas y textos de las subclases se toman de tablas
+ * pequeñas y se comparten entre trajes, como ocurre con los datos cargados de un
+ * archivo; así la flota de 10 millones cabe en el heap indicado en {@link EstadoFlota}.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+public final class GeneradorTrajes {
+
+    /** Trajes por lote al llenar el servicio. */
+    private static final int TAMANIO_LOTE = 65_536;
+
+    private static final String[] TALLAS = {"XS", "S", "M", "L", "XL"};
+    private static final String[] TERRENOS = {"Lunar", "Marciano", "Asteroide", "Orbital"};
+    private static final String[] SIMULADORES = {"Piscina", "Centrifuga", "Vuelo parabolico"};
+    private static final String[] MATERIALES = {"Nylon", "Kevlar", "Nomex"};
+
+    /** Fechas de inspección de los últimos dos años, en el formato del formulario. */
+    private static final String[] FECHAS = new String[730];
+
+    static {
+        LocalDate inicio = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < FECHAS.length; i++) {
+            FECHAS[i] = inicio.plusDays(i).toString();
+        }
+    }
+
+    private GeneradorTrajes() {
+    }
+
+    /**
+     * Retorna el ID del traje número {@code i}.
+     *
+     * @param i el número del traje
+     * @return el identificador
+     */
+    public static String id(long i) {
+        return "TR-" + i;
+    }
+
+    /**
+     * Crea el traje número {@code i}.
+     *
+     * @param i el número del traje
+     * @return un traje nuevo, siempre con los mismos datos para el mismo número
+     */
+    public static Traje_Espacial traje(long i) {
+        // mezcla de bits para que los campos no sigan el orden de los IDs
+        long h = i * 0x9E3779B97F4A7C15L;
+        h ^= (h >>> 29);
+        int a = (int) (h & 0x7fffffff);
+
+        String id = id(i);
+        String talla = TALLAS[a % TALLAS.length];
+        double peso = 80 + (a % 4000) / 10.0;
+        String fecha = FECHAS[a % FECHAS.length];
+
+        switch (a % 4) {
+            case 0:
+            case 1:
+                return new Traje_Espacial(id, talla, peso, fecha);
+            case 2:
+                return new TrajeExploracion(id, talla, peso, fecha,
+                        TERRENOS[(a >>> 8) % TERRENOS.length], 0.3 + (a % 70) / 100.0);
+            default:
+                return new TrajeEntrenamiento(id, talla, peso, fecha,
+                        SIMULADORES[(a >>> 8) % SIMULADORES.length], MATERIALES[(a >>> 12) % MATERIALES.length]);
+        }
+    }
+
+    /**
+     * Crea los trajes {@code 0} a {@code n - 1}.
+     *
+     * @param n la cantidad de trajes
+     * @return la lista de trajes
+     */
+    public static List<Traje_Espacial> flota(int n) {
+        List<Traje_Espacial> trajes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            trajes.add(traje(i));
+        }
+        return trajes;
+    }
+
+    /**
+     * Crea un servicio sin archivo asociado con los trajes {@code 0} a {@code n - 1}.
+     *
+     * @param n la cantidad de trajes
+     * @return el servicio lleno
+     */
+    public static ImplementacionOperacionTraje servicio(int n) {
+        ImplementacionOperacionTraje servicio = new ImplementacionOperacionTraje();
+        List<Traje_Espacial> lote = new ArrayList<>(Math.min(n, TAMANIO_LOTE));
+        for (int i = 0; i < n; i++) {
+            lote.add(traje(i));
+            if (lote.size() == TAMANIO_LOTE) {
+                servicio.guardarLote(lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) servicio.guardarLote(lote);
+        return servicio;
+    }
+}
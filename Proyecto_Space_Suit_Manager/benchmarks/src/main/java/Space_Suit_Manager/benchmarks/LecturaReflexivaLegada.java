@@ -0,0 +1,54 @@
+package Space_Suit_Manager.benchmarks;
+
+import Space_Suit_Manager.Controller.TrajeController.DisplayTraje;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.lang.reflect.Field;
+
+/**
+ * Copia de la lectura por reflexión que usaba el servicio antes de pasar a los
+ * getters, conservada solo como referencia para {@link BenchmarkFilas}.
+ *
+ * Igual que la versión original, busca el campo en la clase concreta del traje en
+ * cada llamada, así que con {@code TrajeExploracion} y {@code TrajeEntrenamiento}
+ * no encuentra los campos heredados y retorna null. Por eso el benchmark la
+ * compara usando trajes base.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+final class LecturaReflexivaLegada {
+
+    private LecturaReflexivaLegada() {
+    }
+
+    /**
+     * Arma la fila de la tabla como lo hacía {@code DisplayTraje.fromModel(t, servicio)}.
+     *
+     * @param t el traje
+     * @return la fila
+     */
+    static DisplayTraje fila(Traje_Espacial t) {
+        String id = (String) leerCampo(t, "idTraje");
+        String talla = (String) leerCampo(t, "talla");
+        Object v = leerCampo(t, "pesoSoportado");
+        Double pesoD = (v instanceof Number) ? ((Number) v).doubleValue() : null;
+        String fecha = (String) leerCampo(t, "fechaInspeccion");
+        double peso = (pesoD == null) ? 0.0 : pesoD;
+        return new DisplayTraje(id == null ? "" : id,
+                talla == null ? "" : talla,
+                peso,
+                fecha == null ? "" : fecha);
+    }
+
+    private static Object leerCampo(Traje_Espacial t, String nombre) {
+        try {
+            Field f = t.getClass().getDeclaredField(nombre);
+            f.setAccessible(true);
+            return f.get(t);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package Space_Suit_Manager.benchmarks;
+
+import Space_Suit_Manager.Servicios.AlmacenColumnarTrajes;
+import Space_Suit_Manager.Servicios.CodecTraje;
+import Space_Suit_Manager.Servicios.ProgresoOperacion;
+import Space_Suit_Manager.Servicios.RepositorioTrajes;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Mide el heap que ocupa una flota cargada de archivo en {@link RepositorioTrajes}
+ * (un objeto por traje) y en {@link AlmacenColumnarTrajes} (columnas primitivas).
+ *
+ * JMH mide tiempos y asignación, no memoria retenida, por eso esta medición es un
+ * programa aparte: genera la flota con {@link GeneradorTrajes}, la escribe en un
+ * archivo temporal y carga el archivo en cada estructura, comparando el heap usado
+ * después de forzar la recolección antes y después de cada carga. Se carga desde
+ * archivo porque así cada traje tiene sus propios textos, como en la aplicación.
+ *
+ * Uso, después de {@code mvn package}:
+ * <pre>
+ * java -Xmx4g -cp target/benchmarks.jar Space_Suit_Manager.benchmarks.MedicionMemoria 1000000
+ * </pre>
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+public final class MedicionMemoria {
+
+    private MedicionMemoria() {
+    }
+
+    /**
+     * Ejecuta la medición.
+     *
+     * @param args la cantidad de trajes (1.000.000 si se omite)
+     * @throws IOException si el archivo temporal no puede escribirse o leerse
+     * @throws InterruptedException si se interrumpe la espera de la recolección
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int tamanio = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+
+        File archivo = File.createTempFile("medicion_trajes", ".dat");
+        archivo.deleteOnExit();
+        CodecTraje.escribirArchivo(archivo, flota(tamanio));
+        System.out.printf("Flota de %,d trajes, archivo de %,d bytes%n", tamanio, archivo.length());
+
+        long antes = usado();
+        RepositorioTrajes repositorio = new RepositorioTrajes();
+        repositorio.cargar(CodecTraje.leerArchivo(archivo).getTrajes(), Traje_Espacial::getIdTraje);
+        long porObjetos = usado() - antes;
+        reportar("RepositorioTrajes", porObjetos, repositorio.tamanio());
+        Reference.reachabilityFence(repositorio);
+        repositorio = null;
+
+        antes = usado();
+        AlmacenColumnarTrajes almacen = new AlmacenColumnarTrajes();
+        CodecTraje.recorrerArchivo(archivo, ProgresoOperacion.NINGUNO, almacen::agregar);
+        long porColumnas = usado() - antes;
+        reportar("AlmacenColumnarTrajes", porColumnas, almacen.tamanio());
+        Reference.reachabilityFence(almacen);
+
+        System.out.printf("Reducción: %.2fx%n", (double) porObjetos / porColumnas);
+    }
+
+    private static void reportar(String nombre, long bytes, int trajes) {
+        System.out.printf("%-22s %,14d bytes  %8.1f bytes/traje%n", nombre, bytes, (double) bytes / trajes);
+    }
+
+    /** Flota generada a medida que se recorre, para no retenerla mientras se escribe. */
+    private static List<Traje_Espacial> flota(int tamanio) {
+        return new AbstractList<Traje_Espacial>() {
+            @Override
+            public Traje_Espacial get(int i) {
+                return GeneradorTrajes.traje(i);
+            }
+
+            @Override
+            public int size() {
+                return tamanio;
+            }
+        };
+    }
+
+    /** Heap usado después de forzar varias recolecciones seguidas. */
+    private static long usado() throws InterruptedException {
+        Runtime rt = Runtime.getRuntime();
+        long usado = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+            usado = Math.min(usado, rt.totalMemory() - rt.freeMemory());
+        }
+        return usado;
+    }
+}
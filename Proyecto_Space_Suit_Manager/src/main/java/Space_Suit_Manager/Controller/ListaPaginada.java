@@ -0,0 +1,364 @@
+package Space_Suit_Manager.Controller;
+
+import Space_Suit_Manager.Servicios.ConsultaTrajes;
+import Space_Suit_Manager.Servicios.EventoTraje;
+import Space_Suit_Manager.Servicios.OperacionArchivo;
+import Space_Suit_Manager.Servicios.OrdenTrajes;
+import Space_Suit_Manager.Servicios.OyenteTrajes;
+import Space_Suit_Manager.Servicios.ResultadoConsulta;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lista observable de solo lectura que muestra todos los trajes de un servicio sin
+ * tenerlos como filas en memoria.
+ *
+ * La TableView solo pide las filas visibles; cada pedido se resuelve en una página
+ * de {@link #TAMANIO_PAGINA} filas que se lee del servicio con
+ * {@link OperacionArchivo#listarOrdenado(OrdenTrajes, boolean, int, int)} y se
+ * convierte al vuelo. El orden lo mantiene el servicio, así que cambiarlo con
+ * {@link #ordenar(OrdenTrajes, boolean)} solo vuelve a leer la primera página
+ * visible. Con un filtro activo ({@link #filtrar(ConsultaTrajes)}) la lista muestra
+ * el resultado de la consulta, que el servicio entrega ya ordenado; las filas se
+ * siguen convirtiendo solo por páginas. Las páginas se
+ * guardan en un caché LRU de a lo sumo {@link #MAX_PAGINAS}, y al acercarse al borde
+ * de una página se lee también la vecina, para que el desplazamiento no espere al
+ * servicio. Así la memoria de la tabla no depende del tamaño de la flota.
+ *
+ * La lista escucha los cambios del servicio: una ráfaga de eventos programa una sola
+ * actualización en el hilo de JavaFX, que vacía el caché, toma el nuevo tamaño y
+ * avisa a la tabla para que vuelva a pedir las filas visibles. Con un filtro activo
+ * la consulta puede recorrer la flota, así que se repite en un hilo propio y el
+ * resultado se cambia en el hilo de JavaFX al terminar; mientras tanto la tabla
+ * sigue mostrando el anterior. Hay como mucho una consulta en curso: los cambios que
+ * llegan durante ella piden una sola consulta más, al terminar, así que una
+ * importación con un evento por fila no encola una consulta por evento.
+ *
+ * Solo debe usarse desde el hilo de JavaFX, salvo {@link #cambio(EventoTraje)}.
+ *
+ * @param <E> el tipo de las filas
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see TrajeController
+ */
+public class ListaPaginada<E> extends ObservableListBase<E> implements OyenteTrajes {
+
+    /** Filas por página. */
+    public static final int TAMANIO_PAGINA = 128;
+
+    /** Páginas que se conservan en el caché. */
+    public static final int MAX_PAGINAS = 32;
+
+    /** Distancia al borde de una página a partir de la cual se lee la vecina. */
+    private static final int MARGEN = 32;
+
+    /** Servicio del que se leen las páginas. */
+    private final OperacionArchivo fuente;
+
+    /** Conversión de un traje a fila. */
+    private final Function<Traje_Espacial, E> convertidor;
+
+    /** Páginas convertidas, por número, en orden de uso. */
+    private final Map<Integer, List<E>> paginas = new LinkedHashMap<>(MAX_PAGINAS * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<E>> mayor) {
+            return size() > MAX_PAGINAS;
+        }
+    };
+
+    /**
+     * Páginas que había en el caché antes del último {@link #refrescar()}; dan las
+     * últimas filas conocidas de una posición que el servicio ya no tiene.
+     */
+    private Map<Integer, List<E>> anteriores = Collections.emptyMap();
+
+    /** Orden de las filas. */
+    private OrdenTrajes criterio = OrdenTrajes.INSERCION;
+
+    private boolean descendente;
+
+    /** Consulta que filtra las filas, o null para mostrar toda la flota. */
+    private ConsultaTrajes filtro;
+
+    /** Resultado de {@link #filtro} en la última actualización. */
+    private ResultadoConsulta resultado;
+
+    /** Cantidad de filas en la última actualización. */
+    private int tamanio;
+
+    /** Páginas leídas del servicio desde que se creó la lista. */
+    private long lecturas;
+
+    /** Indica si ya hay una actualización programada en el hilo de JavaFX. */
+    private final AtomicBoolean programado = new AtomicBoolean();
+
+    /** Hilo de las consultas del filtro; se crea con la primera. */
+    private ExecutorService consultas;
+
+    /** Aumenta con cada cambio de filtro u orden; descarta las consultas ya lanzadas. */
+    private long version;
+
+    /** Indica si hay una consulta del filtro en curso. */
+    private boolean consultando;
+
+    /** Indica si llegaron cambios durante la consulta en curso. */
+    private boolean consultaPendiente;
+
+    /** Recibe el primer resultado del filtro pedido en {@link #filtrar}, o null. */
+    private Consumer<ResultadoConsulta> alFiltrar;
+
+    /**
+     * Crea la lista, inicialmente vacía; {@link #refrescar()} la llena.
+     *
+     * @param fuente el servicio del que se leen los trajes
+     * @param convertidor la conversión de un traje a fila
+     */
+    public ListaPaginada(OperacionArchivo fuente, Function<Traje_Espacial, E> convertidor) {
+        this.fuente = fuente;
+        this.convertidor = convertidor;
+    }
+
+    /**
+     * Vuelve a leer el tamaño del servicio, descarta las páginas guardadas y avisa
+     * a la tabla en un único evento de cambio.
+     *
+     * Solo se marcan como actualizadas las filas de las páginas que estaban en el
+     * caché, que incluyen las visibles; el costo no depende del tamaño de la flota.
+     * Con un filtro activo solo lanza la consulta en segundo plano, y el cambio se
+     * aplica cuando termina.
+     */
+    public void refrescar() {
+        programado.set(false);
+        if (filtro != null) {
+            consultarEnSegundoPlano();
+            return;
+        }
+        aplicar(null, fuente.tamanio());
+    }
+
+    /**
+     * Lanza la consulta del filtro en el hilo de consultas, o la deja pendiente si
+     * ya hay una en curso.
+     */
+    private void consultarEnSegundoPlano() {
+        if (consultando) {
+            consultaPendiente = true;
+            return;
+        }
+        consultando = true;
+        consultaPendiente = false;
+        long lanzada = version;
+        ConsultaTrajes consulta = filtro;
+        OrdenTrajes orden = criterio;
+        boolean inverso = descendente;
+        if (consultas == null) {
+            consultas = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "consultas-lista-trajes");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        consultas.execute(() -> {
+            ResultadoConsulta r = null;
+            try {
+                r = fuente.consultar(consulta, orden, inverso);
+            } finally {
+                ResultadoConsulta obtenido = r;
+                Platform.runLater(() -> terminarConsulta(lanzada, obtenido));
+            }
+        });
+    }
+
+    /**
+     * Aplica el resultado de una consulta si el filtro y el orden siguen siendo los
+     * mismos, y lanza la siguiente si llegaron cambios mientras tanto.
+     *
+     * @param lanzada la versión con que se lanzó la consulta
+     * @param r el resultado, o null si la consulta falló
+     */
+    private void terminarConsulta(long lanzada, ResultadoConsulta r) {
+        consultando = false;
+        if (filtro == null) return; // se quitó el filtro mientras tanto
+
+        boolean vigente = (lanzada == version);
+        if (vigente && r != null) {
+            aplicar(r, r.getTrajes().size());
+            if (alFiltrar != null) {
+                Consumer<ResultadoConsulta> aviso = alFiltrar;
+                alFiltrar = null;
+                aviso.accept(r);
+            }
+        }
+        if (consultaPendiente || !vigente) consultarEnSegundoPlano();
+    }
+
+    /**
+     * Cambia el contenido de la lista y avisa a la tabla.
+     *
+     * @param nuevoResultado el resultado del filtro, o null para la flota completa
+     * @param nuevoTamanio la cantidad de filas
+     */
+    private void aplicar(ResultadoConsulta nuevoResultado, int nuevoTamanio) {
+        int anterior = tamanio;
+        List<Integer> leidas = new ArrayList<>(paginas.keySet());
+        Collections.sort(leidas);
+        anteriores = new HashMap<>(paginas);
+        paginas.clear();
+        resultado = nuevoResultado;
+        tamanio = nuevoTamanio;
+
+        beginChange();
+        try {
+            int comunes = Math.min(anterior, tamanio);
+            for (int numero : leidas) {
+                int fin = Math.min(comunes, (numero + 1) * TAMANIO_PAGINA);
+                for (int i = numero * TAMANIO_PAGINA; i < fin; i++) {
+                    nextUpdate(i);
+                }
+            }
+            if (tamanio > anterior) {
+                nextAdd(anterior, tamanio);
+            } else if (tamanio < anterior) {
+                nextRemove(tamanio, Collections.nCopies(anterior - tamanio, (E) null));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Cambia el orden de las filas y vuelve a mostrar las visibles en el orden nuevo.
+     *
+     * @param criterio el criterio de orden
+     * @param descendente true para el orden inverso
+     */
+    public void ordenar(OrdenTrajes criterio, boolean descendente) {
+        this.criterio = Objects.requireNonNull(criterio);
+        this.descendente = descendente;
+        version++;
+        refrescar();
+    }
+
+    /**
+     * Muestra solo los trajes que cumplen una consulta, en el orden actual. El filtro
+     * sigue los cambios del servicio hasta {@link #quitarFiltro()}.
+     *
+     * La consulta se ejecuta en segundo plano; hasta que termina, la tabla sigue
+     * mostrando lo anterior.
+     *
+     * @param consulta la consulta
+     * @param alTerminar recibe en el hilo de JavaFX el resultado, con el plan que usó
+     *                   el servicio; no se llama si antes se cambia o quita el filtro
+     */
+    public void filtrar(ConsultaTrajes consulta, Consumer<ResultadoConsulta> alTerminar) {
+        filtro = Objects.requireNonNull(consulta);
+        alFiltrar = alTerminar;
+        version++;
+        refrescar();
+    }
+
+    /**
+     * Vuelve a mostrar toda la flota, en el orden actual. Una consulta del filtro
+     * en curso se descarta.
+     */
+    public void quitarFiltro() {
+        filtro = null;
+        alFiltrar = null;
+        version++;
+        refrescar();
+    }
+
+    /**
+     * Programa un {@link #refrescar()} en el hilo de JavaFX, uno solo por ráfaga.
+     *
+     * @param evento el cambio aplicado en el servicio
+     */
+    @Override
+    public void cambio(EventoTraje evento) {
+        if (programado.compareAndSet(false, true)) Platform.runLater(this::refrescar);
+    }
+
+    /**
+     * Retorna la cantidad de páginas leídas del servicio, para diagnóstico.
+     *
+     * @return el número de páginas
+     */
+    public long getLecturas() {
+        return lecturas;
+    }
+
+    /**
+     * Retorna la cantidad de páginas en el caché.
+     *
+     * @return el número de páginas, como mucho {@link #MAX_PAGINAS}
+     */
+    public int paginasEnCache() {
+        return paginas.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Si el servicio perdió trajes después de la última actualización, la página
+     * leída puede no llegar hasta esa posición. Hasta el siguiente
+     * {@link #refrescar()}, que ya está programado, se retorna la última fila
+     * conocida en ella: la de la misma página antes de la actualización anterior.
+     * Solo si la posición nunca se leyó retorna null, así que quien muestre las
+     * filas debe tolerarlo.
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, tamanio);
+        int numero = index / TAMANIO_PAGINA;
+        int enPagina = index % TAMANIO_PAGINA;
+        List<E> pagina = pagina(numero);
+
+        // lectura anticipada de la página vecina
+        if (enPagina >= TAMANIO_PAGINA - MARGEN && (numero + 1) * TAMANIO_PAGINA < tamanio) {
+            pagina(numero + 1);
+        } else if (enPagina < MARGEN && numero > 0) {
+            pagina(numero - 1);
+        }
+        if (enPagina < pagina.size()) return pagina.get(enPagina);
+
+        List<E> anterior = anteriores.get(numero);
+        return (anterior != null && enPagina < anterior.size()) ? anterior.get(enPagina) : null;
+    }
+
+    @Override
+    public int size() {
+        return tamanio;
+    }
+
+    private List<E> pagina(int numero) {
+        List<E> pagina = paginas.get(numero);
+        if (pagina != null) return pagina;
+
+        int desde = numero * TAMANIO_PAGINA;
+        List<Traje_Espacial> trajes = (resultado == null)
+                ? fuente.listarOrdenado(criterio, descendente, desde, TAMANIO_PAGINA)
+                : resultado.getTrajes().subList(Math.min(desde, tamanio), Math.min(desde + TAMANIO_PAGINA, tamanio));
+        pagina = new ArrayList<>(trajes.size());
+        for (Traje_Espacial t : trajes) {
+            pagina.add(convertidor.apply(t));
+        }
+        lecturas++;
+        paginas.put(numero, pagina);
+        return pagina;
+    }
+}
@@ -0,0 +1,231 @@
+package Space_Suit_Manager.Controller;
+
+import Space_Suit_Manager.Servicios.CompactadorDiario;
+import Space_Suit_Manager.Servicios.ConfiguracionCompactacion;
+import Space_Suit_Manager.Servicios.MetricasOperaciones;
+import Space_Suit_Manager.Servicios.MetricasOperaciones.Operacion;
+import Space_Suit_Manager.Servicios.MetricasOperaciones.ResumenOperacion;
+import Space_Suit_Manager.Servicios.MetricasPersistencia;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Ventana de diagnóstico con las métricas del servicio de trajes en vivo.
+ *
+ * Muestra una fila por operación con las llamadas, las llamadas por segundo del
+ * último intervalo de refresco, la mediana, el percentil 99, el máximo y los bytes
+ * de persistencia. Arriba de la tabla muestra los tiempos de la última carga
+ * (lectura de la instantánea y reproducción del diario), los de la última
+ * instantánea y el resultado de la última compactación, con los umbrales vigentes,
+ * para ajustar la compactación con datos reales. Se refresca cada
+ * {@link #INTERVALO_REFRESCO} mientras está abierta y permite reiniciar las
+ * métricas o volcarlas a un CSV.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see MetricasOperaciones
+ */
+public class PanelDiagnostico {
+
+    /** Cada cuánto se leen las métricas. */
+    private static final Duration INTERVALO_REFRESCO = Duration.seconds(1);
+
+    /** Métricas que se muestran. */
+    private final MetricasOperaciones metricas;
+
+    /** Tiempos de carga e instantáneas del almacén. */
+    private final MetricasPersistencia persistencia;
+
+    /** Compactador del diario, del que se muestra el último resultado. */
+    private final CompactadorDiario compactador;
+
+    /** Ventana, creada la primera vez que se muestra. */
+    private Stage ventana;
+
+    private final TableView<Fila> tabla = new TableView<>();
+    private final Label lblResumen = new Label();
+    private final Label lblPersistencia = new Label();
+    private final Timeline refresco = new Timeline(new KeyFrame(INTERVALO_REFRESCO, e -> refrescar()));
+
+    /** Llamadas de cada operación en el refresco anterior, para calcular la tasa. */
+    private final Map<Operacion, Long> llamadasAnteriores = new EnumMap<>(Operacion.class);
+
+    /** Momento (System.nanoTime) del refresco anterior. */
+    private long refrescoAnterior;
+
+    /**
+     * Crea el panel para las métricas indicadas.
+     *
+     * @param metricas las métricas de las llamadas
+     * @param persistencia los tiempos de carga e instantáneas
+     * @param compactador el compactador del diario
+     */
+    public PanelDiagnostico(MetricasOperaciones metricas, MetricasPersistencia persistencia,
+                            CompactadorDiario compactador) {
+        this.metricas = metricas;
+        this.persistencia = persistencia;
+        this.compactador = compactador;
+        refresco.setCycleCount(Timeline.INDEFINITE);
+    }
+
+    /**
+     * Muestra la ventana, o la trae al frente si ya está abierta.
+     *
+     * @param duenio la ventana principal
+     */
+    public void mostrar(Window duenio) {
+        if (ventana == null) ventana = crearVentana(duenio);
+        if (!ventana.isShowing()) {
+            llamadasAnteriores.clear();
+            refrescar();
+            refresco.play();
+            ventana.show();
+        }
+        ventana.toFront();
+    }
+
+    private Stage crearVentana(Window duenio) {
+        tabla.getColumns().add(columna("Operación", 130, f -> f.resumen.getOperacion().name().toLowerCase(Locale.ROOT)));
+        tabla.getColumns().add(columna("Llamadas", 90, f -> String.valueOf(f.resumen.getLlamadas())));
+        tabla.getColumns().add(columna("Llamadas/s", 90, f -> String.format("%.1f", f.porSegundo)));
+        tabla.getColumns().add(columna("p50 (µs)", 90, f -> String.format("%.1f", f.resumen.getP50Micros())));
+        tabla.getColumns().add(columna("p99 (µs)", 90, f -> String.format("%.1f", f.resumen.getP99Micros())));
+        tabla.getColumns().add(columna("Máx (µs)", 90, f -> String.format("%.1f", f.resumen.getMaxMicros())));
+        tabla.getColumns().add(columna("Bytes", 110, f -> String.valueOf(f.resumen.getBytes())));
+        tabla.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+
+        Button btnReiniciar = new Button("Reiniciar");
+        btnReiniciar.setOnAction(e -> {
+            metricas.reiniciar();
+            llamadasAnteriores.clear();
+            refrescar();
+        });
+        Button btnVolcar = new Button("Guardar en archivo...");
+        btnVolcar.setOnAction(e -> volcar());
+
+        HBox botones = new HBox(8, lblResumen, btnReiniciar, btnVolcar);
+        botones.setAlignment(Pos.CENTER_RIGHT);
+        botones.setPadding(new Insets(8));
+        HBox.setHgrow(lblResumen, Priority.ALWAYS);
+        lblResumen.setMaxWidth(Double.MAX_VALUE);
+
+        lblPersistencia.setPadding(new Insets(8));
+        lblPersistencia.setWrapText(true);
+
+        BorderPane raiz = new BorderPane(tabla);
+        raiz.setTop(lblPersistencia);
+        raiz.setBottom(botones);
+
+        Stage stage = new Stage();
+        stage.initOwner(duenio);
+        stage.setTitle("Diagnóstico del servicio");
+        stage.setScene(new Scene(raiz, 760, 420));
+        stage.setOnHidden(e -> refresco.stop());
+        return stage;
+    }
+
+    private static TableColumn<Fila, String> columna(String titulo, double ancho, Function<Fila, String> valor) {
+        TableColumn<Fila, String> c = new TableColumn<>(titulo);
+        c.setPrefWidth(ancho);
+        c.setSortable(false);
+        c.setCellValueFactory(cell -> new ReadOnlyStringWrapper(valor.apply(cell.getValue())));
+        return c;
+    }
+
+    /** Lee las métricas y actualiza la tabla. */
+    private void refrescar() {
+        long ahora = System.nanoTime();
+        double segundos = (ahora - refrescoAnterior) / 1e9;
+
+        List<Fila> filas = new ArrayList<>();
+        for (ResumenOperacion r : metricas.resumen()) {
+            Long antes = llamadasAnteriores.put(r.getOperacion(), r.getLlamadas());
+            double tasa = (antes == null || segundos <= 0) ? 0 : (r.getLlamadas() - antes) / segundos;
+            filas.add(new Fila(r, tasa));
+        }
+        refrescoAnterior = ahora;
+
+        tabla.getItems().setAll(filas);
+        if (!filas.isEmpty()) {
+            lblResumen.setText(String.format("%.0f s desde el último reinicio", filas.get(0).resumen.getSegundos()));
+        }
+        lblPersistencia.setText(textoPersistencia());
+    }
+
+    /** Describe la última carga, la última instantánea y la última compactación. */
+    private String textoPersistencia() {
+        ConfiguracionCompactacion c = compactador.getConfiguracion();
+        String resultado = compactador.getUltimoResultado();
+        String error = compactador.getUltimoError();
+        return String.format("Última carga: instantánea %d ms, diario %d ms (%d registros reproducidos)%n"
+                        + "Última instantánea: %d ms, %d trajes, %d bytes; %d instantáneas desde el inicio%n"
+                        + "Compactación (cada %d bytes, %d registros o %d s): %s%s",
+                persistencia.getUltimaCargaInstantaneaMillis(), persistencia.getUltimaReproduccionMillis(),
+                persistencia.getUltimosRegistrosReproducidos(),
+                persistencia.getUltimaInstantaneaMillis(), persistencia.getUltimaInstantaneaTrajes(),
+                persistencia.getUltimaInstantaneaBytes(), persistencia.getCompactaciones(),
+                c.getMaxBytesDiario(), c.getMaxRegistros(), c.getMaxMillisEntreInstantaneas() / 1000,
+                (resultado == null) ? "todavía no hubo ninguna" : resultado,
+                (error == null || error.equals(resultado)) ? "" : " (último error: " + error + ")");
+    }
+
+    /** Vuelca las métricas al archivo que elija el usuario. */
+    private void volcar() {
+        FileChooser selector = new FileChooser();
+        selector.setTitle("Guardar métricas");
+        selector.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV", "*.csv"));
+        selector.setInitialFileName("metricas_trajes.csv");
+        File archivo = selector.showSaveDialog(ventana);
+        if (archivo == null) return;
+
+        Alert a;
+        try {
+            metricas.volcar(archivo);
+            a = new Alert(Alert.AlertType.INFORMATION, "Métricas guardadas en " + archivo.getPath());
+        } catch (IOException ex) {
+            a = new Alert(Alert.AlertType.ERROR, "Error al guardar las métricas: " + ex.getMessage());
+        }
+        a.setTitle("Diagnóstico");
+        a.setHeaderText(null);
+        a.initOwner(ventana);
+        a.showAndWait();
+    }
+
+    /** Fila de la tabla: el resumen de una operación y su tasa reciente. */
+    private static final class Fila {
+
+        final ResumenOperacion resumen;
+        final double porSegundo;
+
+        Fila(ResumenOperacion resumen, double porSegundo) {
+            this.resumen = resumen;
+            this.porSegundo = porSegundo;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package Space_Suit_Manager.Controller;
+
+import Space_Suit_Manager.Servicios.AtributoCategorico;
+import Space_Suit_Manager.Servicios.OperacionArchivo;
+import Space_Suit_Manager.Servicios.ReporteFlota;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.SplitPane;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Ventana con el reporte de la flota: trajes por talla, tipo de terreno, tipo de
+ * simulador y material, distribución del peso soportado e inspecciones vencidas.
+ *
+ * El reporte se pide al servicio ({@link OperacionArchivo#reporte(LocalDate, int)})
+ * en un hilo aparte, para que un servicio que deba recorrer la flota no bloquee la
+ * interfaz, y se vuelve a pedir cada {@link #INTERVALO_REFRESCO} mientras la ventana
+ * está abierta, salvo que el anterior no haya terminado.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ReporteFlota
+ */
+public class PanelReporte {
+
+    /** Cada cuánto se pide el reporte. */
+    private static final Duration INTERVALO_REFRESCO = Duration.seconds(2);
+
+    /** Barras como máximo en la distribución del peso; los intervalos se agrupan si hay más. */
+    private static final int MAXIMO_BARRAS = 30;
+
+    /** Atributos desglosados en la tabla. */
+    private static final AtributoCategorico[] DESGLOSES = {
+            AtributoCategorico.TALLA, AtributoCategorico.TIPO_TERRENO,
+            AtributoCategorico.TIPO_SIMULADOR, AtributoCategorico.MATERIAL
+    };
+
+    /** Servicio del que se pide el reporte. */
+    private final OperacionArchivo servicio;
+
+    /** Días de validez de una inspección. */
+    private final int vigenciaDias;
+
+    /** Ventana, creada la primera vez que se muestra. */
+    private Stage ventana;
+
+    private final TableView<Fila> tabla = new TableView<>();
+    private final BarChart<String, Number> grafico = new BarChart<>(new CategoryAxis(), new NumberAxis());
+    private final Label lblResumen = new Label();
+    private final Label lblPeso = new Label();
+    private final Timeline refresco = new Timeline(new KeyFrame(INTERVALO_REFRESCO, e -> refrescar()));
+
+    /** Hilo en el que se calcula el reporte. */
+    private final ExecutorService ejecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "reporte-flota");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Indica si hay un reporte en cálculo; solo se usa en el hilo de JavaFX. */
+    private boolean calculando;
+
+    /**
+     * Crea el panel para un servicio.
+     *
+     * @param servicio el servicio de trajes
+     * @param vigenciaDias días de validez de una inspección, para contar las vencidas
+     */
+    public PanelReporte(OperacionArchivo servicio, int vigenciaDias) {
+        this.servicio = servicio;
+        this.vigenciaDias = vigenciaDias;
+        refresco.setCycleCount(Timeline.INDEFINITE);
+    }
+
+    /**
+     * Muestra la ventana, o la trae al frente si ya está abierta.
+     *
+     * @param duenio la ventana principal
+     */
+    public void mostrar(Window duenio) {
+        if (ventana == null) ventana = crearVentana(duenio);
+        if (!ventana.isShowing()) {
+            refrescar();
+            refresco.play();
+            ventana.show();
+        }
+        ventana.toFront();
+    }
+
+    private Stage crearVentana(Window duenio) {
+        tabla.getColumns().add(columna("Atributo", 120, f -> f.atributo));
+        tabla.getColumns().add(columna("Valor", 140, f -> f.valor));
+        tabla.getColumns().add(columna("Trajes", 90, f -> String.valueOf(f.cantidad)));
+        tabla.getColumns().add(columna("% de la flota", 90, f -> String.format("%.1f", f.porcentaje)));
+        tabla.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+
+        grafico.setTitle("Peso soportado (kg)");
+        grafico.setLegendVisible(false);
+        grafico.setAnimated(false);
+        grafico.setBarGap(0);
+        grafico.setCategoryGap(2);
+
+        Button btnActualizar = new Button("Actualizar");
+        btnActualizar.setOnAction(e -> refrescar());
+
+        HBox pie = new HBox(8, lblPeso, btnActualizar);
+        pie.setAlignment(Pos.CENTER_RIGHT);
+        pie.setPadding(new Insets(8));
+        HBox.setHgrow(lblPeso, Priority.ALWAYS);
+        lblPeso.setMaxWidth(Double.MAX_VALUE);
+        lblResumen.setPadding(new Insets(8));
+
+        BorderPane raiz = new BorderPane(new SplitPane(tabla, grafico));
+        raiz.setTop(lblResumen);
+        raiz.setBottom(pie);
+
+        Stage stage = new Stage();
+        stage.initOwner(duenio);
+        stage.setTitle("Reporte de la flota");
+        stage.setScene(new Scene(raiz, 900, 460));
+        stage.setOnHidden(e -> refresco.stop());
+        return stage;
+    }
+
+    private static TableColumn<Fila, String> columna(String titulo, double ancho, Function<Fila, String> valor) {
+        TableColumn<Fila, String> c = new TableColumn<>(titulo);
+        c.setPrefWidth(ancho);
+        c.setSortable(false);
+        c.setCellValueFactory(cell -> new ReadOnlyStringWrapper(valor.apply(cell.getValue())));
+        return c;
+    }
+
+    /** Pide el reporte en segundo plano, si no hay otro en cálculo. */
+    private void refrescar() {
+        if (calculando) return;
+        calculando = true;
+        LocalDate hoy = LocalDate.now();
+        CompletableFuture.supplyAsync(() -> servicio.reporte(hoy, vigenciaDias), ejecutor)
+                .whenComplete((reporte, error) -> Platform.runLater(() -> {
+                    calculando = false;
+                    if (error != null) {
+                        lblResumen.setText("Error al calcular el reporte: " + error.getMessage());
+                    } else {
+                        mostrarReporte(reporte);
+                    }
+                }));
+    }
+
+    private void mostrarReporte(ReporteFlota r) {
+        lblResumen.setText(String.format(
+                "%d trajes al %s: %d con la inspección vencida (%.1f%%, vigencia de %d días), %d sin fecha de inspección.",
+                r.getTotal(), r.getFecha(), r.getVencidos(), 100 * r.getProporcionVencidos(),
+                r.getVigenciaDias(), r.getSinFecha()));
+        lblPeso.setText((r.getPesosValidos() == 0) ? "Sin pesos registrados." : String.format(
+                "Peso soportado: promedio %.1f kg, mínimo %.1f kg, máximo %.1f kg.",
+                r.getPromedioPeso(), r.getMinimoPeso(), r.getMaximoPeso()));
+
+        List<Fila> filas = new ArrayList<>();
+        for (AtributoCategorico atributo : DESGLOSES) {
+            String nombre = atributo.name().toLowerCase(Locale.ROOT).replace('_', ' ');
+            for (Map.Entry<String, Integer> e : r.getConteos(atributo).entrySet()) {
+                double porcentaje = (r.getTotal() == 0) ? 0 : 100.0 * e.getValue() / r.getTotal();
+                filas.add(new Fila(nombre, (e.getKey() == null) ? "(sin valor)" : e.getKey(), e.getValue(), porcentaje));
+            }
+        }
+        tabla.getItems().setAll(filas);
+
+        XYChart.Series<String, Number> serie = new XYChart.Series<>();
+        agrupar(r.getDistribucionPeso()).forEach((desde, n) -> serie.getData().add(new XYChart.Data<>(
+                String.format("%.0f", desde), n)));
+        grafico.getData().setAll(List.of(serie));
+    }
+
+    /**
+     * Agrupa intervalos contiguos de la distribución para que no haya más de
+     * {@link #MAXIMO_BARRAS} barras; los intervalos vacíos intermedios se muestran en cero.
+     */
+    private static NavigableMap<Double, Integer> agrupar(NavigableMap<Double, Integer> distribucion) {
+        NavigableMap<Double, Integer> barras = new TreeMap<>();
+        if (distribucion.isEmpty()) return barras;
+
+        double primero = distribucion.firstKey();
+        double intervalos = (distribucion.lastKey() - primero) / ReporteFlota.ANCHO_INTERVALO_PESO + 1;
+        double ancho = ReporteFlota.ANCHO_INTERVALO_PESO * Math.ceil(intervalos / MAXIMO_BARRAS);
+        for (int i = 0; i <= MAXIMO_BARRAS && primero + i * ancho <= distribucion.lastKey(); i++) {
+            barras.put(primero + i * ancho, 0);
+        }
+        distribucion.forEach((desde, n) -> barras.merge(barras.floorKey(desde), n, Integer::sum));
+        return barras;
+    }
+
+    /** Fila de la tabla: un valor de un atributo y su cantidad de trajes. */
+    private static final class Fila {
+
+        final String atributo;
+        final String valor;
+        final int cantidad;
+        final double porcentaje;
+
+        Fila(String atributo, String valor, int cantidad, double porcentaje) {
+            this.atributo = atributo;
+            this.valor = valor;
+            this.cantidad = cantidad;
+            this.porcentaje = porcentaje;
+        }
+    }
+}
@@ -1,18 +1,49 @@
 package Space_Suit_Manager.Controller;
 
+import Space_Suit_Manager.Servicios.AtributoCategorico;
+import Space_Suit_Manager.Servicios.AtributoNumerico;
+import Space_Suit_Manager.Servicios.CompactadorDiario;
+import Space_Suit_Manager.Servicios.CondicionTraje;
+import Space_Suit_Manager.Servicios.ConfiguracionCompactacion;
+import Space_Suit_Manager.Servicios.ConsultaTrajes;
+import Space_Suit_Manager.Servicios.ExportadorTrajes;
 import Space_Suit_Manager.Servicios.ImplementacionOperacionTraje;
+import Space_Suit_Manager.Servicios.ImportadorCsvTrajes;
+import Space_Suit_Manager.Servicios.OperacionArchivoInstrumentada;
 import Space_Suit_Manager.Servicios.OperacionTraje;
+import Space_Suit_Manager.Servicios.OrdenTrajes;
+import Space_Suit_Manager.Servicios.PlanificadorInspecciones;
+import Space_Suit_Manager.Servicios.ProgresoOperacion;
+import Space_Suit_Manager.Servicios.ResultadoConsulta;
 import Space_Suit_Manager.modelo.Traje_Espacial;
+import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
 import javafx.scene.control.*;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.util.Duration;
+import java.io.File;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Controlador principal de la interfaz gráfica para gestionar trajes espaciales.
@@ -21,7 +52,13 @@ import java.util.List;
  * de trajes espaciales, así como la serialización y deserialización de datos.
  * 
  * Utiliza {@link ImplementacionOperacionTraje} para las operaciones de negocio,
- * que accede a los campos protegidos de {@link Traje_Espacial} mediante reflexión.
+ * que lee los campos de {@link Traje_Espacial} a través de sus getters.
+ * La tabla no se actualiza a mano después de cada operación: el servicio publica
+ * sus cambios y la {@link ListaPaginada} que alimenta la tabla se actualiza en el
+ * hilo de JavaFX, sin importar desde qué hilo se originaron; esa lista lee del
+ * servicio solo las páginas visibles, así que la tabla admite millones de trajes.
+ * Todas las llamadas pasan por un {@link OperacionArchivoInstrumentada}, que mide su
+ * latencia; el {@link PanelDiagnostico} muestra esas métricas en vivo.
  * La clase interna {@link DisplayTraje} actúa como un adaptador para mostrar
  * los datos en la TableView de JavaFX.
  * 
@@ -48,6 +85,26 @@ public class TrajeController {
     /** Selector de fecha para la fecha de inspección del traje. */
     @FXML private DatePicker dateInspeccion;
 
+    // ========== Controles FXML de filtro ==========
+
+    /** Días desde la última inspección para el filtro de inspecciones vencidas. */
+    @FXML private TextField txtDiasInspeccion;
+
+    /** Primera fecha del filtro por rango de inspección. */
+    @FXML private DatePicker dateDesde;
+
+    /** Última fecha del filtro por rango de inspección. */
+    @FXML private DatePicker dateHasta;
+
+    /** Peso mínimo de la consulta por atributos. */
+    @FXML private TextField txtPesoMin;
+
+    /** Peso máximo de la consulta por atributos. */
+    @FXML private TextField txtPesoMax;
+
+    /** Talla de la consulta por atributos. */
+    @FXML private TextField txtTallaFiltro;
+
     // ========== Controles FXML de tabla ==========
     
     /** Tabla que muestra la lista de trajes espaciales. */
@@ -65,36 +122,152 @@ public class TrajeController {
     /** Columna que muestra las fechas de inspección de los trajes. */
     @FXML private TableColumn<DisplayTraje, String> colFecha;
 
+    // ========== Controles FXML de estado ==========
+
+    /** Panel con el formulario y los botones CRUD; se bloquea mientras se carga un archivo. */
+    @FXML private VBox panelFormulario;
+
+    /** Menú de opciones; se bloquea junto con el formulario. */
+    @FXML private Menu menuOpciones;
+
+    /** Barra de progreso de la operación de persistencia en curso. */
+    @FXML private ProgressBar barraProgreso;
+
+    /** Etiqueta con el estado de la operación de persistencia en curso. */
+    @FXML private Label lblEstado;
+
+    /** Etiqueta con la cantidad de inspecciones vencidas y próximas a vencer. */
+    @FXML private Label lblAvisos;
+
+    /** Botón para cancelar la operación de persistencia en curso. */
+    @FXML private Button btnCancelar;
+
     // ========== Servicios y datos ==========
+
+    /** Directorio del archivo de datos. */
+    private static final String RUTA_DATOS = ".";
+
+    /** Nombre del archivo de datos. */
+    private static final String ARCHIVO_DATOS = "trajes_espaciales.dat";
     
     /** Servicio que implementa las operaciones CRUD y serialización de trajes. */
-    private ImplementacionOperacionTraje servicio = new ImplementacionOperacionTraje();
+    private final ImplementacionOperacionTraje almacen = new ImplementacionOperacionTraje();
 
-    /** Lista observable que alimenta la TableView con objetos DisplayTraje. */
-    private ObservableList<DisplayTraje> listaDisplay = FXCollections.observableArrayList();
+    /** El mismo servicio, midiendo cada llamada; la interfaz lo usa siempre a través de este. */
+    private final OperacionArchivoInstrumentada servicio = new OperacionArchivoInstrumentada(almacen);
+
+    /**
+     * Compacta el diario de cambios en segundo plano, con los umbrales de las propiedades
+     * del sistema, y registra cada compactación en las métricas de {@link #servicio}.
+     */
+    private final CompactadorDiario compactador = new CompactadorDiario(
+            almacen, ConfiguracionCompactacion.desdePropiedades(), servicio.getMetricas());
+
+    /** Avisa las inspecciones próximas a vencer y vencidas; escucha los cambios del servicio. */
+    private final PlanificadorInspecciones planificador = new PlanificadorInspecciones();
+
+    /** Indica si ya hay una actualización de {@link #lblAvisos} pendiente en el hilo de JavaFX. */
+    private final AtomicBoolean avisosPendientes = new AtomicBoolean();
+
+    /** Revisa periódicamente los errores de los procesos en segundo plano. */
+    private final Timeline revisionErrores =
+            new Timeline(new KeyFrame(Duration.seconds(2), ev -> mostrarErroresSegundoPlano()));
+
+    /** Último error del compactador ya mostrado en {@link #lblEstado}. */
+    private String errorCompactadorMostrado;
+
+    /** Último error del planificador de inspecciones ya mostrado en {@link #lblEstado}. */
+    private String errorPlanificadorMostrado;
+
+    /** Último error de un oyente de cambios del servicio ya mostrado en {@link #lblEstado}. */
+    private String errorOyenteMostrado;
+
+    // ========== Sugerencias de ID ==========
+
+    /** Cantidad máxima de IDs sugeridos. */
+    private static final int MAX_SUGERENCIAS = 10;
+
+    /** IDs que empiezan con lo escrito en {@link #txtId}. */
+    private final ContextMenu sugerencias = new ContextMenu();
+
+    /** Espera desde la última tecla antes de consultar, para no buscar en cada una. */
+    private final PauseTransition esperaSugerencias = new PauseTransition(Duration.millis(150));
+
+    /** Ventana de diagnóstico, creada la primera vez que se abre. */
+    private PanelDiagnostico panelDiagnostico;
+
+    /** Ventana del reporte de la flota, creada la primera vez que se abre. */
+    private PanelReporte panelReporte;
+
+    /**
+     * Lista observable que alimenta la TableView con objetos DisplayTraje.
+     * Crea filas solo para las páginas que la tabla pide y escucha los cambios del servicio.
+     */
+    private final ListaPaginada<DisplayTraje> listaDisplay = new ListaPaginada<>(servicio, DisplayTraje::fromModel);
+
+    /** Hilo único para las tareas de persistencia, fuera del hilo de JavaFX. */
+    private final ExecutorService ejecutorPersistencia = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "persistencia-trajes");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Tarea de persistencia en curso, o null si no hay ninguna. */
+    private Task<?> tareaActual;
 
     /**
      * Inicializa el controlador y configura los elementos de la interfaz gráfica.
      * 
      * Este método se ejecuta automáticamente después de cargar el archivo FXML.
-     * Configura las columnas de la tabla, carga datos previamente guardados
-     * (si existen) desde el archivo de serialización.
+     * Configura las columnas de la tabla y carga en segundo plano los datos
+     * previamente guardados (si existen); al terminar la carga, con éxito, con
+     * error o cancelada, inicia la compactación periódica del diario de cambios y
+     * la revisión de inspecciones.
      */
     @FXML
     public void initialize() {
         // configurar columnas
-        colId.setCellValueFactory(cell -> new SimpleStringProperty(cell.getValue().getId()));
-        colTalla.setCellValueFactory(cell -> new SimpleStringProperty(cell.getValue().getTalla()));
-        colPeso.setCellValueFactory(cell -> new SimpleDoubleProperty(cell.getValue().getPeso()).asObject());
-        colFecha.setCellValueFactory(cell -> new SimpleStringProperty(cell.getValue().getFecha()));
+        // la lista paginada puede entregar una fila null mientras espera refrescarse
+        colId.setCellValueFactory(cell -> new SimpleStringProperty(
+                cell.getValue() == null ? null : cell.getValue().getId()));
+        colTalla.setCellValueFactory(cell -> new SimpleStringProperty(
+                cell.getValue() == null ? null : cell.getValue().getTalla()));
+        colPeso.setCellValueFactory(cell -> (cell.getValue() == null)
+                ? new SimpleObjectProperty<>()
+                : new SimpleDoubleProperty(cell.getValue().getPeso()).asObject());
+        colFecha.setCellValueFactory(cell -> new SimpleStringProperty(
+                cell.getValue() == null ? null : cell.getValue().getFecha()));
 
         tblTrajes.setItems(listaDisplay);
+        // la tabla siempre muestra la lista paginada, que la ordena el servicio
+        tblTrajes.setSortPolicy(tabla -> ordenarEnServicio());
+        servicio.agregarOyente(listaDisplay);
+        listaDisplay.refrescar();
+        servicio.agregarOyente(planificador);
+        planificador.agregarOyente(aviso -> {
+            // una ráfaga de avisos se muestra con una sola actualización
+            if (avisosPendientes.compareAndSet(false, true)) Platform.runLater(this::actualizarAvisos);
+        });
+        liberarEstado("Listo.");
 
-        // si existe archivo, cargarlo silenciosamente
-        List<Traje_Espacial> cargados = servicio.deserializar(".", "trajes_espaciales.dat");
-        if (cargados != null) {
-            rebuildDisplayFromModels(cargados);
-        }
+        // sugerencias de ID: solo mientras el usuario escribe, no al llenar el campo desde el código
+        esperaSugerencias.setOnFinished(ev -> mostrarSugerencias());
+        txtId.textProperty().addListener((obs, antes, ahora) -> {
+            if (txtId.isFocused()) esperaSugerencias.playFromStart();
+        });
+
+        // si existe archivo, cargarlo silenciosamente; las revisiones periódicas
+        // arrancan al terminar la carga, termine como termine
+        Task<Integer> cargaInicial = cargarEnSegundoPlano(false);
+        cargaInicial.stateProperty().addListener((obs, antes, estado) -> {
+            if (estado == Worker.State.SUCCEEDED || estado == Worker.State.CANCELLED
+                    || estado == Worker.State.FAILED) {
+                compactador.iniciar();
+                planificador.iniciar();
+            }
+        });
+        revisionErrores.setCycleCount(Timeline.INDEFINITE);
+        revisionErrores.play();
     }
 
     /**
@@ -130,13 +303,18 @@ public class TrajeController {
 
         Traje_Espacial nuevo = new Traje_Espacial(id, talla, peso, fecha);
 
-        boolean ok = servicio.guardar(nuevo);
+        boolean ok;
+        try {
+            ok = servicio.guardar(nuevo);
+        } catch (UncheckedIOException ex) {
+            mostrarAlerta("Error", "El traje no se guardó. " + ex.getMessage());
+            return;
+        }
         if (!ok) {
             mostrarAlerta("Error", "Ya existe un traje con ese ID.");
             return;
         }
 
-        listaDisplay.add(DisplayTraje.fromModel(nuevo, servicio));
         limpiarCampos();
         mostrarAlerta("Éxito", "Traje guardado.");
     }
@@ -149,7 +327,6 @@ public class TrajeController {
      * 
      * @param e el evento de acción que desencadena este método
      * 
-     * @see #findIndexById(String)
      * @see #mostrarAlerta(String, String)
      */
     @FXML
@@ -166,15 +343,12 @@ public class TrajeController {
         catch (NumberFormatException ex) { mostrarAlerta("Error", "Peso no válido."); return; }
 
         Traje_Espacial mod = new Traje_Espacial(id, talla, peso, fecha);
-        boolean ok = servicio.modificar(id, mod);
+        boolean ok;
+        try { ok = servicio.modificar(id, mod); }
+        catch (UncheckedIOException ex) { mostrarAlerta("Error", "El traje no se modificó. " + ex.getMessage()); return; }
         if (!ok) { mostrarAlerta("Error", "No existe traje con ese ID."); return; }
 
-        // actualizar display
-        int idx = findIndexById(id);
-        if (idx >= 0) {
-            listaDisplay.set(idx, DisplayTraje.fromModel(mod, servicio));
-        }
-
+        actualizarAvisos();
         mostrarAlerta("Éxito", "Traje modificado.");
     }
 
@@ -186,7 +360,6 @@ public class TrajeController {
      * 
      * @param e el evento de acción que desencadena este método
      * 
-     * @see #findIndexById(String)
      * @see #limpiarCampos()
      */
     @FXML
@@ -194,12 +367,12 @@ public class TrajeController {
         String id = txtId.getText().trim();
         if (id.isEmpty()) { mostrarAlerta("Error", "Ingrese ID para eliminar."); return; }
 
-        boolean ok = servicio.eliminar(id);
+        boolean ok;
+        try { ok = servicio.eliminar(id); }
+        catch (UncheckedIOException ex) { mostrarAlerta("Error", "El traje no se eliminó. " + ex.getMessage()); return; }
         if (!ok) { mostrarAlerta("Error", "No existe traje con ese ID."); return; }
 
-        int idx = findIndexById(id);
-        if (idx >= 0) listaDisplay.remove(idx);
-
+        actualizarAvisos();
         limpiarCampos();
         mostrarAlerta("Éxito", "Traje eliminado.");
     }
@@ -208,7 +381,7 @@ public class TrajeController {
      * Busca un traje espacial por su identificador.
      * 
      * Si encuentra el traje, carga sus datos en los campos de entrada.
-     * Utiliza reflexión a través del servicio para acceder a los datos del modelo.
+     * Utiliza los accesores del servicio para leer los datos del modelo.
      * 
      * @param e el evento de acción que desencadena este método
      * 
@@ -225,68 +398,417 @@ public class TrajeController {
         Traje_Espacial t = servicio.buscar(id);
         if (t == null) { mostrarAlerta("Sin resultados", "No se encontró el traje."); return; }
 
-        // llenar campos desde el modelo (usando servicio/reflexión)
-        txtTalla.setText(servicio.leerTalla(t));
-        Double p = servicio.leerPeso(t);
+        cargarCampos(id, t);
+        mostrarAlerta("Resultado", "Traje encontrado.");
+    }
+
+    /**
+     * Llena los campos de entrada con los datos de un traje.
+     * 
+     * Utiliza los accesores del servicio para leer los datos del modelo.
+     * 
+     * @param id el ID a mostrar
+     * @param t el traje
+     */
+    private void cargarCampos(String id, Traje_Espacial t) {
+        txtTalla.setText(almacen.leerTalla(t));
+        Double p = almacen.leerPeso(t);
         txtPeso.setText(p == null ? "" : String.valueOf(p));
         txtId.setText(id);
-        String f = servicio.leerFecha(t);
+        String f = almacen.leerFecha(t);
         try {
             if (f != null && !f.isBlank()) dateInspeccion.setValue(LocalDate.parse(f));
         } catch (DateTimeParseException ex) {
             // ignora formato inválido en fecha
         }
+    }
 
-        mostrarAlerta("Resultado", "Traje encontrado.");
+    /**
+     * Muestra bajo {@link #txtId} los primeros IDs que empiezan con lo escrito.
+     * 
+     * Se llama {@link #esperaSugerencias} después de la última tecla. La consulta
+     * ubica el prefijo en la vista del repositorio ordenada por ID (una VistaOrdenada
+     * de bloques) y avanza desde ahí, O(log n + {@value #MAX_SUGERENCIAS}), así que
+     * cabe holgadamente en un cuadro aun con millones de trajes.
+     * 
+     * @see ImplementacionOperacionTraje#buscarPorPrefijo(String, int)
+     */
+    private void mostrarSugerencias() {
+        String prefijo = txtId.getText().trim();
+        List<Traje_Espacial> encontrados = prefijo.isEmpty()
+                ? List.of() : servicio.buscarPorPrefijo(prefijo, MAX_SUGERENCIAS);
+
+        // nada que sugerir, o el ID ya está completo
+        if (encontrados.isEmpty()
+                || (encontrados.size() == 1 && encontrados.get(0).getIdTraje().equalsIgnoreCase(prefijo))) {
+            sugerencias.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>(encontrados.size());
+        for (Traje_Espacial t : encontrados) {
+            MenuItem item = new MenuItem(t.getIdTraje() + "  (" + almacen.leerTalla(t) + ")");
+            item.setOnAction(ev -> {
+                cargarCampos(t.getIdTraje(), t);
+                esperaSugerencias.stop(); // el propio setText no debe volver a sugerir
+                txtId.positionCaret(txtId.getLength());
+            });
+            items.add(item);
+        }
+        sugerencias.getItems().setAll(items);
+        if (!sugerencias.isShowing()) sugerencias.show(txtId, Side.BOTTOM, 0, 0);
     }
 
     /**
      * Actualiza la tabla con la lista completa de trajes espaciales.
      * 
-     * Obtiene todos los trajes del servicio y reconstruye la lista de display.
+     * Vuelve a leer del servicio la cantidad de trajes y las filas visibles, en el
+     * orden elegido en la tabla. Si había un filtro activo, la tabla vuelve a mostrar
+     * la lista completa.
      * 
      * @param e el evento de acción que desencadena este método
      * 
-     * @see #rebuildDisplayFromModels(List)
+     * @see ListaPaginada#quitarFiltro()
      */
     @FXML
     private void listarTrajes(ActionEvent e) {
-        rebuildDisplayFromModels(servicio.listar());
+        listaDisplay.quitarFiltro();
         mostrarAlerta("Lista", "Tabla actualizada.");
     }
 
+    /**
+     * Muestra en la tabla solo los trajes que cumplen el filtro de inspección.
+     * 
+     * Si se ingresan días, se muestran los trajes inspeccionados hace más de esa
+     * cantidad de días; si no, los inspeccionados entre las fechas elegidas
+     * (cualquiera de las dos puede quedar vacía). Como la consulta por atributos,
+     * el filtro se muestra en la lista paginada: el servicio lo resuelve con el
+     * índice por fecha y entrega el resultado ya ordenado, y solo se convierten las
+     * filas visibles. La tabla sigue los cambios del servicio hasta que se quita el
+     * filtro o se lista de nuevo.
+     * 
+     * @param e el evento de acción que desencadena este método
+     * 
+     * @see CondicionTraje#inspeccionEntre(LocalDate, LocalDate)
+     */
+    @FXML
+    private void filtrarPorInspeccion(ActionEvent e) {
+        String diasTxt = txtDiasInspeccion.getText().trim();
+        LocalDate desde;
+        LocalDate hasta;
+
+        if (!diasTxt.isEmpty()) {
+            int dias;
+            try {
+                dias = Integer.parseInt(diasTxt);
+            } catch (NumberFormatException ex) {
+                mostrarAlerta("Error", "Los días deben ser un número entero.");
+                return;
+            }
+            if (dias < 0) { mostrarAlerta("Error", "Los días no pueden ser negativos."); return; }
+            // como OperacionArchivo#inspeccionadosHaceMasDe
+            desde = null;
+            hasta = LocalDate.now().minusDays(dias + 1L);
+        } else {
+            desde = dateDesde.getValue();
+            hasta = dateHasta.getValue();
+            if (desde == null && hasta == null) {
+                mostrarAlerta("Error", "Ingrese los días o al menos una fecha para filtrar.");
+                return;
+            }
+        }
+
+        ConsultaTrajes consulta = new ConsultaTrajes().inspeccionEntre(desde, hasta);
+        filtrarTabla(consulta, resultado -> resultado.getTrajes().size() + " trajes con " + consulta + ".");
+    }
+
+    /**
+     * Muestra en la tabla los trajes con el peso soportado en un rango y,
+     * opcionalmente, una talla dada.
+     * 
+     * Los campos vacíos no filtran; un rango abierto usa solo el límite ingresado.
+     * El servicio resuelve la condición más selectiva con un índice y la barra de
+     * estado muestra el plan que usó. El resultado se muestra en la lista paginada:
+     * sigue los cambios del servicio y se ordena por columna sin ordenar en memoria,
+     * hasta que se quita el filtro o se lista de nuevo.
+     * 
+     * @param e el evento de acción que desencadena este método
+     * 
+     * @see ImplementacionOperacionTraje#consultar(ConsultaTrajes)
+     */
+    @FXML
+    private void consultarPorAtributos(ActionEvent e) {
+        String minTxt = txtPesoMin.getText().trim();
+        String maxTxt = txtPesoMax.getText().trim();
+        String talla = txtTallaFiltro.getText().trim();
+
+        ConsultaTrajes consulta = new ConsultaTrajes();
+        if (!minTxt.isEmpty() || !maxTxt.isEmpty()) {
+            double min, max;
+            try {
+                min = minTxt.isEmpty() ? Double.NEGATIVE_INFINITY : Double.parseDouble(minTxt);
+                max = maxTxt.isEmpty() ? Double.POSITIVE_INFINITY : Double.parseDouble(maxTxt);
+            } catch (NumberFormatException ex) {
+                mostrarAlerta("Error", "Los pesos deben ser números.");
+                return;
+            }
+            if (Double.isNaN(min) || Double.isNaN(max)) { mostrarAlerta("Error", "Los pesos deben ser números."); return; }
+            consulta.entre(AtributoNumerico.PESO_SOPORTADO, min, max);
+        }
+        if (!talla.isEmpty()) consulta.donde(AtributoCategorico.TALLA, talla);
+        if (consulta.getCondiciones().isEmpty()) {
+            mostrarAlerta("Error", "Ingrese un peso o una talla para consultar.");
+            return;
+        }
+
+        filtrarTabla(consulta, resultado -> resultado.getTrajes().size() + " trajes con " + consulta
+                + ". Plan: " + resultado.getPlan() + ".");
+    }
+
+    /**
+     * Muestra en la tabla el resultado de una consulta. La consulta se ejecuta en
+     * segundo plano; al terminar, la barra de estado muestra el texto indicado.
+     * 
+     * @param consulta la consulta
+     * @param descripcion arma el texto de la barra de estado a partir del resultado
+     */
+    private void filtrarTabla(ConsultaTrajes consulta, Function<ResultadoConsulta, String> descripcion) {
+        lblEstado.setText("Consultando...");
+        listaDisplay.filtrar(consulta, resultado -> {
+            // si mientras tanto empezó una tarea de persistencia, la etiqueta es suya
+            if (!lblEstado.textProperty().isBound()) lblEstado.setText(descripcion.apply(resultado));
+        });
+    }
+
+    /**
+     * Quita los filtros y vuelve a mostrar todos los trajes.
+     * 
+     * @param e el evento de acción que desencadena este método
+     */
+    @FXML
+    private void quitarFiltro(ActionEvent e) {
+        txtDiasInspeccion.clear();
+        dateDesde.setValue(null);
+        dateHasta.setValue(null);
+        txtPesoMin.clear();
+        txtPesoMax.clear();
+        txtTallaFiltro.clear();
+        listaDisplay.quitarFiltro();
+        lblEstado.setText("Filtro quitado.");
+    }
+
     /**
      * Serializa todos los trajes espaciales a un archivo.
      * 
      * Guarda la colección de trajes en formato binario en el archivo especificado.
+     * La escritura se ejecuta en segundo plano con progreso y puede cancelarse;
+     * mientras tanto la tabla y el formulario siguen disponibles.
      * 
      * @param e el evento de acción que desencadena este método
      * 
-     * @see ImplementacionOperacionTraje#serializar(String, String)
+     * @see ImplementacionOperacionTraje#serializar(String, String, ProgresoOperacion)
      */
     @FXML
     private void serializarTrajes(ActionEvent e) {
-        String msg = servicio.serializar(".", "trajes_espaciales.dat");
-        mostrarAlerta("Serializar", msg);
+        TareaPersistencia<String> tarea = new TareaPersistencia<>() {
+            @Override
+            protected String call() {
+                updateMessage("Guardando trajes...");
+                return servicio.serializar(RUTA_DATOS, ARCHIVO_DATOS, progreso());
+            }
+        };
+        ejecutarEnSegundoPlano(tarea, false, msg -> {
+            lblEstado.setText(msg);
+            mostrarAlerta("Serializar", msg);
+        });
     }
 
     /**
      * Deserializa los trajes espaciales desde un archivo.
      * 
      * Carga la colección de trajes previamente guardada desde el archivo especificado
-     * y actualiza la tabla.
+     * y actualiza la tabla. La lectura se ejecuta en segundo plano con progreso y
+     * puede cancelarse.
      * 
      * @param e el evento de acción que desencadena este método
      * 
-     * @see ImplementacionOperacionTraje#deserializar(String, String)
-     * @see #rebuildDisplayFromModels(List)
+     * @see ImplementacionOperacionTraje#deserializar(String, String, ProgresoOperacion)
+     * @see #cargarEnSegundoPlano(boolean)
      */
     @FXML
     private void deserializarTrajes(ActionEvent e) {
-        List<Traje_Espacial> cargados = servicio.deserializar(".", "trajes_espaciales.dat");
-        if (cargados == null) { mostrarAlerta("Error", "No se pudo leer archivo."); return; }
-        rebuildDisplayFromModels(cargados);
-        mostrarAlerta("Deserializar", "Datos cargados desde archivo.");
+        cargarEnSegundoPlano(true);
+    }
+
+    /**
+     * Importa trajes desde un archivo CSV elegido por el usuario.
+     * 
+     * La importación se ejecuta en segundo plano con progreso y puede cancelarse;
+     * los trajes importados llegan a la tabla por los eventos del servicio. Al
+     * terminar se muestra un resumen con los primeros errores por fila.
+     * 
+     * @param e el evento de acción que desencadena este método
+     * 
+     * @see ImportadorCsvTrajes
+     */
+    @FXML
+    private void importarCsv(ActionEvent e) {
+        FileChooser selector = new FileChooser();
+        selector.setTitle("Importar trajes desde CSV");
+        selector.getExtensionFilters().add(new FileChooser.ExtensionFilter("Archivos CSV", "*.csv"));
+        File archivo = selector.showOpenDialog(tblTrajes.getScene().getWindow());
+        if (archivo == null) return;
+
+        TareaPersistencia<ImportadorCsvTrajes.ResultadoImportacion> tarea = new TareaPersistencia<>() {
+            @Override
+            protected ImportadorCsvTrajes.ResultadoImportacion call() throws Exception {
+                updateMessage("Importando " + archivo.getName() + "...");
+                return new ImportadorCsvTrajes(servicio).importar(archivo, progreso());
+            }
+        };
+        ejecutarEnSegundoPlano(tarea, false, resultado -> {
+            lblEstado.setText(resultado.resumen());
+            mostrarInformeImportacion(resultado);
+        });
+    }
+
+    /**
+     * Exporta el inventario a un archivo CSV o JSON por líneas elegido por el usuario.
+     * 
+     * El formato se toma del filtro elegido en el diálogo. La exportación se
+     * ejecuta en segundo plano y escribe los trajes directamente al archivo, sin
+     * copiar la colección; al terminar se informa el rendimiento en registros por
+     * segundo.
+     * 
+     * @param e el evento de acción que desencadena este método
+     * 
+     * @see ExportadorTrajes
+     */
+    @FXML
+    private void exportarTrajes(ActionEvent e) {
+        FileChooser.ExtensionFilter csv = new FileChooser.ExtensionFilter("CSV", "*.csv");
+        FileChooser.ExtensionFilter jsonl = new FileChooser.ExtensionFilter("JSON por líneas", "*.jsonl");
+        FileChooser selector = new FileChooser();
+        selector.setTitle("Exportar trajes");
+        selector.getExtensionFilters().addAll(csv, jsonl);
+        selector.setInitialFileName("trajes.csv");
+        File archivo = selector.showSaveDialog(tblTrajes.getScene().getWindow());
+        if (archivo == null) return;
+
+        ExportadorTrajes.Formato formato =
+                (selector.getSelectedExtensionFilter() == jsonl || archivo.getName().endsWith(".jsonl"))
+                        ? ExportadorTrajes.Formato.JSONL
+                        : ExportadorTrajes.Formato.CSV;
+
+        TareaPersistencia<ExportadorTrajes.ResultadoExportacion> tarea = new TareaPersistencia<>() {
+            @Override
+            protected ExportadorTrajes.ResultadoExportacion call() throws Exception {
+                updateMessage("Exportando a " + archivo.getName() + "...");
+                return ExportadorTrajes.exportar(servicio, archivo, formato, progreso());
+            }
+        };
+        ejecutarEnSegundoPlano(tarea, false, resultado -> {
+            lblEstado.setText(resultado.resumen());
+            mostrarAlerta("Exportar", resultado.resumen());
+        });
+    }
+
+    /**
+     * Abre la ventana de diagnóstico con las latencias y llamadas del servicio.
+     * 
+     * Sigue disponible mientras se carga un archivo, para observar la carga en vivo.
+     * 
+     * @param e el evento de acción que desencadena este método
+     * 
+     * @see PanelDiagnostico
+     */
+    @FXML
+    private void mostrarDiagnostico(ActionEvent e) {
+        if (panelDiagnostico == null) {
+            panelDiagnostico = new PanelDiagnostico(servicio.getMetricas(),
+                    almacen.getMetricasPersistencia(), compactador);
+        }
+        panelDiagnostico.mostrar(tblTrajes.getScene().getWindow());
+    }
+
+    /**
+     * Abre la ventana con el reporte de la flota: trajes por talla, terreno,
+     * simulador y material, distribución del peso e inspecciones vencidas.
+     * 
+     * Usa la misma vigencia que el {@link PlanificadorInspecciones}.
+     * 
+     * @param e el evento de acción que desencadena este método
+     * 
+     * @see PanelReporte
+     */
+    @FXML
+    private void mostrarReporte(ActionEvent e) {
+        if (panelReporte == null) {
+            panelReporte = new PanelReporte(servicio, PlanificadorInspecciones.VIGENCIA_POR_DEFECTO);
+        }
+        panelReporte.mostrar(tblTrajes.getScene().getWindow());
+    }
+
+    /**
+     * Muestra en la tabla los trajes con la inspección vencida.
+     * 
+     * Un traje está vencido si su inspección tiene la vigencia del
+     * {@link PlanificadorInspecciones} o más, así que el filtro es un rango de fechas
+     * que se muestra en la lista paginada, como el filtro de inspección: se
+     * resuelve con el índice por fecha, solo se convierten las filas visibles y la
+     * tabla sigue los cambios hasta que se quita el filtro o se lista de nuevo.
+     * 
+     * @param e el evento de acción que desencadena este método
+     */
+    @FXML
+    private void mostrarVencidas(ActionEvent e) {
+        int vigencia = planificador.getVigenciaDias();
+        ConsultaTrajes consulta = new ConsultaTrajes()
+                .inspeccionEntre(null, LocalDate.now().minusDays(vigencia));
+        filtrarTabla(consulta, resultado -> resultado.getTrajes().size()
+                + " trajes con la inspección vencida (vigencia de " + vigencia + " días).");
+        actualizarAvisos();
+    }
+
+    /**
+     * Política de orden de la tabla mientras muestra la lista paginada: pasa a la
+     * lista el criterio de la primera columna ordenada, y el servicio entrega las
+     * páginas ya ordenadas. La columna de talla no tiene orden en el servicio, así
+     * que ordenar por ella se rechaza y la tabla vuelve al orden anterior.
+     * 
+     * @return true si se aplicó el orden
+     * 
+     * @see ListaPaginada#ordenar(OrdenTrajes, boolean)
+     */
+    private boolean ordenarEnServicio() {
+        List<TableColumn<DisplayTraje, ?>> columnas = tblTrajes.getSortOrder();
+        if (columnas.isEmpty()) {
+            listaDisplay.ordenar(OrdenTrajes.INSERCION, false);
+            return true;
+        }
+
+        TableColumn<DisplayTraje, ?> columna = columnas.get(0);
+        OrdenTrajes criterio = (columna == colId) ? OrdenTrajes.ID
+                : (columna == colPeso) ? OrdenTrajes.PESO
+                : (columna == colFecha) ? OrdenTrajes.FECHA
+                : null;
+        if (criterio == null) {
+            lblEstado.setText("La lista completa solo se ordena por ID, peso o fecha.");
+            return false;
+        }
+        listaDisplay.ordenar(criterio, columna.getSortType() == TableColumn.SortType.DESCENDING);
+        tblTrajes.scrollTo(0);
+        return true;
+    }
+
+    /**
+     * Cancela la operación de persistencia en curso, si hay alguna.
+     * 
+     * @param e el evento de acción que desencadena este método
+     */
+    @FXML
+    private void cancelarTarea(ActionEvent e) {
+        if (tareaActual != null) tareaActual.cancel();
     }
 
     /**
@@ -296,6 +818,12 @@ public class TrajeController {
      */
     @FXML
     private void salirApp(ActionEvent e) {
+        servicio.quitarOyente(listaDisplay);
+        servicio.quitarOyente(planificador);
+        revisionErrores.stop();
+        planificador.detener();
+        compactador.detener();
+        ejecutorPersistencia.shutdownNow();
         System.exit(0);
     }
 
@@ -320,36 +848,131 @@ public class TrajeController {
     // ========== Métodos auxiliares ==========
 
     /**
-     * Reconstruye la lista de display a partir de una lista de modelos de trajes.
+     * Carga el archivo de datos en segundo plano.
      * 
-     * Convierte objetos {@link Traje_Espacial} en objetos {@link DisplayTraje}
-     * para mostrarlos en la tabla.
+     * La tabla se actualiza con el evento de reinicio que publica el servicio: la
+     * {@link ListaPaginada} lo recibe, toma el nuevo tamaño en el hilo de la interfaz
+     * y vuelve a leer solo las páginas visibles, sin construir filas para el resto
+     * de la flota. Mientras dura
+     * la carga se bloquean el formulario y el menú, porque cualquier cambio hecho en
+     * ese intervalo sería reemplazado por el contenido del archivo.
      * 
-     * @param modelos la lista de trajes espaciales del modelo
+     * @param avisar si debe mostrarse una alerta con el resultado
+     * @return la tarea de carga; no se ejecuta si ya había otra tarea en curso
+     */
+    private Task<Integer> cargarEnSegundoPlano(boolean avisar) {
+        TareaPersistencia<Integer> tarea = new TareaPersistencia<>() {
+            @Override
+            protected Integer call() {
+                updateMessage("Cargando trajes...");
+                List<Traje_Espacial> cargados = servicio.deserializar(RUTA_DATOS, ARCHIVO_DATOS, progreso());
+                return (cargados == null) ? null : cargados.size();
+            }
+        };
+        ejecutarEnSegundoPlano(tarea, true, cantidad -> {
+            if (cantidad == null) {
+                lblEstado.setText("No se pudo leer archivo.");
+                if (avisar) mostrarAlerta("Error", "No se pudo leer archivo.");
+                return;
+            }
+            lblEstado.setText(cantidad + " trajes cargados.");
+            if (avisar) mostrarAlerta("Deserializar", "Datos cargados desde archivo.");
+        });
+        return tarea;
+    }
+
+    /**
+     * Ejecuta una tarea de persistencia en el hilo de persistencia y enlaza su
+     * progreso con la barra de estado.
+     * 
+     * Solo se admite una tarea a la vez. Los manejadores de finalización se
+     * ejecutan en el hilo de JavaFX.
      * 
-     * @see DisplayTraje#fromModel(Traje_Espacial, ImplementacionOperacionTraje)
+     * @param tarea la tarea a ejecutar
+     * @param bloquearEdicion si deben bloquearse el formulario y el menú mientras dura
+     * @param alTerminar acción con el resultado, si la tarea termina sin cancelarse
+     * @param <T> el tipo del resultado de la tarea
      */
-    private void rebuildDisplayFromModels(List<Traje_Espacial> modelos) {
-        listaDisplay.clear();
-        if (modelos == null) return;
-        for (Traje_Espacial t : modelos) {
-            listaDisplay.add(DisplayTraje.fromModel(t, servicio));
+    private <T> void ejecutarEnSegundoPlano(TareaPersistencia<T> tarea, boolean bloquearEdicion,
+                                            Consumer<T> alTerminar) {
+        if (tareaActual != null && tareaActual.isRunning()) {
+            mostrarAlerta("Ocupado", "Espere a que termine la operación en curso.");
+            return;
         }
+        tareaActual = tarea;
+
+        barraProgreso.progressProperty().bind(tarea.progressProperty());
+        lblEstado.textProperty().bind(tarea.messageProperty());
+        btnCancelar.setDisable(false);
+        panelFormulario.setDisable(bloquearEdicion);
+        menuOpciones.setDisable(bloquearEdicion);
+
+        tarea.setOnSucceeded(ev -> {
+            liberarEstado("");
+            alTerminar.accept(tarea.getValue());
+        });
+        tarea.setOnCancelled(ev -> liberarEstado("Operación cancelada."));
+        tarea.setOnFailed(ev -> {
+            liberarEstado("Error: " + tarea.getException().getMessage());
+            mostrarAlerta("Error", String.valueOf(tarea.getException().getMessage()));
+        });
+
+        ejecutorPersistencia.execute(tarea);
     }
 
     /**
-     * Busca el índice de un traje en la lista de display por su identificador.
-     * 
-     * La búsqueda es insensible a mayúsculas y minúsculas.
+     * Restaura la barra de estado y los controles al terminar una tarea.
      * 
-     * @param id el identificador del traje a buscar
-     * @return el índice del traje en la lista, o -1 si no se encuentra
+     * @param mensaje el mensaje a mostrar en la etiqueta de estado
      */
-    private int findIndexById(String id) {
-        for (int i = 0; i < listaDisplay.size(); i++) {
-            if (listaDisplay.get(i).getId().equalsIgnoreCase(id)) return i;
+    private void liberarEstado(String mensaje) {
+        barraProgreso.progressProperty().unbind();
+        barraProgreso.setProgress(0);
+        lblEstado.textProperty().unbind();
+        lblEstado.setText(mensaje);
+        btnCancelar.setDisable(true);
+        panelFormulario.setDisable(false);
+        menuOpciones.setDisable(false);
+    }
+
+    /**
+     * Muestra en {@link #lblEstado} los errores nuevos de los procesos en segundo
+     * plano, que no tienen a quién avisar. Mientras una tarea de persistencia usa la
+     * etiqueta, el error espera a la revisión siguiente; si hay varios nuevos, se
+     * muestra uno por revisión.
+     */
+    private void mostrarErroresSegundoPlano() {
+        if (lblEstado.textProperty().isBound()) return;
+
+        String error = compactador.getUltimoError();
+        if (error != null && !error.equals(errorCompactadorMostrado)) {
+            errorCompactadorMostrado = error;
+            lblEstado.setText(error);
+            return;
+        }
+        error = planificador.getUltimoError();
+        if (error != null && !error.equals(errorPlanificadorMostrado)) {
+            errorPlanificadorMostrado = error;
+            lblEstado.setText(error);
+            return;
+        }
+        error = servicio.getUltimoErrorOyente();
+        if (error != null && !error.equals(errorOyenteMostrado)) {
+            errorOyenteMostrado = error;
+            lblEstado.setText(error);
         }
-        return -1;
+    }
+
+    /**
+     * Muestra en la barra de estado la cantidad de inspecciones vencidas y
+     * próximas a vencer.
+     */
+    private void actualizarAvisos() {
+        avisosPendientes.set(false);
+        int vencidas = planificador.cantidadVencidas();
+        int proximas = planificador.cantidadProximas();
+        lblAvisos.setText((vencidas == 0 && proximas == 0) ? ""
+                : vencidas + " inspecciones vencidas, " + proximas + " próximas a vencer");
     }
 
     /**
@@ -364,6 +987,36 @@ public class TrajeController {
         dateInspeccion.setValue(null);
     }
 
+    /**
+     * Muestra el resumen de una importación con el detalle de los errores por fila.
+     * 
+     * @param resultado el resultado de la importación
+     */
+    private void mostrarInformeImportacion(ImportadorCsvTrajes.ResultadoImportacion resultado) {
+        Alert a = new Alert(resultado.getErrores() == 0 ? Alert.AlertType.INFORMATION : Alert.AlertType.WARNING);
+        a.setTitle("Importar CSV");
+        a.setHeaderText(null);
+        a.setContentText(resultado.resumen());
+
+        if (resultado.getErrores() > 0) {
+            StringBuilder detalle = new StringBuilder();
+            for (String error : resultado.getPrimerosErrores()) {
+                detalle.append(error).append('\n');
+            }
+            if (resultado.getErrores() > resultado.getPrimerosErrores().size()) {
+                detalle.append("...\n");
+            }
+            detalle.append("Informe completo: ").append(resultado.getInforme().getPath());
+
+            TextArea texto = new TextArea(detalle.toString());
+            texto.setEditable(false);
+            texto.setWrapText(false);
+            a.getDialogPane().setExpandableContent(texto);
+            a.getDialogPane().setExpanded(true);
+        }
+        a.showAndWait();
+    }
+
     /**
      * Muestra un cuadro de alerta con un título y mensaje específico.
      * 
@@ -378,6 +1031,36 @@ public class TrajeController {
         a.showAndWait();
     }
 
+    // ========== Clase interna: TareaPersistencia ==========
+
+    /**
+     * Tarea de JavaFX que expone su avance y su cancelación como un
+     * {@link ProgresoOperacion} para pasarlo al servicio.
+     * 
+     * @param <T> el tipo del resultado de la tarea
+     */
+    private abstract static class TareaPersistencia<T> extends Task<T> {
+
+        /**
+         * Retorna un receptor de avance enlazado con esta tarea.
+         * 
+         * @return el receptor que actualiza el progreso y consulta la cancelación
+         */
+        ProgresoOperacion progreso() {
+            return new ProgresoOperacion() {
+                @Override
+                public void actualizar(long hechos, long total) {
+                    updateProgress(hechos, total);
+                }
+
+                @Override
+                public boolean cancelado() {
+                    return isCancelled();
+                }
+            };
+        }
+    }
+
     // ========== Clase interna: DisplayTraje (Adaptador para TableView) ==========
 
     /**
@@ -449,30 +1132,54 @@ public class TrajeController {
          */
         public String getFecha() { return fecha; }
 
+        /**
+         * Compara dos filas por todos sus campos.
+         * 
+         * La {@link ListaPaginada} convierte de nuevo cada página que vuelve a leer;
+         * así dos conversiones del mismo traje sin cambios se reconocen como la misma
+         * fila, por ejemplo al buscarla con indexOf.
+         * 
+         * @param o el objeto a comparar
+         * @return true si ambas filas muestran los mismos datos
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DisplayTraje)) return false;
+            DisplayTraje otro = (DisplayTraje) o;
+            return Double.compare(peso, otro.peso) == 0
+                    && Objects.equals(id, otro.id)
+                    && Objects.equals(talla, otro.talla)
+                    && Objects.equals(fecha, otro.fecha);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, talla, peso, fecha);
+        }
+
         /**
          * Convierte un objeto {@link Traje_Espacial} (modelo) a un {@link DisplayTraje}.
          * 
-         * Utiliza {@link ImplementacionOperacionTraje} con reflexión para acceder
-         * a los campos protegidos del modelo.
+         * Lee los datos directamente con los getters del modelo, que son válidos
+         * para toda la jerarquía de trajes y no requieren reflexión ni conversión
+         * a tipos envoltorio.
          * 
          * @param t el traje espacial del modelo
-         * @param servicio el servicio que proporciona acceso a los campos mediante reflexión
          * @return un nuevo DisplayTraje con los datos del modelo
          * 
-         * @see ImplementacionOperacionTraje#obtenerId(Traje_Espacial)
-         * @see ImplementacionOperacionTraje#leerTalla(Traje_Espacial)
-         * @see ImplementacionOperacionTraje#leerPeso(Traje_Espacial)
-         * @see ImplementacionOperacionTraje#leerFecha(Traje_Espacial)
+         * @see Traje_Espacial#getIdTraje()
+         * @see Traje_Espacial#getTalla()
+         * @see Traje_Espacial#getPesoSoportado()
+         * @see Traje_Espacial#getFechaInspeccion()
          */
-        public static DisplayTraje fromModel(Traje_Espacial t, ImplementacionOperacionTraje servicio) {
-            String id = servicio.obtenerId(t);
-            String talla = servicio.leerTalla(t);
-            Double pesoD = servicio.leerPeso(t);
-            String fecha = servicio.leerFecha(t);
-            double peso = (pesoD == null) ? 0.0 : pesoD;
+        public static DisplayTraje fromModel(Traje_Espacial t) {
+            String id = t.getIdTraje();
+            String talla = t.getTalla();
+            String fecha = t.getFechaInspeccion();
             return new DisplayTraje(id == null ? "" : id,
                     talla == null ? "" : talla,
-                    peso,
+                    t.getPesoSoportado(),
                     fecha == null ? "" : fecha);
         }
     }
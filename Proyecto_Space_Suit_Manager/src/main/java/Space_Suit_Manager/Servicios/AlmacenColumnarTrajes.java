@@ -0,0 +1,770 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.TrajeEntrenamiento;
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.ObjectStreamException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Almacén de trajes en columnas de tipos primitivos.
+ *
+ * En lugar de un objeto por traje con sus textos, cada atributo se guarda en un
+ * arreglo con una posición por traje: el peso en un {@code double[]}, la fecha de
+ * inspección como día epoch en un {@code int[]}, la talla y los textos de las
+ * subclases como códigos de un {@link DiccionarioTrajes}, y los IDs en UTF-8 dentro
+ * de un único {@code byte[]}. El índice por ID es una tabla hash abierta de
+ * enteros. Así desaparecen los encabezados de objeto, los punteros y las copias
+ * repetidas de los textos, que en flotas grandes ocupan más que los datos.
+ *
+ * Los trajes se entregan como vistas ligeras: objetos de la jerarquía de
+ * {@link Traje_Espacial} (y de {@link TrajeExploracion} o {@link TrajeEntrenamiento}
+ * según el tipo) cuyos getters leen las columnas. Se crean al pedirlos y no se
+ * guardan, son de solo lectura (los setters lanzan
+ * {@link UnsupportedOperationException}) y al serializarlas con Java se
+ * reemplazan por una copia común.
+ *
+ * Las filas nunca se sobrescriben: una modificación agrega una fila al final y
+ * marca la anterior como libre, y cuando las filas libres superan a las ocupadas
+ * las columnas se compactan en arreglos nuevos. Por eso una vista sigue mostrando
+ * los datos que tenía el traje cuando se obtuvo, igual que un objeto reemplazado.
+ *
+ * Como los atributos categóricos son códigos, {@link #recorrerDonde} filtra por
+ * ellos comparando enteros, sin leer ni comparar textos.
+ *
+ * Las fechas que no están en formato {@code AAAA-MM-DD} se conservan tal cual
+ * aparte, de modo que {@link Traje_Espacial#getFechaInspeccion()} devuelve siempre
+ * el mismo texto que se guardó.
+ *
+ * Esta clase no es segura para uso concurrente; la sincronización es
+ * responsabilidad del servicio que la utiliza. Las vistas pueden leerse desde
+ * cualquier hilo.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImplementacionOperacionTrajeColumnar
+ * @see RepositorioTrajes
+ */
+public class AlmacenColumnarTrajes {
+
+    /** Tipo de una fila libre (traje eliminado o reemplazado). */
+    private static final byte LIBRE = -1;
+
+    /** Día epoch que representa una fecha null. */
+    private static final int FECHA_NULA = Integer.MIN_VALUE;
+
+    /** Día epoch que indica que la fecha se guardó como texto aparte. */
+    private static final int FECHA_TEXTO = Integer.MIN_VALUE + 1;
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /** Filas libres a partir de las cuales se considera compactar. */
+    private static final int MINIMO_LIBRES_COMPACTAR = 1024;
+
+    /** Valores de los atributos categóricos; las columnas guardan sus códigos. */
+    private final DiccionarioTrajes diccionario = new DiccionarioTrajes();
+    private final DiccionarioTexto tallas = diccionario.de(AtributoCategorico.TALLA);
+    private final DiccionarioTexto terrenos = diccionario.de(AtributoCategorico.TIPO_TERRENO);
+    private final DiccionarioTexto simuladores = diccionario.de(AtributoCategorico.TIPO_SIMULADOR);
+    private final DiccionarioTexto materiales = diccionario.de(AtributoCategorico.MATERIAL);
+
+    /** Filas de datos. */
+    private Columnas columnas = new Columnas(CAPACIDAD_INICIAL, CAPACIDAD_INICIAL * 8);
+
+    /** Índice por ID: fila + 1 de cada traje, 0 en las posiciones vacías. */
+    private int[] tabla = new int[CAPACIDAD_INICIAL * 2];
+
+    /** Trajes almacenados. */
+    private int ocupadas;
+
+    /** Filas libres pendientes de compactar. */
+    private int libres;
+
+    // ===========================================================
+    //  OPERACIONES
+    // ===========================================================
+
+    /**
+     * Indica si existe un traje con el identificador dado.
+     *
+     * @param id el identificador, sin distinguir mayúsculas de minúsculas
+     * @return true si el traje existe
+     */
+    public boolean contiene(String id) {
+        return ranura(id) >= 0;
+    }
+
+    /**
+     * Busca un traje por su identificador.
+     *
+     * @param id el identificador, sin distinguir mayúsculas de minúsculas
+     * @return una vista del traje, o null si no existe
+     */
+    public Traje_Espacial buscar(String id) {
+        int r = ranura(id);
+        return (r < 0) ? null : vista(columnas, tabla[r] - 1);
+    }
+
+    /**
+     * Agrega un traje al final si su identificador no existe.
+     *
+     * @param t el traje a agregar; sus datos se copian a las columnas
+     * @return true si se agregó, false si el ID es null o ya existía
+     */
+    public boolean agregar(Traje_Espacial t) {
+        String id = t.getIdTraje();
+        if (id == null || ranura(id) >= 0) return false;
+        insertar(t, id);
+        return true;
+    }
+
+    /**
+     * Agrega o sobrescribe el traje con el mismo identificador; el traje queda al final.
+     *
+     * @param t el traje a almacenar
+     * @return una vista del traje sobrescrito, o null si no existía
+     */
+    public Traje_Espacial poner(Traje_Espacial t) {
+        String id = t.getIdTraje();
+        if (id == null) return null;
+
+        Traje_Espacial anterior = null;
+        int r = ranura(id);
+        if (r >= 0) anterior = retirar(r);
+        insertar(t, id);
+        compactarSiConviene();
+        return anterior;
+    }
+
+    /**
+     * Reemplaza un traje por otro, que queda al final, con las mismas reglas que
+     * {@link RepositorioTrajes#reemplazar(String, String, Traje_Espacial)}.
+     *
+     * @param idAnterior el identificador del traje a reemplazar
+     * @param t el nuevo traje
+     * @return una vista del traje reemplazado, o null si no existía o si el ID
+     *         nuevo pertenece a otro traje
+     */
+    public Traje_Espacial reemplazar(String idAnterior, Traje_Espacial t) {
+        String idNuevo = t.getIdTraje();
+        if (idNuevo == null) return null;
+
+        int r = ranura(idAnterior);
+        if (r < 0) return null;
+        if (!idNuevo.equalsIgnoreCase(idAnterior) && ranura(idNuevo) >= 0) return null;
+
+        Traje_Espacial anterior = retirar(r);
+        insertar(t, idNuevo);
+        compactarSiConviene();
+        return anterior;
+    }
+
+    /**
+     * Elimina el traje con el identificador dado.
+     *
+     * @param id el identificador
+     * @return una vista del traje eliminado, o null si no existía
+     */
+    public Traje_Espacial eliminar(String id) {
+        int r = ranura(id);
+        if (r < 0) return null;
+        Traje_Espacial anterior = retirar(r);
+        compactarSiConviene();
+        return anterior;
+    }
+
+    /**
+     * Elimina todos los trajes.
+     */
+    public void limpiar() {
+        columnas = new Columnas(CAPACIDAD_INICIAL, CAPACIDAD_INICIAL * 8);
+        tabla = new int[CAPACIDAD_INICIAL * 2];
+        ocupadas = 0;
+        libres = 0;
+    }
+
+    /**
+     * Retorna la cantidad de trajes almacenados.
+     *
+     * @return el número de trajes
+     */
+    public int tamanio() {
+        return ocupadas;
+    }
+
+    /**
+     * Aplica una acción a una vista de cada traje, en orden de inserción.
+     *
+     * @param accion la acción a aplicar; no debe modificar el almacén
+     */
+    public void recorrer(Consumer<? super Traje_Espacial> accion) {
+        Columnas c = columnas;
+        for (int f = 0; f < c.filas; f++) {
+            if (c.tipos[f] != LIBRE) accion.accept(vista(c, f));
+        }
+    }
+
+    /**
+     * Retorna una lista con una vista de cada traje, en orden de inserción.
+     *
+     * @return una lista nueva
+     */
+    public List<Traje_Espacial> listar() {
+        List<Traje_Espacial> resultado = new ArrayList<>(ocupadas);
+        recorrer(resultado::add);
+        return resultado;
+    }
+
+    /**
+     * Aplica una acción a los trajes con un valor dado en un atributo categórico,
+     * en orden de inserción.
+     *
+     * El valor se traduce una vez a su código y el recorrido solo compara enteros.
+     *
+     * @param atributo el atributo a comparar
+     * @param valor el valor buscado, o null para los trajes sin valor; se compara
+     *              distinguiendo mayúsculas de minúsculas
+     * @param accion la acción a aplicar; no debe modificar el almacén
+     */
+    public void recorrerDonde(AtributoCategorico atributo, String valor, Consumer<? super Traje_Espacial> accion) {
+        int codigo = diccionario.codigo(atributo, valor);
+        if (codigo == DiccionarioTexto.AUSENTE) return;
+
+        Columnas c = columnas;
+        int[] codigos = codigos(c, atributo);
+        byte tipo = tipoCon(atributo);
+        byte[] tipos = c.tipos;
+        for (int f = 0; f < c.filas; f++) {
+            if (codigos[f] == codigo && tipos[f] != LIBRE && (tipo == LIBRE || tipos[f] == tipo)) {
+                accion.accept(vista(c, f));
+            }
+        }
+    }
+
+    /**
+     * Cuenta los trajes con un valor dado en un atributo categórico, sin crear vistas.
+     *
+     * @param atributo el atributo a comparar
+     * @param valor el valor buscado, o null para los trajes sin valor
+     * @return la cantidad de trajes
+     */
+    public int contar(AtributoCategorico atributo, String valor) {
+        int codigo = diccionario.codigo(atributo, valor);
+        if (codigo == DiccionarioTexto.AUSENTE) return 0;
+
+        Columnas c = columnas;
+        int[] codigos = codigos(c, atributo);
+        byte tipo = tipoCon(atributo);
+        byte[] tipos = c.tipos;
+        int n = 0;
+        for (int f = 0; f < c.filas; f++) {
+            if (codigos[f] == codigo && tipos[f] != LIBRE && (tipo == LIBRE || tipos[f] == tipo)) n++;
+        }
+        return n;
+    }
+
+    /** Columna con los códigos de un atributo. */
+    private static int[] codigos(Columnas c, AtributoCategorico atributo) {
+        switch (atributo) {
+            case TALLA:
+                return c.tallas;
+            case MATERIAL:
+                return c.textos2;
+            default:
+                return c.textos1;
+        }
+    }
+
+    /** Tipo de traje que tiene el atributo, o {@link #LIBRE} si lo tienen todos. */
+    private static byte tipoCon(AtributoCategorico atributo) {
+        switch (atributo) {
+            case TIPO_TERRENO:
+                return CodecTraje.TIPO_EXPLORACION;
+            case TIPO_SIMULADOR:
+            case MATERIAL:
+                return CodecTraje.TIPO_ENTRENAMIENTO;
+            default:
+                return LIBRE;
+        }
+    }
+
+    /**
+     * Retorna los trajes como colección de solo lectura que crea las vistas al
+     * recorrerla, para escribirlos sin armar una lista.
+     *
+     * @return la colección; no debe usarse mientras se modifica el almacén
+     */
+    public Collection<Traje_Espacial> coleccion() {
+        Columnas c = columnas;
+        int tamanio = ocupadas;
+        return new AbstractCollection<Traje_Espacial>() {
+            @Override
+            public int size() {
+                return tamanio;
+            }
+
+            @Override
+            public Iterator<Traje_Espacial> iterator() {
+                return new Iterator<Traje_Espacial>() {
+                    private int f = avanzar(0);
+
+                    private int avanzar(int desde) {
+                        while (desde < c.filas && c.tipos[desde] == LIBRE) desde++;
+                        return desde;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return f < c.filas;
+                    }
+
+                    @Override
+                    public Traje_Espacial next() {
+                        if (f >= c.filas) throw new NoSuchElementException();
+                        Traje_Espacial t = vista(c, f);
+                        f = avanzar(f + 1);
+                        return t;
+                    }
+                };
+            }
+        };
+    }
+
+    // ===========================================================
+    //  FILAS
+    // ===========================================================
+
+    private void insertar(Traje_Espacial t, String id) {
+        if ((ocupadas + 1) * 2 > tabla.length) tabla = reindexar(columnas, tabla.length * 2);
+        int h = hash(id);
+        int f = columnas.agregar(t, id, h, this);
+        ubicar(tabla, f, h);
+        ocupadas++;
+    }
+
+    /** Retira del índice el traje de la ranura dada y marca su fila como libre. */
+    private Traje_Espacial retirar(int ranura) {
+        int f = tabla[ranura] - 1;
+        Traje_Espacial anterior = vista(columnas, f);
+        quitarDeTabla(ranura);
+        columnas.tipos[f] = LIBRE;
+        ocupadas--;
+        libres++;
+        return anterior;
+    }
+
+    private void compactarSiConviene() {
+        if (libres >= MINIMO_LIBRES_COMPACTAR && libres > ocupadas) compactar();
+    }
+
+    /**
+     * Copia las filas ocupadas a columnas nuevas. Las vistas ya entregadas siguen
+     * leyendo las columnas anteriores.
+     */
+    private void compactar() {
+        Columnas anterior = columnas;
+        Columnas nuevas = new Columnas(Math.max(CAPACIDAD_INICIAL, ocupadas), Math.max(16, anterior.usadosId));
+        for (int f = 0; f < anterior.filas; f++) {
+            if (anterior.tipos[f] != LIBRE) nuevas.copiar(anterior, f);
+        }
+        columnas = nuevas;
+        tabla = reindexar(nuevas, tabla.length);
+        libres = 0;
+    }
+
+    int codificarFecha(Columnas c, int f, String fecha) {
+        if (fecha == null) return FECHA_NULA;
+        if (fecha.length() == 10) {
+            try {
+                LocalDate d = LocalDate.parse(fecha);
+                if (d.toString().equals(fecha)) return (int) d.toEpochDay();
+            } catch (DateTimeParseException e) {
+                // se guarda como texto
+            }
+        }
+        c.fechasTexto.put(f, fecha);
+        return FECHA_TEXTO;
+    }
+
+    // ===========================================================
+    //  ÍNDICE POR ID
+    // ===========================================================
+
+    /** Ranura del índice donde está el ID, o -1. */
+    private int ranura(String id) {
+        if (id == null) return -1;
+        int h = hash(id);
+        int mascara = tabla.length - 1;
+        Columnas c = columnas;
+        for (int i = h & mascara; ; i = (i + 1) & mascara) {
+            int v = tabla[i];
+            if (v == 0) return -1;
+            int f = v - 1;
+            if (c.hashes[f] == h && c.id(f).equalsIgnoreCase(id)) return i;
+        }
+    }
+
+    private static void ubicar(int[] tabla, int f, int h) {
+        int mascara = tabla.length - 1;
+        int i = h & mascara;
+        while (tabla[i] != 0) i = (i + 1) & mascara;
+        tabla[i] = f + 1;
+    }
+
+    private static int[] reindexar(Columnas c, int capacidad) {
+        int[] nueva = new int[capacidad];
+        for (int f = 0; f < c.filas; f++) {
+            if (c.tipos[f] != LIBRE) ubicar(nueva, f, c.hashes[f]);
+        }
+        return nueva;
+    }
+
+    /** Vacía una ranura desplazando hacia atrás las entradas que la necesitan. */
+    private void quitarDeTabla(int ranura) {
+        int mascara = tabla.length - 1;
+        int i = ranura;
+        for (int j = (i + 1) & mascara; tabla[j] != 0; j = (j + 1) & mascara) {
+            int ideal = columnas.hashes[tabla[j] - 1] & mascara;
+            if (((j - ideal) & mascara) >= ((j - i) & mascara)) {
+                tabla[i] = tabla[j];
+                i = j;
+            }
+        }
+        tabla[i] = 0;
+    }
+
+    /** Hash del ID normalizado, mezclado para la tabla abierta. */
+    private static int hash(String id) {
+        int h = RepositorioTrajes.normalizar(id).hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // ===========================================================
+    //  COLUMNAS
+    // ===========================================================
+
+    /**
+     * Arreglos con los datos de las filas. Solo se agregan filas al final y solo
+     * cambia el tipo de las que se liberan; los arreglos se reemplazan por otros más
+     * grandes al crecer, y se publican de forma volátil para que las vistas los lean
+     * desde cualquier hilo.
+     */
+    private static final class Columnas {
+
+        volatile byte[] tipos;
+        volatile int[] tallas;
+        volatile double[] pesos;
+        volatile int[] fechas;
+        /** Terreno (exploración) o simulador (entrenamiento). */
+        volatile int[] textos1;
+        /** Material (entrenamiento). */
+        volatile int[] textos2;
+        /** Nivel de presión (exploración). */
+        volatile double[] numeros;
+        /** Inicio de cada ID en {@link #bytesId}; la fila f ocupa [inicioId[f], inicioId[f + 1]). */
+        volatile int[] inicioId;
+        volatile byte[] bytesId;
+        /** Hash de cada ID, para el índice. */
+        int[] hashes;
+
+        /** Fechas que no están en formato AAAA-MM-DD, por fila. */
+        final Map<Integer, String> fechasTexto = new ConcurrentHashMap<>();
+
+        int filas;
+        int usadosId;
+
+        Columnas(int capacidad, int capacidadIds) {
+            tipos = new byte[capacidad];
+            tallas = new int[capacidad];
+            pesos = new double[capacidad];
+            fechas = new int[capacidad];
+            textos1 = new int[capacidad];
+            textos2 = new int[capacidad];
+            numeros = new double[capacidad];
+            inicioId = new int[capacidad + 1];
+            bytesId = new byte[capacidadIds];
+            hashes = new int[capacidad];
+        }
+
+        int agregar(Traje_Espacial t, String id, int hash, AlmacenColumnarTrajes almacen) {
+            byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+            asegurar(bytes.length);
+            int f = filas;
+
+            tallas[f] = almacen.tallas.codificar(t.getTalla());
+            pesos[f] = t.getPesoSoportado();
+            fechas[f] = almacen.codificarFecha(this, f, t.getFechaInspeccion());
+            if (t instanceof TrajeExploracion) {
+                TrajeExploracion x = (TrajeExploracion) t;
+                textos1[f] = almacen.terrenos.codificar(x.getTipoTerreno());
+                numeros[f] = x.getNivelPresion();
+                tipos[f] = CodecTraje.TIPO_EXPLORACION;
+            } else if (t instanceof TrajeEntrenamiento) {
+                TrajeEntrenamiento x = (TrajeEntrenamiento) t;
+                textos1[f] = almacen.simuladores.codificar(x.getTipoSimulador());
+                textos2[f] = almacen.materiales.codificar(x.getMaterial());
+                tipos[f] = CodecTraje.TIPO_ENTRENAMIENTO;
+            } else {
+                tipos[f] = CodecTraje.TIPO_BASE;
+            }
+
+            System.arraycopy(bytes, 0, bytesId, usadosId, bytes.length);
+            inicioId[f] = usadosId;
+            usadosId += bytes.length;
+            inicioId[f + 1] = usadosId;
+            hashes[f] = hash;
+            filas++;
+            return f;
+        }
+
+        /** Copia la fila {@code f} de otras columnas al final de estas. */
+        void copiar(Columnas origen, int f) {
+            int desde = origen.inicioId[f];
+            int largo = origen.inicioId[f + 1] - desde;
+            asegurar(largo);
+            int n = filas;
+
+            tipos[n] = origen.tipos[f];
+            tallas[n] = origen.tallas[f];
+            pesos[n] = origen.pesos[f];
+            fechas[n] = origen.fechas[f];
+            if (fechas[n] == FECHA_TEXTO) fechasTexto.put(n, origen.fechasTexto.get(f));
+            textos1[n] = origen.textos1[f];
+            textos2[n] = origen.textos2[f];
+            numeros[n] = origen.numeros[f];
+
+            System.arraycopy(origen.bytesId, desde, bytesId, usadosId, largo);
+            inicioId[n] = usadosId;
+            usadosId += largo;
+            inicioId[n + 1] = usadosId;
+            hashes[n] = origen.hashes[f];
+            filas++;
+        }
+
+        private void asegurar(int bytesNuevos) {
+            if (filas == tipos.length) {
+                int capacidad = tipos.length + (tipos.length >> 1) + 1;
+                tallas = Arrays.copyOf(tallas, capacidad);
+                pesos = Arrays.copyOf(pesos, capacidad);
+                fechas = Arrays.copyOf(fechas, capacidad);
+                textos1 = Arrays.copyOf(textos1, capacidad);
+                textos2 = Arrays.copyOf(textos2, capacidad);
+                numeros = Arrays.copyOf(numeros, capacidad);
+                inicioId = Arrays.copyOf(inicioId, capacidad + 1);
+                hashes = Arrays.copyOf(hashes, capacidad);
+                tipos = Arrays.copyOf(tipos, capacidad);
+            }
+            if (usadosId + bytesNuevos > bytesId.length) {
+                int capacidad = Math.max(usadosId + bytesNuevos, bytesId.length + (bytesId.length >> 1));
+                bytesId = Arrays.copyOf(bytesId, capacidad);
+            }
+        }
+
+        String id(int f) {
+            int desde = inicioId[f];
+            return new String(bytesId, desde, inicioId[f + 1] - desde, StandardCharsets.UTF_8);
+        }
+
+        String fecha(int f) {
+            int dia = fechas[f];
+            if (dia == FECHA_NULA) return null;
+            if (dia == FECHA_TEXTO) return fechasTexto.get(f);
+            return LocalDate.ofEpochDay(dia).toString();
+        }
+    }
+
+    // ===========================================================
+    //  VISTAS
+    // ===========================================================
+
+    private Traje_Espacial vista(Columnas c, int f) {
+        switch (c.tipos[f]) {
+            case CodecTraje.TIPO_EXPLORACION:
+                return new VistaExploracion(this, c, f);
+            case CodecTraje.TIPO_ENTRENAMIENTO:
+                return new VistaEntrenamiento(this, c, f);
+            default:
+                return new VistaBase(this, c, f);
+        }
+    }
+
+    /** Crea un traje común con los datos de una fila. */
+    private Traje_Espacial copia(Columnas c, int f, byte tipo) {
+        String id = c.id(f);
+        String talla = tallas.valor(c.tallas[f]);
+        String fecha = c.fecha(f);
+        switch (tipo) {
+            case CodecTraje.TIPO_EXPLORACION:
+                return new TrajeExploracion(id, talla, c.pesos[f], fecha,
+                        terrenos.valor(c.textos1[f]), c.numeros[f]);
+            case CodecTraje.TIPO_ENTRENAMIENTO:
+                return new TrajeEntrenamiento(id, talla, c.pesos[f], fecha,
+                        simuladores.valor(c.textos1[f]), materiales.valor(c.textos2[f]));
+            default:
+                return new Traje_Espacial(id, talla, c.pesos[f], fecha);
+        }
+    }
+
+    private static UnsupportedOperationException soloLectura() {
+        return new UnsupportedOperationException("Los trajes del almacén columnar son de solo lectura.");
+    }
+
+    /** Vista de un traje base. */
+    private static final class VistaBase extends Traje_Espacial {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient AlmacenColumnarTrajes almacen;
+        private final transient Columnas c;
+        private final int f;
+        private transient String id;
+
+        VistaBase(AlmacenColumnarTrajes almacen, Columnas c, int f) {
+            super(null, null, 0, null);
+            this.almacen = almacen;
+            this.c = c;
+            this.f = f;
+        }
+
+        @Override
+        public String getIdTraje() {
+            if (id == null) id = c.id(f);
+            return id;
+        }
+
+        @Override
+        public String getTalla() { return almacen.tallas.valor(c.tallas[f]); }
+
+        @Override
+        public double getPesoSoportado() { return c.pesos[f]; }
+
+        @Override
+        public String getFechaInspeccion() { return c.fecha(f); }
+
+        private Object writeReplace() throws ObjectStreamException {
+            return almacen.copia(c, f, CodecTraje.TIPO_BASE);
+        }
+    }
+
+    /** Vista de un traje de exploración. */
+    private static final class VistaExploracion extends TrajeExploracion {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient AlmacenColumnarTrajes almacen;
+        private final transient Columnas c;
+        private final int f;
+        private transient String id;
+
+        VistaExploracion(AlmacenColumnarTrajes almacen, Columnas c, int f) {
+            super(null, null, 0, null, null, 0);
+            this.almacen = almacen;
+            this.c = c;
+            this.f = f;
+        }
+
+        @Override
+        public String getIdTraje() {
+            if (id == null) id = c.id(f);
+            return id;
+        }
+
+        @Override
+        public String getTalla() { return almacen.tallas.valor(c.tallas[f]); }
+
+        @Override
+        public double getPesoSoportado() { return c.pesos[f]; }
+
+        @Override
+        public String getFechaInspeccion() { return c.fecha(f); }
+
+        @Override
+        public String getTipoTerreno() { return almacen.terrenos.valor(c.textos1[f]); }
+
+        @Override
+        public double getNivelPresion() { return c.numeros[f]; }
+
+        @Override
+        public void setTipoTerreno(String tipoTerreno) { throw soloLectura(); }
+
+        @Override
+        public void setNivelPresion(double nivelPresion) { throw soloLectura(); }
+
+        @Override
+        public String toString() {
+            return "TrajeExploracion [tipoTerreno=" + getTipoTerreno() + ", nivelPresion=" + getNivelPresion() + "]";
+        }
+
+        private Object writeReplace() throws ObjectStreamException {
+            return almacen.copia(c, f, CodecTraje.TIPO_EXPLORACION);
+        }
+    }
+
+    /** Vista de un traje de entrenamiento. */
+    private static final class VistaEntrenamiento extends TrajeEntrenamiento {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient AlmacenColumnarTrajes almacen;
+        private final transient Columnas c;
+        private final int f;
+        private transient String id;
+
+        VistaEntrenamiento(AlmacenColumnarTrajes almacen, Columnas c, int f) {
+            super(null, null, 0, null, null, null);
+            this.almacen = almacen;
+            this.c = c;
+            this.f = f;
+        }
+
+        @Override
+        public String getIdTraje() {
+            if (id == null) id = c.id(f);
+            return id;
+        }
+
+        @Override
+        public String getTalla() { return almacen.tallas.valor(c.tallas[f]); }
+
+        @Override
+        public double getPesoSoportado() { return c.pesos[f]; }
+
+        @Override
+        public String getFechaInspeccion() { return c.fecha(f); }
+
+        @Override
+        public String getTipoSimulador() { return almacen.simuladores.valor(c.textos1[f]); }
+
+        @Override
+        public String getMaterial() { return almacen.materiales.valor(c.textos2[f]); }
+
+        @Override
+        public void setTipoSimulador(String tipoSimulador) { throw soloLectura(); }
+
+        @Override
+        public void setMaterial(String material) { throw soloLectura(); }
+
+        @Override
+        public String toString() {
+            return "TrajeEntrenamiento [tipoSimulador=" + getTipoSimulador() + ", material=" + getMaterial() + "]";
+        }
+
+        private Object writeReplace() throws ObjectStreamException {
+            return almacen.copia(c, f, CodecTraje.TIPO_ENTRENAMIENTO);
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Archivo de trajes mapeado en memoria con acceso aleatorio por identificador.
+ *
+ * A diferencia de la instantánea de {@link CodecTraje}, que debe leerse completa
+ * antes de responder cualquier consulta, este archivo incluye un índice en disco:
+ * abrirlo solo mapea sus regiones y {@link #buscar(String)} decodifica únicamente
+ * el registro solicitado. El sistema operativo carga las páginas bajo demanda, por
+ * lo que la flota puede superar el tamaño del heap y abrir el archivo es casi
+ * instantáneo sin importar su tamaño.
+ *
+ * Estructura del archivo:
+ * <pre>
+ *   encabezado (32 bytes):
+ *     int  MAGIA ("STSX"), short VERSION, short reservado
+ *     int  cantidad de registros, int capacidad de la tabla hash
+ *     long posición de la tabla de orden, long posición de la tabla hash
+ *   registros: trajes codificados con {@link CodecTraje#escribirTraje}, contiguos
+ *   tabla de orden: long[cantidad] con la posición de cada registro
+ *   tabla hash (direccionamiento abierto, sondeo lineal), 16 bytes por entrada:
+ *     int hash del ID normalizado (0 = vacía), int longitud, long posición
+ * </pre>
+ *
+ * Las regiones se mapean en segmentos de 1 GB para no depender del límite de
+ * {@code Integer.MAX_VALUE} de un solo {@link MappedByteBuffer}. Un almacén abierto es
+ * de solo lectura y puede consultarse desde varios hilos.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImplementacionOperacionTrajeMapeada
+ */
+public class AlmacenMapeadoTrajes {
+
+    /** Número mágico al inicio del archivo: "STSX" en ASCII. */
+    public static final int MAGIA = 0x53545358;
+
+    /** Versión actual del formato. */
+    public static final short VERSION = 1;
+
+    /** Tamaño del encabezado en bytes. */
+    private static final int TAMANIO_ENCABEZADO = 32;
+
+    /** Tamaño de una entrada de la tabla hash en bytes. */
+    private static final int TAMANIO_ENTRADA = 16;
+
+    /** Bits del tamaño de cada segmento mapeado (1 GB). */
+    private static final int BITS_SEGMENTO = 30;
+
+    /** Máscara para obtener la posición dentro de un segmento. */
+    private static final long MASCARA_SEGMENTO = (1L << BITS_SEGMENTO) - 1;
+
+    /** Segmentos mapeados del archivo. */
+    private final MappedByteBuffer[] segmentos;
+
+    /** Cantidad de registros. */
+    private final int cantidad;
+
+    /** Capacidad de la tabla hash (potencia de dos). */
+    private final int capacidad;
+
+    /** Posición de la tabla de orden. */
+    private final long posicionOrden;
+
+    /** Posición de la tabla hash. */
+    private final long posicionHash;
+
+    private AlmacenMapeadoTrajes(MappedByteBuffer[] segmentos, int cantidad, int capacidad,
+                                 long posicionOrden, long posicionHash) {
+        this.segmentos = segmentos;
+        this.cantidad = cantidad;
+        this.capacidad = capacidad;
+        this.posicionOrden = posicionOrden;
+        this.posicionHash = posicionHash;
+    }
+
+    // ===========================================================
+    //  APERTURA
+    // ===========================================================
+
+    /**
+     * Abre y mapea un archivo de trajes. No lee ningún registro.
+     *
+     * @param archivo el archivo a abrir
+     * @return el almacén listo para consultas
+     * @throws IOException si el archivo no existe o no tiene el formato esperado
+     */
+    public static AlmacenMapeadoTrajes abrir(File archivo) throws IOException {
+        try (FileChannel canal = new RandomAccessFile(archivo, "r").getChannel()) {
+            long tamanio = canal.size();
+            if (tamanio < TAMANIO_ENCABEZADO) {
+                throw new IOException("Archivo mapeado incompleto: " + archivo.getPath());
+            }
+
+            int n = (int) ((tamanio + MASCARA_SEGMENTO) >>> BITS_SEGMENTO);
+            MappedByteBuffer[] segmentos = new MappedByteBuffer[n];
+            for (int i = 0; i < n; i++) {
+                long inicio = (long) i << BITS_SEGMENTO;
+                segmentos[i] = canal.map(FileChannel.MapMode.READ_ONLY, inicio,
+                        Math.min(1L << BITS_SEGMENTO, tamanio - inicio));
+            }
+
+            ByteBuffer encabezado = segmentos[0];
+            if (encabezado.getInt(0) != MAGIA) {
+                throw new IOException("El archivo no es un almacén mapeado de trajes.");
+            }
+            short version = encabezado.getShort(4);
+            if (version != VERSION) {
+                throw new IOException("Versión de formato no soportada: " + version);
+            }
+            return new AlmacenMapeadoTrajes(segmentos, encabezado.getInt(8), encabezado.getInt(12),
+                    encabezado.getLong(16), encabezado.getLong(24));
+        }
+    }
+
+    // ===========================================================
+    //  CONSULTAS
+    // ===========================================================
+
+    /**
+     * Retorna la cantidad de registros del archivo.
+     *
+     * @return el número de trajes
+     */
+    public int tamanio() {
+        return cantidad;
+    }
+
+    /**
+     * Indica si el archivo contiene un traje con el identificador dado.
+     *
+     * @param id el identificador del traje
+     * @return true si existe
+     */
+    public boolean contiene(String id) {
+        return buscar(id) != null;
+    }
+
+    /**
+     * Busca un traje por identificador, decodificando solo su registro.
+     *
+     * @param id el identificador del traje (insensible a mayúsculas)
+     * @return el traje, o null si no existe
+     */
+    public Traje_Espacial buscar(String id) {
+        if (id == null || cantidad == 0) return null;
+
+        String clave = RepositorioTrajes.normalizar(id);
+        int h = hash(clave);
+        int mascara = capacidad - 1;
+
+        for (int slot = h & mascara; ; slot = (slot + 1) & mascara) {
+            long entrada = posicionHash + (long) slot * TAMANIO_ENTRADA;
+            int hEntrada = leerInt(entrada);
+            if (hEntrada == 0) return null;
+            if (hEntrada != h) continue;
+
+            Traje_Espacial t = decodificar(leerLong(entrada + 8), leerInt(entrada + 4));
+            if (clave.equals(RepositorioTrajes.normalizar(t.getIdTraje()))) return t;
+        }
+    }
+
+    /**
+     * Retorna la posición de un traje en el orden del archivo, la que recibe
+     * {@link #obtener(int)}: ubica el registro en la tabla hash y busca su posición
+     * en la tabla de orden, que crece con la posición en el archivo, en O(log n).
+     *
+     * @param id el identificador del traje (insensible a mayúsculas)
+     * @return la posición, o -1 si no existe
+     */
+    public int indice(String id) {
+        if (id == null || cantidad == 0) return -1;
+
+        String clave = RepositorioTrajes.normalizar(id);
+        int h = hash(clave);
+        int mascara = capacidad - 1;
+
+        long posicion = -1;
+        for (int slot = h & mascara; posicion < 0; slot = (slot + 1) & mascara) {
+            long entrada = posicionHash + (long) slot * TAMANIO_ENTRADA;
+            int hEntrada = leerInt(entrada);
+            if (hEntrada == 0) return -1;
+            if (hEntrada != h) continue;
+
+            long p = leerLong(entrada + 8);
+            Traje_Espacial t = decodificar(p, leerInt(entrada + 4));
+            if (clave.equals(RepositorioTrajes.normalizar(t.getIdTraje()))) posicion = p;
+        }
+
+        int bajo = 0;
+        int alto = cantidad - 1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            long p = leerLong(posicionOrden + (long) medio * 8);
+            if (p < posicion) bajo = medio + 1;
+            else if (p > posicion) alto = medio - 1;
+            else return medio;
+        }
+        return -1;
+    }
+
+    /**
+     * Decodifica el registro en la posición indicada del orden del archivo.
+     *
+     * @param indice la posición, entre 0 y {@link #tamanio()} - 1
+     * @return el traje en esa posición
+     */
+    public Traje_Espacial obtener(int indice) {
+        if (indice < 0 || indice >= cantidad) throw new IndexOutOfBoundsException("Índice: " + indice);
+
+        long inicio = leerLong(posicionOrden + (long) indice * 8);
+        long fin = (indice + 1 < cantidad) ? leerLong(posicionOrden + (long) (indice + 1) * 8) : posicionOrden;
+        return decodificar(inicio, (int) (fin - inicio));
+    }
+
+    /**
+     * Retorna una vista de solo lectura de los trajes en el orden del archivo.
+     * Cada elemento se decodifica al accederlo; la vista no guarda copias.
+     *
+     * @return la vista perezosa
+     */
+    public List<Traje_Espacial> vista() {
+        return new AbstractList<Traje_Espacial>() {
+            @Override
+            public Traje_Espacial get(int index) {
+                return obtener(index);
+            }
+
+            @Override
+            public int size() {
+                return cantidad;
+            }
+
+            @Override
+            public Iterator<Traje_Espacial> iterator() {
+                return recorrer();
+            }
+        };
+    }
+
+    /**
+     * Recorre los registros de forma secuencial, sin consultar la tabla de orden.
+     *
+     * @return un iterador en el orden del archivo
+     */
+    public Iterator<Traje_Espacial> recorrer() {
+        return new Iterator<Traje_Espacial>() {
+            private int indice;
+            private long posicion = TAMANIO_ENCABEZADO;
+
+            @Override
+            public boolean hasNext() {
+                return indice < cantidad;
+            }
+
+            @Override
+            public Traje_Espacial next() {
+                if (indice >= cantidad) throw new NoSuchElementException();
+                long fin = (indice + 1 < cantidad)
+                        ? leerLong(posicionOrden + (long) (indice + 1) * 8) : posicionOrden;
+                Traje_Espacial t = decodificar(posicion, (int) (fin - posicion));
+                posicion = fin;
+                indice++;
+                return t;
+            }
+        };
+    }
+
+    // ===========================================================
+    //  ESCRITURA
+    // ===========================================================
+
+    /**
+     * Escribe un archivo mapeable con los trajes indicados.
+     *
+     * Los registros se escriben en orden y en una sola pasada; solo se conservan
+     * en memoria su posición y su hash (12 bytes por traje) para construir los
+     * índices, que luego se escriben directamente sobre una región mapeada.
+     *
+     * @param archivo el archivo destino
+     * @param trajes los trajes, con identificadores únicos (insensibles a mayúsculas)
+     * @throws IOException si falla la escritura
+     */
+    public static void escribir(File archivo, Iterable<? extends Traje_Espacial> trajes) throws IOException {
+        long[] posiciones = new long[1024];
+        int[] hashes = new int[1024];
+        int n = 0;
+        long posicion = TAMANIO_ENCABEZADO;
+
+        ByteArrayOutputStream registro = new ByteArrayOutputStream(128);
+        DataOutputStream codificador = new DataOutputStream(registro);
+
+        long posicionOrden;
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(archivo), 1 << 16))) {
+            out.write(new byte[TAMANIO_ENCABEZADO]);
+
+            for (Traje_Espacial t : trajes) {
+                registro.reset();
+                CodecTraje.escribirTraje(codificador, t);
+
+                if (n == posiciones.length) {
+                    posiciones = Arrays.copyOf(posiciones, n * 2);
+                    hashes = Arrays.copyOf(hashes, n * 2);
+                }
+                posiciones[n] = posicion;
+                hashes[n] = hash(RepositorioTrajes.normalizar(t.getIdTraje()));
+                n++;
+
+                registro.writeTo(out);
+                posicion += registro.size();
+            }
+
+            // tabla de orden, alineada a 8 bytes
+            posicionOrden = alinear(posicion, 8);
+            out.write(new byte[(int) (posicionOrden - posicion)]);
+            for (int i = 0; i < n; i++) {
+                out.writeLong(posiciones[i]);
+            }
+        }
+
+        long posicionHash = alinear(posicionOrden + (long) n * 8, TAMANIO_ENTRADA);
+        int capacidad = capacidadPara(n);
+
+        try (RandomAccessFile raf = new RandomAccessFile(archivo, "rw");
+             FileChannel canal = raf.getChannel()) {
+            raf.setLength(posicionHash + (long) capacidad * TAMANIO_ENTRADA);
+            escribirTablaHash(canal, posicionHash, capacidad, posiciones, hashes, n, posicionOrden);
+
+            ByteBuffer encabezado = ByteBuffer.allocate(TAMANIO_ENCABEZADO);
+            encabezado.putInt(MAGIA).putShort(VERSION).putShort((short) 0)
+                    .putInt(n).putInt(capacidad).putLong(posicionOrden).putLong(posicionHash);
+            encabezado.flip();
+            canal.write(encabezado, 0);
+            canal.force(true);
+        }
+    }
+
+    private static void escribirTablaHash(FileChannel canal, long posicionHash, int capacidad,
+                                          long[] posiciones, int[] hashes, int n, long finRegistros)
+            throws IOException {
+        int mascara = capacidad - 1;
+        long tamanio = (long) capacidad * TAMANIO_ENTRADA;
+
+        // la tabla se escribe por segmentos mapeados; cada entrada cae completa en uno
+        int nSegmentos = (int) ((tamanio + MASCARA_SEGMENTO) >>> BITS_SEGMENTO);
+        MappedByteBuffer[] tabla = new MappedByteBuffer[nSegmentos];
+        for (int i = 0; i < nSegmentos; i++) {
+            long inicio = (long) i << BITS_SEGMENTO;
+            tabla[i] = canal.map(FileChannel.MapMode.READ_WRITE, posicionHash + inicio,
+                    Math.min(1L << BITS_SEGMENTO, tamanio - inicio));
+        }
+
+        for (int i = 0; i < n; i++) {
+            long fin = (i + 1 < n) ? posiciones[i + 1] : finRegistros;
+            int slot = hashes[i] & mascara;
+            while (true) {
+                long rel = (long) slot * TAMANIO_ENTRADA;
+                MappedByteBuffer seg = tabla[(int) (rel >>> BITS_SEGMENTO)];
+                int off = (int) (rel & MASCARA_SEGMENTO);
+                if (seg.getInt(off) == 0) {
+                    seg.putInt(off, hashes[i]);
+                    seg.putInt(off + 4, (int) (fin - posiciones[i]));
+                    seg.putLong(off + 8, posiciones[i]);
+                    break;
+                }
+                slot = (slot + 1) & mascara;
+            }
+        }
+        for (MappedByteBuffer seg : tabla) {
+            seg.force();
+        }
+    }
+
+    // ===========================================================
+    //  AUXILIARES
+    // ===========================================================
+
+    private static int hash(String clave) {
+        int h = clave.hashCode();
+        h ^= (h >>> 16);
+        return (h == 0) ? 1 : h;
+    }
+
+    private static int capacidadPara(int n) {
+        int capacidad = 16;
+        while (capacidad < 2L * n) capacidad <<= 1;
+        return capacidad;
+    }
+
+    private static long alinear(long posicion, int alineacion) {
+        return (posicion + alineacion - 1) & -alineacion;
+    }
+
+    private int leerInt(long posicion) {
+        return segmentos[(int) (posicion >>> BITS_SEGMENTO)].getInt((int) (posicion & MASCARA_SEGMENTO));
+    }
+
+    private long leerLong(long posicion) {
+        return segmentos[(int) (posicion >>> BITS_SEGMENTO)].getLong((int) (posicion & MASCARA_SEGMENTO));
+    }
+
+    private Traje_Espacial decodificar(long posicion, int longitud) {
+        byte[] bytes = new byte[longitud];
+        int copiados = 0;
+        while (copiados < longitud) {
+            long p = posicion + copiados;
+            ByteBuffer seg = segmentos[(int) (p >>> BITS_SEGMENTO)].duplicate();
+            int off = (int) (p & MASCARA_SEGMENTO);
+            int n = Math.min(longitud - copiados, seg.limit() - off);
+            seg.position(off);
+            seg.get(bytes, copiados, n);
+            copiados += n;
+        }
+        try {
+            return CodecTraje.leerTraje(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro dañado en la posición " + posicion, e);
+        }
+    }
+}
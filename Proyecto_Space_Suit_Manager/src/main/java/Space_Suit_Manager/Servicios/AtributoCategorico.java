@@ -0,0 +1,69 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.TrajeEntrenamiento;
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+/**
+ * Atributos de texto de los trajes con pocos valores distintos en toda la flota.
+ *
+ * Son los atributos que se codifican con un {@link DiccionarioTrajes}, tanto en
+ * memoria como en el archivo de datos, y sobre los que se puede filtrar
+ * comparando códigos enteros.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see DiccionarioTrajes
+ */
+public enum AtributoCategorico {
+
+    /** {@link Traje_Espacial#getTalla()}, de todos los trajes. */
+    TALLA,
+
+    /** {@link TrajeExploracion#getTipoTerreno()}. */
+    TIPO_TERRENO,
+
+    /** {@link TrajeEntrenamiento#getTipoSimulador()}. */
+    TIPO_SIMULADOR,
+
+    /** {@link TrajeEntrenamiento#getMaterial()}. */
+    MATERIAL;
+
+    /**
+     * Indica si el atributo existe en un traje.
+     *
+     * @param t el traje
+     * @return true si el traje es de la clase que tiene el atributo
+     */
+    public boolean aplicaA(Traje_Espacial t) {
+        switch (this) {
+            case TIPO_TERRENO:
+                return t instanceof TrajeExploracion;
+            case TIPO_SIMULADOR:
+            case MATERIAL:
+                return t instanceof TrajeEntrenamiento;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Retorna el valor del atributo en un traje.
+     *
+     * @param t el traje
+     * @return el valor, o null si es null o el traje no tiene el atributo
+     */
+    public String valorDe(Traje_Espacial t) {
+        switch (this) {
+            case TIPO_TERRENO:
+                return (t instanceof TrajeExploracion) ? ((TrajeExploracion) t).getTipoTerreno() : null;
+            case TIPO_SIMULADOR:
+                return (t instanceof TrajeEntrenamiento) ? ((TrajeEntrenamiento) t).getTipoSimulador() : null;
+            case MATERIAL:
+                return (t instanceof TrajeEntrenamiento) ? ((TrajeEntrenamiento) t).getMaterial() : null;
+            default:
+                return t.getTalla();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+/**
+ * Atributos numéricos de los trajes sobre los que se consulta por rango.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ConsultaTrajes
+ * @see IndiceNumerico
+ */
+public enum AtributoNumerico {
+
+    /** {@link Traje_Espacial#getPesoSoportado()}, de todos los trajes. */
+    PESO_SOPORTADO,
+
+    /** {@link TrajeExploracion#getNivelPresion()}. */
+    NIVEL_PRESION;
+
+    /**
+     * Retorna el valor del atributo en un traje.
+     *
+     * @param t el traje
+     * @return el valor, o {@link Double#NaN} si el traje no tiene el atributo
+     */
+    public double valorDe(Traje_Espacial t) {
+        switch (this) {
+            case NIVEL_PRESION:
+                return (t instanceof TrajeExploracion) ? ((TrajeExploracion) t).getNivelPresion() : Double.NaN;
+            default:
+                return t.getPesoSoportado();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package Space_Suit_Manager.Servicios;
+
+import java.time.LocalDate;
+
+/**
+ * Aviso de que un traje se acerca a su fecha límite de inspección o ya la superó.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see PlanificadorInspecciones
+ */
+public final class AvisoInspeccion {
+
+    /** Tipos de aviso. */
+    public enum Tipo {
+        /** Faltan pocos días para la fecha límite. */
+        PROXIMA,
+        /** La fecha límite ya pasó. */
+        VENCIDA
+    }
+
+    private final Tipo tipo;
+    private final String idTraje;
+    private final LocalDate fechaLimite;
+
+    /**
+     * Crea un aviso.
+     *
+     * @param tipo el tipo de aviso
+     * @param idTraje el identificador del traje
+     * @param fechaLimite la fecha en que vence la inspección
+     */
+    public AvisoInspeccion(Tipo tipo, String idTraje, LocalDate fechaLimite) {
+        this.tipo = tipo;
+        this.idTraje = idTraje;
+        this.fechaLimite = fechaLimite;
+    }
+
+    /** @return el tipo de aviso */
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /** @return el identificador del traje */
+    public String getIdTraje() {
+        return idTraje;
+    }
+
+    /** @return la fecha en que vence la inspección */
+    public LocalDate getFechaLimite() {
+        return fechaLimite;
+    }
+
+    @Override
+    public String toString() {
+        return tipo + " " + idTraje + " (límite " + fechaLimite + ")";
+    }
+}
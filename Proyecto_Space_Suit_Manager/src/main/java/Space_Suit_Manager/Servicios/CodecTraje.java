@@ -0,0 +1,475 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.TrajeEntrenamiento;
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+/**
+ * Codificación binaria compacta y versionada de trajes espaciales.
+ *
+ * Reemplaza la serialización estándar de Java en {@code trajes_espaciales.dat}:
+ * no escribe descriptores de clase ni referencias entre objetos y no usa
+ * reflexión, por lo que el archivo es más pequeño y se lee más rápido.
+ *
+ * Formato del archivo:
+ * <pre>
+ *   int   MAGIA ("STSM")
+ *   short VERSION
+ *   int   cantidad de trajes
+ *   registros...
+ * </pre>
+ * Formato de cada registro del archivo (versión 2):
+ * <pre>
+ *   byte   tipo (0 base, 1 exploración, 2 entrenamiento)
+ *   texto  idTraje
+ *   código talla
+ *   double pesoSoportado
+ *   texto  fechaInspeccion
+ *   exploración:   código tipoTerreno, double nivelPresion
+ *   entrenamiento: código tipoSimulador, código material
+ * </pre>
+ * Cada texto se guarda con su longitud en bytes como entero variable (0 para null)
+ * seguida de los bytes en UTF-8.
+ *
+ * Los atributos categóricos ({@link AtributoCategorico}) se guardan como códigos
+ * de un diccionario por atributo que se arma mientras se escribe: el código es un
+ * entero variable, 0 para null; la primera vez que aparece un valor se escribe el
+ * siguiente código libre seguido del texto, y las siguientes solo el código. Así
+ * cada valor distinto ocupa el archivo una sola vez, el archivo se sigue leyendo y
+ * escribiendo en una pasada, y al leerlo todos los trajes comparten la misma
+ * instancia de cada valor.
+ *
+ * Los archivos de la versión 1 guardan los atributos categóricos como textos en
+ * cada registro, igual que {@link #escribirTraje(DataOutput, Traje_Espacial)}, y se
+ * siguen leyendo. El diario y el archivo mapeado usan ese formato de registro sin
+ * diccionario, porque sus registros se leen de forma independiente.
+ *
+ * Los archivos antiguos escritos con {@link ObjectOutputStream} se reconocen por su
+ * encabezado y se leen una única vez con {@link #leerArchivo(File)}; la siguiente
+ * instantánea los reescribe en este formato.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImplementacionOperacionTraje
+ * @see DiarioTrajes
+ * @see CodecTripulacion
+ */
+public final class CodecTraje {
+
+    /** Número mágico al inicio del archivo: "STSM" en ASCII. */
+    public static final int MAGIA = 0x5354534D;
+
+    /** Versión actual del formato. */
+    public static final short VERSION = 2;
+
+    /** Versión sin diccionario: los atributos categóricos se guardan como textos. */
+    private static final short VERSION_TEXTOS = 1;
+
+    /** Encabezado de un flujo de serialización estándar de Java. */
+    private static final short MAGIA_JAVA = (short) 0xACED;
+
+    /** Tipo de traje: {@link Traje_Espacial} base. */
+    static final byte TIPO_BASE = 0;
+
+    /** Tipo de traje: {@link TrajeExploracion}. */
+    static final byte TIPO_EXPLORACION = 1;
+
+    /** Tipo de traje: {@link TrajeEntrenamiento}. */
+    static final byte TIPO_ENTRENAMIENTO = 2;
+
+    /** Máscara que fija cada cuántos registros se informa el avance (4096). */
+    private static final int INTERVALO_PROGRESO = (1 << 12) - 1;
+
+    /** Tamaño del buffer de lectura y escritura de archivos. */
+    private static final int TAMANIO_BUFFER = 1 << 16;
+
+    private CodecTraje() {
+    }
+
+    // ===========================================================
+    //  ARCHIVO COMPLETO
+    // ===========================================================
+
+    /**
+     * Escribe una colección de trajes en el formato binario actual.
+     *
+     * @param archivo el archivo destino
+     * @param trajes los trajes a escribir
+     * @throws IOException si falla la escritura
+     */
+    public static void escribirArchivo(File archivo, Collection<? extends Traje_Espacial> trajes) throws IOException {
+        escribirArchivo(archivo, trajes, ProgresoOperacion.NINGUNO);
+    }
+
+    /**
+     * Escribe una colección de trajes informando el avance.
+     *
+     * @param archivo el archivo destino
+     * @param trajes los trajes a escribir
+     * @param progreso receptor del avance; si pide cancelar, el archivo queda incompleto
+     * @throws IOException si falla la escritura
+     * @throws CancellationException si el receptor pidió cancelar
+     */
+    public static void escribirArchivo(File archivo, Collection<? extends Traje_Espacial> trajes,
+                                       ProgresoOperacion progreso) throws IOException {
+        int total = trajes.size();
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(archivo), TAMANIO_BUFFER))) {
+            out.writeInt(MAGIA);
+            out.writeShort(VERSION);
+            out.writeInt(total);
+            DiccionarioTrajes diccionario = new DiccionarioTrajes();
+            int i = 0;
+            for (Traje_Espacial t : trajes) {
+                escribirRegistro(out, t, diccionario);
+                if ((++i & INTERVALO_PROGRESO) == 0) avanzar(progreso, i, total);
+            }
+            progreso.actualizar(total, total);
+        }
+    }
+
+    /**
+     * Lee un archivo de trajes, ya sea en el formato binario actual o en el
+     * formato antiguo de serialización de Java.
+     *
+     * @param archivo el archivo a leer
+     * @return el resultado con los trajes y el formato en que estaban
+     * @throws IOException si el archivo no existe, está dañado o tiene una versión no soportada
+     */
+    public static Lectura leerArchivo(File archivo) throws IOException {
+        return leerArchivo(archivo, ProgresoOperacion.NINGUNO);
+    }
+
+    /**
+     * Lee un archivo de trajes informando el avance.
+     *
+     * @param archivo el archivo a leer
+     * @param progreso receptor del avance
+     * @return el resultado con los trajes y el formato en que estaban
+     * @throws IOException si el archivo no existe, está dañado o tiene una versión no soportada
+     * @throws CancellationException si el receptor pidió cancelar
+     */
+    public static Lectura leerArchivo(File archivo, ProgresoOperacion progreso) throws IOException {
+        List<Traje_Espacial> trajes = new ArrayList<>();
+        boolean antiguo = recorrerArchivo(archivo, progreso, trajes::add);
+        return new Lectura(trajes, antiguo);
+    }
+
+    /**
+     * Lee un archivo de trajes entregando cada traje a medida que se decodifica,
+     * sin armar una lista.
+     *
+     * Permite cargar el archivo en otra estructura (por ejemplo un
+     * {@link AlmacenColumnarTrajes}) sin tener en memoria todos los objetos a la vez.
+     * Los archivos en el formato antiguo sí se leen completos antes de recorrerlos.
+     *
+     * @param archivo el archivo a leer
+     * @param progreso receptor del avance
+     * @param accion la acción a aplicar a cada traje, en el orden del archivo
+     * @return true si el archivo estaba en el formato antiguo y debe migrarse
+     * @throws IOException si el archivo no existe, está dañado o tiene una versión no soportada
+     * @throws CancellationException si el receptor pidió cancelar
+     */
+    public static boolean recorrerArchivo(File archivo, ProgresoOperacion progreso,
+                                          Consumer<? super Traje_Espacial> accion) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(archivo), TAMANIO_BUFFER))) {
+            in.mark(4);
+            int magia = in.readInt();
+
+            if ((short) (magia >>> 16) == MAGIA_JAVA) {
+                in.reset();
+                List<Traje_Espacial> trajes = leerFormatoJava(in);
+                trajes.forEach(accion);
+                progreso.actualizar(trajes.size(), trajes.size());
+                return true;
+            }
+            if (magia != MAGIA) {
+                throw new IOException("El archivo no tiene un formato de trajes reconocido.");
+            }
+
+            short version = in.readShort();
+            if (version != VERSION && version != VERSION_TEXTOS) {
+                throw new IOException("Versión de formato no soportada: " + version);
+            }
+
+            int cantidad = in.readInt();
+            DiccionarioTrajes diccionario = (version == VERSION) ? new DiccionarioTrajes() : null;
+            for (int i = 0; i < cantidad; i++) {
+                accion.accept((diccionario == null) ? leerTraje(in) : leerRegistro(in, diccionario));
+                if (((i + 1) & INTERVALO_PROGRESO) == 0) avanzar(progreso, i + 1, cantidad);
+            }
+            progreso.actualizar(cantidad, cantidad);
+            return false;
+        }
+    }
+
+    private static void avanzar(ProgresoOperacion progreso, long hechos, long total) {
+        if (progreso.cancelado()) throw new CancellationException("Operación cancelada.");
+        progreso.actualizar(hechos, total);
+    }
+
+    /**
+     * Lector de migración del formato antiguo (una lista serializada con
+     * {@link ObjectOutputStream}).
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Traje_Espacial> leerFormatoJava(InputStream in) throws IOException {
+        try {
+            return (List<Traje_Espacial>) new ObjectInputStream(in).readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Archivo antiguo ilegible: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resultado de {@link #leerArchivo(File)}.
+     */
+    public static final class Lectura {
+
+        /** Trajes leídos, en el orden del archivo. */
+        private final List<Traje_Espacial> trajes;
+
+        /** Indica si el archivo estaba en el formato antiguo y debe migrarse. */
+        private final boolean formatoAntiguo;
+
+        Lectura(List<Traje_Espacial> trajes, boolean formatoAntiguo) {
+            this.trajes = trajes;
+            this.formatoAntiguo = formatoAntiguo;
+        }
+
+        /** @return los trajes leídos */
+        public List<Traje_Espacial> getTrajes() {
+            return trajes;
+        }
+
+        /** @return true si el archivo usaba la serialización de Java */
+        public boolean isFormatoAntiguo() {
+            return formatoAntiguo;
+        }
+    }
+
+    // ===========================================================
+    //  REGISTROS INDIVIDUALES
+    // ===========================================================
+
+    /**
+     * Escribe un traje con su etiqueta de tipo.
+     *
+     * @param out el destino
+     * @param t el traje a escribir
+     * @throws IOException si falla la escritura
+     */
+    public static void escribirTraje(DataOutput out, Traje_Espacial t) throws IOException {
+        if (t instanceof TrajeExploracion) {
+            out.writeByte(TIPO_EXPLORACION);
+        } else if (t instanceof TrajeEntrenamiento) {
+            out.writeByte(TIPO_ENTRENAMIENTO);
+        } else {
+            out.writeByte(TIPO_BASE);
+        }
+        escribirTexto(out, t.getIdTraje());
+        escribirTexto(out, t.getTalla());
+        out.writeDouble(t.getPesoSoportado());
+        escribirTexto(out, t.getFechaInspeccion());
+
+        if (t instanceof TrajeExploracion) {
+            TrajeExploracion e = (TrajeExploracion) t;
+            escribirTexto(out, e.getTipoTerreno());
+            out.writeDouble(e.getNivelPresion());
+        } else if (t instanceof TrajeEntrenamiento) {
+            TrajeEntrenamiento e = (TrajeEntrenamiento) t;
+            escribirTexto(out, e.getTipoSimulador());
+            escribirTexto(out, e.getMaterial());
+        }
+    }
+
+    /**
+     * Lee un traje escrito con {@link #escribirTraje(DataOutput, Traje_Espacial)}.
+     *
+     * @param in el origen
+     * @return el traje leído, de la subclase indicada por su etiqueta
+     * @throws IOException si falla la lectura o la etiqueta es desconocida
+     */
+    public static Traje_Espacial leerTraje(DataInput in) throws IOException {
+        byte tipo = in.readByte();
+        String id = leerTexto(in);
+        String talla = leerTexto(in);
+        double peso = in.readDouble();
+        String fecha = leerTexto(in);
+
+        switch (tipo) {
+            case TIPO_BASE:
+                return new Traje_Espacial(id, talla, peso, fecha);
+            case TIPO_EXPLORACION: {
+                String terreno = leerTexto(in);
+                return new TrajeExploracion(id, talla, peso, fecha, terreno, in.readDouble());
+            }
+            case TIPO_ENTRENAMIENTO: {
+                String simulador = leerTexto(in);
+                return new TrajeEntrenamiento(id, talla, peso, fecha, simulador, leerTexto(in));
+            }
+            default:
+                throw new IOException("Tipo de traje desconocido: " + tipo);
+        }
+    }
+
+    /**
+     * Escribe un traje en el formato de archivo de la versión 2, con los atributos
+     * categóricos como códigos de {@code diccionario}.
+     */
+    private static void escribirRegistro(DataOutput out, Traje_Espacial t, DiccionarioTrajes diccionario)
+            throws IOException {
+        if (t instanceof TrajeExploracion) {
+            out.writeByte(TIPO_EXPLORACION);
+        } else if (t instanceof TrajeEntrenamiento) {
+            out.writeByte(TIPO_ENTRENAMIENTO);
+        } else {
+            out.writeByte(TIPO_BASE);
+        }
+        escribirTexto(out, t.getIdTraje());
+        escribirCodigo(out, diccionario.de(AtributoCategorico.TALLA), t.getTalla());
+        out.writeDouble(t.getPesoSoportado());
+        escribirTexto(out, t.getFechaInspeccion());
+
+        if (t instanceof TrajeExploracion) {
+            TrajeExploracion e = (TrajeExploracion) t;
+            escribirCodigo(out, diccionario.de(AtributoCategorico.TIPO_TERRENO), e.getTipoTerreno());
+            out.writeDouble(e.getNivelPresion());
+        } else if (t instanceof TrajeEntrenamiento) {
+            TrajeEntrenamiento e = (TrajeEntrenamiento) t;
+            escribirCodigo(out, diccionario.de(AtributoCategorico.TIPO_SIMULADOR), e.getTipoSimulador());
+            escribirCodigo(out, diccionario.de(AtributoCategorico.MATERIAL), e.getMaterial());
+        }
+    }
+
+    /** Lee un traje escrito con {@link #escribirRegistro}. */
+    private static Traje_Espacial leerRegistro(DataInput in, DiccionarioTrajes diccionario) throws IOException {
+        byte tipo = in.readByte();
+        String id = leerTexto(in);
+        String talla = leerCodigo(in, diccionario.de(AtributoCategorico.TALLA));
+        double peso = in.readDouble();
+        String fecha = leerTexto(in);
+
+        switch (tipo) {
+            case TIPO_BASE:
+                return new Traje_Espacial(id, talla, peso, fecha);
+            case TIPO_EXPLORACION: {
+                String terreno = leerCodigo(in, diccionario.de(AtributoCategorico.TIPO_TERRENO));
+                return new TrajeExploracion(id, talla, peso, fecha, terreno, in.readDouble());
+            }
+            case TIPO_ENTRENAMIENTO: {
+                String simulador = leerCodigo(in, diccionario.de(AtributoCategorico.TIPO_SIMULADOR));
+                String material = leerCodigo(in, diccionario.de(AtributoCategorico.MATERIAL));
+                return new TrajeEntrenamiento(id, talla, peso, fecha, simulador, material);
+            }
+            default:
+                throw new IOException("Tipo de traje desconocido: " + tipo);
+        }
+    }
+
+    /** Escribe el código de un valor, seguido del texto si es la primera vez que aparece. */
+    static void escribirCodigo(DataOutput out, DiccionarioTexto diccionario, String valor)
+            throws IOException {
+        int codigo = diccionario.codigo(valor);
+        if (codigo != DiccionarioTexto.AUSENTE) {
+            escribirVarInt(out, codigo);
+            return;
+        }
+        escribirVarInt(out, diccionario.codificar(valor));
+        escribirTexto(out, valor);
+    }
+
+    /** Lee un código escrito con {@link #escribirCodigo} y retorna su valor. */
+    static String leerCodigo(DataInput in, DiccionarioTexto diccionario) throws IOException {
+        int codigo = leerVarInt(in);
+        if (codigo <= diccionario.tamanio()) return diccionario.valor(codigo);
+
+        String valor = leerTexto(in);
+        if (codigo != diccionario.tamanio() + 1 || valor == null || diccionario.codificar(valor) != codigo) {
+            throw new IOException("Diccionario inválido en el código " + codigo + ".");
+        }
+        return valor;
+    }
+
+    /**
+     * Escribe un texto como longitud en bytes seguida de su contenido UTF-8.
+     *
+     * La longitud se codifica como entero variable ({@code longitud + 1}, 7 bits por
+     * byte), de modo que los textos cortos habituales solo ocupan un byte extra y el
+     * valor 0 representa null.
+     *
+     * @param out el destino
+     * @param s el texto, puede ser null
+     * @throws IOException si falla la escritura
+     */
+    public static void escribirTexto(DataOutput out, String s) throws IOException {
+        if (s == null) {
+            out.writeByte(0);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        escribirVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    /**
+     * Lee un texto escrito con {@link #escribirTexto(DataOutput, String)}.
+     *
+     * @param in el origen
+     * @return el texto leído, o null
+     * @throws IOException si falla la lectura o la longitud es inválida
+     */
+    public static String leerTexto(DataInput in) throws IOException {
+        int longitud = leerVarInt(in) - 1;
+        if (longitud == -1) return null;
+
+        byte[] bytes = new byte[longitud];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Escribe un entero no negativo en formato variable (7 bits por byte).
+     *
+     * @param out el destino
+     * @param v el valor, mayor o igual a cero
+     * @throws IOException si falla la escritura
+     */
+    public static void escribirVarInt(DataOutput out, int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    /**
+     * Lee un entero escrito con {@link #escribirVarInt(DataOutput, int)}.
+     *
+     * @param in el origen
+     * @return el valor leído
+     * @throws IOException si falla la lectura o el valor es inválido
+     */
+    public static int leerVarInt(DataInput in) throws IOException {
+        int v = 0;
+        for (int desplazamiento = 0; desplazamiento < 32; desplazamiento += 7) {
+            byte b = in.readByte();
+            v |= (b & 0x7F) << desplazamiento;
+            if (b >= 0) {
+                if (v < 0) break;
+                return v;
+            }
+        }
+        throw new IOException("Entero variable inválido.");
+    }
+}
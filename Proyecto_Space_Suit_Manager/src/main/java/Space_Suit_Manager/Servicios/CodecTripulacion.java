@@ -0,0 +1,181 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Astronauta;
+import Space_Suit_Manager.modelo.MisionEspacial;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Codificación binaria compacta de astronautas y misiones espaciales, con el
+ * mismo esquema que {@link CodecTraje}: sin descriptores de clase ni reflexión,
+ * textos con su longitud como entero variable y los valores repetidos como
+ * códigos de un diccionario que se arma mientras se escribe.
+ *
+ * Formato de cada archivo:
+ * <pre>
+ *   int   MAGIA ("STAS" astronautas, "STMI" misiones)
+ *   short VERSION
+ *   int   cantidad de registros
+ *   registros...
+ * </pre>
+ * Formato de cada registro (versión 1):
+ * <pre>
+ *   astronauta: texto id, texto nombre, código rango, int experiencia
+ *   misión:     texto codigoMision, texto nombre, texto objetivo, texto fechaLanzamiento
+ * </pre>
+ * Los textos y los códigos se escriben con {@link CodecTraje#escribirTexto} y el
+ * diccionario de {@link CodecTraje}: al leer, todos los astronautas de un mismo
+ * rango comparten la instancia del texto.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see RepositorioAstronautas
+ * @see RepositorioMisiones
+ */
+public final class CodecTripulacion {
+
+    /** Número mágico del archivo de astronautas: "STAS" en ASCII. */
+    public static final int MAGIA_ASTRONAUTAS = 0x53544153;
+
+    /** Número mágico del archivo de misiones: "STMI" en ASCII. */
+    public static final int MAGIA_MISIONES = 0x53544D49;
+
+    /** Versión actual del formato. */
+    public static final short VERSION = 1;
+
+    /** Tamaño del buffer de lectura y escritura de archivos. */
+    private static final int TAMANIO_BUFFER = 1 << 16;
+
+    private CodecTripulacion() {
+    }
+
+    // ===========================================================
+    //  ASTRONAUTAS
+    // ===========================================================
+
+    /**
+     * Escribe una colección de astronautas.
+     *
+     * @param archivo el archivo destino
+     * @param astronautas los astronautas a escribir, sin elementos null
+     * @throws IOException si falla la escritura
+     */
+    public static void escribirAstronautas(File archivo, Collection<? extends Astronauta> astronautas)
+            throws IOException {
+        try (DataOutputStream out = abrirEscritura(archivo, MAGIA_ASTRONAUTAS, astronautas.size())) {
+            DiccionarioTexto rangos = new DiccionarioTexto();
+            for (Astronauta a : astronautas) {
+                CodecTraje.escribirTexto(out, a.getId());
+                CodecTraje.escribirTexto(out, a.getNombre());
+                CodecTraje.escribirCodigo(out, rangos, a.getRango());
+                out.writeInt(a.getExperiencia());
+            }
+        }
+    }
+
+    /**
+     * Lee un archivo de astronautas escrito con {@link #escribirAstronautas}.
+     *
+     * @param archivo el archivo a leer
+     * @return los astronautas, en el orden del archivo
+     * @throws IOException si el archivo no existe, está dañado o tiene una versión no soportada
+     */
+    public static List<Astronauta> leerAstronautas(File archivo) throws IOException {
+        try (DataInputStream in = abrirLectura(archivo, MAGIA_ASTRONAUTAS)) {
+            int cantidad = in.readInt();
+            List<Astronauta> astronautas = new ArrayList<>();
+            DiccionarioTexto rangos = new DiccionarioTexto();
+            for (int i = 0; i < cantidad; i++) {
+                String id = CodecTraje.leerTexto(in);
+                String nombre = CodecTraje.leerTexto(in);
+                String rango = CodecTraje.leerCodigo(in, rangos);
+                astronautas.add(new Astronauta(id, nombre, rango, in.readInt()));
+            }
+            return astronautas;
+        }
+    }
+
+    // ===========================================================
+    //  MISIONES
+    // ===========================================================
+
+    /**
+     * Escribe una colección de misiones.
+     *
+     * @param archivo el archivo destino
+     * @param misiones las misiones a escribir, sin elementos null
+     * @throws IOException si falla la escritura
+     */
+    public static void escribirMisiones(File archivo, Collection<? extends MisionEspacial> misiones)
+            throws IOException {
+        try (DataOutputStream out = abrirEscritura(archivo, MAGIA_MISIONES, misiones.size())) {
+            for (MisionEspacial m : misiones) {
+                CodecTraje.escribirTexto(out, m.getCodigoMision());
+                CodecTraje.escribirTexto(out, m.getNombre());
+                CodecTraje.escribirTexto(out, m.getObjetivo());
+                CodecTraje.escribirTexto(out, m.getFechaLanzamiento());
+            }
+        }
+    }
+
+    /**
+     * Lee un archivo de misiones escrito con {@link #escribirMisiones}.
+     *
+     * @param archivo el archivo a leer
+     * @return las misiones, en el orden del archivo
+     * @throws IOException si el archivo no existe, está dañado o tiene una versión no soportada
+     */
+    public static List<MisionEspacial> leerMisiones(File archivo) throws IOException {
+        try (DataInputStream in = abrirLectura(archivo, MAGIA_MISIONES)) {
+            int cantidad = in.readInt();
+            List<MisionEspacial> misiones = new ArrayList<>();
+            for (int i = 0; i < cantidad; i++) {
+                String codigo = CodecTraje.leerTexto(in);
+                String nombre = CodecTraje.leerTexto(in);
+                String objetivo = CodecTraje.leerTexto(in);
+                misiones.add(new MisionEspacial(codigo, nombre, objetivo, CodecTraje.leerTexto(in)));
+            }
+            return misiones;
+        }
+    }
+
+    // ===========================================================
+    //  ENCABEZADO
+    // ===========================================================
+
+    private static DataOutputStream abrirEscritura(File archivo, int magia, int cantidad) throws IOException {
+        DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(archivo), TAMANIO_BUFFER));
+        try {
+            out.writeInt(magia);
+            out.writeShort(VERSION);
+            out.writeInt(cantidad);
+            return out;
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    private static DataInputStream abrirLectura(File archivo, int magia) throws IOException {
+        DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(archivo), TAMANIO_BUFFER));
+        try {
+            if (in.readInt() != magia) {
+                throw new IOException("El archivo no tiene el formato esperado.");
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Versión de formato no soportada: " + version);
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+}
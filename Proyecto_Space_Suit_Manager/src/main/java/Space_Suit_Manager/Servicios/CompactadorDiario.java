@@ -0,0 +1,144 @@
+package Space_Suit_Manager.Servicios;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tarea en segundo plano que compacta el diario de trajes.
+ *
+ * Revisa periódicamente los umbrales de {@link ConfiguracionCompactacion} y, cuando
+ * alguno se supera, pide al servicio que escriba una instantánea nueva con el estado
+ * actual, la reemplace de forma atómica y descarte el diario ya incorporado. Así el
+ * diario no crece sin límite y la reproducción al iniciar se mantiene acotada.
+ *
+ * El hilo es de tipo daemon, por lo que no impide cerrar la aplicación. El
+ * resultado de la última compactación y el último error quedan disponibles en
+ * {@link #getUltimoResultado()} y {@link #getUltimoError()}; la interfaz los
+ * muestra en el panel de diagnóstico y en la barra de estado. Cada instantánea
+ * escrita se registra como {@link MetricasOperaciones.Operacion#COMPACTAR}, con
+ * su duración y los bytes del archivo.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImplementacionOperacionTraje#compactar()
+ */
+public class CompactadorDiario {
+
+    /** Servicio cuyo diario se compacta. */
+    private final ImplementacionOperacionTraje servicio;
+
+    /** Umbrales de compactación. */
+    private final ConfiguracionCompactacion configuracion;
+
+    /** Métricas donde se registra cada compactación. */
+    private final MetricasOperaciones metricas;
+
+    /** Planificador de las revisiones periódicas. */
+    private ScheduledExecutorService planificador;
+
+    /** Resultado de la última compactación, o null si todavía no hubo ninguna. */
+    private volatile String ultimoResultado;
+
+    /** Mensaje del último error al compactar, o null si no hubo ninguno. */
+    private volatile String ultimoError;
+
+    /**
+     * Crea un compactador para el servicio indicado.
+     *
+     * @param servicio el servicio cuyo diario se compacta
+     * @param configuracion los umbrales de compactación
+     */
+    public CompactadorDiario(ImplementacionOperacionTraje servicio, ConfiguracionCompactacion configuracion) {
+        this(servicio, configuracion, new MetricasOperaciones());
+    }
+
+    /**
+     * Crea un compactador que registra cada compactación en las métricas indicadas.
+     *
+     * @param servicio el servicio cuyo diario se compacta
+     * @param configuracion los umbrales de compactación
+     * @param metricas las métricas, por ejemplo las de {@link OperacionArchivoInstrumentada}
+     */
+    public CompactadorDiario(ImplementacionOperacionTraje servicio, ConfiguracionCompactacion configuracion,
+                             MetricasOperaciones metricas) {
+        this.servicio = servicio;
+        this.configuracion = configuracion;
+        this.metricas = metricas;
+    }
+
+    /**
+     * Inicia las revisiones periódicas. Llamadas repetidas no tienen efecto.
+     */
+    public synchronized void iniciar() {
+        if (planificador != null) return;
+
+        planificador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "compactador-diario-trajes");
+            t.setDaemon(true);
+            return t;
+        });
+        long periodo = Math.max(100, configuracion.getPeriodoRevisionMillis());
+        planificador.scheduleWithFixedDelay(this::revisar, periodo, periodo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Detiene las revisiones periódicas sin interrumpir una compactación en curso.
+     */
+    public synchronized void detener() {
+        if (planificador == null) return;
+        planificador.shutdown();
+        planificador = null;
+    }
+
+    /**
+     * Retorna el mensaje de la última compactación, exitosa o no; los tiempos
+     * están en {@link ImplementacionOperacionTraje#getMetricasPersistencia()}.
+     *
+     * @return el mensaje, o null si todavía no se compactó
+     */
+    public String getUltimoResultado() {
+        return ultimoResultado;
+    }
+
+    /**
+     * Retorna el mensaje del último error al compactar. Una compactación exitosa
+     * posterior no lo borra.
+     *
+     * @return el mensaje, o null si nunca falló
+     */
+    public String getUltimoError() {
+        return ultimoError;
+    }
+
+    /**
+     * Retorna los umbrales con que trabaja el compactador.
+     *
+     * @return la configuración; sus cambios se aplican en la siguiente revisión
+     */
+    public ConfiguracionCompactacion getConfiguracion() {
+        return configuracion;
+    }
+
+    private void revisar() {
+        try {
+            if (servicio.necesitaCompactar(configuracion)) {
+                MetricasPersistencia persistencia = servicio.getMetricasPersistencia();
+                long instantaneas = persistencia.getCompactaciones();
+                long t0 = System.nanoTime();
+                ultimoResultado = servicio.compactarOFallar();
+                if (persistencia.getCompactaciones() != instantaneas) {
+                    metricas.registrar(MetricasOperaciones.Operacion.COMPACTAR, System.nanoTime() - t0);
+                    metricas.registrarBytes(MetricasOperaciones.Operacion.COMPACTAR,
+                            persistencia.getUltimaInstantaneaBytes());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // una excepción cancelaría las revisiones siguientes
+            ultimoError = "Error al compactar: " + e.getMessage();
+            ultimoResultado = ultimoError;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Condición simple sobre un atributo de los trajes: igualdad en un atributo
+ * categórico, rango cerrado en un atributo numérico o rango de fechas de
+ * inspección.
+ *
+ * Las condiciones se combinan con {@link ConsultaTrajes}; un {@link IndiceSecundario}
+ * declara cuáles puede resolver sin recorrer la flota.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+public final class CondicionTraje {
+
+    /** Clases de condición. */
+    public enum Tipo {
+        /** El atributo categórico es igual a un valor. */
+        IGUAL,
+        /** El atributo numérico está en un rango cerrado. */
+        RANGO,
+        /** La fecha de inspección está en un rango cerrado; la resuelve {@link IndiceFechas}. */
+        FECHA
+    }
+
+    private final Tipo tipo;
+    private final AtributoCategorico categorico;
+    private final String valor;
+    private final AtributoNumerico numerico;
+    private final double minimo;
+    private final double maximo;
+    private final LocalDate desde;
+    private final LocalDate hasta;
+
+    private CondicionTraje(Tipo tipo, AtributoCategorico categorico, String valor,
+                           AtributoNumerico numerico, double minimo, double maximo) {
+        this(tipo, categorico, valor, numerico, minimo, maximo, null, null);
+    }
+
+    private CondicionTraje(Tipo tipo, AtributoCategorico categorico, String valor,
+                           AtributoNumerico numerico, double minimo, double maximo,
+                           LocalDate desde, LocalDate hasta) {
+        this.tipo = tipo;
+        this.categorico = categorico;
+        this.valor = valor;
+        this.numerico = numerico;
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.desde = desde;
+        this.hasta = hasta;
+    }
+
+    /**
+     * Crea una condición de igualdad.
+     *
+     * @param atributo el atributo
+     * @param valor el valor buscado, distinguiendo mayúsculas de minúsculas, o null
+     *              para los trajes que tienen el atributo sin valor
+     * @return la condición; los trajes sin el atributo no la cumplen
+     */
+    public static CondicionTraje igual(AtributoCategorico atributo, String valor) {
+        return new CondicionTraje(Tipo.IGUAL, Objects.requireNonNull(atributo), valor, null, 0, 0);
+    }
+
+    /**
+     * Crea una condición de rango cerrado.
+     *
+     * @param atributo el atributo
+     * @param minimo el menor valor incluido; puede ser {@link Double#NEGATIVE_INFINITY}
+     * @param maximo el mayor valor incluido; puede ser {@link Double#POSITIVE_INFINITY}
+     * @return la condición; los trajes sin el atributo no la cumplen
+     * @throws IllegalArgumentException si algún límite es NaN
+     */
+    public static CondicionTraje entre(AtributoNumerico atributo, double minimo, double maximo) {
+        if (Double.isNaN(minimo) || Double.isNaN(maximo)) {
+            throw new IllegalArgumentException("Los límites del rango no pueden ser NaN");
+        }
+        // -0.0 y 0.0 son el mismo límite, como en la comparación de cumple()
+        return new CondicionTraje(Tipo.RANGO, null, null, Objects.requireNonNull(atributo),
+                minimo + 0.0, maximo + 0.0);
+    }
+
+    /**
+     * Crea una condición de rango de fechas de inspección.
+     *
+     * Los límites se guardan también como día epoch, en {@link #getMinimo()} y
+     * {@link #getMaximo()}, para comparar sin volver a convertir las fechas.
+     *
+     * @param desde la primera fecha incluida, o null para no acotar por abajo
+     * @param hasta la última fecha incluida, o null para no acotar por arriba
+     * @return la condición; los trajes sin fecha legible no la cumplen
+     */
+    public static CondicionTraje inspeccionEntre(LocalDate desde, LocalDate hasta) {
+        double min = (desde == null) ? Double.NEGATIVE_INFINITY : desde.toEpochDay();
+        double max = (hasta == null) ? Double.POSITIVE_INFINITY : hasta.toEpochDay();
+        return new CondicionTraje(Tipo.FECHA, null, null, null, min, max, desde, hasta);
+    }
+
+    /**
+     * Indica si un traje cumple la condición.
+     *
+     * @param t el traje
+     * @return true si la cumple
+     */
+    public boolean cumple(Traje_Espacial t) {
+        if (tipo == Tipo.IGUAL) {
+            return categorico.aplicaA(t) && Objects.equals(categorico.valorDe(t), valor);
+        }
+        if (tipo == Tipo.FECHA) {
+            int dia = IndiceFechas.diaEpoch(t.getFechaInspeccion());
+            return dia != IndiceFechas.SIN_FECHA && dia >= minimo && dia <= maximo;
+        }
+        double v = numerico.valorDe(t);
+        return v >= minimo && v <= maximo; // NaN no cumple
+    }
+
+    /**
+     * Retorna la clase de condición.
+     *
+     * @return la clase
+     */
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Retorna el atributo de una condición {@link Tipo#IGUAL}.
+     *
+     * @return el atributo, o null si la condición es de rango
+     */
+    public AtributoCategorico getAtributoCategorico() {
+        return categorico;
+    }
+
+    /**
+     * Retorna el valor buscado por una condición {@link Tipo#IGUAL}.
+     *
+     * @return el valor, que puede ser null
+     */
+    public String getValor() {
+        return valor;
+    }
+
+    /**
+     * Retorna el atributo de una condición {@link Tipo#RANGO}.
+     *
+     * @return el atributo, o null si la condición es de igualdad
+     */
+    public AtributoNumerico getAtributoNumerico() {
+        return numerico;
+    }
+
+    /**
+     * Retorna el menor valor incluido de una condición {@link Tipo#RANGO}, o el
+     * menor día epoch incluido de una {@link Tipo#FECHA}.
+     *
+     * @return el límite inferior
+     */
+    public double getMinimo() {
+        return minimo;
+    }
+
+    /**
+     * Retorna el mayor valor incluido de una condición {@link Tipo#RANGO}, o el
+     * mayor día epoch incluido de una {@link Tipo#FECHA}.
+     *
+     * @return el límite superior
+     */
+    public double getMaximo() {
+        return maximo;
+    }
+
+    /**
+     * Retorna la primera fecha incluida de una condición {@link Tipo#FECHA}.
+     *
+     * @return la fecha, o null si no está acotada por abajo o la condición es de otra clase
+     */
+    public LocalDate getDesde() {
+        return desde;
+    }
+
+    /**
+     * Retorna la última fecha incluida de una condición {@link Tipo#FECHA}.
+     *
+     * @return la fecha, o null si no está acotada por arriba o la condición es de otra clase
+     */
+    public LocalDate getHasta() {
+        return hasta;
+    }
+
+    @Override
+    public String toString() {
+        if (tipo == Tipo.IGUAL) {
+            return categorico + " = " + (valor == null ? "null" : "'" + valor + "'");
+        }
+        if (tipo == Tipo.FECHA) {
+            return "inspección" + (desde == null ? "" : " desde " + desde)
+                    + (hasta == null ? "" : " hasta " + hasta);
+        }
+        return numerico + " entre " + minimo + " y " + maximo;
+    }
+}
@@ -0,0 +1,139 @@
+package Space_Suit_Manager.Servicios;
+
+/**
+ * Umbrales que determinan cuándo se compacta el diario de trajes.
+ *
+ * La compactación se dispara cuando se cumple cualquiera de las condiciones:
+ * el diario supera un tamaño en bytes, acumula una cantidad de registros o
+ * transcurre un tiempo máximo desde la última instantánea con cambios pendientes.
+ * Un umbral con valor menor o igual a cero se considera deshabilitado.
+ *
+ * Los umbrales pueden cambiarse mientras el compactador está en marcha, porque su
+ * hilo los lee en cada revisión; el periodo de revisión se toma al iniciarlo.
+ * {@link #desdePropiedades()} permite ajustarlos al lanzar
+ * la aplicación, sin recompilar.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see CompactadorDiario
+ */
+public class ConfiguracionCompactacion {
+
+    /** Tamaño máximo del diario en bytes antes de compactar. */
+    private volatile long maxBytesDiario;
+
+    /** Cantidad máxima de registros en el diario antes de compactar. */
+    private volatile long maxRegistros;
+
+    /** Tiempo máximo en milisegundos entre instantáneas si hay cambios pendientes. */
+    private volatile long maxMillisEntreInstantaneas;
+
+    /** Periodo en milisegundos con el que el compactador revisa los umbrales. */
+    private volatile long periodoRevisionMillis;
+
+    /**
+     * Constructor que inicializa todos los umbrales.
+     *
+     * @param maxBytesDiario tamaño máximo del diario en bytes
+     * @param maxRegistros cantidad máxima de registros del diario
+     * @param maxMillisEntreInstantaneas tiempo máximo entre instantáneas en milisegundos
+     * @param periodoRevisionMillis periodo de revisión del compactador en milisegundos
+     */
+    public ConfiguracionCompactacion(long maxBytesDiario, long maxRegistros,
+                                     long maxMillisEntreInstantaneas, long periodoRevisionMillis) {
+        this.maxBytesDiario = maxBytesDiario;
+        this.maxRegistros = maxRegistros;
+        this.maxMillisEntreInstantaneas = maxMillisEntreInstantaneas;
+        this.periodoRevisionMillis = periodoRevisionMillis;
+    }
+
+    /**
+     * Retorna la configuración por defecto: 4 MB, 10 000 registros o 10 minutos,
+     * revisando cada 5 segundos.
+     *
+     * @return una nueva configuración con los valores por defecto
+     */
+    public static ConfiguracionCompactacion porDefecto() {
+        return new ConfiguracionCompactacion(4L * 1024 * 1024, 10_000, 10 * 60_000L, 5_000L);
+    }
+
+    /**
+     * Retorna la configuración por defecto con los umbrales que se indiquen como
+     * propiedades del sistema, por ejemplo {@code -Dtrajes.compactacion.maxRegistros=50000}:
+     * <ul>
+     *   <li>{@code trajes.compactacion.maxBytes}</li>
+     *   <li>{@code trajes.compactacion.maxRegistros}</li>
+     *   <li>{@code trajes.compactacion.maxMillis}</li>
+     *   <li>{@code trajes.compactacion.periodoMillis}</li>
+     * </ul>
+     * Una propiedad ausente o que no es un número conserva el valor por defecto.
+     *
+     * @return una nueva configuración
+     */
+    public static ConfiguracionCompactacion desdePropiedades() {
+        ConfiguracionCompactacion c = porDefecto();
+        c.setMaxBytesDiario(Long.getLong("trajes.compactacion.maxBytes", c.getMaxBytesDiario()));
+        c.setMaxRegistros(Long.getLong("trajes.compactacion.maxRegistros", c.getMaxRegistros()));
+        c.setMaxMillisEntreInstantaneas(Long.getLong("trajes.compactacion.maxMillis",
+                c.getMaxMillisEntreInstantaneas()));
+        c.setPeriodoRevisionMillis(Long.getLong("trajes.compactacion.periodoMillis",
+                c.getPeriodoRevisionMillis()));
+        return c;
+    }
+
+    /**
+     * Indica si el estado actual del diario supera alguno de los umbrales.
+     *
+     * @param bytes tamaño actual del diario en bytes
+     * @param registros registros actuales del diario
+     * @param millisDesdeInstantanea milisegundos desde la última instantánea
+     * @return true si corresponde compactar
+     */
+    public boolean superaUmbral(long bytes, long registros, long millisDesdeInstantanea) {
+        if (registros <= 0) return false;
+        if (maxBytesDiario > 0 && bytes >= maxBytesDiario) return true;
+        if (maxRegistros > 0 && registros >= maxRegistros) return true;
+        return maxMillisEntreInstantaneas > 0 && millisDesdeInstantanea >= maxMillisEntreInstantaneas;
+    }
+
+    /** @return el tamaño máximo del diario en bytes */
+    public long getMaxBytesDiario() {
+        return maxBytesDiario;
+    }
+
+    /** @param maxBytesDiario el nuevo tamaño máximo del diario en bytes */
+    public void setMaxBytesDiario(long maxBytesDiario) {
+        this.maxBytesDiario = maxBytesDiario;
+    }
+
+    /** @return la cantidad máxima de registros del diario */
+    public long getMaxRegistros() {
+        return maxRegistros;
+    }
+
+    /** @param maxRegistros la nueva cantidad máxima de registros del diario */
+    public void setMaxRegistros(long maxRegistros) {
+        this.maxRegistros = maxRegistros;
+    }
+
+    /** @return el tiempo máximo entre instantáneas en milisegundos */
+    public long getMaxMillisEntreInstantaneas() {
+        return maxMillisEntreInstantaneas;
+    }
+
+    /** @param maxMillisEntreInstantaneas el nuevo tiempo máximo entre instantáneas en milisegundos */
+    public void setMaxMillisEntreInstantaneas(long maxMillisEntreInstantaneas) {
+        this.maxMillisEntreInstantaneas = maxMillisEntreInstantaneas;
+    }
+
+    /** @return el periodo de revisión del compactador en milisegundos */
+    public long getPeriodoRevisionMillis() {
+        return periodoRevisionMillis;
+    }
+
+    /** @param periodoRevisionMillis el nuevo periodo de revisión en milisegundos */
+    public void setPeriodoRevisionMillis(long periodoRevisionMillis) {
+        this.periodoRevisionMillis = periodoRevisionMillis;
+    }
+}
@@ -0,0 +1,113 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Consulta de trajes como conjunción de {@link CondicionTraje}.
+ *
+ * Se arma encadenando condiciones y se ejecuta con
+ * {@link OperacionArchivo#consultar(ConsultaTrajes)}:
+ * <pre>
+ * ResultadoConsulta r = servicio.consultar(new ConsultaTrajes()
+ *         .entre(AtributoNumerico.PESO_SOPORTADO, 50, 80)
+ *         .donde(AtributoCategorico.TALLA, "M"));
+ * </pre>
+ * Una consulta sin condiciones retorna todos los trajes.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ResultadoConsulta
+ */
+public final class ConsultaTrajes {
+
+    private final List<CondicionTraje> condiciones = new ArrayList<>();
+
+    /**
+     * Agrega una condición de igualdad en un atributo categórico.
+     *
+     * @param atributo el atributo
+     * @param valor el valor buscado
+     * @return esta consulta
+     * @see CondicionTraje#igual(AtributoCategorico, String)
+     */
+    public ConsultaTrajes donde(AtributoCategorico atributo, String valor) {
+        return con(CondicionTraje.igual(atributo, valor));
+    }
+
+    /**
+     * Agrega una condición de rango cerrado en un atributo numérico.
+     *
+     * @param atributo el atributo
+     * @param minimo el menor valor incluido
+     * @param maximo el mayor valor incluido
+     * @return esta consulta
+     * @see CondicionTraje#entre(AtributoNumerico, double, double)
+     */
+    public ConsultaTrajes entre(AtributoNumerico atributo, double minimo, double maximo) {
+        return con(CondicionTraje.entre(atributo, minimo, maximo));
+    }
+
+    /**
+     * Agrega una condición de rango de fechas de inspección.
+     *
+     * @param desde la primera fecha incluida, o null para no acotar por abajo
+     * @param hasta la última fecha incluida, o null para no acotar por arriba
+     * @return esta consulta
+     * @see CondicionTraje#inspeccionEntre(LocalDate, LocalDate)
+     */
+    public ConsultaTrajes inspeccionEntre(LocalDate desde, LocalDate hasta) {
+        return con(CondicionTraje.inspeccionEntre(desde, hasta));
+    }
+
+    /**
+     * Agrega una condición.
+     *
+     * @param condicion la condición
+     * @return esta consulta
+     */
+    public ConsultaTrajes con(CondicionTraje condicion) {
+        condiciones.add(condicion);
+        return this;
+    }
+
+    /**
+     * Retorna las condiciones, en el orden en que se agregaron.
+     *
+     * @return una vista de solo lectura
+     */
+    public List<CondicionTraje> getCondiciones() {
+        return Collections.unmodifiableList(condiciones);
+    }
+
+    /**
+     * Indica si un traje cumple todas las condiciones.
+     *
+     * @param t el traje
+     * @return true si las cumple
+     */
+    public boolean cumple(Traje_Espacial t) {
+        for (CondicionTraje c : condiciones) {
+            if (!c.cumple(t)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return condiciones.isEmpty() ? "todos" : String.join(" y ", textos(condiciones));
+    }
+
+    static List<String> textos(List<CondicionTraje> condiciones) {
+        List<String> textos = new ArrayList<>(condiciones.size());
+        for (CondicionTraje c : condiciones) {
+            textos.add(c.toString());
+        }
+        return textos;
+    }
+}
@@ -0,0 +1,134 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contadores de la flota que se pueden sumar y restar traje por traje: cantidad por
+ * valor de cada {@link AtributoCategorico}, trajes por intervalo de peso, suma de
+ * pesos y trajes sin fecha de inspección.
+ *
+ * {@link RepositorioTrajes} los mantiene en cada alta y baja, en O(1), para armar un
+ * {@link ReporteFlota} sin recorrer la flota; {@link ReporteFlota#calcular} usa uno
+ * por cada parte de un recorrido paralelo y los combina al final.
+ *
+ * Solo cuentan en el peso los valores finitos. Esta clase no es segura para uso
+ * concurrente.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ReporteFlota
+ */
+final class ContadoresFlota {
+
+    /** Cantidad de trajes. */
+    int total;
+
+    /** Trajes sin fecha de inspección legible. */
+    int sinFecha;
+
+    /** Trajes con peso finito. */
+    int pesosValidos;
+
+    /** Suma de los pesos finitos. */
+    double sumaPesos;
+
+    /** Trajes por valor de cada atributo; el valor null se cuenta como cualquier otro. */
+    final Map<AtributoCategorico, Map<String, int[]>> porValor = new EnumMap<>(AtributoCategorico.class);
+
+    /** Trajes por intervalo de {@link ReporteFlota#ANCHO_INTERVALO_PESO}, por índice del intervalo. */
+    final Map<Long, int[]> porIntervalo = new HashMap<>();
+
+    ContadoresFlota() {
+        for (AtributoCategorico atributo : AtributoCategorico.values()) {
+            porValor.put(atributo, new HashMap<>());
+        }
+    }
+
+    /**
+     * Cuenta un traje.
+     *
+     * @param t el traje
+     * @param dia el día epoch de su fecha de inspección, o {@link IndiceFechas#SIN_FECHA}
+     */
+    void agregar(Traje_Espacial t, int dia) {
+        sumar(t, dia, 1);
+    }
+
+    /**
+     * Descuenta un traje contado antes con los mismos valores.
+     *
+     * @param t el traje
+     * @param dia el día epoch con que se contó
+     */
+    void quitar(Traje_Espacial t, int dia) {
+        sumar(t, dia, -1);
+    }
+
+    /**
+     * Suma a estos contadores los de otro.
+     *
+     * @param otro los contadores a sumar, que no se modifican
+     */
+    void combinar(ContadoresFlota otro) {
+        total += otro.total;
+        sinFecha += otro.sinFecha;
+        pesosValidos += otro.pesosValidos;
+        sumaPesos += otro.sumaPesos;
+        otro.porValor.forEach((atributo, conteos) -> {
+            Map<String, int[]> destino = porValor.get(atributo);
+            conteos.forEach((valor, n) -> destino.computeIfAbsent(valor, v -> new int[1])[0] += n[0]);
+        });
+        otro.porIntervalo.forEach((i, n) -> porIntervalo.computeIfAbsent(i, k -> new int[1])[0] += n[0]);
+    }
+
+    /**
+     * Pone todos los contadores en cero.
+     */
+    void limpiar() {
+        total = 0;
+        sinFecha = 0;
+        pesosValidos = 0;
+        sumaPesos = 0;
+        porValor.values().forEach(Map::clear);
+        porIntervalo.clear();
+    }
+
+    /**
+     * Retorna el intervalo de peso de un valor finito.
+     *
+     * @param peso el peso
+     * @return el índice del intervalo; el intervalo i va de {@code i * ANCHO} inclusive
+     *         a {@code (i + 1) * ANCHO} exclusive
+     */
+    static long intervalo(double peso) {
+        return (long) Math.floor(peso / ReporteFlota.ANCHO_INTERVALO_PESO);
+    }
+
+    private void sumar(Traje_Espacial t, int dia, int delta) {
+        total += delta;
+        if (dia == IndiceFechas.SIN_FECHA) sinFecha += delta;
+
+        for (Map.Entry<AtributoCategorico, Map<String, int[]>> e : porValor.entrySet()) {
+            if (e.getKey().aplicaA(t)) contar(e.getValue(), e.getKey().valorDe(t), delta);
+        }
+
+        double peso = t.getPesoSoportado();
+        if (Double.isFinite(peso)) {
+            pesosValidos += delta;
+            sumaPesos += delta * peso;
+            contar(porIntervalo, intervalo(peso), delta);
+        }
+    }
+
+    /** Suma {@code delta} a la cuenta de una clave y la quita si queda en cero. */
+    private static <K> void contar(Map<K, int[]> conteos, K clave, int delta) {
+        int[] n = conteos.computeIfAbsent(clave, k -> new int[1]);
+        n[0] += delta;
+        if (n[0] == 0) conteos.remove(clave);
+    }
+}
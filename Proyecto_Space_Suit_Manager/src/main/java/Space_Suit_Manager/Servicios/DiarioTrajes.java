@@ -0,0 +1,424 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.zip.CRC32;
+
+/**
+ * Diario de escritura anticipada (write-ahead log) para los trajes espaciales.
+ *
+ * Cada operación {@code guardar}, {@code modificar} o {@code eliminar} se agrega al
+ * final del archivo como un registro pequeño, de modo que el costo de persistir un
+ * cambio depende del tamaño del cambio y no del tamaño de la flota. Al iniciar, el
+ * diario se reproduce sobre la última instantánea completa para reconstruir el estado.
+ *
+ * Formato de cada registro:
+ * <pre>
+ *   int  longitud del contenido
+ *   int  CRC32 del contenido
+ *   byte[] contenido: operación + datos
+ * </pre>
+ * Los trajes y textos del contenido usan la misma codificación que la instantánea
+ * ({@link CodecTraje}).
+ * Si la aplicación termina a mitad de una escritura, el último registro queda
+ * incompleto o con CRC inválido; la reproducción se detiene ahí y el archivo se
+ * recorta hasta el último registro válido.
+ *
+ * La reproducción es idempotente por identificador (la última operación sobre cada
+ * traje gana), por lo que reaplicar registros que ya están incluidos en la
+ * instantánea no altera el resultado.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImplementacionOperacionTraje
+ */
+public class DiarioTrajes implements Closeable {
+
+    /** Operación: se agregó un traje nuevo. */
+    static final byte OP_GUARDAR = 1;
+
+    /** Operación: se reemplazó un traje existente. */
+    static final byte OP_MODIFICAR = 2;
+
+    /** Operación: se eliminó un traje. */
+    static final byte OP_ELIMINAR = 3;
+
+    /** Archivo del diario. */
+    private final File archivo;
+
+    /** Flujo de escritura en modo anexar. */
+    private FileOutputStream salida;
+
+    /** Buffer reutilizado para armar cada registro antes de escribirlo. */
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+
+    /** Registros contenidos en el diario. */
+    private long registros;
+
+    /** Tamaño actual del diario en bytes. */
+    private long bytes;
+
+    /**
+     * Crea un diario asociado al archivo indicado. El archivo no se abre hasta
+     * llamar a {@link #abrir(long)}.
+     *
+     * @param archivo el archivo del diario
+     */
+    public DiarioTrajes(File archivo) {
+        this.archivo = archivo;
+    }
+
+    /**
+     * Retorna el archivo de diario que corresponde a un archivo de instantánea.
+     *
+     * @param ruta la ruta del directorio de datos
+     * @param nombreArchivo el nombre del archivo de instantánea
+     * @return el archivo del diario ({@code nombreArchivo + ".log"})
+     */
+    public static File archivoPara(String ruta, String nombreArchivo) {
+        return new File(ruta, nombreArchivo + ".log");
+    }
+
+    /**
+     * Retorna el archivo al que se mueve el diario mientras se escribe una
+     * instantánea. Si existe al iniciar, la instantánea no llegó a confirmarse
+     * y el archivo debe reproducirse antes que el diario activo.
+     *
+     * @param archivoDiario el archivo del diario activo
+     * @return el archivo del diario en compactación
+     */
+    public static File archivoEnCompactacion(File archivoDiario) {
+        return new File(archivoDiario.getPath() + ".compactando");
+    }
+
+    /**
+     * Abre el diario para agregar registros al final.
+     *
+     * @param registrosExistentes registros que ya contiene el archivo (los reproducidos al cargar)
+     * @throws IOException si el archivo no puede abrirse
+     */
+    public void abrir(long registrosExistentes) throws IOException {
+        if (salida != null) return;
+        salida = new FileOutputStream(archivo, true);
+        registros = registrosExistentes;
+        bytes = archivo.length();
+    }
+
+    /**
+     * Cierra el diario activo, lo mueve a {@link #archivoEnCompactacion(File)} y
+     * abre un diario vacío en su lugar.
+     *
+     * Si ya existía un diario en compactación (una instantánea anterior que no
+     * llegó a confirmarse), el contenido actual se agrega a ese archivo para no
+     * perder ninguno de los dos.
+     *
+     * @return el archivo con los registros retirados del diario activo
+     * @throws IOException si el archivo no puede moverse
+     */
+    public File rotar() throws IOException {
+        close();
+
+        File enCompactacion = archivoEnCompactacion(archivo);
+        if (enCompactacion.exists()) {
+            try (FileOutputStream out = new FileOutputStream(enCompactacion, true)) {
+                Files.copy(archivo.toPath(), out);
+            }
+            Files.delete(archivo.toPath());
+        } else if (archivo.exists()) {
+            Files.move(archivo.toPath(), enCompactacion.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        abrir(0);
+        return enCompactacion;
+    }
+
+    /**
+     * Registra que se guardó un traje nuevo.
+     *
+     * @param t el traje guardado
+     * @throws IOException si falla la escritura
+     */
+    public void registrarGuardar(Traje_Espacial t) throws IOException {
+        DataOutputStream out = iniciar(OP_GUARDAR);
+        CodecTraje.escribirTraje(out, t);
+        confirmar();
+    }
+
+    /**
+     * Registra un lote de trajes guardados con una sola escritura al archivo.
+     *
+     * Cada traje queda como un registro independiente, igual que con
+     * {@link #registrarGuardar(Traje_Espacial)}; si la aplicación termina a mitad
+     * de la escritura, la reproducción conserva los registros completos.
+     *
+     * @param trajes los trajes guardados
+     * @throws IOException si falla la escritura
+     */
+    public void registrarGuardarLote(Collection<Traje_Espacial> trajes) throws IOException {
+        if (trajes.isEmpty()) return;
+
+        ByteArrayOutputStream lote = new ByteArrayOutputStream(trajes.size() * 64);
+        for (Traje_Espacial t : trajes) {
+            DataOutputStream out = iniciar(OP_GUARDAR);
+            CodecTraje.escribirTraje(out, t);
+            lote.write(armarRegistro());
+        }
+
+        escribir(lote.toByteArray(), trajes.size());
+    }
+
+    /**
+     * Registra que un traje fue reemplazado por otro.
+     *
+     * @param idAnterior el identificador del traje reemplazado
+     * @param t el nuevo traje
+     * @throws IOException si falla la escritura
+     */
+    public void registrarModificar(String idAnterior, Traje_Espacial t) throws IOException {
+        DataOutputStream out = iniciar(OP_MODIFICAR);
+        CodecTraje.escribirTexto(out, idAnterior);
+        CodecTraje.escribirTraje(out, t);
+        confirmar();
+    }
+
+    /**
+     * Registra que se eliminó un traje.
+     *
+     * @param id el identificador del traje eliminado
+     * @throws IOException si falla la escritura
+     */
+    public void registrarEliminar(String id) throws IOException {
+        DataOutputStream out = iniciar(OP_ELIMINAR);
+        CodecTraje.escribirTexto(out, id);
+        confirmar();
+    }
+
+    /**
+     * Vacía el diario. Se usa después de escribir una instantánea completa,
+     * que ya contiene todos los cambios registrados.
+     *
+     * @throws IOException si el archivo no puede truncarse
+     */
+    public void truncar() throws IOException {
+        if (salida != null) {
+            salida.getChannel().truncate(0);
+        } else {
+            new FileOutputStream(archivo).close();
+        }
+        registros = 0;
+        bytes = 0;
+    }
+
+    /**
+     * Retorna la cantidad de registros que contiene el diario.
+     *
+     * @return el número de registros
+     */
+    public long getRegistros() {
+        return registros;
+    }
+
+    /**
+     * Retorna el tamaño actual del diario en bytes.
+     *
+     * @return el tamaño en bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Retorna el archivo del diario.
+     *
+     * @return el archivo
+     */
+    public File getArchivo() {
+        return archivo;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (salida != null) {
+            salida.close();
+            salida = null;
+        }
+    }
+
+    // ===========================================================
+    //  REPRODUCCIÓN
+    // ===========================================================
+
+    /**
+     * Reproduce el diario sobre un repositorio desde una posición dada.
+     *
+     * Se detiene en el primer registro incompleto o corrupto. Si {@code recortar} es
+     * true, el archivo se recorta en ese punto para que los registros nuevos no
+     * queden detrás de basura; solo debe pedirse cuando nadie está escribiendo en
+     * el diario, porque un registro a medio escribir se vería como incompleto.
+     *
+     * @param archivo el archivo del diario
+     * @param repositorio el repositorio sobre el que se aplican las operaciones
+     * @param desde la posición en bytes donde empieza la reproducción
+     * @param recortar si debe recortarse una cola inválida
+     * @return la cantidad de registros aplicados y la posición final válida
+     * @throws IOException si ocurre un error de lectura
+     */
+    public static Reproduccion reproducir(File archivo, RepositorioTrajes repositorio,
+                                          long desde, boolean recortar) throws IOException {
+        if (!archivo.exists()) return new Reproduccion(0, 0);
+
+        long aplicados = 0;
+        long posicionValida = desde;
+        CRC32 crc = new CRC32();
+
+        try (FileInputStream fis = new FileInputStream(archivo)) {
+            fis.getChannel().position(desde);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(fis));
+            while (true) {
+                int longitud;
+                int esperado;
+                byte[] contenido;
+                try {
+                    longitud = in.readInt();
+                    esperado = in.readInt();
+                    if (longitud < 0) break;
+                    contenido = new byte[longitud];
+                    in.readFully(contenido);
+                } catch (EOFException fin) {
+                    break;
+                }
+
+                crc.reset();
+                crc.update(contenido);
+                if ((int) crc.getValue() != esperado) break;
+
+                aplicar(new DataInputStream(new ByteArrayInputStream(contenido)), repositorio);
+                aplicados++;
+                posicionValida += 8 + longitud;
+            }
+        }
+
+        if (recortar && posicionValida < archivo.length()) {
+            try (RandomAccessFile raf = new RandomAccessFile(archivo, "rw")) {
+                raf.setLength(posicionValida);
+            }
+        }
+        return new Reproduccion(aplicados, posicionValida);
+    }
+
+    /**
+     * Resultado de {@link #reproducir(File, RepositorioTrajes, long, boolean)}.
+     */
+    public static final class Reproduccion {
+
+        /** Registros aplicados. */
+        private final long registros;
+
+        /** Posición en bytes donde terminó el último registro válido. */
+        private final long posicion;
+
+        Reproduccion(long registros, long posicion) {
+            this.registros = registros;
+            this.posicion = posicion;
+        }
+
+        /** @return los registros aplicados */
+        public long getRegistros() {
+            return registros;
+        }
+
+        /** @return la posición final válida en bytes */
+        public long getPosicion() {
+            return posicion;
+        }
+    }
+
+    private static void aplicar(DataInputStream in, RepositorioTrajes repositorio) throws IOException {
+        byte op = in.readByte();
+        switch (op) {
+            case OP_GUARDAR: {
+                Traje_Espacial t = CodecTraje.leerTraje(in);
+                repositorio.poner(t.getIdTraje(), t);
+                break;
+            }
+            case OP_MODIFICAR: {
+                String idAnterior = CodecTraje.leerTexto(in);
+                Traje_Espacial t = CodecTraje.leerTraje(in);
+                if (repositorio.reemplazar(idAnterior, t.getIdTraje(), t) == null) {
+                    // el nuevo ID ya existía (el cambio ya estaba en la instantánea)
+                    // o el anterior no: en ambos casos el anterior no debe quedar
+                    repositorio.eliminar(idAnterior);
+                    repositorio.poner(t.getIdTraje(), t);
+                }
+                break;
+            }
+            case OP_ELIMINAR:
+                repositorio.eliminar(CodecTraje.leerTexto(in));
+                break;
+            default:
+                throw new IOException("Operación desconocida en el diario: " + op);
+        }
+    }
+
+    // ===========================================================
+    //  CODIFICACIÓN DE REGISTROS
+    // ===========================================================
+
+    private DataOutputStream iniciar(byte op) throws IOException {
+        if (salida == null) throw new IOException("El diario no está abierto.");
+        buffer.reset();
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeByte(op);
+        return out;
+    }
+
+    private void confirmar() throws IOException {
+        // una sola escritura por registro: el SO nunca ve medio encabezado
+        escribir(armarRegistro(), 1);
+    }
+
+    /**
+     * Agrega registros completos al final del diario. Si la escritura falla, el
+     * archivo se recorta al último registro confirmado para que los siguientes no
+     * queden detrás de uno incompleto, que detendría la reproducción.
+     */
+    private void escribir(byte[] datos, long cantidad) throws IOException {
+        try {
+            salida.write(datos);
+            salida.flush();
+        } catch (IOException e) {
+            try {
+                salida.getChannel().truncate(bytes);
+            } catch (IOException recorte) {
+                e.addSuppressed(recorte);
+            }
+            throw e;
+        }
+        registros += cantidad;
+        bytes += datos.length;
+    }
+
+    private byte[] armarRegistro() {
+        byte[] contenido = buffer.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(contenido);
+
+        byte[] registro = new byte[8 + contenido.length];
+        escribirInt(registro, 0, contenido.length);
+        escribirInt(registro, 4, (int) crc.getValue());
+        System.arraycopy(contenido, 0, registro, 8, contenido.length);
+        return registro;
+    }
+
+    private static void escribirInt(byte[] b, int pos, int v) {
+        b[pos] = (byte) (v >>> 24);
+        b[pos + 1] = (byte) (v >>> 16);
+        b[pos + 2] = (byte) (v >>> 8);
+        b[pos + 3] = (byte) v;
+    }
+}
@@ -0,0 +1,93 @@
+package Space_Suit_Manager.Servicios;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Diccionario que asigna un código entero a cada texto distinto.
+ *
+ * Sirve para atributos con pocos valores repetidos en toda la flota (tallas,
+ * terrenos, materiales): cada registro guarda solo el código y el texto se guarda
+ * una vez. Los códigos son consecutivos desde 1 y nunca cambian; el código
+ * {@link #NULO} representa null.
+ *
+ * Agregar valores no es seguro para uso concurrente y debe hacerse bajo el
+ * bloqueo del dueño del diccionario; {@link #valor(int)} puede llamarse desde
+ * cualquier hilo para los códigos ya entregados.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see DiccionarioTrajes
+ */
+public class DiccionarioTexto {
+
+    /** Código de null. */
+    public static final int NULO = 0;
+
+    /** Código que no corresponde a ningún valor. */
+    public static final int AUSENTE = -1;
+
+    /** Texto de cada código; la posición 0 es null. */
+    private volatile String[] valores = new String[8];
+
+    /** Cantidad de códigos entregados, incluido {@link #NULO}. */
+    private int cantidad = 1;
+
+    /** Código de cada texto. */
+    private final Map<String, Integer> codigos = new HashMap<>();
+
+    /**
+     * Retorna el código de un texto, agregándolo si todavía no está.
+     *
+     * @param texto el texto, puede ser null
+     * @return su código
+     */
+    public int codificar(String texto) {
+        if (texto == null) return NULO;
+
+        Integer codigo = codigos.get(texto);
+        if (codigo != null) return codigo;
+
+        String[] actuales = valores;
+        if (cantidad == actuales.length) {
+            actuales = Arrays.copyOf(actuales, actuales.length * 2);
+        }
+        actuales[cantidad] = texto;
+        valores = actuales;
+        codigos.put(texto, cantidad);
+        return cantidad++;
+    }
+
+    /**
+     * Retorna el código de un texto sin agregarlo.
+     *
+     * @param texto el texto, puede ser null
+     * @return su código, o {@link #AUSENTE} si el texto no está en el diccionario
+     */
+    public int codigo(String texto) {
+        if (texto == null) return NULO;
+        Integer codigo = codigos.get(texto);
+        return (codigo == null) ? AUSENTE : codigo;
+    }
+
+    /**
+     * Retorna el texto de un código.
+     *
+     * @param codigo un código entregado por {@link #codificar(String)}
+     * @return el texto, o null para {@link #NULO}
+     */
+    public String valor(int codigo) {
+        return valores[codigo];
+    }
+
+    /**
+     * Retorna la cantidad de textos distintos.
+     *
+     * @return los textos, sin contar null
+     */
+    public int tamanio() {
+        return cantidad - 1;
+    }
+}
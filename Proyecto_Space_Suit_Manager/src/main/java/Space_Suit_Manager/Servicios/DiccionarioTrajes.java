@@ -0,0 +1,75 @@
+package Space_Suit_Manager.Servicios;
+
+/**
+ * Diccionarios de los atributos categóricos de los trajes.
+ *
+ * Tiene un {@link DiccionarioTexto} por cada {@link AtributoCategorico}, de modo
+ * que cada talla, terreno, simulador o material distinto se guarda una sola vez y
+ * los trajes solo guardan su código. Lo usan {@link AlmacenColumnarTrajes} en
+ * memoria y {@link CodecTraje} en el archivo de datos.
+ *
+ * Igual que {@link DiccionarioTexto}, agregar valores no es seguro para uso
+ * concurrente y leerlos sí.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see AtributoCategorico
+ */
+public class DiccionarioTrajes {
+
+    /** Un diccionario por atributo, en el orden de {@link AtributoCategorico}. */
+    private final DiccionarioTexto[] diccionarios = new DiccionarioTexto[AtributoCategorico.values().length];
+
+    /**
+     * Crea los diccionarios vacíos.
+     */
+    public DiccionarioTrajes() {
+        for (int i = 0; i < diccionarios.length; i++) {
+            diccionarios[i] = new DiccionarioTexto();
+        }
+    }
+
+    /**
+     * Retorna el diccionario de un atributo.
+     *
+     * @param atributo el atributo
+     * @return su diccionario
+     */
+    public DiccionarioTexto de(AtributoCategorico atributo) {
+        return diccionarios[atributo.ordinal()];
+    }
+
+    /**
+     * Retorna el código de un valor, agregándolo si todavía no está.
+     *
+     * @param atributo el atributo
+     * @param valor el valor, puede ser null
+     * @return su código
+     */
+    public int codificar(AtributoCategorico atributo, String valor) {
+        return diccionarios[atributo.ordinal()].codificar(valor);
+    }
+
+    /**
+     * Retorna el código de un valor sin agregarlo.
+     *
+     * @param atributo el atributo
+     * @param valor el valor, puede ser null
+     * @return su código, o {@link DiccionarioTexto#AUSENTE} si el valor no está
+     */
+    public int codigo(AtributoCategorico atributo, String valor) {
+        return diccionarios[atributo.ordinal()].codigo(valor);
+    }
+
+    /**
+     * Retorna el valor de un código.
+     *
+     * @param atributo el atributo
+     * @param codigo un código entregado por {@link #codificar(AtributoCategorico, String)}
+     * @return el valor, o null para {@link DiccionarioTexto#NULO}
+     */
+    public String valor(AtributoCategorico atributo, int codigo) {
+        return diccionarios[atributo.ordinal()].valor(codigo);
+    }
+}
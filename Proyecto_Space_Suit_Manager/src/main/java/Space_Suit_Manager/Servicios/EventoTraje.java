@@ -0,0 +1,142 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cambio en la colección de trajes de un servicio.
+ *
+ * Los servicios publican un evento por cada operación que modifica la colección,
+ * en el mismo orden en que se aplican. {@link Tipo#REINICIO} indica que el contenido
+ * se reemplazó por completo (por ejemplo, al cargar un archivo) e incluye el
+ * contenido nuevo, de modo que el oyente no necesita volver a consultar el servicio.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see OyenteTrajes
+ * @see NotificadorTrajes
+ */
+public final class EventoTraje {
+
+    /** Tipos de cambio. */
+    public enum Tipo {
+        /** Se agregó un traje nuevo. */
+        AGREGADO,
+        /** Se reemplazó un traje existente, posiblemente con otro identificador. */
+        ACTUALIZADO,
+        /** Se eliminó un traje. */
+        ELIMINADO,
+        /** Se reemplazó todo el contenido. */
+        REINICIO
+    }
+
+    /** Tipo de cambio. */
+    private final Tipo tipo;
+
+    /** Identificador afectado: el del traje agregado, el anterior del actualizado o el del eliminado. */
+    private final String id;
+
+    /** Traje agregado o nuevo traje del actualizado; null en los demás casos. */
+    private final Traje_Espacial traje;
+
+    /** Contenido nuevo completo en un reinicio; vacío en los demás casos. */
+    private final List<Traje_Espacial> contenido;
+
+    private EventoTraje(Tipo tipo, String id, Traje_Espacial traje, List<Traje_Espacial> contenido) {
+        this.tipo = tipo;
+        this.id = id;
+        this.traje = traje;
+        this.contenido = contenido;
+    }
+
+    /**
+     * Crea el evento de un traje agregado.
+     *
+     * @param t el traje agregado
+     * @return el evento
+     */
+    public static EventoTraje agregado(Traje_Espacial t) {
+        return new EventoTraje(Tipo.AGREGADO, t.getIdTraje(), t, Collections.emptyList());
+    }
+
+    /**
+     * Crea el evento de un traje reemplazado.
+     *
+     * @param idAnterior el identificador del traje reemplazado
+     * @param t el nuevo traje
+     * @return el evento
+     */
+    public static EventoTraje actualizado(String idAnterior, Traje_Espacial t) {
+        return new EventoTraje(Tipo.ACTUALIZADO, idAnterior, t, Collections.emptyList());
+    }
+
+    /**
+     * Crea el evento de un traje eliminado.
+     *
+     * @param id el identificador del traje eliminado
+     * @return el evento
+     */
+    public static EventoTraje eliminado(String id) {
+        return new EventoTraje(Tipo.ELIMINADO, id, null, Collections.emptyList());
+    }
+
+    /**
+     * Crea el evento de un reemplazo completo del contenido.
+     *
+     * El contenido puede ser una vista perezosa, como la de un archivo mapeado,
+     * que decodifica cada traje al accederlo.
+     *
+     * @param contenido el contenido nuevo, en orden; no debe modificarse después
+     * @return el evento
+     */
+    public static EventoTraje reinicio(List<Traje_Espacial> contenido) {
+        return new EventoTraje(Tipo.REINICIO, null, null, Collections.unmodifiableList(contenido));
+    }
+
+    /**
+     * Retorna el tipo de cambio.
+     *
+     * @return el tipo
+     */
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Retorna el identificador afectado: el del traje agregado, el anterior del
+     * traje actualizado o el del traje eliminado.
+     *
+     * @return el identificador, o null en un reinicio
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retorna el traje agregado o el nuevo traje de una actualización.
+     *
+     * @return el traje, o null si el evento no lo incluye
+     */
+    public Traje_Espacial getTraje() {
+        return traje;
+    }
+
+    /**
+     * Retorna el contenido completo después de un reinicio.
+     *
+     * @return la lista de solo lectura con el contenido nuevo, vacía si no es un reinicio
+     */
+    public List<Traje_Espacial> getContenido() {
+        return contenido;
+    }
+
+    @Override
+    public String toString() {
+        return (tipo == Tipo.REINICIO)
+                ? "EventoTraje{" + tipo + ", " + contenido.size() + " trajes}"
+                : "EventoTraje{" + tipo + ", " + id + "}";
+    }
+}
@@ -0,0 +1,286 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.TrajeEntrenamiento;
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Exporta el inventario de trajes a CSV o a JSON por líneas.
+ *
+ * Los trajes se obtienen con {@link OperacionArchivo#cursor()} y se escriben uno
+ * por uno en un canal de archivo con buffer. En los servicios que leen por lotes,
+ * como {@link ImplementacionOperacionTraje}, el bloqueo del servicio se toma solo
+ * mientras se copia cada lote y nunca durante la escritura al disco, así que las
+ * operaciones CRUD y la tabla siguen atendiéndose durante una exportación larga;
+ * tampoco se arma una lista con toda la flota. Se incluyen los campos propios de
+ * {@link TrajeExploracion} y {@link TrajeEntrenamiento}.
+ *
+ * Columnas del CSV (las que no aplican al tipo de traje quedan vacías):
+ * <pre>
+ *   tipo,id,talla,peso,fecha,tipoTerreno,nivelPresion,tipoSimulador,material
+ * </pre>
+ * En JSON por líneas cada traje es un objeto en su propia línea, solo con los
+ * campos de su tipo.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImportadorCsvTrajes
+ */
+public final class ExportadorTrajes {
+
+    /** Formatos de exportación. */
+    public enum Formato {
+        /** Valores separados por comas, con encabezado. */
+        CSV,
+        /** Un objeto JSON por línea. */
+        JSONL
+    }
+
+    /** Tamaño del buffer de escritura en caracteres. */
+    private static final int TAMANIO_BUFFER = 1 << 16;
+
+    /** Cada cuántos trajes se informa el avance. */
+    private static final int INTERVALO_PROGRESO = 4096;
+
+    /** Encabezado del CSV. */
+    static final String ENCABEZADO_CSV =
+            "tipo,id,talla,peso,fecha,tipoTerreno,nivelPresion,tipoSimulador,material";
+
+    private ExportadorTrajes() {
+    }
+
+    /**
+     * Exporta todos los trajes del servicio al archivo indicado.
+     *
+     * Si se cancela o falla, el archivo a medio escribir se elimina.
+     *
+     * @param servicio el servicio de trajes
+     * @param destino el archivo a escribir; se reemplaza si existe
+     * @param formato el formato de salida
+     * @param progreso receptor del avance (el total no se conoce de antemano)
+     * @return el resultado, con el rendimiento en registros por segundo
+     * @throws IOException si el archivo no puede escribirse
+     * @throws CancellationException si el receptor pidió cancelar
+     */
+    public static ResultadoExportacion exportar(OperacionArchivo servicio, File destino, Formato formato,
+                                                ProgresoOperacion progreso) throws IOException {
+        long t0 = System.nanoTime();
+        long registros = 0;
+
+        try (FileChannel canal = FileChannel.open(destino.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Writer salida = new BufferedWriter(Channels.newWriter(canal, StandardCharsets.UTF_8), TAMANIO_BUFFER)) {
+
+            if (formato == Formato.CSV) {
+                salida.write(ENCABEZADO_CSV);
+                salida.write('\n');
+            }
+
+            StringBuilder linea = new StringBuilder(160);
+            for (Iterator<Traje_Espacial> cursor = servicio.cursor(); cursor.hasNext(); ) {
+                Traje_Espacial t = cursor.next();
+                linea.setLength(0);
+                if (formato == Formato.CSV) escribirCsv(linea, t);
+                else escribirJson(linea, t);
+                linea.append('\n');
+                salida.append(linea);
+
+                if ((++registros % INTERVALO_PROGRESO) == 0) {
+                    progreso.actualizar(registros, -1);
+                    if (progreso.cancelado()) throw new CancellationException();
+                }
+            }
+            salida.flush();
+            progreso.actualizar(registros, registros);
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(destino.toPath());
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(destino.toPath());
+            throw e;
+        }
+
+        return new ResultadoExportacion(registros, destino.length(), System.nanoTime() - t0);
+    }
+
+    // ===========================================================
+    //  CSV
+    // ===========================================================
+
+    static void escribirCsv(StringBuilder sb, Traje_Espacial t) {
+        sb.append(tipo(t)).append(',');
+        campoCsv(sb, t.getIdTraje()).append(',');
+        campoCsv(sb, t.getTalla()).append(',');
+        sb.append(t.getPesoSoportado()).append(',');
+        campoCsv(sb, t.getFechaInspeccion()).append(',');
+
+        if (t instanceof TrajeExploracion) {
+            TrajeExploracion x = (TrajeExploracion) t;
+            campoCsv(sb, x.getTipoTerreno()).append(',');
+            sb.append(x.getNivelPresion()).append(",,");
+        } else if (t instanceof TrajeEntrenamiento) {
+            TrajeEntrenamiento x = (TrajeEntrenamiento) t;
+            sb.append(",,");
+            campoCsv(sb, x.getTipoSimulador()).append(',');
+            campoCsv(sb, x.getMaterial());
+        } else {
+            sb.append(",,,");
+        }
+    }
+
+    /** Agrega un campo de texto, entre comillas solo si lo necesita. */
+    private static StringBuilder campoCsv(StringBuilder sb, String valor) {
+        if (valor == null) return sb;
+
+        boolean comillas = false;
+        for (int i = 0; i < valor.length() && !comillas; i++) {
+            char c = valor.charAt(i);
+            comillas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!comillas) return sb.append(valor);
+
+        sb.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"') sb.append('"');
+            sb.append(c);
+        }
+        return sb.append('"');
+    }
+
+    // ===========================================================
+    //  JSON POR LÍNEAS
+    // ===========================================================
+
+    static void escribirJson(StringBuilder sb, Traje_Espacial t) {
+        sb.append("{\"tipo\":\"").append(tipo(t)).append('"');
+        campoJson(sb, "id", t.getIdTraje());
+        campoJson(sb, "talla", t.getTalla());
+        numeroJson(sb, "peso", t.getPesoSoportado());
+        campoJson(sb, "fecha", t.getFechaInspeccion());
+
+        if (t instanceof TrajeExploracion) {
+            TrajeExploracion x = (TrajeExploracion) t;
+            campoJson(sb, "tipoTerreno", x.getTipoTerreno());
+            numeroJson(sb, "nivelPresion", x.getNivelPresion());
+        } else if (t instanceof TrajeEntrenamiento) {
+            TrajeEntrenamiento x = (TrajeEntrenamiento) t;
+            campoJson(sb, "tipoSimulador", x.getTipoSimulador());
+            campoJson(sb, "material", x.getMaterial());
+        }
+        sb.append('}');
+    }
+
+    private static void campoJson(StringBuilder sb, String nombre, String valor) {
+        sb.append(",\"").append(nombre).append("\":");
+        if (valor == null) {
+            sb.append("null");
+            return;
+        }
+
+        sb.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static void numeroJson(StringBuilder sb, String nombre, double valor) {
+        sb.append(",\"").append(nombre).append("\":");
+        // JSON no admite NaN ni infinitos
+        if (Double.isNaN(valor) || Double.isInfinite(valor)) sb.append("null");
+        else sb.append(valor);
+    }
+
+    private static String tipo(Traje_Espacial t) {
+        if (t instanceof TrajeExploracion) return "exploracion";
+        if (t instanceof TrajeEntrenamiento) return "entrenamiento";
+        return "base";
+    }
+
+    // ===========================================================
+    //  RESULTADO
+    // ===========================================================
+
+    /**
+     * Resultado de una exportación.
+     */
+    public static final class ResultadoExportacion {
+
+        /** Trajes escritos. */
+        private final long registros;
+
+        /** Tamaño del archivo escrito. */
+        private final long bytes;
+
+        /** Duración de la exportación. */
+        private final long nanos;
+
+        ResultadoExportacion(long registros, long bytes, long nanos) {
+            this.registros = registros;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        /** @return los trajes escritos */
+        public long getRegistros() {
+            return registros;
+        }
+
+        /** @return el tamaño del archivo en bytes */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /** @return la duración en milisegundos */
+        public long getMillis() {
+            return nanos / 1_000_000;
+        }
+
+        /**
+         * Retorna el rendimiento de la exportación.
+         *
+         * @return los registros escritos por segundo
+         */
+        public double getRegistrosPorSegundo() {
+            return (nanos == 0) ? 0 : registros * 1e9 / nanos;
+        }
+
+        /**
+         * Retorna un resumen de una línea para la barra de estado.
+         *
+         * @return el resumen
+         */
+        public String resumen() {
+            return String.format("%d trajes exportados (%d bytes) en %d ms: %.0f registros/s",
+                    registros, bytes, getMillis(), getRegistrosPorSegundo());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package Space_Suit_Manager.Servicios;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias en nanosegundos, seguro para registrar desde varios hilos.
+ *
+ * Los valores se agrupan en intervalos log-lineales: cada potencia de dos se divide
+ * en {@link #SUBINTERVALOS} partes iguales, así que un percentil se informa con un
+ * error relativo de como mucho 1/16 (6,25 %) en todo el rango, desde nanosegundos
+ * hasta horas, con un arreglo fijo de {@link #INTERVALOS} contadores. Registrar un
+ * valor cuesta un cálculo de bits y un incremento atómico, sin bloqueos ni
+ * asignación de memoria.
+ *
+ * El máximo, la cuenta y la suma se llevan aparte y son exactos.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see MetricasOperaciones
+ */
+public final class HistogramaLatencia {
+
+    /** Bits de subdivisión de cada potencia de dos. */
+    private static final int BITS_SUBINTERVALO = 4;
+
+    /** Subintervalos por potencia de dos. */
+    static final int SUBINTERVALOS = 1 << BITS_SUBINTERVALO;
+
+    /** Cantidad de intervalos; cubre cualquier long no negativo. */
+    static final int INTERVALOS = (64 - BITS_SUBINTERVALO) * SUBINTERVALOS;
+
+    /** Cantidad de valores en cada intervalo. */
+    private final AtomicLongArray conteos = new AtomicLongArray(INTERVALOS);
+
+    private final LongAdder cuenta = new LongAdder();
+    private final LongAdder suma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra una latencia.
+     *
+     * @param nanos la duración en nanosegundos; los valores negativos cuentan como cero
+     */
+    public void registrar(long nanos) {
+        if (nanos < 0) nanos = 0;
+        conteos.incrementAndGet(intervalo(nanos));
+        cuenta.increment();
+        suma.add(nanos);
+        maximo.accumulate(nanos);
+    }
+
+    /**
+     * Retorna el valor bajo el cual está la fracción {@code p} de las latencias.
+     *
+     * Se informa el límite superior del intervalo donde cae el percentil, acotado
+     * por el máximo registrado.
+     *
+     * @param p la fracción, entre 0 y 1 (0.5 para la mediana, 0.99 para p99)
+     * @return la latencia en nanosegundos, o 0 si no hay registros
+     */
+    public long percentil(double p) {
+        long[] copia = new long[INTERVALOS];
+        long total = 0;
+        for (int i = 0; i < INTERVALOS; i++) {
+            copia[i] = conteos.get(i);
+            total += copia[i];
+        }
+        if (total == 0) return 0;
+
+        long rango = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, p)) * total));
+        long acumulado = 0;
+        for (int i = 0; i < INTERVALOS; i++) {
+            acumulado += copia[i];
+            if (acumulado >= rango) return Math.min(limiteSuperior(i), getMaximo());
+        }
+        return getMaximo();
+    }
+
+    /** @return la cantidad de latencias registradas */
+    public long getCuenta() {
+        return cuenta.sum();
+    }
+
+    /** @return la latencia máxima registrada en nanosegundos */
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    /** @return la latencia media en nanosegundos, o 0 si no hay registros */
+    public double getMedia() {
+        long n = cuenta.sum();
+        return (n == 0) ? 0 : (double) suma.sum() / n;
+    }
+
+    /**
+     * Retorna la cantidad de latencias del intervalo indicado, para volcar la
+     * distribución completa.
+     *
+     * @param i el intervalo, entre 0 y {@link #INTERVALOS} - 1
+     * @return la cantidad de latencias en el intervalo
+     */
+    long conteo(int i) {
+        return conteos.get(i);
+    }
+
+    /**
+     * Pone el histograma en cero.
+     *
+     * Los registros que ocurren durante el reinicio pueden conservarse o perderse.
+     */
+    public void reiniciar() {
+        for (int i = 0; i < INTERVALOS; i++) {
+            conteos.set(i, 0);
+        }
+        cuenta.reset();
+        suma.reset();
+        maximo.reset();
+    }
+
+    // ===========================================================
+    //  INTERVALOS
+    // ===========================================================
+
+    /** Intervalo donde cae un valor no negativo. */
+    static int intervalo(long valor) {
+        if (valor < SUBINTERVALOS) return (int) valor;
+        int exponente = 63 - Long.numberOfLeadingZeros(valor);
+        int desplazamiento = exponente - BITS_SUBINTERVALO;
+        int sub = (int) (valor >>> desplazamiento) & (SUBINTERVALOS - 1);
+        return (desplazamiento + 1) * SUBINTERVALOS + sub;
+    }
+
+    /** Mayor valor que cae en el intervalo indicado. */
+    static long limiteSuperior(int intervalo) {
+        if (intervalo < SUBINTERVALOS) return intervalo;
+        int desplazamiento = intervalo / SUBINTERVALOS - 1;
+        long sub = intervalo % SUBINTERVALOS;
+        long inferior = (SUBINTERVALOS + sub) << desplazamiento;
+        return inferior + (1L << desplazamiento) - 1;
+    }
+}
@@ -3,83 +3,341 @@ package Space_Suit_Manager.Servicios;
 import Space_Suit_Manager.modelo.Traje_Espacial;
 
 import java.io.*;
-import java.lang.reflect.Field;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-public class ImplementacionOperacionTraje implements OperacionArchivo {
+public class ImplementacionOperacionTraje implements OperacionArchivo, NotificadorTrajes {
 
-    private List<Traje_Espacial> trajes = new ArrayList<>();
+    /**
+     * Fábricas de los índices secundarios: cada repositorio, incluido el que arma
+     * una carga, recibe un índice nuevo de cada una.
+     */
+    private final List<Supplier<? extends IndiceSecundario>> fabricasIndices = new CopyOnWriteArrayList<>(List.of(
+            () -> new IndiceCategorico(AtributoCategorico.TALLA),
+            () -> new IndiceCategorico(AtributoCategorico.TIPO_TERRENO),
+            () -> new IndiceNumerico(AtributoNumerico.PESO_SOPORTADO),
+            () -> new IndiceNumerico(AtributoNumerico.NIVEL_PRESION)));
+
+    /** Repositorio indexado por ID que conserva el orden de inserción. */
+    private RepositorioTrajes repositorio = indexar(new RepositorioTrajes());
+
+    /** Diario de cambios; null hasta que se carga o se guarda una instantánea. */
+    private DiarioTrajes diario;
+
+    /** Directorio y nombre del archivo de datos al que pertenece el diario activo. */
+    private String rutaDatos;
+    private String nombreDatos;
+
+    /** Momento (epoch ms) de la última instantánea escrita o cargada. */
+    private long ultimaInstantanea = System.currentTimeMillis();
+
+    /** Serializa la escritura de instantáneas entre serializar() y el compactador. */
+    private final Object bloqueoInstantanea = new Object();
+
+    /** Tiempos de carga y de instantánea. */
+    private final MetricasPersistencia metricas = new MetricasPersistencia();
+
+    /** Oyentes de los cambios en la colección. */
+    private final PublicadorEventosTraje eventos = new PublicadorEventosTraje();
 
     // ===========================================================
     //  MÉTODOS CRUD CORRECTOS
     // ===========================================================
+    //  Cada cambio se valida, se escribe en el diario y solo entonces
+    //  se aplica en memoria: si el diario falla, el método lanza
+    //  UncheckedIOException y la flota queda como estaba, así que la
+    //  memoria y el diario nunca divergen.
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException si el cambio no pudo registrarse en el diario;
+     *         en ese caso el traje no se guarda
+     */
     @Override
-    public boolean guardar(Traje_Espacial t) {
+    public synchronized boolean guardar(Traje_Espacial t) {
         if (t == null) return false;
 
         String id = obtenerId(t);
         if (id == null || id.isBlank()) return false;
 
-        // evitar duplicados
-        if (buscar(id) != null) return false;
+        // evitar duplicados (O(1) esperado)
+        if (repositorio.contiene(id)) return false;
 
-        trajes.add(t);
+        registrar(d -> d.registrarGuardar(t));
+        repositorio.agregar(id, t);
+        eventos.publicar(EventoTraje.agregado(t));
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Los duplicados se detectan contra el índice por ID en O(1) por traje, y los
+     * trajes aceptados se agregan al diario con una sola escritura.
+     *
+     * @throws UncheckedIOException si el lote no pudo registrarse en el diario; en
+     *         ese caso no se guarda ningún traje del lote
+     */
+    @Override
+    public synchronized boolean[] guardarLote(List<Traje_Espacial> trajes) {
+        boolean[] guardados = new boolean[trajes.size()];
+        List<Traje_Espacial> aceptados = new ArrayList<>(trajes.size());
+        Set<String> claves = new HashSet<>();
+
+        for (int i = 0; i < guardados.length; i++) {
+            Traje_Espacial t = trajes.get(i);
+            String id = obtenerId(t);
+            if (id == null || id.isBlank()) continue;
+            if (!repositorio.contiene(id) && claves.add(RepositorioTrajes.normalizar(id))) {
+                guardados[i] = true;
+                aceptados.add(t);
+            }
+        }
+
+        registrar(d -> d.registrarGuardarLote(aceptados));
+        for (Traje_Espacial t : aceptados) {
+            repositorio.agregar(obtenerId(t), t);
+            eventos.publicar(EventoTraje.agregado(t));
+        }
+        return guardados;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException si el cambio no pudo registrarse en el diario;
+     *         en ese caso el traje no se modifica
+     */
     @Override
-    public boolean modificar(String id, Traje_Espacial nuevoTraje) {
+    public synchronized boolean modificar(String id, Traje_Espacial nuevoTraje) {
         if (id == null || nuevoTraje == null) return false;
 
-        Traje_Espacial encontrado = buscar(id);
-        if (encontrado == null) return false;
+        String nuevoId = obtenerId(nuevoTraje);
+        if (nuevoId == null || nuevoId.isBlank()) return false;
 
-        trajes.remove(encontrado);
-        trajes.add(nuevoTraje);
+        // mismas condiciones que RepositorioTrajes.reemplazar
+        if (!repositorio.contiene(id)) return false;
+        if (!RepositorioTrajes.normalizar(nuevoId).equals(RepositorioTrajes.normalizar(id))
+                && repositorio.contiene(nuevoId)) return false;
 
+        registrar(d -> d.registrarModificar(id, nuevoTraje));
+        repositorio.reemplazar(id, nuevoId, nuevoTraje);
+        eventos.publicar(EventoTraje.actualizado(id, nuevoTraje));
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException si el cambio no pudo registrarse en el diario;
+     *         en ese caso el traje no se elimina
+     */
     @Override
-    public boolean eliminar(String id) {
-        Traje_Espacial encontrado = buscar(id);
-        if (encontrado == null) return false;
+    public synchronized boolean eliminar(String id) {
+        if (id == null || !repositorio.contiene(id)) return false;
 
-        trajes.remove(encontrado);
+        registrar(d -> d.registrarEliminar(id));
+        repositorio.eliminar(id);
+        eventos.publicar(EventoTraje.eliminado(id));
         return true;
     }
 
     @Override
-    public Traje_Espacial buscar(String id) {
-        if (id == null) return null;
+    public synchronized Traje_Espacial buscar(String id) {
+        return repositorio.buscar(id);
+    }
 
-        for (Traje_Espacial t : trajes) {
-            String actual = obtenerId(t);
-            if (id.equalsIgnoreCase(actual)) {
-                return t;
-            }
-        }
-        return null;
+    @Override
+    public synchronized List<Traje_Espacial> listar() {
+        return repositorio.listar(); // COPIA SEGURA
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * La página se ubica en el orden de inserción del repositorio en O(log n).
+     */
+    @Override
+    public synchronized List<Traje_Espacial> listar(int desde, int cantidad) {
+        return repositorio.listar(desde, cantidad);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * El repositorio mantiene la flota ordenada por cada criterio en cada cambio: la
+     * página se ubica en O(log n), sin ordenar nada.
+     */
+    @Override
+    public synchronized List<Traje_Espacial> listarOrdenado(OrdenTrajes criterio, boolean descendente,
+                                                          int desde, int cantidad) {
+        return repositorio.listarOrdenado(criterio, descendente, desde, cantidad);
+    }
+
+    @Override
+    public synchronized int tamanio() {
+        return repositorio.tamanio();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Los trajes se entregan directamente desde el repositorio, bajo el bloqueo del
+     * servicio: las operaciones CRUD esperan a que termine el recorrido.
+     */
+    @Override
+    public synchronized void recorrer(Consumer<? super Traje_Espacial> accion) {
+        repositorio.recorrer(accion);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Lee el repositorio por lotes, tomando el bloqueo del servicio solo mientras
+     * copia cada uno; la acción sobre cada traje se ejecuta sin el bloqueo.
+     *
+     * @see RecorridoTrajes
+     */
+    @Override
+    public synchronized Spliterator<Traje_Espacial> recorrido() {
+        return repositorio.recorrido(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Usa el índice por fecha del repositorio, que se mantiene en cada guardar,
+     * modificar y eliminar: el costo depende de la cantidad de trajes retornados.
+     */
+    @Override
+    public synchronized List<Traje_Espacial> buscarPorInspeccion(LocalDate desde, LocalDate hasta) {
+        return repositorio.inspeccionadosEntre(desde, hasta);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Usa la vista por identificador del repositorio: el costo es O(log n + limite).
+     */
+    @Override
+    public synchronized List<Traje_Espacial> buscarPorPrefijo(String prefijo, int limite) {
+        return repositorio.buscarPorPrefijo(prefijo, limite);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * El repositorio elige la condición más selectiva entre las que resuelven sus
+     * índices secundarios (por defecto talla, tipo de terreno, peso soportado y
+     * nivel de presión) y verifica las demás solo sobre sus candidatos.
+     */
+    @Override
+    public synchronized ResultadoConsulta consultar(ConsultaTrajes consulta) {
+        return repositorio.consultar(consulta);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Los pocos candidatos de un índice selectivo se ordenan; si no, se recorre la
+     * vista ordenada del repositorio, así que nunca se ordena la flota completa.
+     */
+    @Override
+    public synchronized ResultadoConsulta consultar(ConsultaTrajes consulta, OrdenTrajes criterio, boolean descendente) {
+        return repositorio.consultar(consulta, criterio, descendente);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * No recorre la flota: el repositorio mantiene las cantidades en cada cambio,
+     * así que el costo depende solo de la cantidad de valores distintos.
+     */
+    @Override
+    public synchronized ReporteFlota reporte(LocalDate fecha, int vigenciaDias) {
+        return repositorio.reporte(fecha, vigenciaDias);
+    }
+
+    /**
+     * Agrega un índice secundario, que se llena con los trajes actuales y se
+     * mantiene en cada cambio y en cada carga posterior.
+     * 
+     * @param fabrica crea un índice vacío; se llama otra vez en cada carga
+     */
+    public synchronized void agregarIndice(Supplier<? extends IndiceSecundario> fabrica) {
+        repositorio.registrarIndice(fabrica.get());
+        fabricasIndices.add(fabrica);
+    }
+
+    // ===========================================================
+    //  NOTIFICACIÓN DE CAMBIOS
+    // ===========================================================
+    //  Los eventos se publican bajo el bloqueo del servicio, en el
+    //  mismo orden en que se aplican los cambios.
+
+    @Override
+    public void agregarOyente(OyenteTrajes oyente) {
+        eventos.agregar(oyente);
+    }
+
+    @Override
+    public void quitarOyente(OyenteTrajes oyente) {
+        eventos.quitar(oyente);
     }
 
     @Override
-    public List<Traje_Espacial> listar() {
-        return new ArrayList<>(trajes); // COPIA SEGURA
+    public String getUltimoErrorOyente() {
+        return eventos.getUltimoError();
     }
 
     // ===========================================================
-    //  SERIALIZAR / DESERIALIZAR (FUNCIONANDO)
+    //  SERIALIZAR / DESERIALIZAR (INSTANTÁNEA + DIARIO)
     // ===========================================================
+    //  serializar() escribe una instantánea completa (formato de
+    //  CodecTraje) y vacía el diario.
+    //  Entre instantáneas, cada guardar/modificar/eliminar agrega un
+    //  registro corto al diario (nombreArchivo + ".log"), y
+    //  deserializar() lo reproduce sobre la última instantánea.
+    //
+    //  Orden de bloqueo: bloqueoInstantanea y luego this. Los métodos
+    //  CRUD solo toman this, así que nunca esperan a que termine de
+    //  escribirse una instantánea.
 
     @Override
     public String serializar(String ruta, String nombreArchivo) {
-        try (ObjectOutputStream oos =
-                     new ObjectOutputStream(new FileOutputStream(ruta + "/" + nombreArchivo))) {
+        return serializar(ruta, nombreArchivo, ProgresoOperacion.NINGUNO);
+    }
 
-            oos.writeObject(trajes);
+    /**
+     * Serializa la colección de trajes informando el avance.
+     *
+     * Pensado para ejecutarse fuera del hilo de la interfaz: solo la copia de la
+     * colección ocurre bajo el bloqueo del servicio.
+     *
+     * @param ruta la ruta del directorio donde se guardará el archivo
+     * @param nombreArchivo el nombre del archivo
+     * @param progreso receptor del avance; si pide cancelar, el archivo anterior se conserva
+     * @return un mensaje indicando el resultado de la operación
+     */
+    @Override
+    public String serializar(String ruta, String nombreArchivo, ProgresoOperacion progreso) {
+        try {
+            escribirInstantanea(ruta, nombreArchivo, progreso);
             return "Datos guardados correctamente.";
+        } catch (CancellationException e) {
+            return "Guardado cancelado.";
         } catch (Exception e) {
             return "Error al serializar: " + e.getMessage();
         }
@@ -87,45 +345,254 @@ public class ImplementacionOperacionTraje implements OperacionArchivo {
 
     @Override
     public List<Traje_Espacial> deserializar(String ruta, String nombreArchivo) {
-        try (ObjectInputStream ois =
-                     new ObjectInputStream(new FileInputStream(ruta + "/" + nombreArchivo))) {
+        return deserializar(ruta, nombreArchivo, ProgresoOperacion.NINGUNO);
+    }
+
+    /**
+     * Deserializa la colección de trajes informando el avance.
+     *
+     * La lectura de la instantánea y del diario se hace sin tomar el bloqueo del
+     * servicio, de modo que puede ejecutarse en segundo plano mientras la interfaz
+     * sigue atendiendo operaciones CRUD. Al final, bajo el bloqueo, se reproducen
+     * los registros que llegaron al diario durante la lectura y se reemplaza el
+     * repositorio. Si se cancela, el estado del servicio no cambia.
+     *
+     * @param ruta la ruta del directorio donde se encuentra el archivo
+     * @param nombreArchivo el nombre del archivo
+     * @param progreso receptor del avance
+     * @return la lista de trajes cargados, o null si hubo error o se canceló
+     */
+    @Override
+    public List<Traje_Espacial> deserializar(String ruta, String nombreArchivo, ProgresoOperacion progreso) {
+        File origen = new File(ruta, nombreArchivo);
+        File archivoDiario = DiarioTrajes.archivoPara(ruta, nombreArchivo);
+        File enCompactacion = DiarioTrajes.archivoEnCompactacion(archivoDiario);
+
+        synchronized (bloqueoInstantanea) {
+            try {
+                RepositorioTrajes cargado = new RepositorioTrajes();
+
+                // sin instantánea pero con diario: se parte de una flota vacía
+                long t0 = System.nanoTime();
+                boolean migrar = false;
+                if (origen.exists() || (!archivoDiario.exists() && !enCompactacion.exists())) {
+                    CodecTraje.Lectura lectura = CodecTraje.leerArchivo(origen, progreso);
+                    cargado.cargar(lectura.getTrajes(), this::obtenerId);
+                    migrar = lectura.isFormatoAntiguo();
+                }
+                // los índices se llenan de una vez, con el repositorio ya cargado
+                indexar(cargado);
+
+                // un diario en compactación es anterior al diario activo
+                long t1 = System.nanoTime();
+                long registros = DiarioTrajes.reproducir(enCompactacion, cargado, 0, true).getRegistros();
+                DiarioTrajes.Reproduccion leido = DiarioTrajes.reproducir(archivoDiario, cargado, 0, false);
+                if (progreso.cancelado()) throw new CancellationException();
+
+                synchronized (this) {
+                    // registros agregados al diario mientras se leía sin bloqueo
+                    DiarioTrajes.Reproduccion cola =
+                            DiarioTrajes.reproducir(archivoDiario, cargado, leido.getPosicion(), true);
+                    registros += leido.getRegistros() + cola.getRegistros();
+                    long t2 = System.nanoTime();
 
-            trajes = (List<Traje_Espacial>) ois.readObject();
-            return trajes;
+                    indexar(cargado); // índices agregados durante la lectura
+                    repositorio = cargado;
+                    adjuntarDiario(ruta, nombreArchivo, registros);
+                    ultimaInstantanea = System.currentTimeMillis();
+                    metricas.registrarCarga((t1 - t0) / 1_000_000, (t2 - t1) / 1_000_000, registros);
+                    if (eventos.hayOyentes()) eventos.publicar(EventoTraje.reinicio(repositorio.listar()));
+                }
+
+                // migración única: el archivo antiguo se reescribe en formato binario
+                if (migrar) escribirInstantanea(ruta, nombreArchivo, ProgresoOperacion.NINGUNO);
+                return listar();
+            } catch (CancellationException e) {
+                System.out.println("Carga cancelada.");
+                return null;
+            } catch (Exception e) {
+                System.out.println("Error al deserializar: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Escribe una instantánea del estado actual en el archivo de datos activo y
+     * descarta el diario que queda incorporado en ella.
+     *
+     * Lo invoca {@link CompactadorDiario} en segundo plano. Solo la copia de la
+     * colección y la rotación del diario ocurren bajo el bloqueo del servicio; la
+     * escritura del archivo se hace fuera de él, por lo que las operaciones CRUD
+     * siguen atendiéndose mientras tanto.
+     *
+     * @return un mensaje con el resultado de la compactación
+     */
+    public String compactar() {
+        try {
+            return compactarOFallar();
         } catch (Exception e) {
-            System.out.println("Error al deserializar: " + e.getMessage());
-            return null;
+            return "Error al compactar: " + e.getMessage();
         }
     }
 
-    // ===========================================================
-    //  REFLEXIÓN (NOMBRE DE CAMPOS CORRECTOS)
-    // ===========================================================
+    /**
+     * Igual que {@link #compactar()}, pero propaga el error, para que
+     * {@link CompactadorDiario} pueda distinguirlo de un resultado normal.
+     *
+     * @return un mensaje con el resultado de la compactación
+     * @throws IOException si no se pudo escribir la instantánea
+     */
+    String compactarOFallar() throws IOException {
+        String ruta;
+        String nombreArchivo;
+        synchronized (this) {
+            if (diario == null) return "No hay diario activo.";
+            ruta = rutaDatos;
+            nombreArchivo = nombreDatos;
+        }
+        escribirInstantanea(ruta, nombreArchivo, ProgresoOperacion.NINGUNO);
+        return "Instantánea escrita en " + new File(ruta, nombreArchivo).getPath();
+    }
+
+    /**
+     * Indica si el diario activo supera alguno de los umbrales de compactación.
+     *
+     * @param configuracion los umbrales a evaluar
+     * @return true si corresponde compactar
+     */
+    public synchronized boolean necesitaCompactar(ConfiguracionCompactacion configuracion) {
+        if (diario == null) return false;
+        return configuracion.superaUmbral(diario.getBytes(), diario.getRegistros(),
+                System.currentTimeMillis() - ultimaInstantanea);
+    }
+
+    /**
+     * Retorna los tiempos de la última carga y de la última instantánea.
+     *
+     * @return las métricas de persistencia
+     */
+    public MetricasPersistencia getMetricasPersistencia() {
+        return metricas;
+    }
 
-    private Object leerCampo(Traje_Espacial t, String nombre) {
+    private void escribirInstantanea(String ruta, String nombreArchivo, ProgresoOperacion progreso)
+            throws IOException {
+        File destino = new File(ruta, nombreArchivo);
+        File temporal = new File(ruta, nombreArchivo + ".tmp");
+        File archivoDiario = DiarioTrajes.archivoPara(ruta, nombreArchivo);
+
+        synchronized (bloqueoInstantanea) {
+            List<Traje_Espacial> copia;
+            File retirado;
+            synchronized (this) {
+                copia = repositorio.listar();
+                if (esDiarioActivo(archivoDiario)) {
+                    // los cambios posteriores a la copia van al diario nuevo
+                    retirado = diario.rotar();
+                } else {
+                    adjuntarDiario(ruta, nombreArchivo, 0);
+                    diario.truncar();
+                    retirado = DiarioTrajes.archivoEnCompactacion(archivoDiario);
+                }
+            }
+
+            long t0 = System.nanoTime();
+            try {
+                CodecTraje.escribirArchivo(temporal, copia, progreso);
+            } catch (IOException | RuntimeException e) {
+                // el diario retirado se conserva y se reproducirá en la próxima carga
+                Files.deleteIfExists(temporal.toPath());
+                throw e;
+            }
+            reemplazarArchivo(temporal, destino);
+
+            // la instantánea ya contiene todo lo que había en el diario retirado
+            Files.deleteIfExists(retirado.toPath());
+            long millis = (System.nanoTime() - t0) / 1_000_000;
+
+            synchronized (this) {
+                ultimaInstantanea = System.currentTimeMillis();
+            }
+            metricas.registrarInstantanea(millis, copia.size(), destino.length());
+        }
+    }
+
+    /** Acción que escribe un registro en el diario. */
+    private interface AccionDiario {
+        void ejecutar(DiarioTrajes d) throws IOException;
+    }
+
+    /**
+     * Registra en un repositorio los índices de las fábricas que todavía no tiene.
+     * Las fábricas solo se agregan al final, así que basta comparar cantidades.
+     */
+    private RepositorioTrajes indexar(RepositorioTrajes destino) {
+        for (int i = destino.cantidadIndices(); i < fabricasIndices.size(); i++) {
+            destino.registrarIndice(fabricasIndices.get(i).get());
+        }
+        return destino;
+    }
+
+    /**
+     * Escribe un registro en el diario activo, si lo hay.
+     *
+     * @throws UncheckedIOException si falla la escritura
+     */
+    private void registrar(AccionDiario accion) {
+        if (diario == null) return;
         try {
-            Field f = t.getClass().getDeclaredField(nombre);
-            f.setAccessible(true);
-            return f.get(t);
-        } catch (Exception e) {
-            return null;
+            accion.ejecutar(diario);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo registrar el cambio en el diario: " + e.getMessage(), e);
+        }
+    }
+
+    private boolean esDiarioActivo(File archivoDiario) {
+        return diario != null
+                && diario.getArchivo().getAbsoluteFile().equals(archivoDiario.getAbsoluteFile());
+    }
+
+    private void adjuntarDiario(String ruta, String nombreArchivo, long registrosExistentes) throws IOException {
+        File archivoDiario = DiarioTrajes.archivoPara(ruta, nombreArchivo);
+        if (!esDiarioActivo(archivoDiario)) {
+            if (diario != null) diario.close();
+            diario = new DiarioTrajes(archivoDiario);
+            diario.abrir(registrosExistentes);
         }
+        rutaDatos = ruta;
+        nombreDatos = nombreArchivo;
     }
 
+    private static void reemplazarArchivo(File origen, File destino) throws IOException {
+        try {
+            Files.move(origen.toPath(), destino.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(origen.toPath(), destino.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // ===========================================================
+    //  ACCESO A CAMPOS (GETTERS DIRECTOS, SIN REFLEXIÓN)
+    // ===========================================================
+    //  Los getters de Traje_Espacial se heredan en toda la jerarquía
+    //  (TrajeExploracion, TrajeEntrenamiento), así que la llamada
+    //  virtual se resuelve una sola vez por clase y el JIT la inlinea.
+
     public String obtenerId(Traje_Espacial t) {
-        return (String) leerCampo(t, "idTraje");
+        return (t == null) ? null : t.getIdTraje();
     }
 
     public String leerTalla(Traje_Espacial t) {
-        return (String) leerCampo(t, "talla");
+        return (t == null) ? null : t.getTalla();
     }
 
     public Double leerPeso(Traje_Espacial t) {
-        Object v = leerCampo(t, "pesoSoportado");
-        return (v instanceof Number) ? ((Number) v).doubleValue() : null;
+        return (t == null) ? null : t.getPesoSoportado();
     }
 
     public String leerFecha(Traje_Espacial t) {
-        return (String) leerCampo(t, "fechaInspeccion");
+        return (t == null) ? null : t.getFechaInspeccion();
     }
 }
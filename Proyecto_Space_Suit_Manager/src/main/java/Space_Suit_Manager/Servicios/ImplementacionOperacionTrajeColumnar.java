@@ -0,0 +1,222 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.File;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+/**
+ * Implementación de {@link OperacionArchivo} respaldada por un {@link AlmacenColumnarTrajes}.
+ *
+ * Es un modo de almacenamiento alternativo a {@link ImplementacionOperacionTraje}
+ * para flotas grandes que deben estar completas en el heap: los trajes se guardan
+ * en columnas de tipos primitivos y se entregan como vistas de solo lectura, lo que
+ * reduce varias veces la memoria por traje. Usa el mismo formato de archivo que
+ * {@link ImplementacionOperacionTraje}, sin diario.
+ *
+ * Los trajes retornados por {@link #buscar(String)}, {@link #listar()} y
+ * {@link #recorrer(Consumer)} no pueden modificarse con sus setters; para cambiar
+ * un traje se llama a {@link #modificar(String, Traje_Espacial)} con uno nuevo.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see AlmacenColumnarTrajes
+ */
+public class ImplementacionOperacionTrajeColumnar implements OperacionArchivo, NotificadorTrajes {
+
+    /** Trajes en memoria. */
+    private AlmacenColumnarTrajes almacen = new AlmacenColumnarTrajes();
+
+    /** Oyentes de los cambios en la colección. */
+    private final PublicadorEventosTraje eventos = new PublicadorEventosTraje();
+
+    // ===========================================================
+    //  MÉTODOS CRUD
+    // ===========================================================
+
+    @Override
+    public synchronized boolean guardar(Traje_Espacial t) {
+        if (t == null) return false;
+
+        String id = t.getIdTraje();
+        if (id == null || id.isBlank()) return false;
+        if (!almacen.agregar(t)) return false;
+
+        eventos.publicar(EventoTraje.agregado(t));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean modificar(String id, Traje_Espacial nuevoTraje) {
+        if (id == null || nuevoTraje == null) return false;
+
+        String nuevoId = nuevoTraje.getIdTraje();
+        if (nuevoId == null || nuevoId.isBlank()) return false;
+        if (almacen.reemplazar(id, nuevoTraje) == null) return false;
+
+        eventos.publicar(EventoTraje.actualizado(id, nuevoTraje));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean eliminar(String id) {
+        if (almacen.eliminar(id) == null) return false;
+
+        eventos.publicar(EventoTraje.eliminado(id));
+        return true;
+    }
+
+    @Override
+    public synchronized Traje_Espacial buscar(String id) {
+        return almacen.buscar(id);
+    }
+
+    @Override
+    public synchronized List<Traje_Espacial> listar() {
+        return almacen.listar();
+    }
+
+    @Override
+    public synchronized void recorrer(Consumer<? super Traje_Espacial> accion) {
+        almacen.recorrer(accion);
+    }
+
+    @Override
+    public void agregarOyente(OyenteTrajes oyente) {
+        eventos.agregar(oyente);
+    }
+
+    @Override
+    public void quitarOyente(OyenteTrajes oyente) {
+        eventos.quitar(oyente);
+    }
+
+    @Override
+    public String getUltimoErrorOyente() {
+        return eventos.getUltimoError();
+    }
+
+    /**
+     * Retorna los trajes con un valor dado en un atributo categórico, comparando
+     * códigos enteros en lugar de textos.
+     *
+     * @param atributo el atributo a comparar
+     * @param valor el valor buscado, o null para los trajes sin valor
+     * @return una lista nueva con los trajes, en orden de inserción
+     */
+    public synchronized List<Traje_Espacial> filtrar(AtributoCategorico atributo, String valor) {
+        List<Traje_Espacial> resultado = new ArrayList<>();
+        almacen.recorrerDonde(atributo, valor, resultado::add);
+        return resultado;
+    }
+
+    /**
+     * Cuenta los trajes con un valor dado en un atributo categórico.
+     *
+     * @param atributo el atributo a comparar
+     * @param valor el valor buscado, o null para los trajes sin valor
+     * @return la cantidad de trajes
+     */
+    public synchronized int contar(AtributoCategorico atributo, String valor) {
+        return almacen.contar(atributo, valor);
+    }
+
+    /**
+     * Retorna la cantidad de trajes almacenados.
+     *
+     * @return el número de trajes
+     */
+    public synchronized int tamanio() {
+        return almacen.tamanio();
+    }
+
+    // ===========================================================
+    //  SERIALIZAR / DESERIALIZAR
+    // ===========================================================
+
+    @Override
+    public String serializar(String ruta, String nombreArchivo) {
+        return serializar(ruta, nombreArchivo, ProgresoOperacion.NINGUNO);
+    }
+
+    /**
+     * Serializa la colección de trajes informando el avance.
+     *
+     * Los trajes se escriben directamente desde las columnas a un archivo temporal
+     * que luego reemplaza al anterior; si se cancela, el archivo anterior se conserva.
+     *
+     * @param ruta la ruta del directorio donde se guardará el archivo
+     * @param nombreArchivo el nombre del archivo
+     * @param progreso receptor del avance
+     * @return un mensaje indicando el resultado de la operación
+     */
+    @Override
+    public synchronized String serializar(String ruta, String nombreArchivo, ProgresoOperacion progreso) {
+        File destino = new File(ruta, nombreArchivo);
+        File temporal = new File(ruta, nombreArchivo + ".tmp");
+
+        try {
+            CodecTraje.escribirArchivo(temporal, almacen.coleccion(), progreso);
+            try {
+                Files.move(temporal.toPath(), destino.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal.toPath(), destino.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return "Datos guardados correctamente.";
+        } catch (CancellationException e) {
+            temporal.delete();
+            return "Guardado cancelado.";
+        } catch (Exception e) {
+            temporal.delete();
+            return "Error al serializar: " + e.getMessage();
+        }
+    }
+
+    @Override
+    public List<Traje_Espacial> deserializar(String ruta, String nombreArchivo) {
+        return deserializar(ruta, nombreArchivo, ProgresoOperacion.NINGUNO);
+    }
+
+    /**
+     * Deserializa la colección de trajes informando el avance.
+     *
+     * Cada traje se copia a las columnas a medida que se lee, sin armar antes la
+     * lista de objetos. Si se cancela o falla, el estado del servicio no cambia.
+     *
+     * @param ruta la ruta del directorio donde se encuentra el archivo
+     * @param nombreArchivo el nombre del archivo
+     * @param progreso receptor del avance
+     * @return la lista de trajes cargados, o null si hubo error o se canceló
+     */
+    @Override
+    public synchronized List<Traje_Espacial> deserializar(String ruta, String nombreArchivo,
+                                                          ProgresoOperacion progreso) {
+        try {
+            AlmacenColumnarTrajes cargado = new AlmacenColumnarTrajes();
+            boolean migrar = CodecTraje.recorrerArchivo(new File(ruta, nombreArchivo), progreso, t -> {
+                if (t != null) cargado.agregar(t);
+            });
+
+            almacen = cargado;
+            if (eventos.hayOyentes()) eventos.publicar(EventoTraje.reinicio(almacen.listar()));
+
+            // migración única: el archivo antiguo se reescribe en formato binario
+            if (migrar) serializar(ruta, nombreArchivo);
+            return almacen.listar();
+        } catch (CancellationException e) {
+            System.out.println("Carga cancelada.");
+            return null;
+        } catch (Exception e) {
+            System.out.println("Error al deserializar: " + e.getMessage());
+            return null;
+        }
+    }
+}
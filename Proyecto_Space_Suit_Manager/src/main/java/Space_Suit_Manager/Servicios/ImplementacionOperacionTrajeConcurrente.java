@@ -0,0 +1,460 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.File;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Implementación de {@link OperacionArchivo} para acceso concurrente intenso.
+ *
+ * Es una alternativa a {@link ImplementacionOperacionTraje} (que sincroniza cada
+ * operación con un único bloqueo) pensada para importaciones o guardados en segundo
+ * plano que compiten con la interfaz:
+ * <ul>
+ *   <li>{@link #buscar(String)} no toma ningún bloqueo: consulta un
+ *       {@link ConcurrentHashMap} con la versión vigente de cada traje.</li>
+ *   <li>Las escrituras toman solo el bloqueo de la franja de su identificador (dos
+ *       franjas si {@code modificar} cambia el ID), así que escrituras sobre trajes
+ *       distintos avanzan en paralelo.</li>
+ *   <li>{@link #listar()} retorna una instantánea consistente sin bloquear a los
+ *       escritores (control de concurrencia multiversión).</li>
+ * </ul>
+ *
+ * Cada escritura valida y actualiza el índice por ID bajo su franja y luego se
+ * confirma en una sección muy corta que le asigna el siguiente número de versión y
+ * la hace visible (un secuenciador: solo unas pocas operaciones sobre mapas, sin
+ * esperas dentro). Los trajes se guardan
+ * en un {@link ConcurrentSkipListMap} por orden de inserción, cada uno con la
+ * versión en que se creó y la versión en que dejó de ser vigente. Una lectura fija
+ * la última versión confirmada y recorre el mapa ignorando lo que no existía en esa
+ * versión, por lo que nunca ve una escritura a medias ni un traje duplicado. Las
+ * versiones retiradas se purgan en cuanto ninguna lectura en curso puede verlas.
+ *
+ * Los eventos de cambio se publican en el mismo orden de las versiones.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImplementacionOperacionTraje
+ */
+public class ImplementacionOperacionTrajeConcurrente implements OperacionArchivo, NotificadorTrajes {
+
+    /** Cantidad de franjas de bloqueo (potencia de dos). */
+    private static final int FRANJAS = 64;
+
+    /** Bloqueos de escritura por franja de identificador. */
+    private final ReentrantLock[] franjas = new ReentrantLock[FRANJAS];
+
+    /** Estado actual; se reemplaza completo al deserializar. */
+    private volatile Estado estado = new Estado();
+
+    /** Oyentes de los cambios en la colección. */
+    private final PublicadorEventosTraje eventos = new PublicadorEventosTraje();
+
+    /**
+     * Crea un servicio vacío.
+     */
+    public ImplementacionOperacionTrajeConcurrente() {
+        for (int i = 0; i < FRANJAS; i++) {
+            franjas[i] = new ReentrantLock();
+        }
+    }
+
+    // ===========================================================
+    //  MÉTODOS CRUD
+    // ===========================================================
+
+    @Override
+    public boolean guardar(Traje_Espacial t) {
+        if (t == null) return false;
+
+        String id = t.getIdTraje();
+        if (id == null || id.isBlank()) return false;
+
+        String clave = RepositorioTrajes.normalizar(id);
+        ReentrantLock bloqueo = franja(clave);
+        bloqueo.lock();
+        try {
+            Estado e = estado;
+            if (e.vigentes.containsKey(clave)) return false;
+
+            Version nueva = new Version(t);
+            e.vigentes.put(clave, nueva);
+            confirmar(e, nueva, null, EventoTraje.agregado(t));
+            return true;
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    @Override
+    public boolean modificar(String id, Traje_Espacial nuevoTraje) {
+        if (id == null || nuevoTraje == null) return false;
+
+        String nuevoId = nuevoTraje.getIdTraje();
+        if (nuevoId == null || nuevoId.isBlank()) return false;
+
+        String claveAnterior = RepositorioTrajes.normalizar(id);
+        String claveNueva = RepositorioTrajes.normalizar(nuevoId);
+
+        // dos franjas siempre en el mismo orden para no bloquearse mutuamente
+        int a = indiceFranja(claveAnterior);
+        int b = indiceFranja(claveNueva);
+        ReentrantLock primero = franjas[Math.min(a, b)];
+        ReentrantLock segundo = franjas[Math.max(a, b)];
+        primero.lock();
+        segundo.lock();
+        try {
+            Estado e = estado;
+            Version anterior = e.vigentes.get(claveAnterior);
+            if (anterior == null) return false;
+            if (!claveNueva.equals(claveAnterior) && e.vigentes.containsKey(claveNueva)) return false;
+
+            Version nueva = new Version(nuevoTraje);
+            e.vigentes.remove(claveAnterior);
+            e.vigentes.put(claveNueva, nueva);
+            confirmar(e, nueva, anterior, EventoTraje.actualizado(id, nuevoTraje));
+            return true;
+        } finally {
+            segundo.unlock();
+            primero.unlock();
+        }
+    }
+
+    @Override
+    public boolean eliminar(String id) {
+        if (id == null) return false;
+
+        String clave = RepositorioTrajes.normalizar(id);
+        ReentrantLock bloqueo = franja(clave);
+        bloqueo.lock();
+        try {
+            Estado e = estado;
+            Version anterior = e.vigentes.get(clave);
+            if (anterior == null) return false;
+
+            e.vigentes.remove(clave);
+            confirmar(e, null, anterior, EventoTraje.eliminado(id));
+            return true;
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    @Override
+    public Traje_Espacial buscar(String id) {
+        if (id == null) return null;
+        Version x = estado.vigentes.get(RepositorioTrajes.normalizar(id));
+        return (x == null) ? null : x.traje;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * La lista corresponde a la última versión confirmada al momento de la llamada:
+     * incluye todas las escrituras confirmadas antes y ninguna posterior, sin
+     * bloquear a los escritores mientras se arma.
+     */
+    @Override
+    public List<Traje_Espacial> listar() {
+        Estado e = estado;
+        long v = registrarLectura(e);
+        try {
+            List<Traje_Espacial> resultado = new ArrayList<>(e.vigentes.size());
+            for (Version x : e.porOrden.values()) {
+                if (x.creada <= v && x.retirada > v) resultado.add(x.traje);
+            }
+            return resultado;
+        } finally {
+            liberarLectura(e, v);
+            purgar(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Recorre la misma instantánea consistente que {@link #listar()}, sin copiarla
+     * y sin bloquear a los escritores. Mientras dura el recorrido no se purgan las
+     * versiones que la instantánea necesita.
+     */
+    @Override
+    public void recorrer(Consumer<? super Traje_Espacial> accion) {
+        Estado e = estado;
+        long v = registrarLectura(e);
+        try {
+            for (Version x : e.porOrden.values()) {
+                if (x.creada <= v && x.retirada > v) accion.accept(x.traje);
+            }
+        } finally {
+            liberarLectura(e, v);
+            purgar(e);
+        }
+    }
+
+    /**
+     * Retorna la cantidad de trajes vigentes.
+     *
+     * @return el número de trajes
+     */
+    @Override
+    public int tamanio() {
+        return estado.vigentes.size();
+    }
+
+    // ===========================================================
+    //  VERSIONES
+    // ===========================================================
+
+    /**
+     * Asigna la siguiente versión a una escritura, la agrega al orden, publica el
+     * evento y la hace visible.
+     *
+     * Las lecturas que ya fijaron una versión anterior no ven la versión nueva ni
+     * el retiro de la anterior, porque ambos quedan marcados con un número mayor.
+     *
+     * @param nueva la versión creada, o null si la escritura solo retira
+     * @param anterior la versión retirada, o null si la escritura solo crea
+     */
+    private void confirmar(Estado e, Version nueva, Version anterior, EventoTraje evento) {
+        e.secuenciador.lock();
+        try {
+            long v = e.visible + 1;
+            if (nueva != null) {
+                nueva.creada = v;
+                nueva.orden = ++e.ultimoOrden;
+                e.porOrden.put(nueva.orden, nueva);
+            }
+            if (anterior != null) {
+                anterior.retirada = v;
+                e.retiradas.add(anterior);
+            }
+            eventos.publicar(evento);
+            e.visible = v;
+        } finally {
+            e.secuenciador.unlock();
+        }
+        purgar(e);
+    }
+
+    /**
+     * Registra una lectura y retorna la versión que debe ver.
+     *
+     * Si entre la consulta de la versión y el registro un purgado avanzó más allá
+     * de ella, la lectura se vuelve a registrar con una versión más reciente.
+     */
+    private static long registrarLectura(Estado e) {
+        while (true) {
+            long v = e.visible;
+            e.lecturas.merge(v, 1, Integer::sum);
+            if (e.purgadoHasta <= v) return v;
+            liberarLectura(e, v);
+        }
+    }
+
+    private static void liberarLectura(Estado e, long v) {
+        e.lecturas.computeIfPresent(v, (k, c) -> (c == 1) ? null : c - 1);
+    }
+
+    /**
+     * Quita del orden las versiones retiradas que ninguna lectura puede ver.
+     *
+     * Una versión retirada en {@code r} solo la ven lecturas de versiones menores
+     * que {@code r}. Se anuncia primero hasta dónde se va a purgar y después se
+     * consulta la lectura más antigua: una lectura que se registre al mismo tiempo
+     * o bien aparece en esa consulta, o bien ve el anuncio y se registra de nuevo.
+     * Solo un hilo purga a la vez.
+     */
+    private static void purgar(Estado e) {
+        if (e.retiradas.isEmpty() || !e.purgando.compareAndSet(false, true)) return;
+        try {
+            long limite = e.visible;
+            if (limite > e.purgadoHasta) e.purgadoHasta = limite;
+
+            Map.Entry<Long, Integer> masAntigua = e.lecturas.firstEntry();
+            if (masAntigua != null) limite = Math.min(limite, masAntigua.getKey());
+
+            Version x;
+            while ((x = e.retiradas.peek()) != null && x.retirada <= limite) {
+                e.retiradas.poll();
+                e.porOrden.remove(x.orden, x);
+            }
+        } finally {
+            e.purgando.set(false);
+        }
+    }
+
+    private ReentrantLock franja(String clave) {
+        return franjas[indiceFranja(clave)];
+    }
+
+    private static int indiceFranja(String clave) {
+        int h = clave.hashCode();
+        return (h ^ (h >>> 16)) & (FRANJAS - 1);
+    }
+
+    private void bloquearTodo() {
+        for (ReentrantLock f : franjas) f.lock();
+    }
+
+    private void desbloquearTodo() {
+        for (int i = FRANJAS - 1; i >= 0; i--) franjas[i].unlock();
+    }
+
+    // ===========================================================
+    //  NOTIFICACIÓN DE CAMBIOS
+    // ===========================================================
+
+    @Override
+    public void agregarOyente(OyenteTrajes oyente) {
+        eventos.agregar(oyente);
+    }
+
+    @Override
+    public void quitarOyente(OyenteTrajes oyente) {
+        eventos.quitar(oyente);
+    }
+
+    @Override
+    public String getUltimoErrorOyente() {
+        return eventos.getUltimoError();
+    }
+
+    // ===========================================================
+    //  SERIALIZAR / DESERIALIZAR
+    // ===========================================================
+
+    /**
+     * {@inheritDoc}
+     *
+     * Escribe una instantánea consistente de {@link #listar()} en formato
+     * {@link CodecTraje}; las escrituras siguen atendiéndose mientras tanto.
+     */
+    @Override
+    public String serializar(String ruta, String nombreArchivo) {
+        File destino = new File(ruta, nombreArchivo);
+        File temporal = new File(ruta, nombreArchivo + ".tmp");
+
+        try {
+            CodecTraje.escribirArchivo(temporal, listar());
+            try {
+                Files.move(temporal.toPath(), destino.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal.toPath(), destino.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return "Datos guardados correctamente.";
+        } catch (Exception e) {
+            return "Error al serializar: " + e.getMessage();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * El archivo se lee sin bloqueo; solo el reemplazo del estado toma todas las
+     * franjas, de modo que ninguna escritura queda a medias entre el estado anterior
+     * y el nuevo. Las lecturas en curso terminan sobre el estado anterior.
+     */
+    @Override
+    public List<Traje_Espacial> deserializar(String ruta, String nombreArchivo) {
+        try {
+            CodecTraje.Lectura lectura = CodecTraje.leerArchivo(new File(ruta, nombreArchivo));
+
+            Estado nuevo = new Estado();
+            for (Traje_Espacial t : lectura.getTrajes()) {
+                if (t == null || t.getIdTraje() == null) continue;
+                String clave = RepositorioTrajes.normalizar(t.getIdTraje());
+                if (nuevo.vigentes.containsKey(clave)) continue;
+                Version x = new Version(t);
+                x.orden = ++nuevo.ultimoOrden;
+                nuevo.porOrden.put(x.orden, x);
+                nuevo.vigentes.put(clave, x);
+            }
+
+            List<Traje_Espacial> contenido;
+            bloquearTodo();
+            try {
+                estado = nuevo;
+                contenido = listar();
+                if (eventos.hayOyentes()) eventos.publicar(EventoTraje.reinicio(contenido));
+            } finally {
+                desbloquearTodo();
+            }
+            return contenido;
+        } catch (Exception e) {
+            System.out.println("Error al deserializar: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ===========================================================
+    //  ESTRUCTURAS INTERNAS
+    // ===========================================================
+
+    /** Un traje en una versión dada. */
+    private static final class Version {
+
+        /** El traje; nunca se modifica. */
+        final Traje_Espacial traje;
+
+        /** Posición en el orden de inserción; se asigna al confirmar. */
+        long orden;
+
+        /**
+         * Versión en que se creó; se asigna al confirmar, antes de publicarla en
+         * el orden, así que toda lectura que la encuentre ve el valor final.
+         */
+        long creada;
+
+        /** Versión en que dejó de ser vigente, o {@code Long.MAX_VALUE} si sigue vigente. */
+        volatile long retirada = Long.MAX_VALUE;
+
+        Version(Traje_Espacial traje) {
+            this.traje = traje;
+        }
+    }
+
+    /** Colección completa con sus contadores de versión. */
+    private static final class Estado {
+
+        /** Versión vigente de cada traje, por ID normalizado. */
+        final ConcurrentHashMap<String, Version> vigentes = new ConcurrentHashMap<>();
+
+        /** Versiones vigentes y retiradas aún no purgadas, en orden de inserción. */
+        final ConcurrentSkipListMap<Long, Version> porOrden = new ConcurrentSkipListMap<>();
+
+        /** Versiones retiradas pendientes de purgar, en orden de retiro. */
+        final ConcurrentLinkedQueue<Version> retiradas = new ConcurrentLinkedQueue<>();
+
+        /** Asigna versiones y números de orden. */
+        final ReentrantLock secuenciador = new ReentrantLock();
+
+        /** Último número de orden asignado; protegido por el secuenciador. */
+        long ultimoOrden;
+
+        /** Última versión confirmada; las lecturas ven todo hasta ella. */
+        volatile long visible;
+
+        /** Lecturas en curso por versión. */
+        final ConcurrentSkipListMap<Long, Integer> lecturas = new ConcurrentSkipListMap<>();
+
+        /** Versión hasta la que un purgado puede haber quitado versiones retiradas. */
+        volatile long purgadoHasta;
+
+        /** Indica si un hilo está purgando. */
+        final AtomicBoolean purgando = new AtomicBoolean();
+    }
+}
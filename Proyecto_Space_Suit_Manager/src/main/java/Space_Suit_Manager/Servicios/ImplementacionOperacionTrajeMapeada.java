@@ -0,0 +1,347 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.File;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Implementación de {@link OperacionArchivo} respaldada por un archivo mapeado en memoria.
+ *
+ * Es un modo de almacenamiento alternativo a {@link ImplementacionOperacionTraje}
+ * para flotas que no caben en el heap. La base es un {@link AlmacenMapeadoTrajes}
+ * de solo lectura; los cambios hechos desde la última serialización se guardan en
+ * una capa en memoria (trajes nuevos o modificados y marcas de eliminación) que se
+ * consulta antes que el archivo. {@link #serializar(String, String)} vuelca la base
+ * y la capa a un archivo nuevo y vacía la capa.
+ *
+ * {@link #deserializar(String, String)} solo mapea el archivo y retorna una vista
+ * perezosa, por lo que abrir la aplicación no depende del tamaño de la flota, y
+ * {@link #buscar(String)} decodifica solo el registro que necesita. Lo mismo vale
+ * para {@link #tamanio()}, que se calcula con los contadores de la base y de la
+ * capa, y para {@link #listar(int, int)}, que decodifica solo la página pedida. Las
+ * páginas en un orden distinto del de inserción sí recorren el archivo, pero
+ * conservan solo los primeros {@code desde + cantidad} trajes de ese orden.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see AlmacenMapeadoTrajes
+ */
+public class ImplementacionOperacionTrajeMapeada implements OperacionArchivo, NotificadorTrajes {
+
+    /** Archivo base mapeado; null si todavía no se ha cargado ninguno. */
+    private AlmacenMapeadoTrajes base;
+
+    /** Trajes agregados o modificados desde la última serialización, por ID normalizado. */
+    private final Map<String, Traje_Espacial> cambios = new LinkedHashMap<>();
+
+    /** IDs normalizados de trajes de la base que ya no son válidos (eliminados o reemplazados). */
+    private final Set<String> ocultos = new HashSet<>();
+
+    /** Posiciones en la base de los mismos trajes ocultos, para ubicar las páginas. */
+    private final TreeSet<Integer> posicionesOcultas = new TreeSet<>();
+
+    /** Oyentes de los cambios en la colección. */
+    private final PublicadorEventosTraje eventos = new PublicadorEventosTraje();
+
+    // ===========================================================
+    //  MÉTODOS CRUD
+    // ===========================================================
+
+    @Override
+    public synchronized boolean guardar(Traje_Espacial t) {
+        if (t == null) return false;
+
+        String id = t.getIdTraje();
+        if (id == null || id.isBlank()) return false;
+        if (buscar(id) != null) return false;
+
+        String clave = RepositorioTrajes.normalizar(id);
+        ocultar(clave, id);
+        cambios.put(clave, t);
+        eventos.publicar(EventoTraje.agregado(t));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean modificar(String id, Traje_Espacial nuevoTraje) {
+        if (id == null || nuevoTraje == null) return false;
+
+        String nuevoId = nuevoTraje.getIdTraje();
+        if (nuevoId == null || nuevoId.isBlank()) return false;
+        if (buscar(id) == null) return false;
+
+        String claveAnterior = RepositorioTrajes.normalizar(id);
+        String claveNueva = RepositorioTrajes.normalizar(nuevoId);
+        if (!claveNueva.equals(claveAnterior) && buscar(nuevoId) != null) return false;
+
+        quitar(claveAnterior, id);
+        ocultar(claveNueva, nuevoId);
+        cambios.put(claveNueva, nuevoTraje);
+        eventos.publicar(EventoTraje.actualizado(id, nuevoTraje));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean eliminar(String id) {
+        if (buscar(id) == null) return false;
+
+        quitar(RepositorioTrajes.normalizar(id), id);
+        eventos.publicar(EventoTraje.eliminado(id));
+        return true;
+    }
+
+    @Override
+    public synchronized Traje_Espacial buscar(String id) {
+        if (id == null) return null;
+
+        String clave = RepositorioTrajes.normalizar(id);
+        Traje_Espacial t = cambios.get(clave);
+        if (t != null) return t;
+        if (base == null || ocultos.contains(clave)) return null;
+        return base.buscar(id);
+    }
+
+    @Override
+    public synchronized List<Traje_Espacial> listar() {
+        List<Traje_Espacial> resultado = new ArrayList<>();
+        recorrer().forEachRemaining(resultado::add);
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Las posiciones de la base se ubican con {@link AlmacenMapeadoTrajes#obtener(int)}
+     * saltando los trajes ocultos, así que solo se decodifica la página.
+     */
+    @Override
+    public synchronized List<Traje_Espacial> listar(int desde, int cantidad) {
+        List<Traje_Espacial> pagina = new ArrayList<>();
+        int inicio = Math.max(0, desde);
+        if (cantidad <= 0) return pagina;
+
+        int visiblesBase = visiblesBase();
+        if (inicio < visiblesBase) {
+            // la posición en el archivo se corre una vez por cada oculto anterior
+            int posicion = inicio;
+            for (int oculta : posicionesOcultas) {
+                if (oculta > posicion) break;
+                posicion++;
+            }
+            for (; posicion < base.tamanio() && pagina.size() < cantidad; posicion++) {
+                if (!posicionesOcultas.contains(posicion)) pagina.add(base.obtener(posicion));
+            }
+        }
+
+        Iterator<Traje_Espacial> deCambios = cambios.values().iterator();
+        for (int i = visiblesBase; deCambios.hasNext() && pagina.size() < cantidad; i++) {
+            Traje_Espacial t = deCambios.next();
+            if (i >= inicio) pagina.add(t);
+        }
+        return pagina;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * En el orden de inserción equivale a {@link #listar(int, int)}. En los demás
+     * órdenes el archivo no tiene un índice, así que se recorre una vez conservando
+     * en un montículo solo los primeros {@code desde + cantidad} trajes: el tiempo es
+     * O(n log k) y la memoria no depende del tamaño de la flota.
+     */
+    @Override
+    public synchronized List<Traje_Espacial> listarOrdenado(OrdenTrajes criterio, boolean descendente,
+                                                           int desde, int cantidad) {
+        int total = tamanio();
+        int inicio = Math.max(0, desde);
+        if (cantidad <= 0 || inicio >= total) return new ArrayList<>();
+        int fin = (int) Math.min(total, (long) inicio + cantidad);
+
+        if (criterio.comparador() == null) {
+            if (!descendente) return listar(inicio, fin - inicio);
+            List<Traje_Espacial> pagina = listar(total - fin, fin - inicio);
+            Collections.reverse(pagina);
+            return pagina;
+        }
+
+        Comparator<Traje_Espacial> orden = descendente ? criterio.comparador().reversed() : criterio.comparador();
+        PriorityQueue<Traje_Espacial> primeros = new PriorityQueue<>(fin, orden.reversed());
+        recorrer().forEachRemaining(t -> {
+            if (primeros.size() < fin) {
+                primeros.add(t);
+            } else if (orden.compare(t, primeros.peek()) < 0) {
+                primeros.poll();
+                primeros.add(t);
+            }
+        });
+
+        List<Traje_Espacial> ordenados = new ArrayList<>(primeros);
+        ordenados.sort(orden);
+        return new ArrayList<>(ordenados.subList(inicio, ordenados.size()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Se calcula sin decodificar registros: los trajes de la base menos los
+     * ocultos, más los de la capa de cambios.
+     */
+    @Override
+    public synchronized int tamanio() {
+        return visiblesBase() + cambios.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Cada traje se decodifica del archivo mapeado al entregarlo, así que el
+     * recorrido no necesita memoria proporcional a la flota.
+     */
+    @Override
+    public synchronized void recorrer(Consumer<? super Traje_Espacial> accion) {
+        recorrer().forEachRemaining(accion);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * El recorrido copia solo la capa de cambios y los IDs ocultos; la base es de
+     * solo lectura, así que se decodifica fuera del bloqueo del servicio, traje por
+     * traje, y el recorrido no ve los cambios posteriores a su creación.
+     */
+    @Override
+    public synchronized Spliterator<Traje_Espacial> recorrido() {
+        Iterator<Traje_Espacial> instantanea = recorrer(base, new HashSet<>(ocultos), new ArrayList<>(cambios.values()));
+        return Spliterators.spliteratorUnknownSize(instantanea, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public void agregarOyente(OyenteTrajes oyente) {
+        eventos.agregar(oyente);
+    }
+
+    @Override
+    public void quitarOyente(OyenteTrajes oyente) {
+        eventos.quitar(oyente);
+    }
+
+    @Override
+    public String getUltimoErrorOyente() {
+        return eventos.getUltimoError();
+    }
+
+    private void quitar(String clave, String id) {
+        cambios.remove(clave);
+        ocultar(clave, id);
+    }
+
+    /** Oculta el traje de la base con ese ID, si existe y no estaba oculto. */
+    private void ocultar(String clave, String id) {
+        if (base == null || ocultos.contains(clave)) return;
+        int posicion = base.indice(id);
+        if (posicion < 0) return;
+        ocultos.add(clave);
+        posicionesOcultas.add(posicion);
+    }
+
+    private int visiblesBase() {
+        return (base == null) ? 0 : base.tamanio() - posicionesOcultas.size();
+    }
+
+    /**
+     * Recorre la base en orden de archivo, omitiendo los trajes ocultos, y luego
+     * los cambios en orden de inserción.
+     */
+    private Iterator<Traje_Espacial> recorrer() {
+        return recorrer(base, ocultos, new ArrayList<>(cambios.values()));
+    }
+
+    private static Iterator<Traje_Espacial> recorrer(AlmacenMapeadoTrajes base, Set<String> ocultos,
+                                                     List<Traje_Espacial> cambios) {
+        Iterator<Traje_Espacial> deBase = (base == null) ? Collections.emptyIterator() : base.recorrer();
+        Iterator<Traje_Espacial> deCambios = cambios.iterator();
+
+        return new Iterator<Traje_Espacial>() {
+            private Traje_Espacial siguiente = avanzar();
+
+            private Traje_Espacial avanzar() {
+                while (deBase.hasNext()) {
+                    Traje_Espacial t = deBase.next();
+                    if (ocultos.isEmpty() || !ocultos.contains(RepositorioTrajes.normalizar(t.getIdTraje()))) {
+                        return t;
+                    }
+                }
+                return deCambios.hasNext() ? deCambios.next() : null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return siguiente != null;
+            }
+
+            @Override
+            public Traje_Espacial next() {
+                if (siguiente == null) throw new NoSuchElementException();
+                Traje_Espacial t = siguiente;
+                siguiente = avanzar();
+                return t;
+            }
+        };
+    }
+
+    // ===========================================================
+    //  SERIALIZAR / DESERIALIZAR (ARCHIVO MAPEADO)
+    // ===========================================================
+
+    @Override
+    public synchronized String serializar(String ruta, String nombreArchivo) {
+        File destino = new File(ruta, nombreArchivo);
+        File temporal = new File(ruta, nombreArchivo + ".tmp");
+
+        try {
+            AlmacenMapeadoTrajes.escribir(temporal, this::recorrer);
+            try {
+                Files.move(temporal.toPath(), destino.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal.toPath(), destino.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            base = AlmacenMapeadoTrajes.abrir(destino);
+            cambios.clear();
+            ocultos.clear();
+            posicionesOcultas.clear();
+            return "Datos guardados correctamente.";
+        } catch (Exception e) {
+            return "Error al serializar: " + e.getMessage();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * En este modo el archivo solo se mapea: la lista retornada es una vista
+     * perezosa de solo lectura que decodifica cada traje al accederlo. El evento de
+     * reinicio lleva la misma vista, así que solo decodifica lo que lea cada oyente.
+     */
+    @Override
+    public synchronized List<Traje_Espacial> deserializar(String ruta, String nombreArchivo) {
+        try {
+            base = AlmacenMapeadoTrajes.abrir(new File(ruta, nombreArchivo));
+            cambios.clear();
+            ocultos.clear();
+            posicionesOcultas.clear();
+            if (eventos.hayOyentes()) eventos.publicar(EventoTraje.reinicio(base.vista()));
+            return base.vista();
+        } catch (Exception e) {
+            System.out.println("Error al deserializar: " + e.getMessage());
+            return null;
+        }
+    }
+}
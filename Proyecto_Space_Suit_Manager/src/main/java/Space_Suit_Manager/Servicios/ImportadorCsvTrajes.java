@@ -0,0 +1,359 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Importa trajes espaciales desde un archivo CSV de proveedores.
+ *
+ * El archivo se lee como flujo, en lotes de {@link #TAMANIO_LOTE} líneas: cada lote
+ * se analiza y valida en paralelo y luego se guarda con
+ * {@link OperacionArchivo#guardarLote(List)}, que descarta los identificadores que
+ * ya existen y persiste el lote de una sola vez. En memoria solo hay un lote a la
+ * vez y, como mucho, {@link #MAX_ERRORES_EN_MEMORIA} errores; el informe completo de
+ * errores se escribe en un archivo junto al CSV, así que el consumo de memoria no
+ * depende del tamaño del archivo.
+ *
+ * Formato esperado, con encabezado opcional:
+ * <pre>
+ *   id,talla,peso,fecha
+ *   TR-001,M,120.5,2025-03-14
+ * </pre>
+ * Los campos pueden ir entre comillas dobles (con {@code ""} para una comilla
+ * literal); no se admiten saltos de línea dentro de un campo. Cada fila debe tener
+ * un ID no vacío, un peso positivo y una fecha con el formato del selector de fecha
+ * del formulario ({@code AAAA-MM-DD}).
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ResultadoImportacion
+ */
+public class ImportadorCsvTrajes {
+
+    /** Líneas por lote. */
+    public static final int TAMANIO_LOTE = 4096;
+
+    /** Errores que se conservan en memoria para mostrarlos en la interfaz. */
+    public static final int MAX_ERRORES_EN_MEMORIA = 500;
+
+    /** Servicio donde se guardan los trajes. */
+    private final OperacionArchivo servicio;
+
+    /**
+     * Crea un importador que guarda en el servicio indicado.
+     *
+     * @param servicio el servicio de trajes
+     */
+    public ImportadorCsvTrajes(OperacionArchivo servicio) {
+        this.servicio = servicio;
+    }
+
+    /**
+     * Importa el archivo indicado.
+     *
+     * Si se cancela, los lotes ya guardados se conservan y el resultado indica
+     * hasta dónde se llegó.
+     *
+     * @param csv el archivo CSV
+     * @param progreso receptor del avance, en bytes leídos del archivo
+     * @return el resultado de la importación
+     * @throws IOException si el archivo no puede leerse o el informe no puede escribirse
+     */
+    public ResultadoImportacion importar(File csv, ProgresoOperacion progreso) throws IOException {
+        File informe = new File(csv.getPath() + ".errores.txt");
+        long total = csv.length();
+        ResultadoImportacion resultado = new ResultadoImportacion(informe);
+
+        try (ContadorBytes entrada = new ContadorBytes(new FileInputStream(csv));
+             BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+             Writer errores = new BufferedWriter(new OutputStreamWriter(
+                     new FileOutputStream(informe), StandardCharsets.UTF_8))) {
+
+            List<String> lineas = new ArrayList<>(TAMANIO_LOTE);
+            long[] numeros = new long[TAMANIO_LOTE];
+            long numeroLinea = 0;
+            String linea;
+
+            while ((linea = lector.readLine()) != null) {
+                numeroLinea++;
+                if (numeroLinea == 1) {
+                    if (linea.startsWith("\uFEFF")) linea = linea.substring(1);
+                    if (esEncabezado(linea)) continue;
+                }
+                if (linea.isBlank()) continue;
+
+                numeros[lineas.size()] = numeroLinea;
+                lineas.add(linea);
+
+                if (lineas.size() == TAMANIO_LOTE) {
+                    procesarLote(lineas, numeros, resultado, errores);
+                    lineas.clear();
+                    progreso.actualizar(entrada.leidos, total);
+                    if (progreso.cancelado()) {
+                        resultado.cancelada = true;
+                        break;
+                    }
+                }
+            }
+            if (!resultado.cancelada && !lineas.isEmpty()) {
+                procesarLote(lineas, numeros, resultado, errores);
+            }
+            progreso.actualizar(entrada.leidos, total);
+        }
+
+        if (resultado.errores == 0) {
+            informe.delete();
+            resultado.informe = null;
+        }
+        return resultado;
+    }
+
+    // ===========================================================
+    //  PROCESAMIENTO DE UN LOTE
+    // ===========================================================
+
+    private void procesarLote(List<String> lineas, long[] numeros,
+                              ResultadoImportacion resultado, Writer errores) throws IOException {
+        int n = lineas.size();
+        Traje_Espacial[] trajes = new Traje_Espacial[n];
+        String[] motivos = new String[n];
+
+        // análisis y validación en paralelo; cada posición se escribe una sola vez
+        IntStream.range(0, n).parallel().forEach(i -> {
+            try {
+                trajes[i] = analizar(lineas.get(i));
+            } catch (IllegalArgumentException e) {
+                motivos[i] = e.getMessage();
+            }
+        });
+
+        List<Traje_Espacial> validos = new ArrayList<>(n);
+        int[] posiciones = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (trajes[i] != null) {
+                posiciones[validos.size()] = i;
+                validos.add(trajes[i]);
+            }
+        }
+
+        boolean[] guardados = servicio.guardarLote(validos);
+        for (int k = 0; k < guardados.length; k++) {
+            if (guardados[k]) resultado.importadas++;
+            else motivos[posiciones[k]] = "ID duplicado: " + validos.get(k).getIdTraje();
+        }
+
+        resultado.leidas += n;
+        for (int i = 0; i < n; i++) {
+            if (motivos[i] != null) resultado.agregarError(numeros[i], motivos[i], errores);
+        }
+    }
+
+    /**
+     * Analiza y valida una fila.
+     *
+     * @throws IllegalArgumentException con el motivo si la fila no es válida
+     */
+    static Traje_Espacial analizar(String linea) {
+        List<String> campos = separarCampos(linea);
+        if (campos.size() != 4) {
+            throw new IllegalArgumentException("Se esperaban 4 campos y hay " + campos.size());
+        }
+
+        String id = campos.get(0).trim();
+        String talla = campos.get(1).trim();
+        String pesoTxt = campos.get(2).trim();
+        String fecha = campos.get(3).trim();
+
+        if (id.isEmpty()) throw new IllegalArgumentException("ID vacío");
+        if (talla.isEmpty()) throw new IllegalArgumentException("Talla vacía");
+
+        double peso;
+        try {
+            peso = Double.parseDouble(pesoTxt);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Peso no válido: " + pesoTxt);
+        }
+        if (!(peso > 0) || Double.isInfinite(peso)) {
+            throw new IllegalArgumentException("El peso debe ser positivo: " + pesoTxt);
+        }
+
+        // mismo formato que produce el DatePicker del formulario
+        try {
+            fecha = LocalDate.parse(fecha).toString();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha no válida: " + fecha);
+        }
+
+        return new Traje_Espacial(id, talla, peso, fecha);
+    }
+
+    /** Separa una línea CSV respetando los campos entre comillas. */
+    static List<String> separarCampos(String linea) {
+        List<String> campos = new ArrayList<>(4);
+        StringBuilder actual = new StringBuilder();
+        boolean entreComillas = false;
+
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"') {
+                    if (i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                        actual.append('"');
+                        i++;
+                    } else {
+                        entreComillas = false;
+                    }
+                } else {
+                    actual.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        if (entreComillas) throw new IllegalArgumentException("Comilla sin cerrar");
+        campos.add(actual.toString());
+        return campos;
+    }
+
+    /**
+     * Indica si la primera línea es el encabezado. Una línea que no puede separarse
+     * se trata como datos, para que {@link #analizar(String)} la informe como error.
+     */
+    private static boolean esEncabezado(String linea) {
+        try {
+            List<String> campos = separarCampos(linea);
+            return !campos.isEmpty() && campos.get(0).trim().equalsIgnoreCase("id");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /** Flujo que cuenta los bytes leídos para informar el avance. */
+    private static final class ContadorBytes extends FilterInputStream {
+
+        /** Bytes leídos hasta ahora. */
+        long leidos;
+
+        ContadorBytes(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) leidos++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) leidos += n;
+            return n;
+        }
+    }
+
+    // ===========================================================
+    //  RESULTADO
+    // ===========================================================
+
+    /**
+     * Resultado de una importación.
+     */
+    public static final class ResultadoImportacion {
+
+        /** Filas de datos leídas (sin contar el encabezado ni las líneas vacías). */
+        private long leidas;
+
+        /** Trajes guardados. */
+        private long importadas;
+
+        /** Filas rechazadas. */
+        private long errores;
+
+        /** Indica si la importación se canceló antes de terminar. */
+        private boolean cancelada;
+
+        /** Primeros errores, para mostrarlos en la interfaz. */
+        private final List<String> primerosErrores = new ArrayList<>();
+
+        /** Archivo con el informe completo de errores; null si no hubo errores. */
+        private File informe;
+
+        ResultadoImportacion(File informe) {
+            this.informe = informe;
+        }
+
+        void agregarError(long linea, String motivo, Writer salida) throws IOException {
+            String texto = "Línea " + linea + ": " + motivo;
+            errores++;
+            if (primerosErrores.size() < MAX_ERRORES_EN_MEMORIA) primerosErrores.add(texto);
+            salida.write(texto);
+            salida.write(System.lineSeparator());
+        }
+
+        /** @return las filas de datos leídas */
+        public long getLeidas() {
+            return leidas;
+        }
+
+        /** @return los trajes guardados */
+        public long getImportadas() {
+            return importadas;
+        }
+
+        /** @return las filas rechazadas */
+        public long getErrores() {
+            return errores;
+        }
+
+        /** @return true si la importación se canceló antes de terminar */
+        public boolean isCancelada() {
+            return cancelada;
+        }
+
+        /** @return los primeros errores, como mucho {@link #MAX_ERRORES_EN_MEMORIA} */
+        public List<String> getPrimerosErrores() {
+            return Collections.unmodifiableList(primerosErrores);
+        }
+
+        /** @return el archivo con el informe completo de errores, o null si no hubo errores */
+        public File getInforme() {
+            return informe;
+        }
+
+        /**
+         * Retorna un resumen de una línea para la barra de estado.
+         *
+         * @return el resumen
+         */
+        public String resumen() {
+            return (cancelada ? "Importación cancelada: " : "Importación terminada: ")
+                    + importadas + " de " + leidas + " filas importadas, " + errores + " con errores.";
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package Space_Suit_Manager.Servicios;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Índice secundario que agrupa registros por el valor de un atributo, para los
+ * repositorios de astronautas y misiones.
+ *
+ * Cada grupo guarda sus registros por clave normalizada y en orden de inserción,
+ * así que agregar y quitar cuestan O(1) esperado más la ubicación del grupo. Un
+ * índice {@link #hash()} ubica el grupo en O(1) y sirve para consultas por
+ * igualdad; uno {@link #ordenado()} lo ubica en O(log v), con v la cantidad de
+ * valores distintos, y además responde rangos en O(log v + k).
+ *
+ * Esta clase no es segura para uso concurrente.
+ *
+ * @param <K> el tipo del valor indexado
+ * @param <T> el tipo de los registros
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see RepositorioAstronautas
+ * @see RepositorioMisiones
+ */
+final class IndiceAgrupado<K, T> {
+
+    /** Registros de cada valor, por clave normalizada y en orden de inserción. */
+    private final Map<K, Map<String, T>> porValor;
+
+    private IndiceAgrupado(Map<K, Map<String, T>> porValor) {
+        this.porValor = porValor;
+    }
+
+    /**
+     * Crea un índice por igualdad, que admite el valor null.
+     *
+     * @param <K> el tipo del valor indexado
+     * @param <T> el tipo de los registros
+     * @return el índice vacío
+     */
+    static <K, T> IndiceAgrupado<K, T> hash() {
+        return new IndiceAgrupado<>(new HashMap<>());
+    }
+
+    /**
+     * Crea un índice ordenado por el valor, que responde rangos y no admite null.
+     *
+     * @param <K> el tipo del valor indexado
+     * @param <T> el tipo de los registros
+     * @return el índice vacío
+     */
+    static <K extends Comparable<? super K>, T> IndiceAgrupado<K, T> ordenado() {
+        return new IndiceAgrupado<>(new TreeMap<>());
+    }
+
+    /**
+     * Indexa un registro.
+     *
+     * @param valor el valor del atributo
+     * @param clave la clave normalizada del registro
+     * @param registro el registro
+     */
+    void agregar(K valor, String clave, T registro) {
+        porValor.computeIfAbsent(valor, v -> new LinkedHashMap<>()).put(clave, registro);
+    }
+
+    /**
+     * Quita un registro.
+     *
+     * @param valor el valor con que se indexó
+     * @param clave la clave normalizada del registro
+     */
+    void quitar(K valor, String clave) {
+        Map<String, T> delValor = porValor.get(valor);
+        if (delValor != null && delValor.remove(clave) != null && delValor.isEmpty()) porValor.remove(valor);
+    }
+
+    /**
+     * Vacía el índice.
+     */
+    void limpiar() {
+        porValor.clear();
+    }
+
+    /**
+     * Cuenta los registros con un valor, en O(1) una vez ubicado el grupo.
+     *
+     * @param valor el valor
+     * @return el número de registros
+     */
+    int contar(K valor) {
+        Map<String, T> delValor = porValor.get(valor);
+        return (delValor == null) ? 0 : delValor.size();
+    }
+
+    /**
+     * Retorna los registros con un valor.
+     *
+     * @param valor el valor
+     * @return una lista nueva, en orden de inserción
+     */
+    List<T> de(K valor) {
+        Map<String, T> delValor = porValor.get(valor);
+        return (delValor == null) ? new ArrayList<>() : new ArrayList<>(delValor.values());
+    }
+
+    /**
+     * Retorna los registros con un valor en un rango; solo para índices ordenados.
+     *
+     * @param desde el primer valor incluido, o null para no acotar por abajo
+     * @param hasta el último valor incluido, o null para no acotar por arriba
+     * @return una lista nueva, en orden de valor y luego de inserción
+     */
+    @SuppressWarnings("unchecked")
+    List<T> entre(K desde, K hasta) {
+        NavigableMap<K, Map<String, T>> ordenado = (NavigableMap<K, Map<String, T>>) porValor;
+        List<T> resultado = new ArrayList<>();
+        if (desde != null && hasta != null && ((Comparable<? super K>) desde).compareTo(hasta) > 0) return resultado;
+
+        NavigableMap<K, Map<String, T>> rango = ordenado;
+        if (desde != null) rango = rango.tailMap(desde, true);
+        if (hasta != null) rango = rango.headMap(hasta, true);
+        for (Map<String, T> delValor : rango.values()) {
+            resultado.addAll(delValor.values());
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna la cantidad de registros de cada valor.
+     *
+     * @return un mapa nuevo de valor a cantidad; en un índice ordenado, en orden de valor
+     */
+    Map<K, Integer> conteos() {
+        Map<K, Integer> conteos = new LinkedHashMap<>();
+        porValor.forEach((valor, delValor) -> conteos.put(valor, delValor.size()));
+        return conteos;
+    }
+}
@@ -0,0 +1,78 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Índice hash de un {@link AtributoCategorico}: agrupa los trajes por valor, de
+ * modo que la cantidad y la lista de trajes con un valor se obtienen sin recorrer
+ * la flota. Resuelve las condiciones {@link CondicionTraje.Tipo#IGUAL} de su atributo.
+ *
+ * Solo indexa los trajes de la clase que tiene el atributo; el valor null se
+ * indexa como cualquier otro.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+public class IndiceCategorico implements IndiceSecundario {
+
+    private final AtributoCategorico atributo;
+
+    /** Trajes de cada valor, por clave normalizada y en orden de inserción. */
+    private final Map<String, Map<String, Traje_Espacial>> porValor = new HashMap<>();
+
+    /**
+     * Crea un índice vacío.
+     *
+     * @param atributo el atributo indexado
+     */
+    public IndiceCategorico(AtributoCategorico atributo) {
+        this.atributo = atributo;
+    }
+
+    @Override
+    public boolean atiende(CondicionTraje condicion) {
+        return condicion.getTipo() == CondicionTraje.Tipo.IGUAL && condicion.getAtributoCategorico() == atributo;
+    }
+
+    @Override
+    public void agregar(String clave, Traje_Espacial t) {
+        if (!atributo.aplicaA(t)) return;
+        porValor.computeIfAbsent(atributo.valorDe(t), v -> new LinkedHashMap<>()).put(clave, t);
+    }
+
+    @Override
+    public void quitar(String clave, Traje_Espacial t) {
+        if (!atributo.aplicaA(t)) return;
+        String valor = atributo.valorDe(t);
+        Map<String, Traje_Espacial> delValor = porValor.get(valor);
+        if (delValor != null && delValor.remove(clave) != null && delValor.isEmpty()) porValor.remove(valor);
+    }
+
+    @Override
+    public void limpiar() {
+        porValor.clear();
+    }
+
+    @Override
+    public int estimar(CondicionTraje condicion, int tope) {
+        Map<String, Traje_Espacial> delValor = porValor.get(condicion.getValor());
+        return (delValor == null) ? 0 : Math.min(delValor.size(), tope + 1);
+    }
+
+    @Override
+    public void recorrerConClave(CondicionTraje condicion, BiConsumer<? super String, ? super Traje_Espacial> accion) {
+        Map<String, Traje_Espacial> delValor = porValor.get(condicion.getValor());
+        if (delValor != null) delValor.forEach(accion);
+    }
+
+    @Override
+    public String toString() {
+        return "IndiceCategorico[" + atributo + ", " + porValor.size() + " valores]";
+    }
+}
@@ -0,0 +1,211 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Índice ordenado de trajes por fecha de inspección.
+ *
+ * Las fechas se convierten una sola vez, al agregar el traje, a su día epoch
+ * ({@link LocalDate#toEpochDay()}), y los trajes se agrupan por día en un
+ * {@link TreeMap}. Una consulta por rango cuesta O(log d + k), con d la cantidad de
+ * días distintos y k la de trajes retornados, sin convertir ni comparar los textos
+ * de toda la flota. Los trajes sin fecha o con una fecha que no está en formato
+ * {@code AAAA-MM-DD} no se indexan.
+ *
+ * Como {@link IndiceSecundario} resuelve las condiciones {@link CondicionTraje.Tipo#FECHA},
+ * así que el planificador de {@link RepositorioTrajes#consultar(ConsultaTrajes)} lo
+ * usa como cualquier otro índice.
+ *
+ * El índice guarda cada traje con su clave normalizada; el dueño debe quitarlo
+ * antes de reemplazarlo, y los trajes no deben modificarse mientras están
+ * indexados. Esta clase no es segura para uso concurrente.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see RepositorioTrajes
+ */
+public class IndiceFechas implements IndiceSecundario {
+
+    /** Día epoch de una fecha ausente o ilegible. */
+    public static final int SIN_FECHA = Integer.MIN_VALUE;
+
+    /** Trajes de cada día, por clave normalizada y en orden de inserción. */
+    private final NavigableMap<Integer, Map<String, Traje_Espacial>> porDia = new TreeMap<>();
+
+    /** Trajes indexados. */
+    private int cantidad;
+
+    /**
+     * Convierte una fecha de inspección a su día epoch.
+     *
+     * Las fechas de la forma {@code AAAA-MM-DD} con dígitos ASCII, que son casi
+     * todas, se leen sin pasar por {@link LocalDate#parse(CharSequence)}, con el
+     * mismo resultado y varias veces más rápido.
+     *
+     * @param fecha la fecha en formato {@code AAAA-MM-DD}, puede ser null
+     * @return el día epoch, o {@link #SIN_FECHA} si la fecha es null o ilegible
+     */
+    public static int diaEpoch(String fecha) {
+        if (fecha == null || fecha.isBlank()) return SIN_FECHA;
+        String texto = fecha.trim();
+        try {
+            LocalDate dia = esSimple(texto)
+                    ? LocalDate.of(numero(texto, 0, 4), numero(texto, 5, 7), numero(texto, 8, 10))
+                    : LocalDate.parse(texto);
+            return Math.toIntExact(dia.toEpochDay());
+        } catch (DateTimeException | ArithmeticException e) {
+            return SIN_FECHA;
+        }
+    }
+
+    /** Indica si el texto tiene exactamente la forma {@code AAAA-MM-DD}. */
+    private static boolean esSimple(String texto) {
+        if (texto.length() != 10 || texto.charAt(4) != '-' || texto.charAt(7) != '-') return false;
+        for (int i = 0; i < 10; i++) {
+            char c = texto.charAt(i);
+            if (i != 4 && i != 7 && (c < '0' || c > '9')) return false;
+        }
+        return true;
+    }
+
+    private static int numero(String texto, int desde, int hasta) {
+        int n = 0;
+        for (int i = desde; i < hasta; i++) {
+            n = n * 10 + (texto.charAt(i) - '0');
+        }
+        return n;
+    }
+
+    /**
+     * Indexa un traje.
+     *
+     * @param clave la clave normalizada del traje
+     * @param t el traje
+     */
+    @Override
+    public void agregar(String clave, Traje_Espacial t) {
+        int dia = diaEpoch(t.getFechaInspeccion());
+        if (dia == SIN_FECHA) return;
+        if (porDia.computeIfAbsent(dia, d -> new LinkedHashMap<>()).put(clave, t) == null) cantidad++;
+    }
+
+    /**
+     * Quita un traje del índice.
+     *
+     * @param clave la clave normalizada del traje
+     * @param t el traje, con la misma fecha que tenía al indexarlo
+     */
+    @Override
+    public void quitar(String clave, Traje_Espacial t) {
+        int dia = diaEpoch(t.getFechaInspeccion());
+        if (dia == SIN_FECHA) return;
+
+        Map<String, Traje_Espacial> delDia = porDia.get(dia);
+        if (delDia == null || delDia.remove(clave) == null) return;
+        cantidad--;
+        if (delDia.isEmpty()) porDia.remove(dia);
+    }
+
+    /**
+     * Vacía el índice.
+     */
+    @Override
+    public void limpiar() {
+        porDia.clear();
+        cantidad = 0;
+    }
+
+    /**
+     * Retorna la cantidad de trajes indexados (los que tienen fecha válida).
+     *
+     * @return el número de trajes
+     */
+    public int tamanio() {
+        return cantidad;
+    }
+
+    /**
+     * Aplica una acción a los trajes inspeccionados en un rango de fechas, en orden
+     * de fecha y, dentro del mismo día, en orden de inserción.
+     *
+     * @param desde la primera fecha incluida, o null para no acotar por abajo
+     * @param hasta la última fecha incluida, o null para no acotar por arriba
+     * @param accion la acción a aplicar; no debe modificar el índice
+     */
+    public void recorrerEntre(LocalDate desde, LocalDate hasta, Consumer<? super Traje_Espacial> accion) {
+        for (Map<String, Traje_Espacial> delDia : rango(desde, hasta).values()) {
+            delDia.values().forEach(accion);
+        }
+    }
+
+    /**
+     * Retorna los trajes inspeccionados en un rango de fechas, en el orden de
+     * {@link #recorrerEntre(LocalDate, LocalDate, Consumer)}.
+     *
+     * @param desde la primera fecha incluida, o null para no acotar por abajo
+     * @param hasta la última fecha incluida, o null para no acotar por arriba
+     * @return una lista nueva
+     */
+    public List<Traje_Espacial> entre(LocalDate desde, LocalDate hasta) {
+        List<Traje_Espacial> resultado = new ArrayList<>();
+        recorrerEntre(desde, hasta, resultado::add);
+        return resultado;
+    }
+
+    /**
+     * Cuenta los trajes inspeccionados en un rango de fechas, en O(log d) más la
+     * cantidad de días distintos del rango, sin recorrer los trajes.
+     *
+     * @param desde la primera fecha incluida, o null para no acotar por abajo
+     * @param hasta la última fecha incluida, o null para no acotar por arriba
+     * @return el número de trajes
+     */
+    public int contarEntre(LocalDate desde, LocalDate hasta) {
+        int n = 0;
+        for (Map<String, Traje_Espacial> delDia : rango(desde, hasta).values()) {
+            n += delDia.size();
+        }
+        return n;
+    }
+
+    @Override
+    public boolean atiende(CondicionTraje condicion) {
+        return condicion.getTipo() == CondicionTraje.Tipo.FECHA;
+    }
+
+    @Override
+    public int estimar(CondicionTraje condicion, int tope) {
+        int n = 0;
+        for (Map<String, Traje_Espacial> delDia : rango(condicion.getDesde(), condicion.getHasta()).values()) {
+            n += delDia.size();
+            if (n > tope) return tope + 1;
+        }
+        return n;
+    }
+
+    @Override
+    public void recorrerConClave(CondicionTraje condicion, BiConsumer<? super String, ? super Traje_Espacial> accion) {
+        for (Map<String, Traje_Espacial> delDia : rango(condicion.getDesde(), condicion.getHasta()).values()) {
+            delDia.forEach(accion);
+        }
+    }
+
+    private NavigableMap<Integer, Map<String, Traje_Espacial>> rango(LocalDate desde, LocalDate hasta) {
+        long min = (desde == null) ? SIN_FECHA + 1 : Math.max(SIN_FECHA + 1, desde.toEpochDay());
+        long max = (hasta == null) ? Integer.MAX_VALUE : Math.min(Integer.MAX_VALUE, hasta.toEpochDay());
+        if (min > max) return new TreeMap<>();
+        return porDia.subMap((int) min, true, (int) max, true);
+    }
+}
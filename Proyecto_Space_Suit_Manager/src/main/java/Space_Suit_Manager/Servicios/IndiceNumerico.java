@@ -0,0 +1,106 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Índice ordenado de un {@link AtributoNumerico}. Resuelve las condiciones
+ * {@link CondicionTraje.Tipo#RANGO} de su atributo en O(log n + k), con k la
+ * cantidad de trajes del rango.
+ *
+ * Cada traje es una entrada de un {@link TreeMap} ordenado por valor y luego por
+ * clave, sin un mapa por valor distinto: los pesos suelen ser casi todos
+ * distintos. Los trajes sin el atributo no se indexan.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+public class IndiceNumerico implements IndiceSecundario {
+
+    private final AtributoNumerico atributo;
+
+    private final NavigableMap<Entrada, Traje_Espacial> porValor = new TreeMap<>();
+
+    /**
+     * Crea un índice vacío.
+     *
+     * @param atributo el atributo indexado
+     */
+    public IndiceNumerico(AtributoNumerico atributo) {
+        this.atributo = atributo;
+    }
+
+    @Override
+    public boolean atiende(CondicionTraje condicion) {
+        return condicion.getTipo() == CondicionTraje.Tipo.RANGO && condicion.getAtributoNumerico() == atributo;
+    }
+
+    @Override
+    public void agregar(String clave, Traje_Espacial t) {
+        double valor = atributo.valorDe(t);
+        if (!Double.isNaN(valor)) porValor.put(new Entrada(valor, clave), t);
+    }
+
+    @Override
+    public void quitar(String clave, Traje_Espacial t) {
+        double valor = atributo.valorDe(t);
+        if (!Double.isNaN(valor)) porValor.remove(new Entrada(valor, clave));
+    }
+
+    @Override
+    public void limpiar() {
+        porValor.clear();
+    }
+
+    @Override
+    public int estimar(CondicionTraje condicion, int tope) {
+        int n = 0;
+        for (Entrada e : rango(condicion).keySet()) {
+            if (n++ == tope) break;
+        }
+        return n;
+    }
+
+    @Override
+    public void recorrerConClave(CondicionTraje condicion, BiConsumer<? super String, ? super Traje_Espacial> accion) {
+        rango(condicion).forEach((e, t) -> accion.accept(e.clave, t));
+    }
+
+    private NavigableMap<Entrada, Traje_Espacial> rango(CondicionTraje condicion) {
+        double min = condicion.getMinimo();
+        double max = condicion.getMaximo();
+        if (min > max) return new TreeMap<>();
+
+        // "" precede a cualquier clave, que nunca está vacía
+        Entrada desde = new Entrada(min, "");
+        if (max == Double.POSITIVE_INFINITY) return porValor.tailMap(desde, true);
+        return porValor.subMap(desde, true, new Entrada(Math.nextUp(max), ""), false);
+    }
+
+    @Override
+    public String toString() {
+        return "IndiceNumerico[" + atributo + ", " + porValor.size() + " trajes]";
+    }
+
+    /** Clave del árbol: el valor del atributo y, para desempatar, la clave del traje. */
+    private static final class Entrada implements Comparable<Entrada> {
+
+        final double valor;
+        final String clave;
+
+        Entrada(double valor, String clave) {
+            this.valor = valor + 0.0; // -0.0 se indexa como 0.0
+            this.clave = clave;
+        }
+
+        @Override
+        public int compareTo(Entrada o) {
+            int c = Double.compare(valor, o.valor);
+            return (c != 0) ? c : clave.compareTo(o.clave);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Índice secundario que un {@link RepositorioTrajes} mantiene junto a su índice
+ * por ID y que el planificador de {@link RepositorioTrajes#consultar(ConsultaTrajes)}
+ * usa para resolver condiciones sin recorrer la flota.
+ *
+ * El repositorio llama a {@link #agregar(String, Traje_Espacial)} y
+ * {@link #quitar(String, Traje_Espacial)} en cada alta, reemplazo y baja, con la
+ * clave normalizada del traje. Las implementaciones no necesitan ser seguras para
+ * uso concurrente.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see IndiceCategorico
+ * @see IndiceNumerico
+ */
+public interface IndiceSecundario {
+
+    /**
+     * Indica si el índice puede resolver una condición.
+     *
+     * @param condicion la condición
+     * @return true si {@link #estimar(CondicionTraje, int)} y
+     *         {@link #recorrer(CondicionTraje, Consumer)} la aceptan
+     */
+    boolean atiende(CondicionTraje condicion);
+
+    /**
+     * Indexa un traje.
+     *
+     * @param clave la clave normalizada del traje
+     * @param t el traje
+     */
+    void agregar(String clave, Traje_Espacial t);
+
+    /**
+     * Quita un traje del índice.
+     *
+     * @param clave la clave normalizada del traje
+     * @param t el traje, con los mismos valores que tenía al indexarlo
+     */
+    void quitar(String clave, Traje_Espacial t);
+
+    /**
+     * Vacía el índice.
+     */
+    void limpiar();
+
+    /**
+     * Cuenta los trajes que cumplen una condición, sin pasar de un tope para que
+     * una estimación no cueste más que el mejor plan ya conocido.
+     *
+     * @param condicion una condición que el índice atiende
+     * @param tope la cantidad a partir de la cual se deja de contar
+     * @return la cantidad de trajes, o {@code tope + 1} si son más que el tope
+     */
+    int estimar(CondicionTraje condicion, int tope);
+
+    /**
+     * Aplica una acción a los trajes que cumplen una condición.
+     *
+     * @param condicion una condición que el índice atiende
+     * @param accion la acción; no debe modificar el repositorio
+     */
+    default void recorrer(CondicionTraje condicion, Consumer<? super Traje_Espacial> accion) {
+        recorrerConClave(condicion, (clave, t) -> accion.accept(t));
+    }
+
+    /**
+     * Aplica una acción a los trajes que cumplen una condición y a sus claves
+     * normalizadas.
+     *
+     * @param condicion una condición que el índice atiende
+     * @param accion la acción; no debe modificar el repositorio
+     */
+    void recorrerConClave(CondicionTraje condicion, BiConsumer<? super String, ? super Traje_Espacial> accion);
+}
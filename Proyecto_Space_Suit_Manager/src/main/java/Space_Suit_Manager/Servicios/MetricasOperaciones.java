@@ -0,0 +1,213 @@
+package Space_Suit_Manager.Servicios;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias, llamadas y bytes de cada operación del servicio de trajes.
+ *
+ * Cada {@link Operacion} tiene su {@link HistogramaLatencia} y un contador de
+ * bytes leídos o escritos (solo las operaciones de persistencia lo usan). Los
+ * valores se registran desde cualquier hilo sin bloqueos; {@link #resumen()} los
+ * lee para el panel de diagnóstico y {@link #volcar(File)} los escribe en un CSV
+ * para analizarlos fuera de la aplicación.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see OperacionArchivoInstrumentada
+ */
+public class MetricasOperaciones {
+
+    /** Operaciones medidas. */
+    public enum Operacion {
+        GUARDAR, GUARDAR_LOTE, BUSCAR, MODIFICAR, ELIMINAR, LISTAR, RECORRER, CONSULTAR, REPORTE, SERIALIZAR, DESERIALIZAR,
+        COMPACTAR
+    }
+
+    /** Encabezado del resumen en el volcado. */
+    static final String ENCABEZADO_RESUMEN =
+            "operacion,llamadas,segundos,llamadasPorSegundo,p50Micros,p99Micros,maxMicros,mediaMicros,bytes";
+
+    /** Encabezado de la distribución en el volcado. */
+    static final String ENCABEZADO_DISTRIBUCION = "operacion,limiteSuperiorNanos,cuenta";
+
+    private final Map<Operacion, HistogramaLatencia> latencias = new EnumMap<>(Operacion.class);
+    private final Map<Operacion, LongAdder> bytes = new EnumMap<>(Operacion.class);
+
+    /** Momento (System.nanoTime) del último reinicio. */
+    private volatile long inicio = System.nanoTime();
+
+    /**
+     * Crea las métricas en cero.
+     */
+    public MetricasOperaciones() {
+        for (Operacion op : Operacion.values()) {
+            latencias.put(op, new HistogramaLatencia());
+            bytes.put(op, new LongAdder());
+        }
+    }
+
+    /**
+     * Registra una llamada.
+     *
+     * @param op la operación
+     * @param nanos la duración de la llamada
+     */
+    public void registrar(Operacion op, long nanos) {
+        latencias.get(op).registrar(nanos);
+    }
+
+    /**
+     * Suma bytes leídos o escritos por una operación de persistencia.
+     *
+     * @param op la operación
+     * @param cantidad los bytes
+     */
+    public void registrarBytes(Operacion op, long cantidad) {
+        if (cantidad > 0) bytes.get(op).add(cantidad);
+    }
+
+    /**
+     * Retorna el histograma de una operación.
+     *
+     * @param op la operación
+     * @return su histograma de latencias
+     */
+    public HistogramaLatencia getLatencias(Operacion op) {
+        return latencias.get(op);
+    }
+
+    /**
+     * Pone todas las métricas en cero.
+     */
+    public void reiniciar() {
+        for (Operacion op : Operacion.values()) {
+            latencias.get(op).reiniciar();
+            bytes.get(op).reset();
+        }
+        inicio = System.nanoTime();
+    }
+
+    /**
+     * Retorna los valores actuales de cada operación, en el orden de {@link Operacion}.
+     *
+     * @return una fila por operación
+     */
+    public List<ResumenOperacion> resumen() {
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        List<ResumenOperacion> filas = new ArrayList<>(Operacion.values().length);
+        for (Operacion op : Operacion.values()) {
+            HistogramaLatencia h = latencias.get(op);
+            filas.add(new ResumenOperacion(op, h.getCuenta(), segundos, h.percentil(0.50),
+                    h.percentil(0.99), h.getMaximo(), h.getMedia(), bytes.get(op).sum()));
+        }
+        return filas;
+    }
+
+    /**
+     * Escribe las métricas en un archivo CSV.
+     *
+     * El archivo tiene dos tablas separadas por una línea vacía: el resumen por
+     * operación ({@value #ENCABEZADO_RESUMEN}) y la distribución completa de las
+     * latencias ({@value #ENCABEZADO_DISTRIBUCION}), solo con los intervalos no vacíos.
+     *
+     * @param destino el archivo a escribir; se reemplaza si existe
+     * @throws IOException si el archivo no puede escribirse
+     */
+    public void volcar(File destino) throws IOException {
+        try (Writer salida = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(destino), StandardCharsets.UTF_8))) {
+
+            salida.write(ENCABEZADO_RESUMEN);
+            salida.write('\n');
+            for (ResumenOperacion r : resumen()) {
+                salida.write(String.format(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%d%n",
+                        r.getOperacion(), r.getLlamadas(), r.getSegundos(), r.getLlamadasPorSegundo(),
+                        r.getP50Micros(), r.getP99Micros(), r.getMaxMicros(), r.getMediaMicros(), r.getBytes()));
+            }
+
+            salida.write('\n');
+            salida.write(ENCABEZADO_DISTRIBUCION);
+            salida.write('\n');
+            for (Operacion op : Operacion.values()) {
+                HistogramaLatencia h = latencias.get(op);
+                for (int i = 0; i < HistogramaLatencia.INTERVALOS; i++) {
+                    long n = h.conteo(i);
+                    if (n > 0) {
+                        salida.write(op + "," + HistogramaLatencia.limiteSuperior(i) + "," + n + "\n");
+                    }
+                }
+            }
+        }
+    }
+
+    // ===========================================================
+    //  RESUMEN
+    // ===========================================================
+
+    /**
+     * Valores de una operación en un momento dado.
+     */
+    public static final class ResumenOperacion {
+
+        private final Operacion operacion;
+        private final long llamadas;
+        private final double segundos;
+        private final long p50;
+        private final long p99;
+        private final long maximo;
+        private final double media;
+        private final long bytes;
+
+        ResumenOperacion(Operacion operacion, long llamadas, double segundos, long p50, long p99,
+                         long maximo, double media, long bytes) {
+            this.operacion = operacion;
+            this.llamadas = llamadas;
+            this.segundos = segundos;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.maximo = maximo;
+            this.media = media;
+            this.bytes = bytes;
+        }
+
+        /** @return la operación */
+        public Operacion getOperacion() { return operacion; }
+
+        /** @return las llamadas desde el último reinicio */
+        public long getLlamadas() { return llamadas; }
+
+        /** @return los segundos transcurridos desde el último reinicio */
+        public double getSegundos() { return segundos; }
+
+        /** @return las llamadas por segundo desde el último reinicio */
+        public double getLlamadasPorSegundo() { return (segundos <= 0) ? 0 : llamadas / segundos; }
+
+        /** @return la mediana de la latencia en microsegundos */
+        public double getP50Micros() { return p50 / 1e3; }
+
+        /** @return el percentil 99 de la latencia en microsegundos */
+        public double getP99Micros() { return p99 / 1e3; }
+
+        /** @return la latencia máxima en microsegundos */
+        public double getMaxMicros() { return maximo / 1e3; }
+
+        /** @return la latencia media en microsegundos */
+        public double getMediaMicros() { return media / 1e3; }
+
+        /** @return los bytes leídos o escritos desde el último reinicio */
+        public long getBytes() { return bytes; }
+    }
+}
@@ -0,0 +1,59 @@
+package Space_Suit_Manager.Servicios;
+
+/**
+ * Tiempos de la última carga y de la última instantánea del almacén de trajes.
+ *
+ * Permite ajustar los umbrales de {@link ConfiguracionCompactacion} con datos
+ * reales: cuánto cuesta escribir una instantánea completa frente a cuánto cuesta
+ * reproducir el diario al iniciar. Los valores se publican de forma volátil para
+ * que puedan leerse desde cualquier hilo.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImplementacionOperacionTraje
+ */
+public class MetricasPersistencia {
+
+    private volatile long ultimaInstantaneaMillis;
+    private volatile int ultimaInstantaneaTrajes;
+    private volatile long ultimaInstantaneaBytes;
+    private volatile long ultimaCargaInstantaneaMillis;
+    private volatile long ultimaReproduccionMillis;
+    private volatile long ultimosRegistrosReproducidos;
+    private volatile long compactaciones;
+
+    void registrarInstantanea(long millis, int trajes, long bytes) {
+        ultimaInstantaneaMillis = millis;
+        ultimaInstantaneaTrajes = trajes;
+        ultimaInstantaneaBytes = bytes;
+        compactaciones++;
+    }
+
+    void registrarCarga(long millisInstantanea, long millisReproduccion, long registros) {
+        ultimaCargaInstantaneaMillis = millisInstantanea;
+        ultimaReproduccionMillis = millisReproduccion;
+        ultimosRegistrosReproducidos = registros;
+    }
+
+    /** @return duración de la última instantánea en milisegundos */
+    public long getUltimaInstantaneaMillis() { return ultimaInstantaneaMillis; }
+
+    /** @return cantidad de trajes escritos en la última instantánea */
+    public int getUltimaInstantaneaTrajes() { return ultimaInstantaneaTrajes; }
+
+    /** @return tamaño en bytes de la última instantánea */
+    public long getUltimaInstantaneaBytes() { return ultimaInstantaneaBytes; }
+
+    /** @return duración de la lectura de la instantánea en la última carga */
+    public long getUltimaCargaInstantaneaMillis() { return ultimaCargaInstantaneaMillis; }
+
+    /** @return duración de la reproducción del diario en la última carga */
+    public long getUltimaReproduccionMillis() { return ultimaReproduccionMillis; }
+
+    /** @return registros del diario reproducidos en la última carga */
+    public long getUltimosRegistrosReproducidos() { return ultimosRegistrosReproducidos; }
+
+    /** @return cantidad de instantáneas escritas desde el inicio */
+    public long getCompactaciones() { return compactaciones; }
+}
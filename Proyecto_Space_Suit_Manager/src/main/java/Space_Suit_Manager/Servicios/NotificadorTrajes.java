@@ -0,0 +1,35 @@
+package Space_Suit_Manager.Servicios;
+
+/**
+ * Servicio de trajes que publica sus cambios a oyentes registrados.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see OyenteTrajes
+ * @see EventoTraje
+ */
+public interface NotificadorTrajes {
+
+    /**
+     * Registra un oyente que recibirá los cambios posteriores.
+     *
+     * @param oyente el oyente a registrar
+     */
+    void agregarOyente(OyenteTrajes oyente);
+
+    /**
+     * Retira un oyente registrado.
+     *
+     * @param oyente el oyente a retirar
+     */
+    void quitarOyente(OyenteTrajes oyente);
+
+    /**
+     * Retorna el mensaje del último error lanzado por un oyente al recibir un
+     * cambio. El error no interrumpe la operación que originó el cambio.
+     *
+     * @return el mensaje, o null si ningún oyente falló
+     */
+    String getUltimoErrorOyente();
+}
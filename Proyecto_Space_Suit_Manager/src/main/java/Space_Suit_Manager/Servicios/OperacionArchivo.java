@@ -1,7 +1,17 @@
 package Space_Suit_Manager.Servicios;
 
 import Space_Suit_Manager.modelo.Traje_Espacial;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Interfaz que define las operaciones CRUD y de serialización para trajes espaciales.
@@ -30,6 +40,25 @@ public interface OperacionArchivo {
      */
     boolean guardar(Traje_Espacial traje);
 
+    /**
+     * Guarda un lote de trajes nuevos.
+     * 
+     * Cada traje se valida igual que en {@link #guardar(Traje_Espacial)}. La
+     * implementación por defecto lo llama una vez por traje; las implementaciones
+     * con persistencia pueden sobrescribirlo para escribir el lote de una sola vez.
+     * 
+     * @param trajes los trajes a guardar, en orden
+     * @return un arreglo con true en las posiciones guardadas y false en las rechazadas
+     *         (identificador vacío o ya existente)
+     */
+    default boolean[] guardarLote(List<Traje_Espacial> trajes) {
+        boolean[] guardados = new boolean[trajes.size()];
+        for (int i = 0; i < guardados.length; i++) {
+            guardados[i] = guardar(trajes.get(i));
+        }
+        return guardados;
+    }
+
     /**
      * Retorna la lista completa de todos los trajes espaciales almacenados.
      * 
@@ -37,6 +66,111 @@ public interface OperacionArchivo {
      */
     List<Traje_Espacial> listar();
 
+    /**
+     * Retorna una página de los trajes, en el orden de {@link #listar()}.
+     * 
+     * La implementación por defecto copia la lista completa y extrae la página; las
+     * implementaciones con acceso por posición pueden sobrescribirlo para que el
+     * costo dependa solo del tamaño de la página, por ejemplo para una tabla que
+     * pide solo las filas visibles.
+     * 
+     * @param desde la posición del primer traje
+     * @param cantidad la cantidad máxima de trajes
+     * @return una lista nueva, vacía si {@code desde} está fuera de rango
+     */
+    default List<Traje_Espacial> listar(int desde, int cantidad) {
+        List<Traje_Espacial> todos = listar();
+        int inicio = Math.max(0, Math.min(desde, todos.size()));
+        int fin = (int) Math.min(todos.size(), (long) inicio + Math.max(0, cantidad));
+        return new ArrayList<>(todos.subList(inicio, fin));
+    }
+
+    /**
+     * Retorna una página de los trajes en un orden dado.
+     * 
+     * La implementación por defecto copia y ordena la lista completa en cada llamada;
+     * las implementaciones que mantienen la flota ordenada pueden sobrescribirlo para
+     * que el costo dependa solo del tamaño de la página, por ejemplo para ordenar una
+     * tabla al hacer clic en una columna.
+     * 
+     * @param criterio el criterio de orden
+     * @param descendente true para el orden inverso
+     * @param desde la posición del primer traje en ese orden
+     * @param cantidad la cantidad máxima de trajes
+     * @return una lista nueva, vacía si {@code desde} está fuera de rango
+     */
+    default List<Traje_Espacial> listarOrdenado(OrdenTrajes criterio, boolean descendente, int desde, int cantidad) {
+        List<Traje_Espacial> todos = listar();
+        if (criterio.comparador() != null) todos.sort(criterio.comparador());
+        if (descendente) Collections.reverse(todos);
+        int inicio = Math.max(0, Math.min(desde, todos.size()));
+        int fin = (int) Math.min(todos.size(), (long) inicio + Math.max(0, cantidad));
+        return new ArrayList<>(todos.subList(inicio, fin));
+    }
+
+    /**
+     * Retorna la cantidad de trajes almacenados.
+     * 
+     * La implementación por defecto cuenta {@link #listar()}.
+     * 
+     * @return el número de trajes
+     */
+    default int tamanio() {
+        return listar().size();
+    }
+
+    /**
+     * Recorre todos los trajes en el orden de {@link #listar()} sin armar una lista.
+     * 
+     * La implementación por defecto recorre {@link #listar()}; las implementaciones
+     * pueden sobrescribirlo para entregar los trajes directamente desde su
+     * almacenamiento, por ejemplo al exportar flotas grandes.
+     * 
+     * @param accion la acción a aplicar a cada traje
+     */
+    default void recorrer(Consumer<? super Traje_Espacial> accion) {
+        listar().forEach(accion);
+    }
+
+    /**
+     * Retorna un recorrido divisible de los trajes en el orden de {@link #listar()},
+     * que sirve de base a {@link #cursor()} y {@link #flujo(boolean)}.
+     * 
+     * La implementación por defecto recorre una copia de {@link #listar()}; las
+     * implementaciones pueden sobrescribirlo para leer los trajes por lotes desde su
+     * almacenamiento, con memoria adicional constante y sin bloquear las demás
+     * operaciones durante todo el recorrido.
+     * 
+     * @return el recorrido, ordenado y sin elementos null
+     */
+    default Spliterator<Traje_Espacial> recorrido() {
+        return listar().spliterator();
+    }
+
+    /**
+     * Retorna un cursor que avanza por los trajes en el orden de {@link #listar()}.
+     * 
+     * A diferencia de {@link #listar(int, int)}, el cursor no se desplaza si se
+     * eliminan trajes ya entregados mientras se recorre.
+     * 
+     * @return el cursor; no admite {@code remove()}
+     * @see #recorrido()
+     */
+    default Iterator<Traje_Espacial> cursor() {
+        return Spliterators.iterator(recorrido());
+    }
+
+    /**
+     * Retorna un stream de los trajes en el orden de {@link #listar()}.
+     * 
+     * @param paralelo true para repartir el recorrido entre varios hilos
+     * @return el stream
+     * @see #recorrido()
+     */
+    default Stream<Traje_Espacial> flujo(boolean paralelo) {
+        return StreamSupport.stream(recorrido(), paralelo);
+    }
+
     /**
      * Busca un traje espacial específico por su código identificador.
      * 
@@ -62,6 +196,137 @@ public interface OperacionArchivo {
      */
     boolean eliminar(String codigo);
 
+    /**
+     * Retorna los trajes cuyo identificador empieza con un prefijo, sin distinguir
+     * mayúsculas de minúsculas, ordenados por identificador. Se usa para sugerir
+     * identificadores mientras se escribe.
+     * 
+     * La implementación por defecto recorre toda la colección; las implementaciones
+     * con un índice ordenado por identificador pueden sobrescribirlo para que el
+     * costo dependa solo de {@code limite}.
+     * 
+     * @param prefijo el comienzo del identificador
+     * @param limite la cantidad máxima de trajes a retornar
+     * @return una lista nueva con como mucho {@code limite} trajes
+     */
+    default List<Traje_Espacial> buscarPorPrefijo(String prefijo, int limite) {
+        List<Traje_Espacial> resultado = new ArrayList<>();
+        if (prefijo == null || limite <= 0) return resultado;
+        recorrer(t -> {
+            String id = t.getIdTraje();
+            if (id != null && id.regionMatches(true, 0, prefijo, 0, prefijo.length())) resultado.add(t);
+        });
+        resultado.sort(Comparator.comparing(t -> RepositorioTrajes.normalizar(t.getIdTraje())));
+        return (resultado.size() > limite) ? new ArrayList<>(resultado.subList(0, limite)) : resultado;
+    }
+
+    // ========== Consultas por fecha de inspección ==========
+
+    /**
+     * Retorna los trajes cuya fecha de inspección está en un rango, ordenados por
+     * fecha y, dentro del mismo día, en el orden de {@link #listar()}.
+     * 
+     * Los trajes sin fecha o con una fecha que no está en formato {@code AAAA-MM-DD}
+     * no se incluyen. La implementación por defecto recorre toda la colección; las
+     * implementaciones con un {@link IndiceFechas} pueden sobrescribirlo para que el
+     * costo dependa solo de la cantidad de resultados.
+     * 
+     * @param desde la primera fecha incluida, o null para no acotar por abajo
+     * @param hasta la última fecha incluida, o null para no acotar por arriba
+     * @return una lista nueva con los trajes del rango
+     */
+    default List<Traje_Espacial> buscarPorInspeccion(LocalDate desde, LocalDate hasta) {
+        long min = (desde == null) ? Long.MIN_VALUE : desde.toEpochDay();
+        long max = (hasta == null) ? Long.MAX_VALUE : hasta.toEpochDay();
+        List<Traje_Espacial> resultado = new ArrayList<>();
+        recorrer(t -> {
+            int dia = IndiceFechas.diaEpoch(t.getFechaInspeccion());
+            if (dia != IndiceFechas.SIN_FECHA && dia >= min && dia <= max) resultado.add(t);
+        });
+        resultado.sort(Comparator.comparingInt(t -> IndiceFechas.diaEpoch(t.getFechaInspeccion())));
+        return resultado;
+    }
+
+    /**
+     * Retorna los trajes cuya última inspección fue hace más de una cantidad de días,
+     * con el orden de {@link #buscarPorInspeccion(LocalDate, LocalDate)}.
+     * 
+     * @param dias los días transcurridos desde la inspección, contados hasta hoy
+     * @return una lista nueva con los trajes inspeccionados antes de hoy menos {@code dias}
+     */
+    default List<Traje_Espacial> inspeccionadosHaceMasDe(int dias) {
+        return buscarPorInspeccion(null, LocalDate.now().minusDays(dias + 1L));
+    }
+
+    // ========== Consultas por atributos ==========
+
+    /**
+     * Retorna los trajes que cumplen todas las condiciones de una consulta, junto
+     * con el plan usado para obtenerlos.
+     * 
+     * La implementación por defecto recorre toda la colección; las implementaciones
+     * con índices secundarios pueden sobrescribirlo para resolver la condición más
+     * selectiva con un índice (ver {@link RepositorioTrajes#consultar(ConsultaTrajes)}).
+     * 
+     * @param consulta la consulta
+     * @return los trajes, en el orden de {@link #listar()} si no se usó un índice,
+     *         y la descripción del plan
+     */
+    default ResultadoConsulta consultar(ConsultaTrajes consulta) {
+        List<Traje_Espacial> resultado = new ArrayList<>();
+        int[] examinados = {0};
+        recorrer(t -> {
+            examinados[0]++;
+            if (consulta.cumple(t)) resultado.add(t);
+        });
+        return new ResultadoConsulta(resultado, null, consulta.getCondiciones(), examinados[0]);
+    }
+
+    /**
+     * Retorna los trajes que cumplen una consulta en un orden dado, junto con el plan
+     * usado para obtenerlos.
+     * 
+     * La implementación por defecto recorre toda la colección y ordena el resultado;
+     * las implementaciones con la flota ordenada pueden sobrescribirlo para elegir
+     * entre ordenar los candidatos de un índice o recorrer la flota ya ordenada (ver
+     * {@link RepositorioTrajes#consultar(ConsultaTrajes, OrdenTrajes, boolean)}).
+     * 
+     * @param consulta la consulta
+     * @param criterio el orden de los trajes retornados
+     * @param descendente true para el orden inverso
+     * @return los trajes en ese orden y la descripción del plan
+     */
+    default ResultadoConsulta consultar(ConsultaTrajes consulta, OrdenTrajes criterio, boolean descendente) {
+        List<Traje_Espacial> resultado = new ArrayList<>();
+        int[] examinados = {0};
+        recorrer(t -> {
+            examinados[0]++;
+            if (consulta.cumple(t)) resultado.add(t);
+        });
+        if (criterio.comparador() != null) resultado.sort(criterio.comparador());
+        if (descendente) Collections.reverse(resultado);
+        return new ResultadoConsulta(resultado, null, consulta.getCondiciones(), examinados[0]);
+    }
+
+    // ========== Reportes ==========
+
+    /**
+     * Resume la flota: trajes por talla, terreno, simulador y material, distribución
+     * del peso soportado e inspecciones vencidas en una fecha.
+     * 
+     * La implementación por defecto reduce {@link #flujo(boolean)} en paralelo (ver
+     * {@link ReporteFlota#calcular(Stream, LocalDate, int)}); las implementaciones que
+     * mantienen esas cantidades en cada cambio pueden sobrescribirlo para no recorrer
+     * la flota.
+     * 
+     * @param fecha la fecha con la que se cuentan los vencimientos, normalmente hoy
+     * @param vigenciaDias días de validez de una inspección
+     * @return el reporte
+     */
+    default ReporteFlota reporte(LocalDate fecha, int vigenciaDias) {
+        return ReporteFlota.calcular(flujo(true), fecha, vigenciaDias);
+    }
+
     // ========== Serialización (Almacenamiento en archivos) ==========
 
     /**
@@ -88,4 +353,34 @@ public interface OperacionArchivo {
      */
     List<Traje_Espacial> deserializar(String ruta, String nombreArchivo);
 
+    /**
+     * Serializa la colección de trajes informando el avance.
+     * 
+     * La implementación por defecto ignora el receptor y llama a
+     * {@link #serializar(String, String)}.
+     * 
+     * @param ruta la ruta del directorio donde se guardará el archivo
+     * @param nombreArchivo el nombre del archivo donde se serializarán los datos
+     * @param progreso receptor del avance
+     * @return un mensaje indicando el resultado de la operación (éxito o error)
+     */
+    default String serializar(String ruta, String nombreArchivo, ProgresoOperacion progreso) {
+        return serializar(ruta, nombreArchivo);
+    }
+
+    /**
+     * Deserializa la colección de trajes informando el avance.
+     * 
+     * La implementación por defecto ignora el receptor y llama a
+     * {@link #deserializar(String, String)}.
+     * 
+     * @param ruta la ruta del directorio donde se encuentra el archivo
+     * @param nombreArchivo el nombre del archivo de donde se leerán los datos
+     * @param progreso receptor del avance
+     * @return la lista de trajes deserializados, o null si hay error
+     */
+    default List<Traje_Espacial> deserializar(String ruta, String nombreArchivo, ProgresoOperacion progreso) {
+        return deserializar(ruta, nombreArchivo);
+    }
+
 }
\ No newline at end of file
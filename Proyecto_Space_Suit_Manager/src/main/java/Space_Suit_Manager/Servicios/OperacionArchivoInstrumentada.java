@@ -0,0 +1,285 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.Servicios.MetricasOperaciones.Operacion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Envoltorio de un servicio de trajes que mide cada llamada.
+ *
+ * Delega todas las operaciones en el servicio envuelto y registra en
+ * {@link MetricasOperaciones} su latencia y, en {@code serializar} y
+ * {@code deserializar}, los bytes escritos o leídos. Medir una llamada cuesta dos
+ * lecturas de {@link System#nanoTime()} y un incremento atómico, así que el
+ * envoltorio puede quedar activo siempre.
+ *
+ * Los bytes de {@code serializar} son el tamaño del archivo de datos después de
+ * escribirlo, si el archivo cambió; los de {@code deserializar}, el tamaño del
+ * archivo de datos, de su diario y del diario en compactación antes de leerlos,
+ * si la carga terminó bien.
+ *
+ * La compactación del diario no pasa por el envoltorio: {@link CompactadorDiario}
+ * la registra como {@link Operacion#COMPACTAR} en estas mismas métricas.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see MetricasOperaciones
+ */
+public class OperacionArchivoInstrumentada implements OperacionArchivo, NotificadorTrajes {
+
+    /** Servicio envuelto. */
+    private final OperacionArchivo servicio;
+
+    /** El mismo servicio, como publicador de cambios. */
+    private final NotificadorTrajes notificador;
+
+    /** Métricas de las llamadas. */
+    private final MetricasOperaciones metricas = new MetricasOperaciones();
+
+    /**
+     * Envuelve un servicio de trajes.
+     *
+     * @param servicio el servicio a medir
+     * @param <S> el tipo del servicio, que debe publicar sus cambios
+     */
+    public <S extends OperacionArchivo & NotificadorTrajes> OperacionArchivoInstrumentada(S servicio) {
+        this.servicio = servicio;
+        this.notificador = servicio;
+    }
+
+    /**
+     * Retorna las métricas de las llamadas.
+     *
+     * @return las métricas, actualizadas en vivo
+     */
+    public MetricasOperaciones getMetricas() {
+        return metricas;
+    }
+
+    // ===========================================================
+    //  CRUD
+    // ===========================================================
+
+    @Override
+    public boolean guardar(Traje_Espacial traje) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.guardar(traje);
+        } finally {
+            metricas.registrar(Operacion.GUARDAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public boolean[] guardarLote(List<Traje_Espacial> trajes) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.guardarLote(trajes);
+        } finally {
+            metricas.registrar(Operacion.GUARDAR_LOTE, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public List<Traje_Espacial> listar() {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.listar();
+        } finally {
+            metricas.registrar(Operacion.LISTAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public List<Traje_Espacial> listar(int desde, int cantidad) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.listar(desde, cantidad);
+        } finally {
+            metricas.registrar(Operacion.LISTAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public List<Traje_Espacial> listarOrdenado(OrdenTrajes criterio, boolean descendente, int desde, int cantidad) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.listarOrdenado(criterio, descendente, desde, cantidad);
+        } finally {
+            metricas.registrar(Operacion.LISTAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public int tamanio() {
+        return servicio.tamanio();
+    }
+
+    @Override
+    public void recorrer(Consumer<? super Traje_Espacial> accion) {
+        long t0 = System.nanoTime();
+        try {
+            servicio.recorrer(accion);
+        } finally {
+            metricas.registrar(Operacion.RECORRER, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public Spliterator<Traje_Espacial> recorrido() {
+        return servicio.recorrido();
+    }
+
+    @Override
+    public Traje_Espacial buscar(String codigo) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.buscar(codigo);
+        } finally {
+            metricas.registrar(Operacion.BUSCAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public boolean modificar(String codigo, Traje_Espacial nuevoTraje) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.modificar(codigo, nuevoTraje);
+        } finally {
+            metricas.registrar(Operacion.MODIFICAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public boolean eliminar(String codigo) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.eliminar(codigo);
+        } finally {
+            metricas.registrar(Operacion.ELIMINAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public List<Traje_Espacial> buscarPorInspeccion(LocalDate desde, LocalDate hasta) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.buscarPorInspeccion(desde, hasta);
+        } finally {
+            metricas.registrar(Operacion.CONSULTAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public List<Traje_Espacial> buscarPorPrefijo(String prefijo, int limite) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.buscarPorPrefijo(prefijo, limite);
+        } finally {
+            metricas.registrar(Operacion.CONSULTAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public ResultadoConsulta consultar(ConsultaTrajes consulta) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.consultar(consulta);
+        } finally {
+            metricas.registrar(Operacion.CONSULTAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public ResultadoConsulta consultar(ConsultaTrajes consulta, OrdenTrajes criterio, boolean descendente) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.consultar(consulta, criterio, descendente);
+        } finally {
+            metricas.registrar(Operacion.CONSULTAR, System.nanoTime() - t0);
+        }
+    }
+
+    @Override
+    public ReporteFlota reporte(LocalDate fecha, int vigenciaDias) {
+        long t0 = System.nanoTime();
+        try {
+            return servicio.reporte(fecha, vigenciaDias);
+        } finally {
+            metricas.registrar(Operacion.REPORTE, System.nanoTime() - t0);
+        }
+    }
+
+    // ===========================================================
+    //  PERSISTENCIA
+    // ===========================================================
+
+    @Override
+    public String serializar(String ruta, String nombreArchivo) {
+        return serializar(ruta, nombreArchivo, ProgresoOperacion.NINGUNO);
+    }
+
+    @Override
+    public String serializar(String ruta, String nombreArchivo, ProgresoOperacion progreso) {
+        File destino = new File(ruta, nombreArchivo);
+        long modificadoAntes = destino.lastModified();
+        long tamanioAntes = destino.length();
+
+        long t0 = System.nanoTime();
+        try {
+            return servicio.serializar(ruta, nombreArchivo, progreso);
+        } finally {
+            metricas.registrar(Operacion.SERIALIZAR, System.nanoTime() - t0);
+            if (destino.lastModified() != modificadoAntes || destino.length() != tamanioAntes) {
+                metricas.registrarBytes(Operacion.SERIALIZAR, destino.length());
+            }
+        }
+    }
+
+    @Override
+    public List<Traje_Espacial> deserializar(String ruta, String nombreArchivo) {
+        return deserializar(ruta, nombreArchivo, ProgresoOperacion.NINGUNO);
+    }
+
+    @Override
+    public List<Traje_Espacial> deserializar(String ruta, String nombreArchivo, ProgresoOperacion progreso) {
+        File archivoDiario = DiarioTrajes.archivoPara(ruta, nombreArchivo);
+        long leidos = new File(ruta, nombreArchivo).length() + archivoDiario.length()
+                + DiarioTrajes.archivoEnCompactacion(archivoDiario).length();
+
+        long t0 = System.nanoTime();
+        List<Traje_Espacial> cargados = null;
+        try {
+            cargados = servicio.deserializar(ruta, nombreArchivo, progreso);
+            return cargados;
+        } finally {
+            metricas.registrar(Operacion.DESERIALIZAR, System.nanoTime() - t0);
+            if (cargados != null) metricas.registrarBytes(Operacion.DESERIALIZAR, leidos);
+        }
+    }
+
+    // ===========================================================
+    //  EVENTOS
+    // ===========================================================
+
+    @Override
+    public void agregarOyente(OyenteTrajes oyente) {
+        notificador.agregarOyente(oyente);
+    }
+
+    @Override
+    public void quitarOyente(OyenteTrajes oyente) {
+        notificador.quitarOyente(oyente);
+    }
+
+    @Override
+    public String getUltimoErrorOyente() {
+        return notificador.getUltimoErrorOyente();
+    }
+}
@@ -0,0 +1,330 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Orden de inserción de los trajes de un {@link RepositorioTrajes}, con acceso por
+ * posición en O(log n).
+ *
+ * Los trajes ocupan ranuras consecutivas de un arreglo; una baja deja la ranura
+ * vacía y un árbol de Fenwick cuenta las ranuras ocupadas, así que la posición
+ * k-ésima se ubica con una búsqueda binaria sobre el árbol en O(log n) y una página
+ * se lee desde ahí avanzando por el arreglo. Las altas se agregan al final. Cuando
+ * las ranuras vacías superan a las ocupadas el arreglo se compacta, en O(n)
+ * amortizado entre las bajas que lo provocaron.
+ *
+ * Cada alta recibe además un número de secuencia creciente que no cambia al
+ * compactar, así que un {@link RecorridoTrajes} puede recordar por dónde iba con un
+ * número y retomar el recorrido en O(log n) aunque el arreglo se haya movido.
+ *
+ * Esta clase no es segura para uso concurrente.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+final class OrdenInsercion {
+
+    /** Cantidad mínima de ranuras vacías para compactar. */
+    private static final int MINIMO_COMPACTAR = 1024;
+
+    /**
+     * Traje en una ranura; el repositorio la guarda como valor de su índice por ID y
+     * sus {@link VistaOrdenada} la ordenan con las claves calculadas al crearla.
+     */
+    static final class Ranura {
+        final String clave;
+        final Traje_Espacial traje;
+
+        /** Día epoch de la fecha de inspección, o {@link IndiceFechas#SIN_FECHA}. */
+        final int dia;
+
+        int posicion;
+
+        /**
+         * Crea una ranura.
+         *
+         * @param clave la clave normalizada
+         * @param traje el traje, o null para una ranura que solo sirve de referencia
+         *              en una búsqueda por clave
+         */
+        Ranura(String clave, Traje_Espacial traje) {
+            this.clave = clave;
+            this.traje = traje;
+            this.dia = (traje == null) ? IndiceFechas.SIN_FECHA : IndiceFechas.diaEpoch(traje.getFechaInspeccion());
+        }
+    }
+
+    private Ranura[] ranuras = new Ranura[16];
+
+    /** Secuencia de cada ranura usada, creciente; se conserva aunque la ranura quede vacía. */
+    private long[] secuencias = new long[16];
+
+    /** Secuencia de la próxima alta; nunca retrocede, ni siquiera al limpiar. */
+    private long proxima;
+
+    /** Árbol de Fenwick de ranuras ocupadas, con base 1: arbol[i] cubre (i - bajo(i), i]. */
+    private int[] arbol = new int[17];
+
+    /** Ranuras usadas, ocupadas o vacías. */
+    private int usadas;
+
+    /** Ranuras ocupadas. */
+    private int ocupadas;
+
+    /**
+     * Agrega un traje al final.
+     *
+     * @param clave la clave normalizada del traje
+     * @param t el traje
+     * @return la ranura, que debe pasarse a {@link #quitar(Ranura)} para retirarlo
+     */
+    Ranura agregar(String clave, Traje_Espacial t) {
+        if (usadas == ranuras.length) {
+            ranuras = Arrays.copyOf(ranuras, usadas * 2);
+            secuencias = Arrays.copyOf(secuencias, usadas * 2);
+            // cada nodo cubre un rango fijo de ranuras: crecer no cambia los existentes
+            arbol = Arrays.copyOf(arbol, usadas * 2 + 1);
+        }
+        Ranura r = new Ranura(clave, t);
+        r.posicion = usadas;
+        secuencias[usadas] = proxima++;
+        ranuras[usadas++] = r;
+        ocupadas++;
+
+        int i = usadas;
+        arbol[i] = 1 + prefijo(i - 1) - prefijo(i - (i & -i));
+        return r;
+    }
+
+    /**
+     * Retira un traje.
+     *
+     * @param r la ranura que retornó {@link #agregar(String, Traje_Espacial)}
+     */
+    void quitar(Ranura r) {
+        ranuras[r.posicion] = null;
+        for (int i = r.posicion + 1; i <= usadas; i += i & -i) {
+            arbol[i]--;
+        }
+        ocupadas--;
+
+        int vacias = usadas - ocupadas;
+        if (vacias >= MINIMO_COMPACTAR && vacias > ocupadas) compactar();
+    }
+
+    /**
+     * Vacía el orden.
+     */
+    void limpiar() {
+        ranuras = new Ranura[16];
+        secuencias = new long[16];
+        arbol = new int[17];
+        usadas = 0;
+        ocupadas = 0;
+    }
+
+    /**
+     * Retorna la cantidad de trajes.
+     *
+     * @return el número de trajes
+     */
+    int tamanio() {
+        return ocupadas;
+    }
+
+    /**
+     * Aplica una acción a cada traje en orden de inserción.
+     *
+     * @param accion la acción a aplicar
+     */
+    void recorrer(Consumer<? super Traje_Espacial> accion) {
+        for (int i = 0; i < usadas; i++) {
+            Ranura r = ranuras[i];
+            if (r != null) accion.accept(r.traje);
+        }
+    }
+
+    /**
+     * Aplica una acción a cada traje y su clave normalizada en orden de inserción.
+     *
+     * @param accion la acción a aplicar
+     */
+    void recorrerConClave(BiConsumer<? super String, ? super Traje_Espacial> accion) {
+        for (int i = 0; i < usadas; i++) {
+            Ranura r = ranuras[i];
+            if (r != null) accion.accept(r.clave, r.traje);
+        }
+    }
+
+    /**
+     * Retorna las ranuras ocupadas en orden de inserción.
+     *
+     * @return una lista nueva
+     */
+    List<Ranura> ranuras() {
+        List<Ranura> resultado = new ArrayList<>(ocupadas);
+        for (int i = 0; i < usadas; i++) {
+            if (ranuras[i] != null) resultado.add(ranuras[i]);
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna una página de trajes en orden de inserción.
+     *
+     * @param desde la posición del primer traje, contando solo los trajes presentes
+     * @param cantidad la cantidad máxima de trajes
+     * @return una lista nueva, vacía si {@code desde} está fuera de rango
+     */
+    List<Traje_Espacial> pagina(int desde, int cantidad) {
+        int n = Math.max(0, Math.min(cantidad, ocupadas - Math.max(0, desde)));
+        List<Traje_Espacial> resultado = new ArrayList<>(n);
+        if (n == 0) return resultado;
+
+        for (int i = ranura(Math.max(0, desde)); resultado.size() < n; i++) {
+            Ranura r = ranuras[i];
+            if (r != null) resultado.add(r.traje);
+        }
+        return resultado;
+    }
+
+    // ===========================================================
+    //  RECORRIDO POR SECUENCIA
+    // ===========================================================
+
+    /**
+     * Retorna la secuencia que recibirá la próxima alta: todas las actuales son menores.
+     *
+     * @return la secuencia
+     */
+    long proximaSecuencia() {
+        return proxima;
+    }
+
+    /**
+     * Cuenta los trajes presentes con secuencia en {@code [desde, hasta)}, en O(log n).
+     *
+     * @param desde la primera secuencia incluida
+     * @param hasta la primera secuencia excluida
+     * @return el número de trajes
+     */
+    int contar(long desde, long hasta) {
+        return Math.max(0, prefijo(inicio(hasta)) - prefijo(inicio(desde)));
+    }
+
+    /**
+     * Retorna una secuencia que divide {@code [desde, hasta)} en dos mitades de
+     * ranuras.
+     *
+     * @param desde la primera secuencia incluida
+     * @param hasta la primera secuencia excluida
+     * @param minimo la cantidad mínima de ranuras del rango para dividirlo
+     * @return la secuencia del medio, o -1 si el rango tiene menos de {@code minimo} ranuras
+     */
+    long mitad(long desde, long hasta, int minimo) {
+        int i = inicio(desde);
+        int j = inicio(hasta);
+        if (j - i < Math.max(2, minimo)) return -1;
+        return secuencias[(i + j) >>> 1];
+    }
+
+    /**
+     * Agrega a una lista los trajes presentes con secuencia en {@code [desde, hasta)},
+     * como mucho {@code maximo}, en O(log n) más las ranuras recorridas.
+     *
+     * @param desde la primera secuencia incluida
+     * @param hasta la primera secuencia excluida
+     * @param destino la lista a la que se agregan
+     * @param maximo la cantidad máxima de trajes a agregar
+     * @return la secuencia por la que sigue el recorrido, o {@code hasta} si no quedan trajes
+     */
+    long copiar(long desde, long hasta, List<Traje_Espacial> destino, int maximo) {
+        int i = inicio(desde);
+        for (int n = 0; i < usadas && secuencias[i] < hasta && n < maximo; i++) {
+            Ranura r = ranuras[i];
+            if (r != null) {
+                destino.add(r.traje);
+                n++;
+            }
+        }
+        return (i < usadas) ? Math.min(secuencias[i], hasta) : hasta;
+    }
+
+    /** Índice de la primera ranura usada con secuencia mayor o igual a {@code s}. */
+    private int inicio(long s) {
+        int bajo = 0;
+        int alto = usadas;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (secuencias[medio] < s) bajo = medio + 1;
+            else alto = medio;
+        }
+        return bajo;
+    }
+
+    /**
+     * Retorna una copia de los trajes en orden de inserción.
+     *
+     * @return una lista nueva
+     */
+    List<Traje_Espacial> listar() {
+        List<Traje_Espacial> resultado = new ArrayList<>(ocupadas);
+        recorrer(resultado::add);
+        return resultado;
+    }
+
+    /** Ranuras ocupadas entre las primeras {@code i}. */
+    private int prefijo(int i) {
+        int suma = 0;
+        for (; i > 0; i -= i & -i) {
+            suma += arbol[i];
+        }
+        return suma;
+    }
+
+    /** Índice de la ranura del traje en la posición {@code k} (base 0), que debe existir. */
+    private int ranura(int k) {
+        int i = 0;
+        int restantes = k + 1;
+        for (int paso = Integer.highestOneBit(usadas); paso > 0; paso >>= 1) {
+            int siguiente = i + paso;
+            if (siguiente <= usadas && arbol[siguiente] < restantes) {
+                i = siguiente;
+                restantes -= arbol[siguiente];
+            }
+        }
+        return i; // la ranura i + 1 en base 1
+    }
+
+    /** Quita las ranuras vacías y reconstruye el árbol en O(n). */
+    private void compactar() {
+        Ranura[] nuevas = new Ranura[Math.max(16, Integer.highestOneBit(Math.max(1, ocupadas)) * 2)];
+        long[] nuevasSecuencias = new long[nuevas.length];
+        int n = 0;
+        for (int i = 0; i < usadas; i++) {
+            Ranura r = ranuras[i];
+            if (r != null) {
+                r.posicion = n;
+                nuevasSecuencias[n] = secuencias[i];
+                nuevas[n++] = r;
+            }
+        }
+        ranuras = nuevas;
+        secuencias = nuevasSecuencias;
+        usadas = n;
+
+        arbol = new int[nuevas.length + 1];
+        for (int i = 1; i <= n; i++) {
+            arbol[i]++;
+            int padre = i + (i & -i);
+            if (padre <= n) arbol[padre] += arbol[i];
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.Comparator;
+
+/**
+ * Criterios por los que se puede listar la flota ordenada.
+ *
+ * Todos los criterios desempatan por identificador normalizado, así que definen
+ * un orden total. Los trajes sin fecha de inspección válida van antes que los demás
+ * en el orden por fecha, y el peso {@code -0.0} se ordena como {@code 0.0}, igual
+ * que en {@link IndiceNumerico}.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see OperacionArchivo#listarOrdenado(OrdenTrajes, boolean, int, int)
+ */
+public enum OrdenTrajes {
+
+    /** Orden en que se agregaron los trajes, el mismo de {@link OperacionArchivo#listar()}. */
+    INSERCION(Comparator.comparingInt(r -> r.posicion), null),
+
+    /** Identificador, sin distinguir mayúsculas de minúsculas. */
+    ID(Comparator.comparing(r -> r.clave), Comparator.comparing(OrdenTrajes::clave)),
+
+    /** Peso soportado. */
+    PESO(Comparator.<OrdenInsercion.Ranura>comparingDouble(r -> peso(r.traje)).thenComparing(r -> r.clave),
+            Comparator.comparingDouble(OrdenTrajes::peso).thenComparing(OrdenTrajes::clave)),
+
+    /** Fecha de inspección. */
+    FECHA(Comparator.<OrdenInsercion.Ranura>comparingInt(r -> r.dia).thenComparing(r -> r.clave),
+            Comparator.<Traje_Espacial>comparingInt(t -> IndiceFechas.diaEpoch(t.getFechaInspeccion()))
+                    .thenComparing(OrdenTrajes::clave));
+
+    private final Comparator<OrdenInsercion.Ranura> porRanura;
+    private final Comparator<Traje_Espacial> porTraje;
+
+    OrdenTrajes(Comparator<OrdenInsercion.Ranura> porRanura, Comparator<Traje_Espacial> porTraje) {
+        this.porRanura = porRanura;
+        this.porTraje = porTraje;
+    }
+
+    /**
+     * Retorna el orden sobre las ranuras de un repositorio, que usa las claves ya
+     * calculadas al agregar cada traje.
+     *
+     * @return el comparador; en {@link #INSERCION} solo vale mientras el repositorio no cambie
+     */
+    Comparator<OrdenInsercion.Ranura> comparadorRanuras() {
+        return porRanura;
+    }
+
+    /**
+     * Retorna el orden sobre trajes sueltos, para las implementaciones que ordenan
+     * una copia de la flota. Calcula las claves en cada comparación.
+     *
+     * @return el comparador, o null en {@link #INSERCION}, que no depende del traje
+     */
+    public Comparator<Traje_Espacial> comparador() {
+        return porTraje;
+    }
+
+    private static String clave(Traje_Espacial t) {
+        return RepositorioTrajes.normalizar(t.getIdTraje());
+    }
+
+    private static double peso(Traje_Espacial t) {
+        return t.getPesoSoportado() + 0.0;
+    }
+}
@@ -0,0 +1,23 @@
+package Space_Suit_Manager.Servicios;
+
+/**
+ * Receptor de los avisos de inspección de un {@link PlanificadorInspecciones}.
+ *
+ * Se invoca en el hilo del planificador, fuera de su bloqueo. Para actualizar la
+ * interfaz, la implementación debe pasar el aviso al hilo de JavaFX.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see AvisoInspeccion
+ */
+@FunctionalInterface
+public interface OyenteInspecciones {
+
+    /**
+     * Recibe un aviso.
+     *
+     * @param aviso el traje y su fecha límite
+     */
+    void aviso(AvisoInspeccion aviso);
+}
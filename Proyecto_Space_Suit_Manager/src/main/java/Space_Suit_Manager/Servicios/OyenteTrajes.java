@@ -0,0 +1,26 @@
+package Space_Suit_Manager.Servicios;
+
+/**
+ * Receptor de los cambios en la colección de trajes de un servicio.
+ *
+ * Se invoca en el hilo que hizo el cambio y mientras el servicio mantiene su
+ * bloqueo, para que los eventos lleguen en el mismo orden en que se aplicaron.
+ * Por eso la implementación debe ser breve y no debe volver a llamar al servicio
+ * desde otro hilo y esperar el resultado; lo habitual es encolar el evento y
+ * procesarlo después (ver {@code ListaPaginada} en el controlador).
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see NotificadorTrajes
+ */
+@FunctionalInterface
+public interface OyenteTrajes {
+
+    /**
+     * Recibe un cambio en la colección.
+     *
+     * @param evento el cambio aplicado
+     */
+    void cambio(EventoTraje evento);
+}
@@ -0,0 +1,420 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Planificador que avisa cuando los trajes se acercan a su fecha límite de
+ * inspección o la superan.
+ *
+ * La fecha límite de un traje es su fecha de inspección más {@code vigenciaDias}.
+ * Los trajes pendientes se guardan en un montículo mínimo por la fecha de su
+ * próximo aviso: primero {@code anticipacionDias} antes del límite
+ * ({@link AvisoInspeccion.Tipo#PROXIMA}) y luego el día del límite
+ * ({@link AvisoInspeccion.Tipo#VENCIDA}). Cada revisión periódica solo mira la raíz
+ * del montículo, así que cuesta O(1) si no hay nada que avisar y O(log n) por
+ * aviso, sin recorrer la flota.
+ *
+ * El planificador escucha los eventos del servicio ({@link OyenteTrajes}) y
+ * actualiza el montículo en cada alta, modificación y baja en O(log n); un
+ * reinicio lo reconstruye en O(n). Los trajes vencidos salen del montículo y
+ * quedan en la lista de {@link #vencidas()} hasta que se modifican o eliminan.
+ * Los trajes sin fecha de inspección legible no se planifican.
+ *
+ * Las revisiones se ejecutan en un hilo daemon; los avisos se entregan a los
+ * {@link OyenteInspecciones} en ese hilo, fuera del bloqueo del planificador. Un
+ * error en una revisión o en un oyente no detiene las siguientes; el último queda
+ * en {@link #getUltimoError()} y la interfaz lo muestra en la barra de estado.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see AvisoInspeccion
+ */
+public class PlanificadorInspecciones implements OyenteTrajes {
+
+    /** Días de validez de una inspección por defecto. */
+    public static final int VIGENCIA_POR_DEFECTO = 180;
+
+    /** Días de anticipación del aviso de inspección próxima por defecto. */
+    public static final int ANTICIPACION_POR_DEFECTO = 14;
+
+    /** Periodo de revisión por defecto: un minuto. */
+    public static final long PERIODO_POR_DEFECTO = 60_000L;
+
+    private final int vigenciaDias;
+    private final int anticipacionDias;
+    private final long periodoMillis;
+    private final Clock reloj;
+
+    /** Montículo mínimo por {@link Entrada#proximoAviso()}. */
+    private Entrada[] monticulo = new Entrada[16];
+    private int tamanio;
+
+    /** Trajes pendientes (en el montículo), por ID normalizado. */
+    private final Map<String, Entrada> pendientes = new HashMap<>();
+
+    /** Trajes con aviso de inspección próxima ya entregado (siguen en el montículo). */
+    private final Map<String, AvisoInspeccion> proximas = new LinkedHashMap<>();
+
+    /** Trajes vencidos (fuera del montículo), en el orden en que vencieron. */
+    private final Map<String, AvisoInspeccion> vencidas = new LinkedHashMap<>();
+
+    /** Receptores de los avisos. */
+    private final List<OyenteInspecciones> oyentes = new CopyOnWriteArrayList<>();
+
+    /** Hilo de las revisiones periódicas; null si está detenido. */
+    private ScheduledExecutorService revisiones;
+
+    /** Mensaje del último error de una revisión o de un oyente, o null si no hubo ninguno. */
+    private volatile String ultimoError;
+
+    /**
+     * Crea un planificador con los valores por defecto y el reloj del sistema.
+     */
+    public PlanificadorInspecciones() {
+        this(VIGENCIA_POR_DEFECTO, ANTICIPACION_POR_DEFECTO, PERIODO_POR_DEFECTO, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Crea un planificador.
+     *
+     * @param vigenciaDias días que es válida una inspección
+     * @param anticipacionDias días antes del límite en que se avisa la inspección próxima;
+     *                         0 para avisar solo los vencimientos
+     * @param periodoMillis periodo de las revisiones en milisegundos
+     * @param reloj reloj del que se toma la fecha actual
+     */
+    public PlanificadorInspecciones(int vigenciaDias, int anticipacionDias, long periodoMillis, Clock reloj) {
+        this.vigenciaDias = vigenciaDias;
+        this.anticipacionDias = Math.max(0, anticipacionDias);
+        this.periodoMillis = Math.max(100, periodoMillis);
+        this.reloj = reloj;
+    }
+
+    // ===========================================================
+    //  REVISIONES
+    // ===========================================================
+
+    /**
+     * Inicia las revisiones periódicas, la primera de inmediato. Llamadas repetidas
+     * no tienen efecto.
+     */
+    public synchronized void iniciar() {
+        if (revisiones != null) return;
+
+        revisiones = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "planificador-inspecciones");
+            t.setDaemon(true);
+            return t;
+        });
+        revisiones.scheduleWithFixedDelay(this::revisarProtegido, 0, periodoMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Detiene las revisiones periódicas.
+     */
+    public synchronized void detener() {
+        if (revisiones == null) return;
+        revisiones.shutdown();
+        revisiones = null;
+    }
+
+    /**
+     * Entrega los avisos que correspondan a la fecha actual.
+     *
+     * Lo llama el hilo de revisiones; puede llamarse directamente para revisar
+     * sin esperar el siguiente periodo.
+     *
+     * @return los avisos entregados, en orden de fecha de aviso
+     */
+    public List<AvisoInspeccion> revisar() {
+        List<AvisoInspeccion> nuevos = new ArrayList<>();
+        synchronized (this) {
+            long hoy = LocalDate.now(reloj).toEpochDay();
+            while (tamanio > 0 && monticulo[0].proximoAviso() <= hoy) {
+                Entrada e = monticulo[0];
+                if (!e.avisada && hoy < e.limite) {
+                    // inspección próxima: el siguiente aviso es el vencimiento
+                    e.avisada = true;
+                    hundir(0);
+                    AvisoInspeccion aviso = aviso(AvisoInspeccion.Tipo.PROXIMA, e);
+                    proximas.put(e.clave, aviso);
+                    nuevos.add(aviso);
+                } else {
+                    quitarDelMonticulo(0);
+                    pendientes.remove(e.clave);
+                    proximas.remove(e.clave);
+                    AvisoInspeccion aviso = aviso(AvisoInspeccion.Tipo.VENCIDA, e);
+                    vencidas.put(e.clave, aviso);
+                    nuevos.add(aviso);
+                }
+            }
+        }
+        for (AvisoInspeccion aviso : nuevos) {
+            for (OyenteInspecciones oyente : oyentes) {
+                try {
+                    oyente.aviso(aviso);
+                } catch (RuntimeException e) {
+                    ultimoError = "Error en oyente de inspecciones: " + e.getMessage();
+                }
+            }
+        }
+        return nuevos;
+    }
+
+    private void revisarProtegido() {
+        try {
+            revisar();
+        } catch (RuntimeException e) {
+            // una excepción cancelaría las revisiones siguientes
+            ultimoError = "Error al revisar inspecciones: " + e.getMessage();
+        }
+    }
+
+    // ===========================================================
+    //  CONSULTAS
+    // ===========================================================
+
+    /**
+     * Retorna los días que es válida una inspección.
+     *
+     * @return la vigencia en días
+     */
+    public int getVigenciaDias() {
+        return vigenciaDias;
+    }
+
+    /**
+     * Retorna el mensaje del último error de una revisión o de un oyente de
+     * inspecciones. Una revisión exitosa posterior no lo borra.
+     *
+     * @return el mensaje, o null si nunca falló
+     */
+    public String getUltimoError() {
+        return ultimoError;
+    }
+
+    /**
+     * Retorna los trajes vencidos que siguen sin modificarse.
+     *
+     * @return una lista nueva, en el orden en que vencieron
+     */
+    public synchronized List<AvisoInspeccion> vencidas() {
+        return new ArrayList<>(vencidas.values());
+    }
+
+    /**
+     * Retorna los trajes avisados como próximos a vencer que todavía no vencieron.
+     *
+     * @return una lista nueva, en el orden en que se avisaron
+     */
+    public synchronized List<AvisoInspeccion> proximas() {
+        return new ArrayList<>(proximas.values());
+    }
+
+    /**
+     * Retorna la cantidad de trajes vencidos.
+     *
+     * @return el número de trajes
+     */
+    public synchronized int cantidadVencidas() {
+        return vencidas.size();
+    }
+
+    /**
+     * Retorna la cantidad de trajes avisados como próximos a vencer.
+     *
+     * @return el número de trajes
+     */
+    public synchronized int cantidadProximas() {
+        return proximas.size();
+    }
+
+    /**
+     * Retorna la fecha del próximo aviso pendiente, en O(1).
+     *
+     * @return la fecha, o null si no hay trajes pendientes
+     */
+    public synchronized LocalDate proximoAviso() {
+        return (tamanio == 0) ? null : LocalDate.ofEpochDay(monticulo[0].proximoAviso());
+    }
+
+    // ===========================================================
+    //  OYENTES
+    // ===========================================================
+
+    /**
+     * Registra un receptor de avisos.
+     *
+     * @param oyente el receptor
+     */
+    public void agregarOyente(OyenteInspecciones oyente) {
+        if (oyente != null) oyentes.add(oyente);
+    }
+
+    /**
+     * Retira un receptor de avisos.
+     *
+     * @param oyente el receptor
+     */
+    public void quitarOyente(OyenteInspecciones oyente) {
+        oyentes.remove(oyente);
+    }
+
+    // ===========================================================
+    //  EVENTOS DEL SERVICIO
+    // ===========================================================
+
+    @Override
+    public synchronized void cambio(EventoTraje evento) {
+        switch (evento.getTipo()) {
+            case AGREGADO:
+                programar(evento.getTraje());
+                break;
+            case ACTUALIZADO:
+                olvidar(evento.getId());
+                programar(evento.getTraje());
+                break;
+            case ELIMINADO:
+                olvidar(evento.getId());
+                break;
+            case REINICIO:
+                reconstruir(evento.getContenido());
+                break;
+        }
+    }
+
+    private void programar(Traje_Espacial t) {
+        String id = t.getIdTraje();
+        int dia = IndiceFechas.diaEpoch(t.getFechaInspeccion());
+        if (id == null || dia == IndiceFechas.SIN_FECHA) return;
+
+        Entrada e = new Entrada(RepositorioTrajes.normalizar(id), id, dia + (long) vigenciaDias);
+        if (pendientes.containsKey(e.clave) || vencidas.containsKey(e.clave)) olvidar(id);
+        pendientes.put(e.clave, e);
+        if (tamanio == monticulo.length) monticulo = Arrays.copyOf(monticulo, tamanio * 2);
+        e.posicion = tamanio;
+        monticulo[tamanio++] = e;
+        subir(e.posicion);
+    }
+
+    private void olvidar(String id) {
+        String clave = RepositorioTrajes.normalizar(id);
+        vencidas.remove(clave);
+        proximas.remove(clave);
+        Entrada e = pendientes.remove(clave);
+        if (e != null) quitarDelMonticulo(e.posicion);
+    }
+
+    /** Reemplaza todo el contenido y arma el montículo de una vez, en O(n). */
+    private void reconstruir(List<Traje_Espacial> contenido) {
+        pendientes.clear();
+        proximas.clear();
+        vencidas.clear();
+        monticulo = new Entrada[Math.max(16, contenido.size())];
+        tamanio = 0;
+
+        for (Traje_Espacial t : contenido) {
+            String id = t.getIdTraje();
+            int dia = IndiceFechas.diaEpoch(t.getFechaInspeccion());
+            if (id == null || dia == IndiceFechas.SIN_FECHA) continue;
+
+            Entrada e = new Entrada(RepositorioTrajes.normalizar(id), id, dia + (long) vigenciaDias);
+            if (pendientes.putIfAbsent(e.clave, e) != null) continue;
+            e.posicion = tamanio;
+            monticulo[tamanio++] = e;
+        }
+        for (int i = tamanio / 2 - 1; i >= 0; i--) {
+            hundir(i);
+        }
+    }
+
+    private AvisoInspeccion aviso(AvisoInspeccion.Tipo tipo, Entrada e) {
+        return new AvisoInspeccion(tipo, e.id, LocalDate.ofEpochDay(e.limite));
+    }
+
+    // ===========================================================
+    //  MONTÍCULO
+    // ===========================================================
+
+    private void quitarDelMonticulo(int i) {
+        Entrada ultima = monticulo[--tamanio];
+        monticulo[tamanio] = null;
+        if (i == tamanio) return;
+
+        ultima.posicion = i;
+        monticulo[i] = ultima;
+        hundir(i);
+        subir(ultima.posicion);
+    }
+
+    private void subir(int i) {
+        Entrada e = monticulo[i];
+        while (i > 0) {
+            int padre = (i - 1) >>> 1;
+            if (monticulo[padre].proximoAviso() <= e.proximoAviso()) break;
+            colocar(monticulo[padre], i);
+            i = padre;
+        }
+        colocar(e, i);
+    }
+
+    private void hundir(int i) {
+        Entrada e = monticulo[i];
+        int mitad = tamanio >>> 1;
+        while (i < mitad) {
+            int hijo = 2 * i + 1;
+            if (hijo + 1 < tamanio && monticulo[hijo + 1].proximoAviso() < monticulo[hijo].proximoAviso()) hijo++;
+            if (e.proximoAviso() <= monticulo[hijo].proximoAviso()) break;
+            colocar(monticulo[hijo], i);
+            i = hijo;
+        }
+        colocar(e, i);
+    }
+
+    private void colocar(Entrada e, int i) {
+        monticulo[i] = e;
+        e.posicion = i;
+    }
+
+    /** Traje pendiente en el montículo. */
+    private final class Entrada {
+
+        final String clave;
+        final String id;
+
+        /** Día epoch de la fecha límite. */
+        final long limite;
+
+        /** Si ya se entregó el aviso de inspección próxima. */
+        boolean avisada;
+
+        /** Posición en el montículo. */
+        int posicion;
+
+        Entrada(String clave, String id, long limite) {
+            this.clave = clave;
+            this.id = id;
+            this.limite = limite;
+            this.avisada = anticipacionDias == 0;
+        }
+
+        /** Día epoch del siguiente aviso de este traje. */
+        long proximoAviso() {
+            return avisada ? limite : limite - anticipacionDias;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package Space_Suit_Manager.Servicios;
+
+/**
+ * Receptor del avance de una operación larga de persistencia.
+ *
+ * Las operaciones de carga y guardado informan cuántos trajes llevan procesados y
+ * consultan periódicamente {@link #cancelado()}; si retorna true, abandonan el
+ * trabajo sin modificar el estado del servicio.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImplementacionOperacionTraje#deserializar(String, String, ProgresoOperacion)
+ * @see ImplementacionOperacionTraje#serializar(String, String, ProgresoOperacion)
+ */
+@FunctionalInterface
+public interface ProgresoOperacion {
+
+    /** Receptor que ignora el avance y nunca cancela. */
+    ProgresoOperacion NINGUNO = (hechos, total) -> { };
+
+    /**
+     * Informa el avance de la operación.
+     *
+     * @param hechos los elementos procesados hasta ahora
+     * @param total el total de elementos, o -1 si no se conoce
+     */
+    void actualizar(long hechos, long total);
+
+    /**
+     * Indica si la operación debe abandonarse.
+     *
+     * @return true si se pidió cancelar
+     */
+    default boolean cancelado() {
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package Space_Suit_Manager.Servicios;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Lista de oyentes de un servicio y entrega de eventos.
+ *
+ * Se puede registrar y retirar oyentes desde cualquier hilo, incluso durante una
+ * publicación. Un oyente que lanza una excepción no impide que los demás reciban
+ * el evento ni interrumpe la operación que lo originó; el mensaje del último error
+ * queda en {@link #getUltimoError()}.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see NotificadorTrajes
+ */
+final class PublicadorEventosTraje {
+
+    /** Oyentes registrados. */
+    private final List<OyenteTrajes> oyentes = new CopyOnWriteArrayList<>();
+
+    /** Mensaje del último error de un oyente, o null si no hubo ninguno. */
+    private volatile String ultimoError;
+
+    void agregar(OyenteTrajes oyente) {
+        if (oyente != null) oyentes.add(oyente);
+    }
+
+    void quitar(OyenteTrajes oyente) {
+        oyentes.remove(oyente);
+    }
+
+    /**
+     * Indica si hay oyentes; permite evitar armar eventos costosos, como el
+     * contenido completo de un reinicio, cuando nadie los va a recibir.
+     */
+    boolean hayOyentes() {
+        return !oyentes.isEmpty();
+    }
+
+    void publicar(EventoTraje evento) {
+        for (OyenteTrajes oyente : oyentes) {
+            try {
+                oyente.cambio(evento);
+            } catch (RuntimeException e) {
+                ultimoError = "Error en oyente de trajes: " + e.getMessage();
+            }
+        }
+    }
+
+    String getUltimoError() {
+        return ultimoError;
+    }
+}
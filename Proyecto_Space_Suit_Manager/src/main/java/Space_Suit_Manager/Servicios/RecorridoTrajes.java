@@ -0,0 +1,120 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Recorrido divisible del orden de inserción de un {@link RepositorioTrajes}, para
+ * recorrer la flota por lotes o con un stream paralelo sin copiarla.
+ *
+ * El recorrido cubre un rango de números de secuencia de {@link OrdenInsercion} y
+ * lee los trajes de a {@link #LOTE}, tomando el bloqueo del servicio solo mientras
+ * copia cada lote: las operaciones CRUD pueden intercalarse entre lotes, y la acción
+ * sobre cada traje se ejecuta sin el bloqueo. Como la secuencia de un traje no
+ * cambia, el recorrido retoma donde quedó aunque el repositorio se haya compactado.
+ *
+ * El recorrido es débilmente consistente: cada traje presente durante todo el
+ * recorrido se entrega exactamente una vez, y los que se agregan, modifican o eliminan
+ * mientras tanto pueden entregarse o no. Los trajes agregados después de crearlo
+ * nunca se entregan, así que siempre termina. Dividirlo parte el rango de ranuras
+ * por la mitad, en O(log n).
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see RepositorioTrajes#recorrido(Object)
+ */
+final class RecorridoTrajes implements Spliterator<Traje_Espacial> {
+
+    /** Trajes que se copian por cada toma del bloqueo. */
+    static final int LOTE = 1024;
+
+    /** Cantidad mínima de ranuras para dividir el recorrido. */
+    private static final int MINIMO_DIVISION = 4 * LOTE;
+
+    /** Monitor que protege al repositorio. */
+    private final Object cerrojo;
+
+    private final OrdenInsercion orden;
+
+    /** Secuencia del próximo traje a copiar. */
+    private long desde;
+
+    /** Primera secuencia fuera del recorrido. */
+    private final long hasta;
+
+    /** Trajes copiados pendientes de entregar, desde {@link #entregados}. */
+    private final List<Traje_Espacial> lote = new ArrayList<>();
+
+    private int entregados;
+
+    RecorridoTrajes(Object cerrojo, OrdenInsercion orden, long desde, long hasta) {
+        this.cerrojo = cerrojo;
+        this.orden = orden;
+        this.desde = desde;
+        this.hasta = hasta;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Traje_Espacial> accion) {
+        if (entregados == lote.size() && !leerLote()) return false;
+        accion.accept(lote.get(entregados++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Traje_Espacial> accion) {
+        do {
+            while (entregados < lote.size()) {
+                accion.accept(lote.get(entregados++));
+            }
+        } while (leerLote());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Solo se divide si no quedan trajes copiados sin entregar, para que la parte
+     * retornada sea siempre la primera.
+     */
+    @Override
+    public Spliterator<Traje_Espacial> trySplit() {
+        if (entregados < lote.size()) return null;
+        long medio;
+        synchronized (cerrojo) {
+            medio = orden.mitad(desde, hasta, MINIMO_DIVISION);
+        }
+        if (medio < 0) return null;
+
+        RecorridoTrajes primeraMitad = new RecorridoTrajes(cerrojo, orden, desde, medio);
+        desde = medio;
+        return primeraMitad;
+    }
+
+    @Override
+    public long estimateSize() {
+        synchronized (cerrojo) {
+            return orden.contar(desde, hasta) + (lote.size() - entregados);
+        }
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | CONCURRENT;
+    }
+
+    /** Copia el lote siguiente; retorna false si ya no quedan trajes. */
+    private boolean leerLote() {
+        lote.clear();
+        entregados = 0;
+        if (desde >= hasta) return false;
+        synchronized (cerrojo) {
+            desde = orden.copiar(desde, hasta, lote, LOTE);
+        }
+        return !lote.isEmpty();
+    }
+}
@@ -0,0 +1,269 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Resumen de la flota en una fecha: trajes por valor de cada
+ * {@link AtributoCategorico} (talla, terreno, simulador y material), distribución
+ * del peso soportado y proporción de inspecciones vencidas.
+ *
+ * Un traje está vencido si su fecha de inspección más {@code vigenciaDias} no es
+ * posterior a la fecha del reporte, la misma regla de {@link PlanificadorInspecciones}.
+ * La distribución del peso cuenta los trajes por intervalos de
+ * {@link #ANCHO_INTERVALO_PESO} kilogramos y, como el promedio, el mínimo y el
+ * máximo, solo considera los pesos finitos.
+ *
+ * {@link #calcular(Stream, LocalDate, int)} arma el reporte con una reducción sobre
+ * un stream: con un stream paralelo, cada hilo del fork/join común acumula sus
+ * propios contadores y estos se combinan al final, sin bloqueos ni estado
+ * compartido. {@link ImplementacionOperacionTraje} no necesita recorrer la flota:
+ * su repositorio mantiene los mismos contadores en cada cambio.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see OperacionArchivo#reporte(LocalDate, int)
+ */
+public final class ReporteFlota {
+
+    /** Ancho en kilogramos de los intervalos de la distribución del peso. */
+    public static final double ANCHO_INTERVALO_PESO = 10.0;
+
+    private final LocalDate fecha;
+    private final int vigenciaDias;
+    private final int total;
+    private final int vencidos;
+    private final int sinFecha;
+    private final int pesosValidos;
+    private final double promedioPeso;
+    private final double minimoPeso;
+    private final double maximoPeso;
+    private final Map<AtributoCategorico, Map<String, Integer>> conteos = new EnumMap<>(AtributoCategorico.class);
+    private final NavigableMap<Double, Integer> distribucionPeso = new TreeMap<>();
+
+    /**
+     * Crea un reporte a partir de los contadores de la flota.
+     *
+     * @param contadores los contadores, que no se conservan
+     * @param fecha la fecha del reporte
+     * @param vigenciaDias días de validez de una inspección
+     * @param vencidos trajes con la inspección vencida en esa fecha
+     * @param minimoPeso el menor peso finito, o NaN si no hay
+     * @param maximoPeso el mayor peso finito, o NaN si no hay
+     */
+    ReporteFlota(ContadoresFlota contadores, LocalDate fecha, int vigenciaDias, int vencidos,
+                 double minimoPeso, double maximoPeso) {
+        this.fecha = fecha;
+        this.vigenciaDias = vigenciaDias;
+        this.total = contadores.total;
+        this.vencidos = vencidos;
+        this.sinFecha = contadores.sinFecha;
+        this.pesosValidos = contadores.pesosValidos;
+        this.promedioPeso = (pesosValidos == 0) ? Double.NaN : contadores.sumaPesos / pesosValidos;
+        this.minimoPeso = minimoPeso + 0.0;
+        this.maximoPeso = maximoPeso + 0.0;
+
+        contadores.porValor.forEach((atributo, porValor) -> {
+            List<Map.Entry<String, int[]>> valores = new ArrayList<>(porValor.entrySet());
+            // de más a menos trajes; a igual cantidad, por valor y el null al final
+            valores.sort(Comparator.<Map.Entry<String, int[]>>comparingInt(e -> -e.getValue()[0])
+                    .thenComparing(Map.Entry::getKey, Comparator.nullsLast(Comparator.naturalOrder())));
+            Map<String, Integer> ordenados = new LinkedHashMap<>();
+            for (Map.Entry<String, int[]> e : valores) {
+                ordenados.put(e.getKey(), e.getValue()[0]);
+            }
+            conteos.put(atributo, Collections.unmodifiableMap(ordenados));
+        });
+        contadores.porIntervalo.forEach((i, n) -> distribucionPeso.put(i * ANCHO_INTERVALO_PESO + 0.0, n[0]));
+    }
+
+    /**
+     * Calcula el reporte recorriendo los trajes de un stream.
+     *
+     * Si el stream es paralelo, el recorrido se reparte entre los hilos del
+     * fork/join común y cada parte se resume por separado; el resultado no depende
+     * del orden de los trajes.
+     *
+     * @param trajes los trajes, sin elementos null
+     * @param fecha la fecha del reporte
+     * @param vigenciaDias días de validez de una inspección
+     * @return el reporte
+     */
+    public static ReporteFlota calcular(Stream<? extends Traje_Espacial> trajes, LocalDate fecha, int vigenciaDias) {
+        long limite = fecha.toEpochDay() - vigenciaDias;
+        return trajes.collect(Collector.of(
+                () -> new Acumulador(limite),
+                Acumulador::agregar,
+                Acumulador::combinar,
+                a -> new ReporteFlota(a.contadores, fecha, vigenciaDias, a.vencidos,
+                        (a.contadores.pesosValidos == 0) ? Double.NaN : a.minimo,
+                        (a.contadores.pesosValidos == 0) ? Double.NaN : a.maximo),
+                Collector.Characteristics.UNORDERED));
+    }
+
+    /** Contadores de una parte del recorrido de {@link #calcular}. */
+    private static final class Acumulador {
+
+        final ContadoresFlota contadores = new ContadoresFlota();
+        final long limite;
+        int vencidos;
+        double minimo = Double.POSITIVE_INFINITY;
+        double maximo = Double.NEGATIVE_INFINITY;
+
+        Acumulador(long limite) {
+            this.limite = limite;
+        }
+
+        void agregar(Traje_Espacial t) {
+            int dia = IndiceFechas.diaEpoch(t.getFechaInspeccion());
+            contadores.agregar(t, dia);
+            if (dia != IndiceFechas.SIN_FECHA && dia <= limite) vencidos++;
+            double peso = t.getPesoSoportado();
+            if (Double.isFinite(peso)) {
+                minimo = Math.min(minimo, peso);
+                maximo = Math.max(maximo, peso);
+            }
+        }
+
+        Acumulador combinar(Acumulador otro) {
+            contadores.combinar(otro.contadores);
+            vencidos += otro.vencidos;
+            minimo = Math.min(minimo, otro.minimo);
+            maximo = Math.max(maximo, otro.maximo);
+            return this;
+        }
+    }
+
+    /**
+     * Retorna la fecha del reporte.
+     *
+     * @return la fecha con la que se contaron los vencimientos
+     */
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    /**
+     * Retorna los días de validez de una inspección usados en el reporte.
+     *
+     * @return la vigencia en días
+     */
+    public int getVigenciaDias() {
+        return vigenciaDias;
+    }
+
+    /**
+     * Retorna la cantidad de trajes de la flota.
+     *
+     * @return el número de trajes
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Retorna los trajes por valor de un atributo, de más a menos trajes.
+     *
+     * Solo cuenta los trajes de la clase que tiene el atributo; la clave null
+     * agrupa los que lo tienen en null.
+     *
+     * @param atributo el atributo
+     * @return un mapa no modificable de valor a cantidad de trajes
+     */
+    public Map<String, Integer> getConteos(AtributoCategorico atributo) {
+        return conteos.get(atributo);
+    }
+
+    /**
+     * Retorna la cantidad de trajes con la inspección vencida.
+     *
+     * @return el número de trajes
+     */
+    public int getVencidos() {
+        return vencidos;
+    }
+
+    /**
+     * Retorna la proporción de la flota con la inspección vencida.
+     *
+     * @return un valor entre 0 y 1, o 0 si la flota está vacía
+     */
+    public double getProporcionVencidos() {
+        return (total == 0) ? 0 : (double) vencidos / total;
+    }
+
+    /**
+     * Retorna la cantidad de trajes sin fecha de inspección legible, que no se
+     * cuentan como vencidos.
+     *
+     * @return el número de trajes
+     */
+    public int getSinFecha() {
+        return sinFecha;
+    }
+
+    /**
+     * Retorna la cantidad de trajes con peso finito.
+     *
+     * @return el número de trajes considerados en la distribución del peso
+     */
+    public int getPesosValidos() {
+        return pesosValidos;
+    }
+
+    /**
+     * Retorna el peso promedio.
+     *
+     * @return el promedio de los pesos finitos, o NaN si no hay
+     */
+    public double getPromedioPeso() {
+        return promedioPeso;
+    }
+
+    /**
+     * Retorna el menor peso.
+     *
+     * @return el menor peso finito, o NaN si no hay
+     */
+    public double getMinimoPeso() {
+        return minimoPeso;
+    }
+
+    /**
+     * Retorna el mayor peso.
+     *
+     * @return el mayor peso finito, o NaN si no hay
+     */
+    public double getMaximoPeso() {
+        return maximoPeso;
+    }
+
+    /**
+     * Retorna la distribución del peso: la cantidad de trajes de cada intervalo no
+     * vacío, por su límite inferior.
+     *
+     * @return un mapa no modificable, en orden de peso
+     */
+    public NavigableMap<Double, Integer> getDistribucionPeso() {
+        return Collections.unmodifiableNavigableMap(distribucionPeso);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReporteFlota[%s, %d trajes, %d vencidos (%.1f%%), peso promedio %.1f]",
+                fecha, total, vencidos, 100 * getProporcionVencidos(), promedioPeso);
+    }
+}
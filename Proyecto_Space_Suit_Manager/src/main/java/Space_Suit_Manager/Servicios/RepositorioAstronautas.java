@@ -0,0 +1,216 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Astronauta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Repositorio en memoria de astronautas indexado por identificador.
+ *
+ * Como {@link RepositorioTrajes}, guarda cada astronauta por su identificador
+ * normalizado ({@link RepositorioTrajes#normalizar(String)}), así que buscar,
+ * detectar duplicados y eliminar cuestan O(1) esperado, y el recorrido completo
+ * devuelve los astronautas en orden de inserción. Mantiene además un índice hash
+ * por rango y uno ordenado por años de experiencia, de modo que los astronautas
+ * de un rango o de un rango de experiencia se obtienen sin recorrer la
+ * tripulación. Por eso los astronautas no deben modificarse mientras están en el
+ * repositorio; para cambiarlos se reemplazan.
+ *
+ * Esta clase no es segura para uso concurrente; la sincronización es
+ * responsabilidad de quien la utiliza.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see CodecTripulacion
+ */
+public class RepositorioAstronautas {
+
+    /** Astronautas por identificador normalizado, en orden de inserción. */
+    private final Map<String, Astronauta> porId = new LinkedHashMap<>();
+
+    /** Los mismos astronautas, por rango. */
+    private final IndiceAgrupado<String, Astronauta> porRango = IndiceAgrupado.hash();
+
+    /** Los mismos astronautas, por años de experiencia. */
+    private final IndiceAgrupado<Integer, Astronauta> porExperiencia = IndiceAgrupado.ordenado();
+
+    /**
+     * Indica si existe un astronauta con el identificador dado.
+     *
+     * @param id el identificador del astronauta
+     * @return true si el astronauta existe en el repositorio
+     */
+    public boolean contiene(String id) {
+        return id != null && porId.containsKey(RepositorioTrajes.normalizar(id));
+    }
+
+    /**
+     * Busca un astronauta por su identificador, sin distinguir mayúsculas de minúsculas.
+     *
+     * @param id el identificador del astronauta
+     * @return el astronauta encontrado, o null si no existe
+     */
+    public Astronauta buscar(String id) {
+        return (id == null) ? null : porId.get(RepositorioTrajes.normalizar(id));
+    }
+
+    /**
+     * Agrega un astronauta al final del orden de inserción si su identificador no existe.
+     *
+     * @param a el astronauta a agregar
+     * @return true si se agregó, false si no tiene identificador o ya existía uno con ese identificador
+     */
+    public boolean agregar(Astronauta a) {
+        if (a == null || a.getId() == null) return false;
+        String clave = RepositorioTrajes.normalizar(a.getId());
+        if (porId.containsKey(clave)) return false;
+        insertar(clave, a);
+        return true;
+    }
+
+    /**
+     * Reemplaza el astronauta asociado a un identificador.
+     *
+     * El astronauta anterior se retira y el nuevo se ubica al final del orden de
+     * inserción, igual que en {@link RepositorioTrajes#reemplazar}.
+     *
+     * @param idAnterior el identificador del astronauta a reemplazar
+     * @param a el nuevo astronauta
+     * @return el astronauta reemplazado, o null si no existía, si el nuevo no tiene
+     *         identificador o si su identificador pertenece a otro astronauta
+     */
+    public Astronauta reemplazar(String idAnterior, Astronauta a) {
+        if (idAnterior == null || a == null || a.getId() == null) return null;
+        String claveAnterior = RepositorioTrajes.normalizar(idAnterior);
+        String claveNueva = RepositorioTrajes.normalizar(a.getId());
+
+        if (!porId.containsKey(claveAnterior)) return null;
+        if (!claveNueva.equals(claveAnterior) && porId.containsKey(claveNueva)) return null;
+
+        Astronauta anterior = retirar(claveAnterior);
+        insertar(claveNueva, a);
+        return anterior;
+    }
+
+    /**
+     * Elimina el astronauta con el identificador dado.
+     *
+     * @param id el identificador del astronauta
+     * @return el astronauta eliminado, o null si no existía
+     */
+    public Astronauta eliminar(String id) {
+        return (id == null) ? null : retirar(RepositorioTrajes.normalizar(id));
+    }
+
+    /**
+     * Reemplaza todo el contenido del repositorio por los astronautas indicados.
+     *
+     * Se insertan en el orden recibido; los que no tienen identificador se omiten y,
+     * si hay identificadores repetidos, se conserva la primera aparición.
+     *
+     * @param astronautas los astronautas a cargar, o null para vaciar el repositorio
+     */
+    public void cargar(Collection<? extends Astronauta> astronautas) {
+        porId.clear();
+        porRango.limpiar();
+        porExperiencia.limpiar();
+        if (astronautas == null) return;
+        for (Astronauta a : astronautas) {
+            agregar(a);
+        }
+    }
+
+    /**
+     * Retorna la cantidad de astronautas almacenados.
+     *
+     * @return el número de astronautas
+     */
+    public int tamanio() {
+        return porId.size();
+    }
+
+    /**
+     * Aplica una acción a cada astronauta en orden de inserción, sin copiar la colección.
+     *
+     * @param accion la acción a aplicar; no debe modificar el repositorio
+     */
+    public void recorrer(Consumer<? super Astronauta> accion) {
+        porId.values().forEach(accion);
+    }
+
+    /**
+     * Retorna una copia de los astronautas en orden de inserción.
+     *
+     * @return una nueva lista con todos los astronautas
+     */
+    public List<Astronauta> listar() {
+        return new ArrayList<>(porId.values());
+    }
+
+    // ===========================================================
+    //  ÍNDICES SECUNDARIOS
+    // ===========================================================
+
+    /**
+     * Retorna los astronautas de un rango, usando el índice por rango: el costo
+     * depende de la cantidad retornada y no del tamaño de la tripulación.
+     *
+     * @param rango el rango, comparado exactamente; null para los que no tienen rango
+     * @return una lista nueva, en orden de inserción
+     */
+    public List<Astronauta> buscarPorRango(String rango) {
+        return porRango.de(rango);
+    }
+
+    /**
+     * Cuenta los astronautas de un rango en O(1).
+     *
+     * @param rango el rango; null para los que no tienen rango
+     * @return el número de astronautas
+     */
+    public int contarPorRango(String rango) {
+        return porRango.contar(rango);
+    }
+
+    /**
+     * Retorna la cantidad de astronautas de cada rango.
+     *
+     * @return un mapa nuevo de rango a cantidad, que incluye null si hay astronautas sin rango
+     */
+    public Map<String, Integer> cantidadPorRango() {
+        return porRango.conteos();
+    }
+
+    /**
+     * Retorna los astronautas con los años de experiencia en un rango, usando el
+     * índice por experiencia, en O(log e + k), con e la cantidad de valores
+     * distintos de experiencia y k la de astronautas retornados.
+     *
+     * @param minimo los menores años incluidos, o null para no acotar por abajo
+     * @param maximo los mayores años incluidos, o null para no acotar por arriba
+     * @return una lista nueva, de menos a más experiencia y luego en orden de inserción
+     */
+    public List<Astronauta> buscarPorExperiencia(Integer minimo, Integer maximo) {
+        return porExperiencia.entre(minimo, maximo);
+    }
+
+    private void insertar(String clave, Astronauta a) {
+        porId.put(clave, a);
+        porRango.agregar(a.getRango(), clave, a);
+        porExperiencia.agregar(a.getExperiencia(), clave, a);
+    }
+
+    private Astronauta retirar(String clave) {
+        Astronauta a = porId.remove(clave);
+        if (a == null) return null;
+        porRango.quitar(a.getRango(), clave);
+        porExperiencia.quitar(a.getExperiencia(), clave);
+        return a;
+    }
+}
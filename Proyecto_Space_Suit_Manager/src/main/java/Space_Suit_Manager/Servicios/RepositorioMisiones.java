@@ -0,0 +1,182 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.MisionEspacial;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Repositorio en memoria de misiones espaciales indexado por código.
+ *
+ * Como {@link RepositorioTrajes}, guarda cada misión por su código normalizado
+ * ({@link RepositorioTrajes#normalizar(String)}), así que buscar, detectar
+ * duplicados y eliminar cuestan O(1) esperado, y el recorrido completo devuelve
+ * las misiones en orden de inserción. Mantiene además un índice ordenado por día
+ * de lanzamiento, con las fechas convertidas una sola vez como en
+ * {@link IndiceFechas}, de modo que las misiones lanzadas en un rango de fechas se
+ * obtienen sin recorrer el catálogo; las misiones sin fecha o con una fecha que no
+ * está en formato {@code AAAA-MM-DD} no se indexan. Por eso las misiones no deben
+ * modificarse mientras están en el repositorio; para cambiarlas se reemplazan.
+ *
+ * Esta clase no es segura para uso concurrente; la sincronización es
+ * responsabilidad de quien la utiliza.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see CodecTripulacion
+ */
+public class RepositorioMisiones {
+
+    /** Misiones por código normalizado, en orden de inserción. */
+    private final Map<String, MisionEspacial> porCodigo = new LinkedHashMap<>();
+
+    /** Las mismas misiones con fecha legible, por día epoch de lanzamiento. */
+    private final IndiceAgrupado<Integer, MisionEspacial> porLanzamiento = IndiceAgrupado.ordenado();
+
+    /**
+     * Indica si existe una misión con el código dado.
+     *
+     * @param codigo el código de la misión
+     * @return true si la misión existe en el repositorio
+     */
+    public boolean contiene(String codigo) {
+        return codigo != null && porCodigo.containsKey(RepositorioTrajes.normalizar(codigo));
+    }
+
+    /**
+     * Busca una misión por su código, sin distinguir mayúsculas de minúsculas.
+     *
+     * @param codigo el código de la misión
+     * @return la misión encontrada, o null si no existe
+     */
+    public MisionEspacial buscar(String codigo) {
+        return (codigo == null) ? null : porCodigo.get(RepositorioTrajes.normalizar(codigo));
+    }
+
+    /**
+     * Agrega una misión al final del orden de inserción si su código no existe.
+     *
+     * @param m la misión a agregar
+     * @return true si se agregó, false si no tiene código o ya existía una con ese código
+     */
+    public boolean agregar(MisionEspacial m) {
+        if (m == null || m.getCodigoMision() == null) return false;
+        String clave = RepositorioTrajes.normalizar(m.getCodigoMision());
+        if (porCodigo.containsKey(clave)) return false;
+        insertar(clave, m);
+        return true;
+    }
+
+    /**
+     * Reemplaza la misión asociada a un código.
+     *
+     * La misión anterior se retira y la nueva se ubica al final del orden de
+     * inserción, igual que en {@link RepositorioTrajes#reemplazar}.
+     *
+     * @param codigoAnterior el código de la misión a reemplazar
+     * @param m la nueva misión
+     * @return la misión reemplazada, o null si no existía, si la nueva no tiene
+     *         código o si su código pertenece a otra misión
+     */
+    public MisionEspacial reemplazar(String codigoAnterior, MisionEspacial m) {
+        if (codigoAnterior == null || m == null || m.getCodigoMision() == null) return null;
+        String claveAnterior = RepositorioTrajes.normalizar(codigoAnterior);
+        String claveNueva = RepositorioTrajes.normalizar(m.getCodigoMision());
+
+        if (!porCodigo.containsKey(claveAnterior)) return null;
+        if (!claveNueva.equals(claveAnterior) && porCodigo.containsKey(claveNueva)) return null;
+
+        MisionEspacial anterior = retirar(claveAnterior);
+        insertar(claveNueva, m);
+        return anterior;
+    }
+
+    /**
+     * Elimina la misión con el código dado.
+     *
+     * @param codigo el código de la misión
+     * @return la misión eliminada, o null si no existía
+     */
+    public MisionEspacial eliminar(String codigo) {
+        return (codigo == null) ? null : retirar(RepositorioTrajes.normalizar(codigo));
+    }
+
+    /**
+     * Reemplaza todo el contenido del repositorio por las misiones indicadas.
+     *
+     * Se insertan en el orden recibido; las que no tienen código se omiten y, si
+     * hay códigos repetidos, se conserva la primera aparición.
+     *
+     * @param misiones las misiones a cargar, o null para vaciar el repositorio
+     */
+    public void cargar(Collection<? extends MisionEspacial> misiones) {
+        porCodigo.clear();
+        porLanzamiento.limpiar();
+        if (misiones == null) return;
+        for (MisionEspacial m : misiones) {
+            agregar(m);
+        }
+    }
+
+    /**
+     * Retorna la cantidad de misiones almacenadas.
+     *
+     * @return el número de misiones
+     */
+    public int tamanio() {
+        return porCodigo.size();
+    }
+
+    /**
+     * Aplica una acción a cada misión en orden de inserción, sin copiar la colección.
+     *
+     * @param accion la acción a aplicar; no debe modificar el repositorio
+     */
+    public void recorrer(Consumer<? super MisionEspacial> accion) {
+        porCodigo.values().forEach(accion);
+    }
+
+    /**
+     * Retorna una copia de las misiones en orden de inserción.
+     *
+     * @return una nueva lista con todas las misiones
+     */
+    public List<MisionEspacial> listar() {
+        return new ArrayList<>(porCodigo.values());
+    }
+
+    /**
+     * Retorna las misiones lanzadas en un rango de fechas, usando el índice por
+     * fecha de lanzamiento: el costo depende de la cantidad de días distintos del
+     * rango y de misiones retornadas, y no del tamaño del catálogo.
+     *
+     * @param desde la primera fecha incluida, o null para no acotar por abajo
+     * @param hasta la última fecha incluida, o null para no acotar por arriba
+     * @return una lista nueva, en orden de fecha y, dentro del mismo día, de inserción
+     */
+    public List<MisionEspacial> buscarPorLanzamiento(LocalDate desde, LocalDate hasta) {
+        Integer min = (desde == null) ? null : (int) Math.max(Integer.MIN_VALUE, desde.toEpochDay());
+        Integer max = (hasta == null) ? null : (int) Math.min(Integer.MAX_VALUE, hasta.toEpochDay());
+        return porLanzamiento.entre(min, max);
+    }
+
+    private void insertar(String clave, MisionEspacial m) {
+        porCodigo.put(clave, m);
+        int dia = IndiceFechas.diaEpoch(m.getFechaLanzamiento());
+        if (dia != IndiceFechas.SIN_FECHA) porLanzamiento.agregar(dia, clave, m);
+    }
+
+    private MisionEspacial retirar(String clave) {
+        MisionEspacial m = porCodigo.remove(clave);
+        if (m == null) return null;
+        int dia = IndiceFechas.diaEpoch(m.getFechaLanzamiento());
+        if (dia != IndiceFechas.SIN_FECHA) porLanzamiento.quitar(dia, clave);
+        return m;
+    }
+}
@@ -0,0 +1,569 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Repositorio en memoria de trajes espaciales indexado por identificador.
+ *
+ * Mantiene un mapa hash cuya clave es el identificador del traje normalizado
+ * (insensible a mayúsculas y minúsculas) y un {@link OrdenInsercion} con el orden
+ * de inserción. De esta forma las búsquedas, la detección de duplicados y las
+ * eliminaciones tienen costo O(1) esperado, el recorrido completo devuelve los
+ * trajes en el mismo orden en que fueron agregados y una página de ese orden se
+ * obtiene en O(log n) más su tamaño.
+ *
+ * Mantiene también una {@link VistaOrdenada} por cada {@link OrdenTrajes} distinto
+ * del de inserción, actualizada en cada alta, reemplazo y baja: una página de la
+ * flota ordenada por identificador, peso o fecha se obtiene en O(log n) más su
+ * tamaño, sin ordenar nada al pedirla, y la vista por identificador sirve además
+ * para sugerir identificadores a partir de un prefijo. Además mantiene un
+ * {@link IndiceFechas} para consultar rangos de fechas sin recorrer la flota, y los
+ * {@link IndiceSecundario} registrados, que usa {@link #consultar(ConsultaTrajes)}, y los
+ * {@link ContadoresFlota} con los que {@link #reporte(LocalDate, int)} resume la
+ * flota sin recorrerla. Por eso los trajes no deben modificarse mientras están en
+ * el repositorio; para cambiarlos se reemplazan.
+ *
+ * La normalización de la clave reproduce exactamente la comparación de
+ * {@link String#equalsIgnoreCase(String)}, de modo que dos identificadores se
+ * consideran iguales en el repositorio si y solo si lo son para ese método.
+ *
+ * Esta clase no es segura para uso concurrente; la sincronización es
+ * responsabilidad del servicio que la utiliza.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ * @see ImplementacionOperacionTraje
+ */
+public class RepositorioTrajes {
+
+    /** Ranura de cada traje en {@link #orden}, por identificador normalizado. */
+    private final Map<String, OrdenInsercion.Ranura> porId = new HashMap<>();
+
+    /** Los mismos trajes en orden de inserción, con acceso por posición. */
+    private final OrdenInsercion orden = new OrdenInsercion();
+
+    /** Los mismos trajes en cada orden distinto del de inserción. */
+    private final Map<OrdenTrajes, VistaOrdenada> vistas = crearVistas();
+
+    /** Indica si {@link #cargar} está agregando trajes; las vistas se arman al final. */
+    private boolean cargando;
+
+    /** Los mismos trajes, ordenados por fecha de inspección. */
+    private final IndiceFechas porFecha = new IndiceFechas();
+
+    /** Índices secundarios registrados, en orden de registro. */
+    private final List<IndiceSecundario> indices = new ArrayList<>();
+
+    /** Cantidades por talla, terreno, simulador, material e intervalo de peso. */
+    private final ContadoresFlota contadores = new ContadoresFlota();
+
+    /**
+     * Normaliza un identificador para usarlo como clave del índice.
+     *
+     * Aplica a cada carácter la misma conversión que {@link String#equalsIgnoreCase(String)}
+     * (mayúscula y luego minúscula), por lo que el resultado es estable e independiente
+     * de la configuración regional.
+     *
+     * @param id el identificador a normalizar
+     * @return la clave normalizada, o null si el identificador es null
+     */
+    public static String normalizar(String id) {
+        if (id == null) return null;
+
+        char[] chars = null;
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            char n = Character.toLowerCase(Character.toUpperCase(c));
+            if (n != c) {
+                if (chars == null) chars = id.toCharArray();
+                chars[i] = n;
+            }
+        }
+        return (chars == null) ? id : new String(chars);
+    }
+
+    /**
+     * Indica si existe un traje con el identificador dado.
+     *
+     * @param id el identificador del traje
+     * @return true si el traje existe en el repositorio
+     */
+    public boolean contiene(String id) {
+        return id != null && porId.containsKey(normalizar(id));
+    }
+
+    /**
+     * Busca un traje por su identificador.
+     *
+     * @param id el identificador del traje
+     * @return el traje encontrado, o null si no existe
+     */
+    public Traje_Espacial buscar(String id) {
+        if (id == null) return null;
+        OrdenInsercion.Ranura r = porId.get(normalizar(id));
+        return (r == null) ? null : r.traje;
+    }
+
+    /**
+     * Agrega un traje al final del orden de inserción si su identificador no existe.
+     *
+     * @param id el identificador del traje
+     * @param t el traje a agregar
+     * @return true si se agregó, false si ya existía un traje con ese identificador
+     */
+    public boolean agregar(String id, Traje_Espacial t) {
+        String clave = normalizar(id);
+        if (porId.containsKey(clave)) return false;
+        insertar(clave, t);
+        return true;
+    }
+
+    /**
+     * Agrega o sobrescribe el traje asociado a un identificador.
+     *
+     * Si ya existía, el traje anterior se retira y el nuevo queda al final del
+     * orden de inserción. Se usa al reproducir el diario de cambios.
+     *
+     * @param id el identificador del traje
+     * @param t el traje a almacenar
+     * @return el traje sobrescrito, o null si no existía
+     */
+    public Traje_Espacial poner(String id, Traje_Espacial t) {
+        String clave = normalizar(id);
+        Traje_Espacial anterior = retirar(clave);
+        insertar(clave, t);
+        return anterior;
+    }
+
+    /**
+     * Reemplaza el traje asociado a un identificador.
+     *
+     * El traje anterior se retira y el nuevo se ubica al final del orden de
+     * inserción, igual que la secuencia eliminar + agregar sobre una lista.
+     *
+     * @param idAnterior el identificador del traje a reemplazar
+     * @param idNuevo el identificador del nuevo traje
+     * @param t el nuevo traje
+     * @return el traje reemplazado, o null si no existía o si el nuevo
+     *         identificador pertenece a otro traje distinto
+     */
+    public Traje_Espacial reemplazar(String idAnterior, String idNuevo, Traje_Espacial t) {
+        String claveAnterior = normalizar(idAnterior);
+        String claveNueva = normalizar(idNuevo);
+
+        if (!porId.containsKey(claveAnterior)) return null;
+        if (!claveNueva.equals(claveAnterior) && porId.containsKey(claveNueva)) return null;
+
+        Traje_Espacial anterior = retirar(claveAnterior);
+        insertar(claveNueva, t);
+        return anterior;
+    }
+
+    /**
+     * Elimina el traje con el identificador dado.
+     *
+     * @param id el identificador del traje
+     * @return el traje eliminado, o null si no existía
+     */
+    public Traje_Espacial eliminar(String id) {
+        if (id == null) return null;
+        return retirar(normalizar(id));
+    }
+
+    /**
+     * Reemplaza todo el contenido del repositorio por los trajes indicados.
+     *
+     * Los trajes se insertan en el orden recibido; si hay identificadores
+     * repetidos se conserva la primera aparición.
+     *
+     * @param trajes los trajes a cargar
+     * @param lector función que obtiene el identificador de cada traje
+     */
+    public void cargar(Collection<? extends Traje_Espacial> trajes, Function<Traje_Espacial, String> lector) {
+        porId.clear();
+        orden.limpiar();
+        porFecha.limpiar();
+        contadores.limpiar();
+        for (IndiceSecundario indice : indices) {
+            indice.limpiar();
+        }
+        if (trajes == null) {
+            vistas.values().forEach(VistaOrdenada::limpiar);
+            return;
+        }
+
+        // ordenar una vez cuesta menos que insertar de a uno en cada vista
+        cargando = true;
+        try {
+            for (Traje_Espacial t : trajes) {
+                if (t == null) continue;
+                String id = lector.apply(t);
+                if (id == null) continue;
+                agregar(id, t);
+            }
+        } finally {
+            cargando = false;
+            List<OrdenInsercion.Ranura> todas = orden.ranuras();
+            vistas.forEach((criterio, vista) -> {
+                List<OrdenInsercion.Ranura> ordenadas = new ArrayList<>(todas);
+                ordenadas.sort(criterio.comparadorRanuras());
+                vista.construir(ordenadas);
+            });
+        }
+    }
+
+    /**
+     * Retorna la cantidad de trajes almacenados.
+     *
+     * @return el número de trajes
+     */
+    public int tamanio() {
+        return porId.size();
+    }
+
+    /**
+     * Aplica una acción a cada traje en orden de inserción, sin copiar la colección.
+     *
+     * @param accion la acción a aplicar
+     */
+    public void recorrer(Consumer<? super Traje_Espacial> accion) {
+        orden.recorrer(accion);
+    }
+
+    /**
+     * Retorna una página de trajes en orden de inserción, en O(log n + cantidad).
+     *
+     * @param desde la posición del primer traje
+     * @param cantidad la cantidad máxima de trajes
+     * @return una lista nueva, vacía si {@code desde} está fuera de rango
+     */
+    public List<Traje_Espacial> listar(int desde, int cantidad) {
+        return orden.pagina(desde, cantidad);
+    }
+
+    /**
+     * Retorna una página de la flota ordenada, en O(log n + cantidad): las vistas
+     * ordenadas ya están al día, así que no se ordena nada.
+     *
+     * @param criterio el criterio de orden
+     * @param descendente true para el orden inverso
+     * @param desde la posición del primer traje en ese orden
+     * @param cantidad la cantidad máxima de trajes
+     * @return una lista nueva, vacía si {@code desde} está fuera de rango
+     */
+    public List<Traje_Espacial> listarOrdenado(OrdenTrajes criterio, boolean descendente, int desde, int cantidad) {
+        VistaOrdenada vista = vistas.get(criterio);
+        if (vista != null) return vista.pagina(desde, cantidad, descendente);
+        if (!descendente) return orden.pagina(desde, cantidad);
+
+        int n = orden.tamanio();
+        int inicio = Math.max(0, desde);
+        int tomados = Math.max(0, Math.min(cantidad, n - inicio));
+        List<Traje_Espacial> pagina = orden.pagina(n - inicio - tomados, tomados);
+        Collections.reverse(pagina);
+        return pagina;
+    }
+
+    /**
+     * Retorna un recorrido divisible del orden de inserción que lee los trajes por
+     * lotes, tomando en cada lote el monitor que protege al repositorio.
+     *
+     * El recorrido cubre los trajes presentes al crearlo y es débilmente consistente
+     * con los cambios posteriores. Si el servicio reemplaza después el repositorio,
+     * el recorrido sigue sobre este.
+     *
+     * @param cerrojo el monitor con el que el servicio sincroniza el repositorio
+     * @return el recorrido
+     * @see RecorridoTrajes
+     */
+    public Spliterator<Traje_Espacial> recorrido(Object cerrojo) {
+        return new RecorridoTrajes(cerrojo, orden, 0, orden.proximaSecuencia());
+    }
+
+    /**
+     * Retorna los trajes cuyo identificador empieza con un prefijo, sin distinguir
+     * mayúsculas de minúsculas, en orden de identificador normalizado.
+     *
+     * Cuesta O(log n + limite): se ubica el prefijo en la vista por identificador y
+     * se avanza mientras las claves lo sigan teniendo.
+     *
+     * @param prefijo el comienzo del identificador; vacío para los primeros trajes
+     * @param limite la cantidad máxima de trajes a retornar
+     * @return una lista nueva con como mucho {@code limite} trajes
+     */
+    public List<Traje_Espacial> buscarPorPrefijo(String prefijo, int limite) {
+        List<Traje_Espacial> resultado = new ArrayList<>(Math.max(0, Math.min(limite, 64)));
+        if (prefijo == null || limite <= 0) return resultado;
+
+        String clave = normalizar(prefijo);
+        vistas.get(OrdenTrajes.ID).desde(new OrdenInsercion.Ranura(clave, null),
+                r -> r.clave.startsWith(clave), limite, resultado);
+        return resultado;
+    }
+
+    /**
+     * Retorna los trajes inspeccionados en un rango de fechas, usando el índice por
+     * fecha: el costo depende de la cantidad de trajes retornados y no del tamaño
+     * de la flota.
+     *
+     * @param desde la primera fecha incluida, o null para no acotar por abajo
+     * @param hasta la última fecha incluida, o null para no acotar por arriba
+     * @return una lista nueva, en orden de fecha y luego de inserción
+     * @see IndiceFechas
+     */
+    public List<Traje_Espacial> inspeccionadosEntre(LocalDate desde, LocalDate hasta) {
+        return porFecha.entre(desde, hasta);
+    }
+
+    /**
+     * Resume la flota sin recorrerla.
+     *
+     * Las cantidades salen de los contadores que se mantienen en cada cambio, los
+     * vencimientos del índice por fecha y el peso mínimo y máximo de los extremos de
+     * la vista por peso, así que el costo depende de la cantidad de valores, días e
+     * intervalos distintos y no de la de trajes.
+     *
+     * @param fecha la fecha del reporte
+     * @param vigenciaDias días de validez de una inspección
+     * @return el reporte
+     */
+    public ReporteFlota reporte(LocalDate fecha, int vigenciaDias) {
+        int vencidos = porFecha.contarEntre(null, fecha.minusDays(vigenciaDias));
+        return new ReporteFlota(contadores, fecha, vigenciaDias, vencidos, pesoExtremo(false), pesoExtremo(true));
+    }
+
+    // ===========================================================
+    //  ÍNDICES SECUNDARIOS Y CONSULTAS
+    // ===========================================================
+
+    /**
+     * Registra un índice secundario y le agrega los trajes actuales; desde entonces
+     * se mantiene en cada cambio.
+     *
+     * @param indice el índice, vacío
+     */
+    public void registrarIndice(IndiceSecundario indice) {
+        orden.recorrerConClave(indice::agregar);
+        indices.add(indice);
+    }
+
+    /**
+     * Retorna la cantidad de índices secundarios registrados.
+     *
+     * @return el número de índices
+     */
+    public int cantidadIndices() {
+        return indices.size();
+    }
+
+    /**
+     * Ejecuta una consulta eligiendo el plan más barato.
+     *
+     * Cada condición que algún índice atiende se estima con ese índice, empezando
+     * por las de igualdad, cuya estimación es O(1); la estimación de un rango se
+     * corta en la mejor estimación ya conocida, así que nunca cuesta más que el
+     * plan que ya se tiene. La condición con menos candidatos guía la búsqueda y
+     * sus candidatos se intersecan con las demás condiciones verificándolas sobre
+     * cada uno, lo que no cuesta más que recorrer los otros índices. Si ningún
+     * índice deja menos candidatos que la flota, se recorre la flota completa.
+     *
+     * @param consulta la consulta
+     * @return los trajes que la cumplen y el plan usado
+     */
+    public ResultadoConsulta consultar(ConsultaTrajes consulta) {
+        Plan plan = planificar(consulta);
+        List<CondicionTraje> filtros = new ArrayList<>(consulta.getCondiciones());
+        List<Traje_Espacial> resultado = new ArrayList<>();
+        if (plan.indice == null) {
+            recorrer(t -> {
+                if (consulta.cumple(t)) resultado.add(t);
+            });
+            return new ResultadoConsulta(resultado, null, filtros, porId.size());
+        }
+
+        filtros.remove(plan.guia);
+        int[] examinados = {0};
+        plan.indice.recorrer(plan.guia, t -> {
+            examinados[0]++;
+            for (CondicionTraje c : filtros) {
+                if (!c.cumple(t)) return;
+            }
+            resultado.add(t);
+        });
+        return new ResultadoConsulta(resultado, plan.guia, filtros, examinados[0]);
+    }
+
+    /**
+     * Ejecuta una consulta y retorna los trajes en un orden dado.
+     *
+     * Se elige la condición guía como en {@link #consultar(ConsultaTrajes)}. Si sus
+     * k candidatos se ordenan en menos pasos que los n trajes de la flota
+     * (k log k &lt; n), se filtran y se ordenan solo ellos; si no, se recorre la vista
+     * ordenada del criterio verificando la consulta sobre cada traje, en O(n) y sin
+     * ordenar nada.
+     *
+     * @param consulta la consulta
+     * @param criterio el orden de los trajes retornados
+     * @param descendente true para el orden inverso
+     * @return los trajes que cumplen la consulta, en ese orden, y el plan usado
+     */
+    public ResultadoConsulta consultar(ConsultaTrajes consulta, OrdenTrajes criterio, boolean descendente) {
+        Plan plan = planificar(consulta);
+        List<CondicionTraje> filtros = new ArrayList<>(consulta.getCondiciones());
+        List<Traje_Espacial> resultado = new ArrayList<>();
+
+        int k = plan.estimado;
+        if (plan.indice == null || (long) k * (32 - Integer.numberOfLeadingZeros(k)) >= porId.size()) {
+            VistaOrdenada vista = vistas.get(criterio);
+            if (vista != null) {
+                vista.filtrar(descendente, consulta::cumple, resultado);
+            } else {
+                recorrer(t -> {
+                    if (consulta.cumple(t)) resultado.add(t);
+                });
+                if (descendente) Collections.reverse(resultado);
+            }
+            return new ResultadoConsulta(resultado, null, filtros, porId.size());
+        }
+
+        filtros.remove(plan.guia);
+        List<OrdenInsercion.Ranura> candidatos = new ArrayList<>();
+        int[] examinados = {0};
+        plan.indice.recorrerConClave(plan.guia, (clave, t) -> {
+            examinados[0]++;
+            for (CondicionTraje c : filtros) {
+                if (!c.cumple(t)) return;
+            }
+            candidatos.add(porId.get(clave));
+        });
+        Comparator<OrdenInsercion.Ranura> comparador = criterio.comparadorRanuras();
+        candidatos.sort(descendente ? comparador.reversed() : comparador);
+        for (OrdenInsercion.Ranura r : candidatos) {
+            resultado.add(r.traje);
+        }
+        return new ResultadoConsulta(resultado, plan.guia, filtros, examinados[0]);
+    }
+
+    /**
+     * Elige la condición guía de una consulta: la que algún índice, incluido el de
+     * fechas, resuelve con menos candidatos que la flota.
+     */
+    private Plan planificar(ConsultaTrajes consulta) {
+        List<CondicionTraje> condiciones = new ArrayList<>(consulta.getCondiciones());
+        condiciones.sort(Comparator.comparing(CondicionTraje::getTipo)); // IGUAL antes que RANGO
+
+        Plan plan = new Plan();
+        plan.estimado = porId.size();
+        for (CondicionTraje c : condiciones) {
+            considerar(plan, c, porFecha);
+            for (IndiceSecundario indice : indices) {
+                considerar(plan, c, indice);
+            }
+            if (plan.estimado == 0) break;
+        }
+        return plan;
+    }
+
+    /** Toma una condición como guía si el índice la atiende con menos candidatos que el plan. */
+    private static void considerar(Plan plan, CondicionTraje c, IndiceSecundario indice) {
+        if (!indice.atiende(c)) return;
+        int estimado = indice.estimar(c, plan.estimado);
+        if (estimado < plan.estimado) {
+            plan.guia = c;
+            plan.indice = indice;
+            plan.estimado = estimado;
+        }
+    }
+
+    /** Condición guía elegida por {@link #planificar(ConsultaTrajes)}, si hay alguna. */
+    private static final class Plan {
+        CondicionTraje guia;
+        IndiceSecundario indice;
+        int estimado;
+    }
+
+    /**
+     * Primer peso finito de la vista por peso desde un extremo: los pesos infinitos
+     * y NaN quedan en las puntas.
+     */
+    private double pesoExtremo(boolean maximo) {
+        VistaOrdenada vista = vistas.get(OrdenTrajes.PESO);
+        for (int i = 0; i < vista.tamanio(); i += 64) {
+            for (Traje_Espacial t : vista.pagina(i, 64, maximo)) {
+                if (Double.isFinite(t.getPesoSoportado())) return t.getPesoSoportado();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static Map<OrdenTrajes, VistaOrdenada> crearVistas() {
+        Map<OrdenTrajes, VistaOrdenada> vistas = new EnumMap<>(OrdenTrajes.class);
+        for (OrdenTrajes criterio : OrdenTrajes.values()) {
+            if (criterio != OrdenTrajes.INSERCION) {
+                vistas.put(criterio, new VistaOrdenada(criterio.comparadorRanuras()));
+            }
+        }
+        return vistas;
+    }
+
+    private void insertar(String clave, Traje_Espacial t) {
+        OrdenInsercion.Ranura r = orden.agregar(clave, t);
+        porId.put(clave, r);
+        indexar(r);
+    }
+
+    private Traje_Espacial retirar(String clave) {
+        OrdenInsercion.Ranura r = porId.remove(clave);
+        if (r == null) return null;
+        orden.quitar(r);
+        desindexar(r);
+        return r.traje;
+    }
+
+    private void indexar(OrdenInsercion.Ranura r) {
+        if (!cargando) {
+            for (VistaOrdenada vista : vistas.values()) {
+                vista.agregar(r);
+            }
+        }
+        porFecha.agregar(r.clave, r.traje);
+        contadores.agregar(r.traje, r.dia);
+        for (IndiceSecundario indice : indices) {
+            indice.agregar(r.clave, r.traje);
+        }
+    }
+
+    private void desindexar(OrdenInsercion.Ranura r) {
+        for (VistaOrdenada vista : vistas.values()) {
+            vista.quitar(r);
+        }
+        porFecha.quitar(r.clave, r.traje);
+        contadores.quitar(r.traje, r.dia);
+        for (IndiceSecundario indice : indices) {
+            indice.quitar(r.clave, r.traje);
+        }
+    }
+
+    /**
+     * Retorna una copia de los trajes en orden de inserción.
+     *
+     * @return una nueva lista con todos los trajes
+     */
+    public List<Traje_Espacial> listar() {
+        return orden.listar();
+    }
+}
@@ -0,0 +1,101 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.List;
+
+/**
+ * Resultado de una {@link ConsultaTrajes}, con el plan usado para obtenerlo.
+ *
+ * El plan indica la condición que guió la búsqueda (la del índice más selectivo),
+ * o que se recorrió la flota completa, y las condiciones que se verificaron sobre
+ * cada candidato.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+public final class ResultadoConsulta {
+
+    private final List<Traje_Espacial> trajes;
+    private final CondicionTraje guia;
+    private final List<CondicionTraje> filtros;
+    private final int examinados;
+
+    /**
+     * Crea un resultado.
+     *
+     * @param trajes los trajes que cumplen la consulta
+     * @param guia la condición resuelta con un índice, o null si se recorrió la flota
+     * @param filtros las condiciones verificadas sobre cada candidato
+     * @param examinados la cantidad de candidatos examinados
+     */
+    public ResultadoConsulta(List<Traje_Espacial> trajes, CondicionTraje guia,
+                             List<CondicionTraje> filtros, int examinados) {
+        this.trajes = trajes;
+        this.guia = guia;
+        this.filtros = List.copyOf(filtros);
+        this.examinados = examinados;
+    }
+
+    /**
+     * Retorna los trajes que cumplen la consulta, en el orden del índice guía o, si se
+     * recorrió la flota, en orden de inserción.
+     *
+     * @return la lista de trajes
+     */
+    public List<Traje_Espacial> getTrajes() {
+        return trajes;
+    }
+
+    /**
+     * Retorna la condición que se resolvió con un índice.
+     *
+     * @return la condición, o null si se recorrió la flota
+     */
+    public CondicionTraje getGuia() {
+        return guia;
+    }
+
+    /**
+     * Indica si la consulta usó un índice.
+     *
+     * @return true si se usó un índice
+     */
+    public boolean usoIndice() {
+        return guia != null;
+    }
+
+    /**
+     * Retorna la cantidad de trajes examinados: los del índice guía o la flota completa.
+     *
+     * @return el número de trajes
+     */
+    public int getExaminados() {
+        return examinados;
+    }
+
+    /**
+     * Describe el plan usado, por ejemplo
+     * {@code índice TALLA = 'M' (1200 candidatos), filtro PESO_SOPORTADO entre 50.0 y 80.0}.
+     *
+     * @return la descripción
+     */
+    public String getPlan() {
+        StringBuilder plan = new StringBuilder();
+        if (guia == null) {
+            plan.append("recorrido completo (").append(examinados).append(" trajes)");
+        } else {
+            plan.append("índice ").append(guia).append(" (").append(examinados).append(" candidatos)");
+        }
+        if (!filtros.isEmpty()) {
+            plan.append(", filtro ").append(String.join(" y ", ConsultaTrajes.textos(filtros)));
+        }
+        return plan.toString();
+    }
+
+    @Override
+    public String toString() {
+        return trajes.size() + " trajes; " + getPlan();
+    }
+}
@@ -0,0 +1,316 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Trajes de un {@link RepositorioTrajes} en un {@link OrdenTrajes}, mantenidos en
+ * orden en cada alta y baja, con acceso por posición.
+ *
+ * Los trajes se guardan en bloques ordenados de a lo sumo {@link #MAXIMO_BLOQUE}
+ * ranuras, y un árbol de Fenwick cuenta los trajes de cada bloque. Una alta o baja
+ * ubica el bloque con una búsqueda binaria sobre el último traje de cada uno y
+ * desplaza solo ese bloque; la posición k-ésima se ubica en O(log n) sobre el árbol,
+ * así que una página cuesta O(log n) más su tamaño, en cualquier orden y sentido.
+ * Cada traje ocupa una referencia por vista, sin nodos intermedios.
+ *
+ * Un bloque lleno se parte en dos y uno que queda con pocos trajes se une a su
+ * vecino; en ambos casos el árbol se reconstruye en O(n / MAXIMO_BLOQUE), lo que
+ * pasa una vez cada muchas altas o bajas.
+ *
+ * Esta clase no es segura para uso concurrente.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+final class VistaOrdenada {
+
+    /** Capacidad de un bloque. */
+    static final int MAXIMO_BLOQUE = 512;
+
+    /** Trajes por bloque al construir la vista de una vez. */
+    private static final int LLENADO = MAXIMO_BLOQUE * 3 / 4;
+
+    /** Tamaño por debajo del cual un bloque se une a su vecino, si caben juntos. */
+    private static final int MINIMO_BLOQUE = MAXIMO_BLOQUE / 4;
+
+    /** Bloque de ranuras en orden; las posiciones desde {@code n} están vacías. */
+    private static final class Bloque {
+        final OrdenInsercion.Ranura[] ranuras = new OrdenInsercion.Ranura[MAXIMO_BLOQUE];
+        int n;
+
+        OrdenInsercion.Ranura ultima() {
+            return ranuras[n - 1];
+        }
+    }
+
+    private final Comparator<OrdenInsercion.Ranura> comparador;
+
+    private final List<Bloque> bloques = new ArrayList<>();
+
+    /** Árbol de Fenwick de trajes por bloque, con base 1. */
+    private int[] arbol = new int[1];
+
+    private int tamanio;
+
+    /**
+     * Crea una vista vacía.
+     *
+     * @param comparador el orden total de las ranuras; dos ranuras distintas nunca son iguales
+     */
+    VistaOrdenada(Comparator<OrdenInsercion.Ranura> comparador) {
+        this.comparador = comparador;
+    }
+
+    /**
+     * Agrega un traje en su lugar.
+     *
+     * @param r la ranura del traje
+     */
+    void agregar(OrdenInsercion.Ranura r) {
+        int b = Math.min(bloque(r), bloques.size() - 1);
+        if (b < 0) {
+            bloques.add(new Bloque());
+            reconstruir();
+            b = 0;
+        }
+        Bloque bloque = bloques.get(b);
+        int i = -buscar(bloque, r) - 1;
+        System.arraycopy(bloque.ranuras, i, bloque.ranuras, i + 1, bloque.n - i);
+        bloque.ranuras[i] = r;
+        bloque.n++;
+        tamanio++;
+
+        if (bloque.n == MAXIMO_BLOQUE) {
+            partir(b);
+        } else {
+            sumar(b, 1);
+        }
+    }
+
+    /**
+     * Quita un traje.
+     *
+     * @param r la ranura del traje, con los mismos valores que tenía al agregarla
+     * @return true si estaba en la vista
+     */
+    boolean quitar(OrdenInsercion.Ranura r) {
+        int b = bloque(r);
+        if (b == bloques.size()) return false;
+        Bloque bloque = bloques.get(b);
+        int i = buscar(bloque, r);
+        if (i < 0) return false;
+
+        System.arraycopy(bloque.ranuras, i + 1, bloque.ranuras, i, bloque.n - i - 1);
+        bloque.ranuras[--bloque.n] = null;
+        tamanio--;
+
+        if (bloque.n < MINIMO_BLOQUE && unir(b)) return true;
+        sumar(b, -1);
+        return true;
+    }
+
+    /**
+     * Reemplaza el contenido por ranuras ya ordenadas, en O(n).
+     *
+     * @param ordenadas las ranuras en el orden de la vista
+     */
+    void construir(List<OrdenInsercion.Ranura> ordenadas) {
+        bloques.clear();
+        for (int i = 0; i < ordenadas.size(); i += LLENADO) {
+            Bloque bloque = new Bloque();
+            int fin = Math.min(ordenadas.size(), i + LLENADO);
+            for (int j = i; j < fin; j++) {
+                bloque.ranuras[bloque.n++] = ordenadas.get(j);
+            }
+            bloques.add(bloque);
+        }
+        tamanio = ordenadas.size();
+        reconstruir();
+    }
+
+    /**
+     * Vacía la vista.
+     */
+    void limpiar() {
+        bloques.clear();
+        tamanio = 0;
+        reconstruir();
+    }
+
+    /**
+     * Retorna la cantidad de trajes.
+     *
+     * @return el número de trajes
+     */
+    int tamanio() {
+        return tamanio;
+    }
+
+    /**
+     * Retorna una página de la vista.
+     *
+     * @param desde la posición del primer traje, contada desde el comienzo del sentido pedido
+     * @param cantidad la cantidad máxima de trajes
+     * @param descendente true para recorrer la vista desde el final
+     * @return una lista nueva, vacía si {@code desde} está fuera de rango
+     */
+    List<Traje_Espacial> pagina(int desde, int cantidad, boolean descendente) {
+        int inicio = Math.max(0, desde);
+        int n = Math.max(0, Math.min(cantidad, tamanio - inicio));
+        List<Traje_Espacial> resultado = new ArrayList<>(n);
+        if (n == 0) return resultado;
+
+        int k = descendente ? tamanio - 1 - inicio : inicio;
+        int b = seleccionar(k);
+        int i = k - prefijo(b);
+        while (resultado.size() < n) {
+            Bloque bloque = bloques.get(b);
+            resultado.add(bloque.ranuras[i].traje);
+            if (descendente) {
+                if (--i < 0 && --b >= 0) i = bloques.get(b).n - 1;
+            } else if (++i == bloque.n) {
+                b++;
+                i = 0;
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Agrega a una lista, en el sentido pedido, los trajes que cumplen un predicado.
+     *
+     * @param descendente true para recorrer la vista desde el final
+     * @param filtro el predicado
+     * @param destino la lista a la que se agregan
+     */
+    void filtrar(boolean descendente, Predicate<? super Traje_Espacial> filtro, List<Traje_Espacial> destino) {
+        for (int j = 0; j < bloques.size(); j++) {
+            Bloque bloque = bloques.get(descendente ? bloques.size() - 1 - j : j);
+            for (int x = 0; x < bloque.n; x++) {
+                Traje_Espacial t = bloque.ranuras[descendente ? bloque.n - 1 - x : x].traje;
+                if (filtro.test(t)) destino.add(t);
+            }
+        }
+    }
+
+    /**
+     * Agrega a una lista los trajes desde el primero que no precede a una ranura de
+     * referencia, mientras cumplan una condición.
+     *
+     * @param referencia la ranura desde la que se empieza, que no necesita estar en la vista
+     * @param mientras la condición que deben cumplir los trajes, en orden
+     * @param limite la cantidad máxima de trajes a agregar
+     * @param destino la lista a la que se agregan
+     */
+    void desde(OrdenInsercion.Ranura referencia, Predicate<OrdenInsercion.Ranura> mientras,
+               int limite, List<Traje_Espacial> destino) {
+        int b = bloque(referencia);
+        if (b == bloques.size()) return;
+        int i = buscar(bloques.get(b), referencia);
+        if (i < 0) i = -i - 1;
+
+        for (int agregados = 0; b < bloques.size() && agregados < limite; b++, i = 0) {
+            Bloque bloque = bloques.get(b);
+            for (; i < bloque.n && agregados < limite; i++) {
+                if (!mientras.test(bloque.ranuras[i])) return;
+                destino.add(bloque.ranuras[i].traje);
+                agregados++;
+            }
+        }
+    }
+
+    /** Primer bloque cuyo último traje no precede a {@code r}, o la cantidad de bloques. */
+    private int bloque(OrdenInsercion.Ranura r) {
+        int bajo = 0;
+        int alto = bloques.size();
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (comparador.compare(bloques.get(medio).ultima(), r) < 0) bajo = medio + 1;
+            else alto = medio;
+        }
+        return bajo;
+    }
+
+    /** Posición de {@code r} en el bloque o, si no está, {@code -(inserción) - 1}. */
+    private int buscar(Bloque bloque, OrdenInsercion.Ranura r) {
+        return Arrays.binarySearch(bloque.ranuras, 0, bloque.n, r, comparador);
+    }
+
+    private void partir(int b) {
+        Bloque lleno = bloques.get(b);
+        Bloque segunda = new Bloque();
+        int mitad = lleno.n / 2;
+        segunda.n = lleno.n - mitad;
+        System.arraycopy(lleno.ranuras, mitad, segunda.ranuras, 0, segunda.n);
+        Arrays.fill(lleno.ranuras, mitad, lleno.n, null);
+        lleno.n = mitad;
+        bloques.add(b + 1, segunda);
+        reconstruir();
+    }
+
+    /** Une el bloque con un vecino si caben juntos; retorna true si lo hizo. */
+    private boolean unir(int b) {
+        Bloque bloque = bloques.get(b);
+        if (bloque.n == 0) {
+            bloques.remove(b);
+            reconstruir();
+            return true;
+        }
+        int vecino = (b + 1 < bloques.size()) ? b + 1 : b - 1;
+        if (vecino < 0 || bloques.get(vecino).n + bloque.n > LLENADO) return false;
+
+        Bloque primero = bloques.get(Math.min(b, vecino));
+        Bloque segundo = bloques.get(Math.max(b, vecino));
+        System.arraycopy(segundo.ranuras, 0, primero.ranuras, primero.n, segundo.n);
+        primero.n += segundo.n;
+        bloques.remove(Math.max(b, vecino));
+        reconstruir();
+        return true;
+    }
+
+    private void reconstruir() {
+        int m = bloques.size();
+        arbol = new int[m + 1];
+        for (int i = 1; i <= m; i++) {
+            arbol[i] += bloques.get(i - 1).n;
+            int padre = i + (i & -i);
+            if (padre <= m) arbol[padre] += arbol[i];
+        }
+    }
+
+    private void sumar(int b, int delta) {
+        for (int i = b + 1; i < arbol.length; i += i & -i) {
+            arbol[i] += delta;
+        }
+    }
+
+    /** Trajes en los primeros {@code b} bloques. */
+    private int prefijo(int b) {
+        int suma = 0;
+        for (int i = b; i > 0; i -= i & -i) {
+            suma += arbol[i];
+        }
+        return suma;
+    }
+
+    /** Bloque que contiene la posición {@code k}, que debe existir. */
+    private int seleccionar(int k) {
+        int i = 0;
+        int restantes = k + 1;
+        for (int paso = Integer.highestOneBit(arbol.length - 1); paso > 0; paso >>= 1) {
+            int siguiente = i + paso;
+            if (siguiente < arbol.length && arbol[siguiente] < restantes) {
+                i = siguiente;
+                restantes -= arbol[siguiente];
+            }
+        }
+        return i;
+    }
+}
@@ -1,17 +1,25 @@
 package Space_Suit_Manager.modelo;
 
+import java.io.Serializable;
+
 /**
  * Clase que representa un astronauta en el sistema de gestión de trajes espaciales.
  * 
  * Esta clase encapsula la información relacionada con un astronauta, incluyendo
  * su identificador único, nombre, rango militar y años de experiencia. 
  * Proporciona acceso y modificación de estos atributos a través de getters y setters.
+ * Implementa la interfaz {@link Serializable}; el repositorio de astronautas lo
+ * guarda con el formato binario de {@code CodecTripulacion}.
  * 
  * @author Laura Espinosa y Jhosayde Leon
  * @version 2.0
  * @since 2025
+ * @see Serializable
  */
-public class Astronauta {
+public class Astronauta implements Serializable {
+
+	/** Identificador de serialización para control de versiones de la clase. */
+	private static final long serialVersionUID = 1L;
 
 	/** Identificador único del astronauta. */
 	private String id;
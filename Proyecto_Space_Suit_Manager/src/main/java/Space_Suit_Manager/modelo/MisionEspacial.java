@@ -1,17 +1,25 @@
 package Space_Suit_Manager.modelo;
 
+import java.io.Serializable;
+
 /**
  * Clase que representa una misión espacial en el sistema de gestión de trajes espaciales.
  * 
  * Esta clase encapsula la información relacionada con una misión espacial, incluyendo
  * su código identificador, nombre, objetivo de la misión y fecha de lanzamiento.
  * Proporciona acceso y modificación de estos atributos a través de getters y setters.
+ * Implementa la interfaz {@link Serializable}; el repositorio de misiones la
+ * guarda con el formato binario de {@code CodecTripulacion}.
  * 
  * @author Laura Espinosa y Jhosayde Leon
  * @version 2.0
  * @since 2025
+ * @see Serializable
  */
-public class MisionEspacial {
+public class MisionEspacial implements Serializable {
+
+	/** Identificador de serialización para control de versiones de la clase. */
+	private static final long serialVersionUID = 1L;
 
 	/** Código identificador único de la misión espacial. */
 	private String codigoMision;
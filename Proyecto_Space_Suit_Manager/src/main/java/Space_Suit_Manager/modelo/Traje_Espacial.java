@@ -10,8 +10,9 @@ import java.io.Serializable;
  * Implementa la interfaz {@link Serializable} para permitir la persistencia de objetos
  * a través de serialización y deserialización.
  * 
- * Los atributos son protegidos para permitir el acceso mediante reflexión desde
- * otros paquetes, especialmente desde {@link Space_Suit_Manager.Servicios.ImplementacionOperacionTraje}.
+ * Los atributos son protegidos para que las subclases los hereden; el acceso desde
+ * otros paquetes, como {@link Space_Suit_Manager.Servicios.ImplementacionOperacionTraje},
+ * se realiza mediante los getters públicos.
  * 
  * @author Laura Espinosa y Jhosayde Leon
  * @version 2.0
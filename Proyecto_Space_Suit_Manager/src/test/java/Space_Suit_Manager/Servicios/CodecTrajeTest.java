@@ -0,0 +1,179 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.TrajeEntrenamiento;
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de los formatos de {@link CodecTraje}: el archivo de la versión 2 debe
+ * leerse igual que se escribió, y los archivos de la versión 1 y los antiguos de
+ * serialización de Java deben seguir leyéndose, con ambas subclases de traje.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class CodecTrajeTest {
+
+    @TempDir
+    File directorio;
+
+    @Test
+    void laVersionDosSeLeeIgualQueSeEscribio() throws IOException {
+        File archivo = new File(directorio, "trajes.dat");
+        List<Traje_Espacial> flota = flota();
+
+        CodecTraje.escribirArchivo(archivo, flota);
+        CodecTraje.Lectura lectura = CodecTraje.leerArchivo(archivo);
+
+        assertEquals(CodecTraje.VERSION, version(archivo));
+        assertFalse(lectura.isFormatoAntiguo());
+        assertEquals(describir(flota), describir(lectura.getTrajes()));
+    }
+
+    @Test
+    void laVersionDosCompartePorValorLosAtributosCategoricos() throws IOException {
+        File archivo = new File(directorio, "trajes.dat");
+        List<Traje_Espacial> flota = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            // textos nuevos en cada traje: solo el diccionario los hace compartidos al leer
+            flota.add((i % 2 == 0)
+                    ? new TrajeExploracion("X" + i, new String("L"), i, "2025-03-01", new String("Marte"), 0.6)
+                    : new TrajeEntrenamiento("E" + i, new String("L"), i, "2025-03-01",
+                            new String("Piscina"), new String("Kevlar")));
+        }
+
+        CodecTraje.escribirArchivo(archivo, flota);
+        List<Traje_Espacial> leidos = CodecTraje.leerArchivo(archivo).getTrajes();
+
+        assertEquals(describir(flota), describir(leidos));
+        TrajeExploracion exploracion = (TrajeExploracion) leidos.get(0);
+        TrajeEntrenamiento entrenamiento = (TrajeEntrenamiento) leidos.get(1);
+        for (int i = 2; i < leidos.size(); i += 2) {
+            assertSame(exploracion.getTalla(), leidos.get(i).getTalla());
+            assertSame(exploracion.getTipoTerreno(), ((TrajeExploracion) leidos.get(i)).getTipoTerreno());
+            TrajeEntrenamiento e = (TrajeEntrenamiento) leidos.get(i + 1);
+            assertSame(entrenamiento.getTipoSimulador(), e.getTipoSimulador());
+            assertSame(entrenamiento.getMaterial(), e.getMaterial());
+        }
+        // cada valor distinto ocupa el archivo una sola vez
+        assertTrue(archivo.length() < 1_000 * 40, "tamaño " + archivo.length());
+    }
+
+    @Test
+    void laVersionUnoSigueLeyendose() throws IOException {
+        File archivo = new File(directorio, "trajes.dat");
+        List<Traje_Espacial> flota = flota();
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(archivo)))) {
+            out.writeInt(CodecTraje.MAGIA);
+            out.writeShort(1);
+            out.writeInt(flota.size());
+            for (Traje_Espacial t : flota) {
+                CodecTraje.escribirTraje(out, t);
+            }
+        }
+
+        CodecTraje.Lectura lectura = CodecTraje.leerArchivo(archivo);
+
+        assertFalse(lectura.isFormatoAntiguo());
+        assertEquals(describir(flota), describir(lectura.getTrajes()));
+    }
+
+    @Test
+    void elFormatoAntiguoSeLeeYSeMigraUnaVez() throws IOException {
+        File archivo = new File(directorio, "trajes.dat");
+        List<Traje_Espacial> flota = flota();
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(archivo))) {
+            out.writeObject(new ArrayList<>(flota));
+        }
+
+        CodecTraje.Lectura lectura = CodecTraje.leerArchivo(archivo);
+        assertTrue(lectura.isFormatoAntiguo());
+        assertEquals(describir(flota), describir(lectura.getTrajes()));
+
+        // al cargarlo, el servicio lo reescribe en el formato actual
+        List<Traje_Espacial> cargados = new ImplementacionOperacionTraje()
+                .deserializar(directorio.getPath(), archivo.getName());
+        assertNotNull(cargados);
+        assertEquals(describir(flota), describir(cargados));
+        assertEquals(CodecTraje.VERSION, version(archivo));
+
+        CodecTraje.Lectura migrada = CodecTraje.leerArchivo(archivo);
+        assertFalse(migrada.isFormatoAntiguo());
+        assertEquals(describir(flota), describir(migrada.getTrajes()));
+    }
+
+    @Test
+    void unaVersionDesconocidaNoSeLee() throws IOException {
+        File archivo = new File(directorio, "trajes.dat");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(archivo))) {
+            out.writeInt(CodecTraje.MAGIA);
+            out.writeShort(CodecTraje.VERSION + 1);
+            out.writeInt(0);
+        }
+
+        assertThrows(IOException.class, () -> CodecTraje.leerArchivo(archivo));
+    }
+
+    /** Trajes de los tres tipos, con valores repetidos, nulos y fuera de ASCII. */
+    private static List<Traje_Espacial> flota() {
+        List<Traje_Espacial> flota = new ArrayList<>();
+        flota.add(new Traje_Espacial("B1", "M", 120.5, "2025-01-15"));
+        flota.add(new TrajeExploracion("X1", "L", 150, "2025-02-01", "Luna", 0.3));
+        flota.add(new TrajeEntrenamiento("E1", "S", 90, "2024-12-31", "Piscina", "Nailon"));
+        flota.add(new TrajeExploracion("X2", "L", 151, "2025-02-02", "Marte", 0.6));
+        flota.add(new TrajeEntrenamiento("E2", "M", 95, "2025-01-01", "Centrífuga", "Nailon"));
+        flota.add(new TrajeExploracion("X3", null, 0, null, null, -1.5));
+        flota.add(new TrajeEntrenamiento("E3", "S", 90, "2025-01-15", null, "Kevlar"));
+        flota.add(new Traje_Espacial("Órbita-ñ", "XL", Double.MAX_VALUE, "2025-03-10"));
+        flota.add(new TrajeExploracion("X4", "M", 150, "2025-02-03", "Luna", 0.3));
+        return flota;
+    }
+
+    /** Cada traje como texto con su clase y todos sus campos. */
+    private static List<String> describir(List<Traje_Espacial> trajes) {
+        List<String> descritos = new ArrayList<>();
+        for (Traje_Espacial t : trajes) {
+            String base = t.getClass().getSimpleName() + "|" + t.getIdTraje() + "|" + t.getTalla()
+                    + "|" + t.getPesoSoportado() + "|" + t.getFechaInspeccion();
+            if (t instanceof TrajeExploracion) {
+                TrajeExploracion e = (TrajeExploracion) t;
+                base += "|" + e.getTipoTerreno() + "|" + e.getNivelPresion();
+            } else if (t instanceof TrajeEntrenamiento) {
+                TrajeEntrenamiento e = (TrajeEntrenamiento) t;
+                base += "|" + e.getTipoSimulador() + "|" + e.getMaterial();
+            }
+            descritos.add(base);
+        }
+        return descritos;
+    }
+
+    /** La versión escrita en el encabezado del archivo. */
+    private static short version(File archivo) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(archivo))) {
+            assertEquals(CodecTraje.MAGIA, in.readInt());
+            return in.readShort();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas de la reproducción de {@link DiarioTrajes}: reaplicar registros que ya
+ * están incluidos en el repositorio no debe alterar el resultado.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class DiarioTrajesTest {
+
+    @TempDir
+    File directorio;
+
+    /** Diario de prueba: guardar A, renombrar A a B con otros datos, guardar C. */
+    private File escribirDiario() throws IOException {
+        File archivo = new File(directorio, "trajes.dat.log");
+        try (DiarioTrajes diario = new DiarioTrajes(archivo)) {
+            diario.abrir(0);
+            diario.registrarGuardar(traje("A", 100));
+            diario.registrarModificar("A", traje("B", 200));
+            diario.registrarGuardar(traje("C", 300));
+        }
+        return archivo;
+    }
+
+    @Test
+    void reproducirDosVecesDaElMismoResultado() throws IOException {
+        File archivo = escribirDiario();
+        RepositorioTrajes repositorio = new RepositorioTrajes();
+
+        DiarioTrajes.reproducir(archivo, repositorio, 0, false);
+        List<String> primera = estado(repositorio);
+        DiarioTrajes.reproducir(archivo, repositorio, 0, false);
+
+        assertEquals(List.of("B:200.0", "C:300.0"), primera);
+        assertEquals(primera, estado(repositorio));
+    }
+
+    @Test
+    void reproducirSobreUnaInstantaneaQueYaLoIncluye() throws IOException {
+        File archivo = escribirDiario();
+
+        // la instantánea se confirmó pero el diario en compactación no llegó a borrarse
+        RepositorioTrajes repositorio = new RepositorioTrajes();
+        repositorio.poner("B", traje("B", 200));
+        repositorio.poner("C", traje("C", 300));
+        DiarioTrajes.reproducir(archivo, repositorio, 0, false);
+
+        assertEquals(List.of("B:200.0", "C:300.0"), estado(repositorio));
+    }
+
+    @Test
+    void renombrarSobreUnIdYaPresenteRetiraElAnterior() throws IOException {
+        File archivo = new File(directorio, "renombre.log");
+        try (DiarioTrajes diario = new DiarioTrajes(archivo)) {
+            diario.abrir(0);
+            diario.registrarGuardar(traje("A", 100));
+            diario.registrarModificar("A", traje("B", 200));
+        }
+
+        RepositorioTrajes repositorio = new RepositorioTrajes();
+        repositorio.poner("B", traje("B", 200));
+        DiarioTrajes.reproducir(archivo, repositorio, 0, false);
+
+        assertEquals(List.of("B:200.0"), estado(repositorio));
+    }
+
+    private static Traje_Espacial traje(String id, double peso) {
+        return new TrajeExploracion(id, "M", peso, "2025-01-15", "Luna", 1.0);
+    }
+
+    /** Trajes del repositorio como "id:peso", ordenados. */
+    private static List<String> estado(RepositorioTrajes repositorio) {
+        List<String> estado = new ArrayList<>();
+        repositorio.recorrer(t -> estado.add(t.getIdTraje() + ":" + t.getPesoSoportado()));
+        estado.sort(null);
+        return estado;
+    }
+}
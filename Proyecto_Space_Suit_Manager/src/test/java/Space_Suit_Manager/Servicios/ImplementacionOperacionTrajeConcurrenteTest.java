@@ -0,0 +1,213 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de estrés de {@link ImplementacionOperacionTrajeConcurrente}: varios hilos
+ * escriben a la vez y se verifican los invariantes del servicio, sin actualizaciones
+ * perdidas, con un solo ganador por ID y sin duplicados en las instantáneas.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class ImplementacionOperacionTrajeConcurrenteTest {
+
+    private static final int HILOS = 8;
+
+    private final ImplementacionOperacionTrajeConcurrente servicio = new ImplementacionOperacionTrajeConcurrente();
+
+    private final ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS + 2);
+
+    @AfterEach
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    @Test
+    void escritoresSobreUnMismoTrajeNoPierdenActualizaciones() throws Exception {
+        final int porHilo = 5_000;
+        servicio.guardar(traje("COMPARTIDO", -1));
+
+        // el orden en que el servicio aplicó las escrituras, según sus eventos,
+        // que se publican de a uno y en el orden de las versiones
+        List<Traje_Espacial> aplicadas = new ArrayList<>();
+        servicio.agregarOyente(e -> {
+            if (e.getTipo() == EventoTraje.Tipo.ACTUALIZADO) aplicadas.add(e.getTraje());
+        });
+
+        List<Callable<Void>> escritores = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            int hilo = h;
+            escritores.add(() -> {
+                for (int i = 0; i < porHilo; i++) {
+                    // el peso codifica el hilo y el número de escritura
+                    String id = (i % 2 == 0) ? "COMPARTIDO" : "compartido";
+                    assertTrue(servicio.modificar(id, traje("COMPARTIDO", hilo * porHilo + i)));
+                }
+                return null;
+            });
+        }
+        ejecutarTodos(escritores);
+
+        // cada escritura confirmada se aplicó una vez y en el orden de su hilo
+        assertEquals(HILOS * porHilo, aplicadas.size());
+        int[] siguiente = new int[HILOS];
+        for (Traje_Espacial t : aplicadas) {
+            int peso = (int) t.getPesoSoportado();
+            int hilo = peso / porHilo;
+            assertEquals(siguiente[hilo]++, peso % porHilo);
+        }
+
+        // el estado final es la última escritura aplicada
+        assertEquals(aplicadas.get(aplicadas.size() - 1), servicio.buscar("COMPARTIDO"));
+        assertEquals(1, servicio.listar().size());
+        assertEquals(1, servicio.tamanio());
+    }
+
+    @Test
+    void insercionesDelMismoIdTienenUnSoloGanador() throws Exception {
+        final int ids = 500;
+        int[][] ganadores = new int[ids][HILOS];
+        CountDownLatch salida = new CountDownLatch(1);
+
+        List<Callable<Void>> escritores = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            int hilo = h;
+            escritores.add(() -> {
+                salida.await();
+                for (int i = 0; i < ids; i++) {
+                    // el mismo ID escrito con distintas mayúsculas
+                    String id = (hilo % 2 == 0) ? "UNICO-" + i : "unico-" + i;
+                    if (servicio.guardar(traje(id, hilo))) ganadores[i][hilo]++;
+                }
+                return null;
+            });
+        }
+        List<Future<Void>> futuros = enviar(escritores);
+        salida.countDown();
+        esperar(futuros);
+
+        for (int i = 0; i < ids; i++) {
+            int total = 0;
+            int ganador = -1;
+            for (int h = 0; h < HILOS; h++) {
+                total += ganadores[i][h];
+                if (ganadores[i][h] == 1) ganador = h;
+            }
+            assertEquals(1, total, "ganadores del ID " + i);
+            assertEquals(ganador, (int) servicio.buscar("unico-" + i).getPesoSoportado());
+        }
+        assertEquals(ids, servicio.tamanio());
+        assertSinDuplicados(servicio.listar());
+    }
+
+    @Test
+    void renombresDuranteListarNoProducenDuplicados() throws Exception {
+        final int pares = 64;
+        final int renombresPorHilo = 20_000;
+        for (int p = 0; p < pares; p++) {
+            servicio.guardar(traje("A" + p, p));
+        }
+
+        AtomicBoolean escribiendo = new AtomicBoolean(true);
+        List<Callable<Void>> tareas = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            int hilo = h;
+            tareas.add(() -> {
+                // cada hilo alterna su propio subconjunto de pares entre A y B
+                for (int i = 0; i < renombresPorHilo; i++) {
+                    int p = (hilo + i * HILOS) % pares;
+                    if (!servicio.modificar("A" + p, traje("B" + p, p))) {
+                        servicio.modificar("B" + p, traje("A" + p, p));
+                    }
+                }
+                return null;
+            });
+        }
+        List<Callable<Integer>> lectores = new ArrayList<>();
+        for (int l = 0; l < 2; l++) {
+            lectores.add(() -> {
+                int instantaneas = 0;
+                do {
+                    List<Traje_Espacial> lista = servicio.listar();
+                    // un renombre nunca deja el par ausente ni duplicado
+                    assertEquals(pares, lista.size());
+                    assertSinDuplicados(lista);
+                    Set<Integer> presentes = new HashSet<>();
+                    for (Traje_Espacial t : lista) {
+                        assertTrue(presentes.add((int) t.getPesoSoportado()), "par repetido: " + t.getIdTraje());
+                    }
+                    instantaneas++;
+                } while (escribiendo.get());
+                return instantaneas;
+            });
+        }
+
+        List<Future<Integer>> lecturas = enviar(lectores);
+        ejecutarTodos(tareas);
+        escribiendo.set(false);
+        for (Future<Integer> f : lecturas) {
+            assertTrue(f.get(1, TimeUnit.MINUTES) > 0);
+        }
+
+        assertEquals(pares, servicio.tamanio());
+        assertSinDuplicados(servicio.listar());
+        for (int p = 0; p < pares; p++) {
+            assertTrue(servicio.buscar("A" + p) == null ^ servicio.buscar("B" + p) == null);
+        }
+    }
+
+    // ===========================================================
+    //  AUXILIARES
+    // ===========================================================
+
+    private static Traje_Espacial traje(String id, double peso) {
+        return new Traje_Espacial(id, "M", peso, "2025-01-15");
+    }
+
+    private static void assertSinDuplicados(List<Traje_Espacial> lista) {
+        Set<String> ids = new HashSet<>();
+        for (Traje_Espacial t : lista) {
+            assertNotNull(t);
+            assertTrue(ids.add(t.getIdTraje().toLowerCase(Locale.ROOT)), "ID duplicado: " + t.getIdTraje());
+        }
+    }
+
+    private <T> List<Future<T>> enviar(List<Callable<T>> tareas) {
+        List<Future<T>> futuros = new ArrayList<>();
+        for (Callable<T> tarea : tareas) {
+            futuros.add(ejecutor.submit(tarea));
+        }
+        return futuros;
+    }
+
+    private static <T> void esperar(List<Future<T>> futuros) throws Exception {
+        for (Future<T> f : futuros) {
+            f.get(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private <T> void ejecutarTodos(List<Callable<T>> tareas) throws Exception {
+        esperar(enviar(tareas));
+    }
+}
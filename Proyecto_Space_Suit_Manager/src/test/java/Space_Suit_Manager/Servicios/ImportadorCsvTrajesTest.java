@@ -0,0 +1,65 @@
+package Space_Suit_Manager.Servicios;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas de {@link ImportadorCsvTrajes}: una fila mal formada se informa como
+ * error de su línea sin detener la importación, también si es la primera.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class ImportadorCsvTrajesTest {
+
+    @TempDir
+    File directorio;
+
+    @Test
+    void unaComillaSinCerrarEnLaPrimeraLineaEsUnErrorDeFila() throws IOException {
+        File csv = escribir("\"T1,M,100,2025-01-15",
+                "T2,M,100,2025-01-15",
+                "T3,L,120,2025-02-01");
+        ImplementacionOperacionTraje servicio = new ImplementacionOperacionTraje();
+
+        ImportadorCsvTrajes.ResultadoImportacion resultado =
+                new ImportadorCsvTrajes(servicio).importar(csv, ProgresoOperacion.NINGUNO);
+
+        assertEquals(3, resultado.getLeidas());
+        assertEquals(2, resultado.getImportadas());
+        assertEquals(List.of("Línea 1: Comilla sin cerrar"), resultado.getPrimerosErrores());
+        assertEquals(2, servicio.listar().size());
+    }
+
+    @Test
+    void elEncabezadoSeOmiteYLosErroresConservanSuLinea() throws IOException {
+        File csv = escribir("\uFEFFid,talla,peso,fecha",
+                "T1,M,100,2025-01-15",
+                "T2,\"M,0,2025-01-15",
+                "T1,M,100,2025-01-15");
+        ImplementacionOperacionTraje servicio = new ImplementacionOperacionTraje();
+
+        ImportadorCsvTrajes.ResultadoImportacion resultado =
+                new ImportadorCsvTrajes(servicio).importar(csv, ProgresoOperacion.NINGUNO);
+
+        assertEquals(3, resultado.getLeidas());
+        assertEquals(1, resultado.getImportadas());
+        assertEquals(List.of("Línea 3: Comilla sin cerrar", "Línea 4: ID duplicado: T1"),
+                resultado.getPrimerosErrores());
+    }
+
+    private File escribir(String... lineas) throws IOException {
+        File csv = new File(directorio, "trajes.csv");
+        Files.write(csv.toPath(), List.of(lineas), StandardCharsets.UTF_8);
+        return csv;
+    }
+}
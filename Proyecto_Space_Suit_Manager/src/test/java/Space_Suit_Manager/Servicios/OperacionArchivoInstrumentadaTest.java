@@ -0,0 +1,87 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.Servicios.MetricasOperaciones.Operacion;
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link OperacionArchivoInstrumentada}: la carga debe contar todos los
+ * archivos que reproduce, y el error de un oyente del servicio envuelto debe verse
+ * a través del envoltorio sin interrumpir la operación.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class OperacionArchivoInstrumentadaTest {
+
+    private static final String ARCHIVO = "trajes.dat";
+
+    @TempDir
+    File directorio;
+
+    @Test
+    void laCargaCuentaElDiarioEnCompactacion() throws IOException {
+        File datos = new File(directorio, ARCHIVO);
+        CodecTraje.escribirArchivo(datos, List.of(traje("A"), traje("B")));
+        File archivoDiario = DiarioTrajes.archivoPara(directorio.getPath(), ARCHIVO);
+        File enCompactacion = DiarioTrajes.archivoEnCompactacion(archivoDiario);
+        escribirDiario(enCompactacion, "C");
+        escribirDiario(archivoDiario, "D");
+        long esperados = datos.length() + archivoDiario.length() + enCompactacion.length();
+
+        OperacionArchivoInstrumentada servicio = new OperacionArchivoInstrumentada(new ImplementacionOperacionTraje());
+        List<Traje_Espacial> cargados = servicio.deserializar(directorio.getPath(), ARCHIVO);
+
+        assertNotNull(cargados);
+        assertEquals(4, cargados.size());
+        assertEquals(esperados, bytes(servicio.getMetricas(), Operacion.DESERIALIZAR));
+    }
+
+    @Test
+    void elErrorDeUnOyenteNoInterrumpeLaOperacion() {
+        OperacionArchivoInstrumentada servicio = new OperacionArchivoInstrumentada(new ImplementacionOperacionTraje());
+        List<EventoTraje> recibidos = new ArrayList<>();
+        servicio.agregarOyente(evento -> {
+            throw new IllegalStateException("tabla cerrada");
+        });
+        servicio.agregarOyente(recibidos::add);
+        assertNull(servicio.getUltimoErrorOyente());
+
+        assertTrue(servicio.guardar(traje("A")));
+
+        assertEquals(1, recibidos.size());
+        assertEquals(1, servicio.listar().size());
+        assertEquals("Error en oyente de trajes: tabla cerrada", servicio.getUltimoErrorOyente());
+    }
+
+    private static void escribirDiario(File archivo, String id) throws IOException {
+        try (DiarioTrajes diario = new DiarioTrajes(archivo)) {
+            diario.abrir(0);
+            diario.registrarGuardar(traje(id));
+        }
+    }
+
+    private static long bytes(MetricasOperaciones metricas, Operacion op) {
+        for (MetricasOperaciones.ResumenOperacion fila : metricas.resumen()) {
+            if (fila.getOperacion() == op) return fila.getBytes();
+        }
+        throw new AssertionError(op.toString());
+    }
+
+    private static Traje_Espacial traje(String id) {
+        return new TrajeExploracion(id, "M", 100, "2025-01-15", "Luna", 1.0);
+    }
+}
@@ -0,0 +1,124 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link OrdenInsercion}: las páginas por posición y los rangos por
+ * secuencia deben coincidir con una lista en orden de inserción, también después
+ * de que las bajas compacten el arreglo.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class OrdenInsercionTest {
+
+    @Test
+    void paginasCoincidenConLaListaTrasAltasYBajas() {
+        Random azar = new Random(21);
+        OrdenInsercion orden = new OrdenInsercion();
+        List<OrdenInsercion.Ranura> presentes = new ArrayList<>();
+
+        for (int paso = 0; paso < 30_000; paso++) {
+            if (presentes.isEmpty() || azar.nextInt(5) < 3) {
+                presentes.add(orden.agregar("t" + paso, traje("T" + paso)));
+            } else {
+                orden.quitar(presentes.remove(azar.nextInt(presentes.size())));
+            }
+            if (paso % 1_499 == 0) comprobar(orden, presentes, azar);
+        }
+        comprobar(orden, presentes, azar);
+    }
+
+    @Test
+    void lasBajasMasivasCompactanSinPerderElOrden() {
+        OrdenInsercion orden = new OrdenInsercion();
+        List<OrdenInsercion.Ranura> presentes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            presentes.add(orden.agregar("t" + i, traje("T" + i)));
+        }
+
+        // dos de cada tres: las vacías superan a las ocupadas y el arreglo se compacta
+        List<OrdenInsercion.Ranura> quedan = new ArrayList<>();
+        for (int i = 0; i < presentes.size(); i++) {
+            if (i % 3 == 0) quedan.add(presentes.get(i));
+            else orden.quitar(presentes.get(i));
+        }
+        comprobar(orden, quedan, new Random(22));
+
+        // las ranuras renumeradas siguen sirviendo para quitar
+        for (int i = quedan.size() - 1; i >= 0; i -= 2) {
+            orden.quitar(quedan.remove(i));
+        }
+        comprobar(orden, quedan, new Random(23));
+    }
+
+    @Test
+    void lasSecuenciasSobrevivenALaCompactacion() {
+        OrdenInsercion orden = new OrdenInsercion();
+        List<OrdenInsercion.Ranura> presentes = new ArrayList<>();
+        for (int i = 0; i < 8_000; i++) {
+            presentes.add(orden.agregar("t" + i, traje("T" + i)));
+        }
+        long corte = 5_000; // la secuencia del traje T5000
+        // quedan uno de cada cuatro: las bajas compactan el arreglo
+        for (int i = 0; i < 8_000; i++) {
+            if (i % 4 != 3) orden.quitar(presentes.get(i));
+        }
+
+        List<Traje_Espacial> esperados = new ArrayList<>();
+        for (int i = 5_003; i < 8_000; i += 4) {
+            esperados.add(presentes.get(i).traje);
+        }
+        assertEquals(esperados.size(), orden.contar(corte, orden.proximaSecuencia()));
+
+        List<Traje_Espacial> copiados = new ArrayList<>();
+        long siguiente = corte;
+        while (siguiente < orden.proximaSecuencia()) {
+            siguiente = orden.copiar(siguiente, orden.proximaSecuencia(), copiados, 100);
+        }
+        assertEquals(esperados, copiados);
+    }
+
+    @Test
+    void limpiarNoReutilizaSecuencias() {
+        OrdenInsercion orden = new OrdenInsercion();
+        for (int i = 0; i < 100; i++) {
+            orden.agregar("t" + i, traje("T" + i));
+        }
+        long antes = orden.proximaSecuencia();
+        orden.limpiar();
+        orden.agregar("x", traje("X"));
+
+        assertTrue(orden.proximaSecuencia() > antes);
+        assertEquals(0, orden.contar(0, antes));
+    }
+
+    private static void comprobar(OrdenInsercion orden, List<OrdenInsercion.Ranura> presentes, Random azar) {
+        List<Traje_Espacial> esperados = new ArrayList<>();
+        for (OrdenInsercion.Ranura r : presentes) {
+            esperados.add(r.traje);
+        }
+        assertEquals(esperados.size(), orden.tamanio());
+        assertEquals(esperados, orden.listar());
+        for (int k = 0; k < 20; k++) {
+            int desde = azar.nextInt(esperados.size() + 10);
+            int cantidad = 1 + azar.nextInt(500);
+            int inicio = Math.min(desde, esperados.size());
+            assertEquals(esperados.subList(inicio, Math.min(esperados.size(), inicio + cantidad)),
+                    orden.pagina(desde, cantidad));
+        }
+    }
+
+    private static Traje_Espacial traje(String id) {
+        return new Traje_Espacial(id, "M", 1, "2025-01-01");
+    }
+}
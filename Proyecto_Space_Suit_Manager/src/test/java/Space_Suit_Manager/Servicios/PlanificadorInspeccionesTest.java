@@ -0,0 +1,45 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Pruebas de los errores de {@link PlanificadorInspecciones}: un oyente que falla
+ * no impide avisar a los demás y su error queda disponible para la interfaz.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class PlanificadorInspeccionesTest {
+
+    /** 2025-07-01: la inspección del 2025-01-01 venció con la vigencia de 180 días. */
+    private final Clock reloj = Clock.fixed(Instant.parse("2025-07-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void unOyenteQueFallaQuedaEnElUltimoError() {
+        PlanificadorInspecciones planificador = new PlanificadorInspecciones(180, 14, 60_000, reloj);
+        planificador.cambio(EventoTraje.agregado(new Traje_Espacial("T1", "M", 100, "2025-01-01")));
+        List<AvisoInspeccion> recibidos = new ArrayList<>();
+        planificador.agregarOyente(aviso -> {
+            throw new IllegalStateException("sin conexión");
+        });
+        planificador.agregarOyente(recibidos::add);
+        assertNull(planificador.getUltimoError());
+
+        List<AvisoInspeccion> avisos = planificador.revisar();
+
+        assertEquals(1, avisos.size());
+        assertEquals(avisos, recibidos);
+        assertEquals("Error en oyente de inspecciones: sin conexión", planificador.getUltimoError());
+    }
+}
@@ -0,0 +1,118 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link RecorridoTrajes}: el recorrido por lotes debe entregar cada
+ * traje una sola vez, también si entre lotes las bajas compactan el orden de
+ * inserción y lo mueven, y sus divisiones deben cubrir el rango sin repetir.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class RecorridoTrajesTest {
+
+    private final Object cerrojo = new Object();
+
+    @Test
+    void recorreTodoEnOrdenDeInsercion() {
+        RepositorioTrajes repositorio = flota(5_000);
+        List<Traje_Espacial> recorridos = new ArrayList<>();
+
+        repositorio.recorrido(cerrojo).forEachRemaining(recorridos::add);
+
+        assertEquals(repositorio.listar(), recorridos);
+    }
+
+    @Test
+    void retomaDespuesDeQueLasBajasCompactenElOrden() {
+        RepositorioTrajes repositorio = flota(10_000);
+        Spliterator<Traje_Espacial> recorrido = repositorio.recorrido(cerrojo);
+
+        // entrega más de un lote antes de los cambios
+        List<String> entregados = new ArrayList<>();
+        for (int i = 0; i < RecorridoTrajes.LOTE + 500; i++) {
+            assertTrue(recorrido.tryAdvance(t -> entregados.add(t.getIdTraje())));
+        }
+
+        // bajas de tres de cada cuatro, ya entregados o no: el orden se compacta;
+        // y altas nuevas, que el recorrido no debe entregar
+        Set<String> eliminados = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 4 != 0) {
+                repositorio.eliminar("T" + i);
+                eliminados.add("T" + i);
+            }
+        }
+        for (int i = 0; i < 2_000; i++) {
+            repositorio.agregar("N" + i, traje("N" + i));
+        }
+        recorrido.forEachRemaining(t -> entregados.add(t.getIdTraje()));
+
+        assertEquals(entregados.size(), new HashSet<>(entregados).size(), "ningún traje se entrega dos veces");
+        for (int i = 0; i < 10_000; i++) {
+            String id = "T" + i;
+            if (!eliminados.contains(id)) assertTrue(entregados.contains(id), id + " sigue presente");
+        }
+        for (String id : entregados) {
+            assertFalse(id.startsWith("N"), "las altas posteriores no se entregan");
+        }
+        List<String> ordenados = new ArrayList<>(entregados);
+        ordenados.sort((a, b) -> Integer.compare(numero(a), numero(b)));
+        assertEquals(ordenados, entregados, "el recorrido conserva el orden de inserción");
+    }
+
+    @Test
+    void lasDivisionesCubrenElRangoSinRepetir() {
+        RepositorioTrajes repositorio = flota(50_000);
+        List<Spliterator<Traje_Espacial>> partes = new ArrayList<>();
+        partes.add(repositorio.recorrido(cerrojo));
+
+        // divide mientras se pueda, conservando el orden de las partes
+        for (int i = 0; i < partes.size(); ) {
+            Spliterator<Traje_Espacial> primera = partes.get(i).trySplit();
+            if (primera == null) i++;
+            else partes.add(i, primera);
+        }
+        assertTrue(partes.size() > 1);
+
+        long estimados = 0;
+        List<Traje_Espacial> recorridos = new ArrayList<>();
+        for (Spliterator<Traje_Espacial> parte : partes) {
+            assertNotNull(parte);
+            estimados += parte.estimateSize();
+            parte.forEachRemaining(recorridos::add);
+        }
+        assertEquals(50_000, estimados);
+        assertEquals(repositorio.listar(), recorridos);
+    }
+
+    private static RepositorioTrajes flota(int cantidad) {
+        RepositorioTrajes repositorio = new RepositorioTrajes();
+        for (int i = 0; i < cantidad; i++) {
+            repositorio.agregar("T" + i, traje("T" + i));
+        }
+        return repositorio;
+    }
+
+    private static Traje_Espacial traje(String id) {
+        return new Traje_Espacial(id, "M", 1, "2025-01-01");
+    }
+
+    private static int numero(String id) {
+        return Integer.parseInt(id.substring(1));
+    }
+}
@@ -0,0 +1,112 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.TrajeExploracion;
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de las consultas por fecha de inspección de {@link RepositorioTrajes}:
+ * el resultado debe coincidir con filtrar la flota completa y ordenarla.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class RepositorioTrajesTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2020, 1, 1);
+
+    @Test
+    void unRangoAngostoUsaElIndicePorFecha() {
+        RepositorioTrajes repositorio = flota(5_000, 1);
+        ConsultaTrajes consulta = new ConsultaTrajes()
+                .inspeccionEntre(INICIO.plusDays(100), INICIO.plusDays(110));
+
+        ResultadoConsulta resultado = repositorio.consultar(consulta);
+
+        assertTrue(resultado.usoIndice());
+        assertFalse(resultado.getTrajes().isEmpty());
+        assertEquals(ordenar(filtrar(repositorio, consulta), OrdenTrajes.FECHA.comparador()),
+                ordenar(resultado.getTrajes(), OrdenTrajes.FECHA.comparador()));
+    }
+
+    @Test
+    void elResultadoOrdenadoCoincideConOrdenarLaFlota() {
+        RepositorioTrajes repositorio = flota(3_000, 2);
+        List<ConsultaTrajes> consultas = List.of(
+                new ConsultaTrajes().inspeccionEntre(INICIO.plusDays(500), INICIO.plusDays(520)),
+                new ConsultaTrajes().inspeccionEntre(null, INICIO.plusDays(1_500)),
+                new ConsultaTrajes().inspeccionEntre(INICIO.plusDays(900), null),
+                new ConsultaTrajes().inspeccionEntre(INICIO.plusDays(10), INICIO.plusDays(5)));
+
+        for (ConsultaTrajes consulta : consultas) {
+            List<Traje_Espacial> esperados = filtrar(repositorio, consulta);
+            for (OrdenTrajes criterio : OrdenTrajes.values()) {
+                if (criterio == OrdenTrajes.INSERCION) continue;
+                for (boolean descendente : new boolean[] {false, true}) {
+                    Comparator<Traje_Espacial> orden = descendente
+                            ? criterio.comparador().reversed() : criterio.comparador();
+                    assertEquals(ordenar(esperados, orden),
+                            repositorio.consultar(consulta, criterio, descendente).getTrajes(),
+                            consulta + " por " + criterio + (descendente ? " descendente" : ""));
+                }
+            }
+        }
+    }
+
+    @Test
+    void elIndiceSigueLasBajasYLosReemplazos() {
+        RepositorioTrajes repositorio = flota(2_000, 3);
+        for (int i = 0; i < 2_000; i += 3) {
+            repositorio.eliminar("T" + i);
+        }
+        for (int i = 1; i < 2_000; i += 7) {
+            repositorio.poner("T" + i, traje("T" + i, INICIO.plusDays(42).toString()));
+        }
+        ConsultaTrajes consulta = new ConsultaTrajes()
+                .inspeccionEntre(INICIO.plusDays(40), INICIO.plusDays(44));
+
+        assertEquals(ordenar(filtrar(repositorio, consulta), OrdenTrajes.ID.comparador()),
+                repositorio.consultar(consulta, OrdenTrajes.ID, false).getTrajes());
+    }
+
+    /** Flota con fechas en unos 2000 días, y algunos trajes sin fecha legible. */
+    private static RepositorioTrajes flota(int cantidad, long semilla) {
+        Random azar = new Random(semilla);
+        RepositorioTrajes repositorio = new RepositorioTrajes();
+        for (int i = 0; i < cantidad; i++) {
+            String fecha = (i % 50 == 0) ? "sin fecha" : INICIO.plusDays(azar.nextInt(2_000)).toString();
+            repositorio.agregar("T" + i, traje("T" + i, fecha));
+        }
+        return repositorio;
+    }
+
+    private static Traje_Espacial traje(String id, String fecha) {
+        return new TrajeExploracion(id, "M", id.length(), fecha, "Luna", 1.0);
+    }
+
+    /** Los trajes de la flota que cumplen la consulta, sin usar índices. */
+    private static List<Traje_Espacial> filtrar(RepositorioTrajes repositorio, ConsultaTrajes consulta) {
+        List<Traje_Espacial> resultado = new ArrayList<>();
+        repositorio.recorrer(t -> {
+            if (consulta.cumple(t)) resultado.add(t);
+        });
+        return resultado;
+    }
+
+    private static List<Traje_Espacial> ordenar(List<Traje_Espacial> trajes, Comparator<Traje_Espacial> orden) {
+        List<Traje_Espacial> copia = new ArrayList<>(trajes);
+        copia.sort(orden);
+        return copia;
+    }
+}
@@ -0,0 +1,157 @@
+package Space_Suit_Manager.Servicios;
+
+import Space_Suit_Manager.modelo.Traje_Espacial;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link VistaOrdenada}: después de altas y bajas que parten y unen
+ * bloques, cada página debe coincidir con ordenar una copia de los trajes.
+ *
+ * @author Laura Espinosa y Jhosayde Leon
+ * @version 2.0
+ * @since 2025
+ */
+class VistaOrdenadaTest {
+
+    /** Pesos repetidos, para que el desempate por clave también se pruebe. */
+    private static final Comparator<OrdenInsercion.Ranura> ORDEN = OrdenTrajes.PESO.comparadorRanuras();
+
+    @Test
+    void paginasEnAmbosSentidosTrasAltasYBajas() {
+        Random azar = new Random(11);
+        VistaOrdenada vista = new VistaOrdenada(ORDEN);
+        List<OrdenInsercion.Ranura> presentes = new ArrayList<>();
+
+        // crece hasta varios bloques, luego alterna bajas y altas al azar
+        for (int paso = 0; paso < 20_000; paso++) {
+            boolean alta = presentes.isEmpty() || paso < 6_000 || azar.nextInt(3) > 0;
+            if (alta) {
+                OrdenInsercion.Ranura r = ranura("T" + paso, azar.nextInt(300));
+                vista.agregar(r);
+                presentes.add(r);
+            } else {
+                OrdenInsercion.Ranura r = presentes.remove(azar.nextInt(presentes.size()));
+                assertTrue(vista.quitar(r));
+            }
+            if (paso % 997 == 0) comprobar(vista, presentes, azar);
+        }
+        comprobar(vista, presentes, azar);
+    }
+
+    @Test
+    void bajasQueCruzanBloquesLosUnen() {
+        VistaOrdenada vista = new VistaOrdenada(ORDEN);
+        List<OrdenInsercion.Ranura> presentes = new ArrayList<>();
+        for (int i = 0; i < 5 * VistaOrdenada.MAXIMO_BLOQUE; i++) {
+            OrdenInsercion.Ranura r = ranura(String.format("T%05d", i), i);
+            presentes.add(r);
+        }
+        vista.construir(presentes);
+
+        // bajas de rangos contiguos que vacían bloques enteros y dejan otros casi vacíos
+        Random azar = new Random(12);
+        for (int desde = 100; desde < presentes.size() - 600; desde += 300) {
+            for (int k = 0; k < 550 && desde < presentes.size(); k++) {
+                assertTrue(vista.quitar(presentes.remove(desde)));
+            }
+            comprobar(vista, presentes, azar);
+        }
+        while (!presentes.isEmpty()) {
+            assertTrue(vista.quitar(presentes.remove(presentes.size() / 2)));
+        }
+        assertEquals(0, vista.tamanio());
+        assertTrue(vista.pagina(0, 10, false).isEmpty());
+    }
+
+    @Test
+    void quitarUnaRanuraAusenteNoCambiaNada() {
+        VistaOrdenada vista = new VistaOrdenada(ORDEN);
+        List<OrdenInsercion.Ranura> presentes = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            OrdenInsercion.Ranura r = ranura("T" + i, i % 7);
+            vista.agregar(r);
+            presentes.add(r);
+        }
+
+        assertFalse(vista.quitar(ranura("X", 3)));
+        assertFalse(vista.quitar(ranura("Z", 1_000)));
+        comprobar(vista, presentes, new Random(13));
+    }
+
+    @Test
+    void desdeUnaReferenciaRetornaLosSiguientes() {
+        VistaOrdenada vista = new VistaOrdenada(OrdenTrajes.ID.comparadorRanuras());
+        List<String> claves = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            String clave = "t" + i;
+            vista.agregar(new OrdenInsercion.Ranura(clave, new Traje_Espacial(clave, "M", 1, "2025-01-01")));
+            claves.add(clave);
+        }
+        Collections.sort(claves);
+
+        List<Traje_Espacial> encontrados = new ArrayList<>();
+        vista.desde(new OrdenInsercion.Ranura("t12", null), r -> r.clave.startsWith("t12"), 50, encontrados);
+
+        List<String> esperadas = new ArrayList<>();
+        for (String clave : claves) {
+            if (clave.startsWith("t12") && esperadas.size() < 50) esperadas.add(clave);
+        }
+        assertEquals(esperadas, ids(encontrados));
+    }
+
+    /** Compara el tamaño, páginas al azar en ambos sentidos y el filtrado con una copia ordenada. */
+    private static void comprobar(VistaOrdenada vista, List<OrdenInsercion.Ranura> presentes, Random azar) {
+        List<OrdenInsercion.Ranura> ordenadas = new ArrayList<>(presentes);
+        ordenadas.sort(ORDEN);
+        List<Traje_Espacial> ascendente = new ArrayList<>();
+        for (OrdenInsercion.Ranura r : ordenadas) {
+            ascendente.add(r.traje);
+        }
+        List<Traje_Espacial> descendente = new ArrayList<>(ascendente);
+        Collections.reverse(descendente);
+
+        assertEquals(ascendente.size(), vista.tamanio());
+        for (int k = 0; k < 20; k++) {
+            int desde = azar.nextInt(ascendente.size() + 10);
+            int cantidad = 1 + azar.nextInt(700);
+            assertEquals(pagina(ascendente, desde, cantidad), vista.pagina(desde, cantidad, false));
+            assertEquals(pagina(descendente, desde, cantidad), vista.pagina(desde, cantidad, true));
+        }
+
+        List<Traje_Espacial> filtrados = new ArrayList<>();
+        vista.filtrar(true, t -> t.getPesoSoportado() < 50, filtrados);
+        List<Traje_Espacial> esperados = new ArrayList<>();
+        for (Traje_Espacial t : descendente) {
+            if (t.getPesoSoportado() < 50) esperados.add(t);
+        }
+        assertEquals(esperados, filtrados);
+    }
+
+    private static List<Traje_Espacial> pagina(List<Traje_Espacial> todos, int desde, int cantidad) {
+        int inicio = Math.min(desde, todos.size());
+        return todos.subList(inicio, Math.min(todos.size(), inicio + cantidad));
+    }
+
+    private static OrdenInsercion.Ranura ranura(String id, double peso) {
+        return new OrdenInsercion.Ranura(RepositorioTrajes.normalizar(id),
+                new Traje_Espacial(id, "M", peso, "2025-01-01"));
+    }
+
+    private static List<String> ids(List<Traje_Espacial> trajes) {
+        List<String> ids = new ArrayList<>();
+        for (Traje_Espacial t : trajes) {
+            ids.add(t.getIdTraje());
+        }
+        return ids;
+    }
+}